@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ package org.eclipse.debug.jdi.tests;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
+
 import com.sun.jdi.ArrayReference;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.DoubleValue;
@@ -243,6 +245,19 @@ public class ArrayReferenceTest extends AbstractJDITest {
 		values = fArray.getValues(0, 2);
 		assertNull("12", values.get(0));
 	}
+	/**
+	 * Test decoding the values of an array of primitives into an array of
+	 * the primitive type with ArrayReferenceImpl.getPrimitiveValues(int,int).
+	 */
+	public void testJDIGetPrimitiveValues() {
+		List<Value> values = fDoubleArray.getValues();
+		double[] doubles = (double[]) ((ArrayReferenceImpl) fDoubleArray).getPrimitiveValues(0, -1);
+		assertEquals("1", values.size(), doubles.length);
+		for (int i = 0; i < doubles.length; i++) {
+			assertEquals("2." + i, ((DoubleValue) values.get(i)).value(), doubles[i], 0.0);
+		}
+		assertNull("3", ((ArrayReferenceImpl) fArray).getPrimitiveValues(0, -1));
+	}
 	/**
 	 * Test JDI length() and JDWP 'Array - Get length'.
 	 */
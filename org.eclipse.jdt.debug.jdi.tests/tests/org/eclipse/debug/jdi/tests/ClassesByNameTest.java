@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.debug.jdi.tests;
 
 import java.util.List;
 
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.Type;
 
 /**
@@ -112,4 +113,40 @@ public class ClassesByNameTest extends AbstractJDITest {
 				&& ((Type) classes.get(0)).signature().equals(
 					"Ljava/lang/String;"));
 	}
+
+	/**
+	 * Test that repeated lookups, served from the index of known classes,
+	 * answer the same types and return a new list each time.
+	 */
+	public void testJDIRepeatedLookup() {
+		List<ReferenceType> classes = fVM.classesByName("java.lang.String");
+		assertEquals("1", 1, classes.size());
+		classes.clear();
+		List<ReferenceType> again = fVM.classesByName("java.lang.String");
+		assertEquals("2", 1, again.size());
+		assertEquals("3", "Ljava/lang/String;", again.get(0).signature());
+		assertEquals("4", again, fVM.classesByName("java.lang.String"));
+	}
+
+	/**
+	 * Test that a class which is not loaded is not found, also when it is
+	 * looked up repeatedly.
+	 */
+	public void testJDINotLoaded() {
+		assertTrue("1", fVM.classesByName("org.eclipse.debug.jdi.tests.program.DoesNotExist").isEmpty());
+		assertTrue("2", fVM.classesByName("org.eclipse.debug.jdi.tests.program.DoesNotExist").isEmpty());
+	}
+
+	/**
+	 * Test that lookups of more classes than the index of known classes holds
+	 * still answer the loaded types.
+	 */
+	public void testJDIManyLookups() {
+		assertEquals("1", 1, fVM.classesByName("java.lang.String").size());
+		for (int i = 0; i < 300; i++) {
+			assertTrue(Integer.toString(i), fVM.classesByName("org.eclipse.debug.jdi.tests.program.DoesNotExist" + i).isEmpty());
+		}
+		assertEquals("2", 1, fVM.classesByName("java.lang.String").size());
+		assertEquals("3", 1, fVM.classesByName("java.lang.String[]").size());
+	}
 }
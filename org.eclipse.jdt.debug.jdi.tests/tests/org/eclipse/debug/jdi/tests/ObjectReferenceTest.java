@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,8 @@ import java.util.ListIterator;
 import java.util.Map;
 import java.util.Vector;
 
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
@@ -106,6 +108,18 @@ public class ObjectReferenceTest extends AbstractJDITest {
 		fObject.disableCollection();
 		fObject.enableCollection();
 	}
+	/**
+	 * Test enabling collection of several objects at once with
+	 * ObjectReferenceImpl.enableCollection(List).
+	 */
+	public void testJDIEnableCollectionOfSeveralObjects() {
+		List<ObjectReference> objects = List.of(fObject, getThread());
+		for (ObjectReference object : objects) {
+			object.disableCollection();
+		}
+		assertFalse("1", fObject.isCollected());
+		ObjectReferenceImpl.enableCollection(objects);
+	}
 	/**
 	 * Test JDI entryCount().
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,8 +21,12 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+
+import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
+import com.sun.jdi.Location;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
@@ -349,6 +353,24 @@ public class ReferenceTypeTest extends AbstractJDITest {
 		assertEquals("2." + type.name(), 1, nestedTypes.size());
 		assertTrue("3." + type.name(), nestedTypes.get(0) instanceof ReferenceType);
 	}
+	/**
+	 * Test retrieving the line and variable tables of all methods at once with
+	 * ReferenceTypeImpl.prefetchMethodTables(boolean).
+	 */
+	public void testJDIPrefetchMethodTables() throws AbsentInformationException {
+		ReferenceType type = fTypes.get(fMainClassIndex);
+		((ReferenceTypeImpl) type).prefetchMethodTables(true);
+		for (Method method : type.methods()) {
+			if (method.isAbstract() || method.isNative()) {
+				continue;
+			}
+			List<Location> locations = method.allLineLocations();
+			assertFalse("1." + method.name(), locations.isEmpty());
+			Location first = locations.get(0);
+			assertTrue("2." + method.name(), type.locationsOfLine(first.lineNumber()).contains(first));
+			assertNotNull("3." + method.name(), method.variables());
+		}
+	}
 	/**
 	 * Test JDI visibleFields().
 	 */
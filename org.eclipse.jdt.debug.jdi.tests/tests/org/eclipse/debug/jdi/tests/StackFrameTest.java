@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,14 @@
  *******************************************************************************/
 package org.eclipse.debug.jdi.tests;
 
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.StackFrameImpl;
+import org.eclipse.jdi.internal.StackFrameImpl.FrameValues;
+
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.InvalidTypeException;
@@ -78,6 +82,19 @@ public class StackFrameTest extends AbstractJDITest {
 		assertFalse("7", fFrame.equals(new Object()));
 		assertFalse("8", fFrame.equals(null));
 	}
+	/**
+	 * Test retrieving the local variables, 'this' and its fields at once with
+	 * StackFrameImpl.getFrameValues(List, boolean, List).
+	 */
+	public void testJDIGetFrameValues() throws AbsentInformationException {
+		List<LocalVariable> vars = fFrame.visibleVariables();
+		FrameValues values = ((StackFrameImpl) fFrame).getFrameValues(vars, true, Collections.emptyList());
+		assertEquals("1", fFrame.thisObject(), values.getThisObject());
+		assertEquals("2", fFrame.getValues(vars), values.getValues());
+		ObjectReference object = values.getThisObject();
+		assertEquals("3", object.getValues(object.referenceType().allFields()), values.getThisValues());
+		assertTrue("4", values.getStaticValues().isEmpty());
+	}
 	/**
 	 * Test JDI location().
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
 package org.eclipse.debug.jdi.tests;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
 
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
@@ -147,6 +151,25 @@ public class ThreadReferenceTest extends AbstractJDITest {
 			}
 		}
 	}
+	/**
+	 * Test retrieving the monitors of several threads at once with
+	 * ThreadReferenceImpl.monitors(List, Map, Map).
+	 */
+	public void testJDIMonitorsOfSeveralThreads() {
+		if (fVM.canGetOwnedMonitorInfo() && fVM.canGetCurrentContendedMonitor()) {
+			waitUntilReady();
+			Map<ThreadReference, ObjectReference> contendedMonitors = new HashMap<>();
+			Map<ThreadReference, List<ObjectReference>> ownedMonitors = new HashMap<>();
+			ThreadReferenceImpl.monitors(fVM.allThreads(), contendedMonitors, ownedMonitors);
+			assertTrue("1", contendedMonitors.containsKey(fThread));
+			assertNull("2", contendedMonitors.get(fThread));
+			try {
+				assertEquals("3", fThread.ownedMonitors(), ownedMonitors.get(fThread));
+			} catch (IncompatibleThreadStateException e) {
+				fail("4");
+			}
+		}
+	}
 	/**
 	 * Test JDI status() and JDWP 'Thread - Get status'.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,17 @@ package org.eclipse.debug.jdi.tests;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Vector;
 
+import org.eclipse.jdi.internal.MirrorCache;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.connect.RequestTimeoutPolicy;
+import org.eclipse.jdi.internal.connect.TransportMetrics;
+import org.eclipse.jdi.internal.connect.TransportMetrics.CommandMetrics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
 import com.sun.jdi.BooleanValue;
 import com.sun.jdi.ByteValue;
 import com.sun.jdi.CharValue;
@@ -258,6 +267,97 @@ public class VirtualMachineTest extends AbstractJDITest {
 		// restore original value
 		fVM.setDebugTraceMode(fVMTraceFlags);
 	}
+	/**
+	 * Test that the mirror cache is bounded, counts hits and evictions, and
+	 * keeps a single mirror per ID for the evicted mirrors still referenced.
+	 */
+	public void testJDIMirrorCache() {
+		MirrorCache<ReferenceTypeImpl> cache = ((VirtualMachineImpl) fVM).referenceTypeCache();
+		int maximumSize = cache.getMaximumSize();
+		try {
+			List<ReferenceType> classes = fVM.allClasses();
+			long hits = cache.getHitCount();
+			List<ReferenceType> again = fVM.allClasses();
+			assertEquals("1", classes, again);
+			assertTrue("2", cache.getHitCount() >= hits + again.size());
+
+			cache.setMaximumSize(16);
+			assertTrue("3", cache.size() <= 16);
+			assertTrue("4", cache.getEvictionCount() > 0);
+
+			// Evicted types still referenced are not mirrored again.
+			List<ReferenceType> afterEviction = fVM.allClasses();
+			assertEquals("5", classes.size(), afterEviction.size());
+			for (int i = 0; i < classes.size(); i++) {
+				assertSame("6", classes.get(i), afterEviction.get(i));
+			}
+		} finally {
+			cache.setMaximumSize(maximumSize);
+		}
+	}
+	/**
+	 * Test that requests and their replies are recorded in the transport
+	 * metrics.
+	 */
+	public void testJDITransportMetrics() {
+		TransportMetrics metrics = ((VirtualMachineImpl) fVM).transportMetrics();
+		TransportMetrics before = metrics.snapshot();
+		fVM.allThreads();
+		TransportMetrics after = metrics.snapshot();
+		assertTrue("1", after.getPacketsSent() > before.getPacketsSent());
+		assertTrue("2", after.getBytesReceived() > before.getBytesReceived());
+		assertTrue("3", after.getLatency().getCount() > before.getLatency().getCount());
+		CommandMetrics allThreads = after.getCommandMetrics(JdwpCommandPacket.VM_ALL_THREADS);
+		assertNotNull("4", allThreads);
+		assertEquals("5", allThreads.getSent(), allThreads.getReplies());
+		assertTrue("6", allThreads.getLatency().getValueAtPercentile(50) <= allThreads.getLatency().getMax());
+		// snapshots do not change
+		assertEquals("7", after.getPacketsSent(), after.snapshot().getPacketsSent());
+	}
+	/**
+	 * Test that the signatures read by allClasses() are interned in the
+	 * signature table of the VM.
+	 */
+	public void testJDISignatureTable() {
+		Map<String, String> table = ((VirtualMachineImpl) fVM).signatureTable();
+		List<ReferenceType> classes = fVM.allClasses();
+		assertFalse("1", classes.isEmpty());
+		for (ReferenceType type : classes) {
+			String signature = type.signature();
+			assertSame(signature, table.get(signature), signature);
+		}
+		// Signatures read again are the interned instances
+		String signature = classes.get(0).signature();
+		fVM.allClasses();
+		assertSame("2", signature, classes.get(0).signature());
+	}
+	/**
+	 * Test that request timeouts adapt to the observed latency of a command
+	 * within their bounds, and are never shorter than the request timeout.
+	 */
+	public void testJDIRequestTimeoutPolicy() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		RequestTimeoutPolicy policy = vm.packetReceiveManager().getTimeoutPolicy();
+		int command = JdwpCommandPacket.VM_ALL_THREADS;
+		long requestTimeout = vm.getRequestTimeout();
+		for (int i = 0; i < 16; i++) {
+			fVM.allThreads();
+		}
+		assertTrue("1", policy.getEstimatedLatency(command) >= 0);
+		long timeout = policy.getTimeout(command, requestTimeout);
+		assertTrue("2", timeout >= requestTimeout);
+		assertTrue("3", timeout <= requestTimeout * policy.getMaximumFactor());
+
+		// timeouts back off until a reply is observed again
+		policy.timedOut(command);
+		long backedOff = policy.getTimeout(command, requestTimeout);
+		assertTrue("4", backedOff >= Math.min(2 * requestTimeout, requestTimeout * policy.getMaximumFactor()));
+		fVM.allThreads();
+		assertTrue("5", policy.getTimeout(command, requestTimeout) < backedOff);
+
+		// method invocations always use the request timeout
+		assertEquals("6", requestTimeout, policy.getTimeout(JdwpCommandPacket.OR_INVOKE_METHOD, requestTimeout));
+	}
 	/**
 	 * Test JDI getVersion().
 	 */
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.testplugin;
+
+import java.io.IOException;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * A JDWP connection that stands in for a remote VM. Every command packet
+ * written to the connection is answered with an empty reply packet carrying
+ * the same id, and arbitrary packets can be injected to simulate events sent
+ * by the VM.
+ */
+public class LoopbackConnection extends Connection {
+
+	private static final byte[] CLOSED = new byte[0];
+
+	private final LinkedBlockingQueue<byte[]> fIncoming = new LinkedBlockingQueue<>();
+
+	private volatile boolean fOpen = true;
+
+	private volatile boolean fAnswerCommands = true;
+
+	/**
+	 * Sets whether command packets written to this connection are answered
+	 * with a reply packet.
+	 *
+	 * @param answer
+	 *            whether to reply to commands
+	 */
+	public void setAnswerCommands(boolean answer) {
+		fAnswerCommands = answer;
+	}
+
+	/**
+	 * Queues the given packet so that it is read as if it was sent by the VM.
+	 *
+	 * @param packet
+	 *            the raw packet bytes
+	 */
+	public void inject(byte[] packet) {
+		fIncoming.add(packet);
+	}
+
+	/**
+	 * Creates the raw bytes of an empty reply packet.
+	 *
+	 * @param id
+	 *            the id of the command being answered
+	 * @return the reply packet bytes
+	 */
+	public static byte[] replyPacket(int id) {
+		return replyPacket(id, null);
+	}
+
+	/**
+	 * Creates the raw bytes of a reply packet without error.
+	 *
+	 * @param id
+	 *            the id of the command being answered
+	 * @param data
+	 *            the reply data, may be <code>null</code>
+	 * @return the reply packet bytes
+	 */
+	public static byte[] replyPacket(int id, byte[] data) {
+		int dataLength = data == null ? 0 : data.length;
+		byte[] bytes = new byte[11 + dataLength];
+		writeInt(bytes, 0, bytes.length);
+		writeInt(bytes, 4, id);
+		bytes[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		if (data != null) {
+			System.arraycopy(data, 0, bytes, 11, dataLength);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Creates the raw bytes of a command packet sent by the VM.
+	 *
+	 * @param id
+	 *            the packet id
+	 * @param command
+	 *            256 * command set + command
+	 * @param data
+	 *            the packet data, may be <code>null</code>
+	 * @return the command packet bytes
+	 */
+	public static byte[] commandPacket(int id, int command, byte[] data) {
+		int dataLength = data == null ? 0 : data.length;
+		byte[] bytes = new byte[11 + dataLength];
+		writeInt(bytes, 0, bytes.length);
+		writeInt(bytes, 4, id);
+		bytes[9] = (byte) (command >>> 8);
+		bytes[10] = (byte) command;
+		if (data != null) {
+			System.arraycopy(data, 0, bytes, 11, dataLength);
+		}
+		return bytes;
+	}
+
+	private static void writeInt(byte[] bytes, int index, int value) {
+		bytes[index] = (byte) (value >>> 24);
+		bytes[index + 1] = (byte) (value >>> 16);
+		bytes[index + 2] = (byte) (value >>> 8);
+		bytes[index + 3] = (byte) value;
+	}
+
+	private static int readInt(byte[] bytes, int index) {
+		return ((bytes[index] & 0xFF) << 24) + ((bytes[index + 1] & 0xFF) << 16) + ((bytes[index + 2] & 0xFF) << 8) + (bytes[index + 3] & 0xFF);
+	}
+
+	@Override
+	public byte[] readPacket() throws IOException {
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		try {
+			byte[] packet = fIncoming.take();
+			if (packet == CLOSED) {
+				throw new ClosedConnectionException();
+			}
+			return packet;
+		} catch (InterruptedException e) {
+			throw new ClosedConnectionException();
+		}
+	}
+
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		if ((packet[8] & JdwpPacket.FLAG_REPLY_PACKET) == 0 && fAnswerCommands) {
+			fIncoming.add(replyPacket(readInt(packet, 4)));
+		}
+	}
+
+	@Override
+	public void close() {
+		fOpen = false;
+		fIncoming.add(CLOSED);
+	}
+
+	@Override
+	public boolean isOpen() {
+		return fOpen;
+	}
+}
@@ -0,0 +1,88 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.testplugin;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdi.internal.connect.SocketTransportService;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * A local socket pair: one end is the connection the socket transport
+ * creates when attaching to a VM, the other end is a plain socket that stands
+ * in for the VM. The JDWP handshake is answered when the pair is created.
+ */
+public class SocketLoopback {
+
+	private static final int HANDSHAKE_LENGTH = "JDWP-Handshake".length(); //$NON-NLS-1$
+
+	private final Connection fConnection;
+
+	private final Socket fRemote;
+
+	/**
+	 * Creates and connects a new socket pair.
+	 *
+	 * @throws Exception
+	 *             if the sockets cannot be connected
+	 */
+	public SocketLoopback() throws Exception {
+		try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+			CompletableFuture<Socket> remote = CompletableFuture.supplyAsync(() -> {
+				try {
+					Socket socket = server.accept();
+					byte[] handshake = new byte[HANDSHAKE_LENGTH];
+					new DataInputStream(socket.getInputStream()).readFully(handshake);
+					socket.getOutputStream().write(handshake);
+					return socket;
+				} catch (IOException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+			fConnection = new SocketTransportService().attach(server.getInetAddress().getHostAddress(), server.getLocalPort(), 10000, 10000);
+			fRemote = remote.get();
+		}
+	}
+
+	/**
+	 * @return the connection of the debugger side
+	 */
+	public Connection getConnection() {
+		return fConnection;
+	}
+
+	/**
+	 * @return the socket of the VM side
+	 */
+	public Socket getRemote() {
+		return fRemote;
+	}
+
+	/**
+	 * Closes both ends of the pair.
+	 *
+	 * @throws IOException
+	 *             if closing fails
+	 */
+	public void close() throws IOException {
+		fConnection.close();
+		fRemote.close();
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class Deadlock {
+
+	static final Object first = new Object();
+	static final Object second = new Object();
+
+	public static void main(String[] args) throws Exception {
+		Thread one = new Thread(new Locker(first, second), "DeadlockOne");
+		Thread two = new Thread(new Locker(second, first), "DeadlockTwo");
+		one.setDaemon(true);
+		two.setDaemon(true);
+		one.start();
+		two.start();
+		while (one.getState() != Thread.State.BLOCKED || two.getState() != Thread.State.BLOCKED) {
+			Thread.sleep(10);
+		}
+		System.out.println("deadlocked");
+	}
+
+	static class Locker implements Runnable {
+		private final Object outer;
+		private final Object inner;
+
+		Locker(Object outer, Object inner) {
+			this.outer = outer;
+			this.inner = inner;
+		}
+
+		public void run() {
+			synchronized (outer) {
+				try {
+					Thread.sleep(500);
+				} catch (InterruptedException e) {
+				}
+				synchronized (inner) {
+					System.out.println("unreachable");
+				}
+			}
+		}
+	}
+}
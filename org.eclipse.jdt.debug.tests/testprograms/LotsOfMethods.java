@@ -0,0 +1,8024 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * A class with thousands of methods, to measure line lookups.
+ */
+public class LotsOfMethods {
+
+	public static void main(String[] args) {
+		LotsOfMethods me = new LotsOfMethods();
+		System.out.println(me.method0(0));
+	}
+
+	public int method0(int i) {
+		return i + 0;
+	}
+
+	public int method1(int i) {
+		return i + 1;
+	}
+
+	public int method2(int i) {
+		return i + 2;
+	}
+
+	public int method3(int i) {
+		return i + 3;
+	}
+
+	public int method4(int i) {
+		return i + 4;
+	}
+
+	public int method5(int i) {
+		return i + 5;
+	}
+
+	public int method6(int i) {
+		return i + 6;
+	}
+
+	public int method7(int i) {
+		return i + 7;
+	}
+
+	public int method8(int i) {
+		return i + 8;
+	}
+
+	public int method9(int i) {
+		return i + 9;
+	}
+
+	public int method10(int i) {
+		return i + 10;
+	}
+
+	public int method11(int i) {
+		return i + 11;
+	}
+
+	public int method12(int i) {
+		return i + 12;
+	}
+
+	public int method13(int i) {
+		return i + 13;
+	}
+
+	public int method14(int i) {
+		return i + 14;
+	}
+
+	public int method15(int i) {
+		return i + 15;
+	}
+
+	public int method16(int i) {
+		return i + 16;
+	}
+
+	public int method17(int i) {
+		return i + 17;
+	}
+
+	public int method18(int i) {
+		return i + 18;
+	}
+
+	public int method19(int i) {
+		return i + 19;
+	}
+
+	public int method20(int i) {
+		return i + 20;
+	}
+
+	public int method21(int i) {
+		return i + 21;
+	}
+
+	public int method22(int i) {
+		return i + 22;
+	}
+
+	public int method23(int i) {
+		return i + 23;
+	}
+
+	public int method24(int i) {
+		return i + 24;
+	}
+
+	public int method25(int i) {
+		return i + 25;
+	}
+
+	public int method26(int i) {
+		return i + 26;
+	}
+
+	public int method27(int i) {
+		return i + 27;
+	}
+
+	public int method28(int i) {
+		return i + 28;
+	}
+
+	public int method29(int i) {
+		return i + 29;
+	}
+
+	public int method30(int i) {
+		return i + 30;
+	}
+
+	public int method31(int i) {
+		return i + 31;
+	}
+
+	public int method32(int i) {
+		return i + 32;
+	}
+
+	public int method33(int i) {
+		return i + 33;
+	}
+
+	public int method34(int i) {
+		return i + 34;
+	}
+
+	public int method35(int i) {
+		return i + 35;
+	}
+
+	public int method36(int i) {
+		return i + 36;
+	}
+
+	public int method37(int i) {
+		return i + 37;
+	}
+
+	public int method38(int i) {
+		return i + 38;
+	}
+
+	public int method39(int i) {
+		return i + 39;
+	}
+
+	public int method40(int i) {
+		return i + 40;
+	}
+
+	public int method41(int i) {
+		return i + 41;
+	}
+
+	public int method42(int i) {
+		return i + 42;
+	}
+
+	public int method43(int i) {
+		return i + 43;
+	}
+
+	public int method44(int i) {
+		return i + 44;
+	}
+
+	public int method45(int i) {
+		return i + 45;
+	}
+
+	public int method46(int i) {
+		return i + 46;
+	}
+
+	public int method47(int i) {
+		return i + 47;
+	}
+
+	public int method48(int i) {
+		return i + 48;
+	}
+
+	public int method49(int i) {
+		return i + 49;
+	}
+
+	public int method50(int i) {
+		return i + 50;
+	}
+
+	public int method51(int i) {
+		return i + 51;
+	}
+
+	public int method52(int i) {
+		return i + 52;
+	}
+
+	public int method53(int i) {
+		return i + 53;
+	}
+
+	public int method54(int i) {
+		return i + 54;
+	}
+
+	public int method55(int i) {
+		return i + 55;
+	}
+
+	public int method56(int i) {
+		return i + 56;
+	}
+
+	public int method57(int i) {
+		return i + 57;
+	}
+
+	public int method58(int i) {
+		return i + 58;
+	}
+
+	public int method59(int i) {
+		return i + 59;
+	}
+
+	public int method60(int i) {
+		return i + 60;
+	}
+
+	public int method61(int i) {
+		return i + 61;
+	}
+
+	public int method62(int i) {
+		return i + 62;
+	}
+
+	public int method63(int i) {
+		return i + 63;
+	}
+
+	public int method64(int i) {
+		return i + 64;
+	}
+
+	public int method65(int i) {
+		return i + 65;
+	}
+
+	public int method66(int i) {
+		return i + 66;
+	}
+
+	public int method67(int i) {
+		return i + 67;
+	}
+
+	public int method68(int i) {
+		return i + 68;
+	}
+
+	public int method69(int i) {
+		return i + 69;
+	}
+
+	public int method70(int i) {
+		return i + 70;
+	}
+
+	public int method71(int i) {
+		return i + 71;
+	}
+
+	public int method72(int i) {
+		return i + 72;
+	}
+
+	public int method73(int i) {
+		return i + 73;
+	}
+
+	public int method74(int i) {
+		return i + 74;
+	}
+
+	public int method75(int i) {
+		return i + 75;
+	}
+
+	public int method76(int i) {
+		return i + 76;
+	}
+
+	public int method77(int i) {
+		return i + 77;
+	}
+
+	public int method78(int i) {
+		return i + 78;
+	}
+
+	public int method79(int i) {
+		return i + 79;
+	}
+
+	public int method80(int i) {
+		return i + 80;
+	}
+
+	public int method81(int i) {
+		return i + 81;
+	}
+
+	public int method82(int i) {
+		return i + 82;
+	}
+
+	public int method83(int i) {
+		return i + 83;
+	}
+
+	public int method84(int i) {
+		return i + 84;
+	}
+
+	public int method85(int i) {
+		return i + 85;
+	}
+
+	public int method86(int i) {
+		return i + 86;
+	}
+
+	public int method87(int i) {
+		return i + 87;
+	}
+
+	public int method88(int i) {
+		return i + 88;
+	}
+
+	public int method89(int i) {
+		return i + 89;
+	}
+
+	public int method90(int i) {
+		return i + 90;
+	}
+
+	public int method91(int i) {
+		return i + 91;
+	}
+
+	public int method92(int i) {
+		return i + 92;
+	}
+
+	public int method93(int i) {
+		return i + 93;
+	}
+
+	public int method94(int i) {
+		return i + 94;
+	}
+
+	public int method95(int i) {
+		return i + 95;
+	}
+
+	public int method96(int i) {
+		return i + 96;
+	}
+
+	public int method97(int i) {
+		return i + 97;
+	}
+
+	public int method98(int i) {
+		return i + 98;
+	}
+
+	public int method99(int i) {
+		return i + 99;
+	}
+
+	public int method100(int i) {
+		return i + 100;
+	}
+
+	public int method101(int i) {
+		return i + 101;
+	}
+
+	public int method102(int i) {
+		return i + 102;
+	}
+
+	public int method103(int i) {
+		return i + 103;
+	}
+
+	public int method104(int i) {
+		return i + 104;
+	}
+
+	public int method105(int i) {
+		return i + 105;
+	}
+
+	public int method106(int i) {
+		return i + 106;
+	}
+
+	public int method107(int i) {
+		return i + 107;
+	}
+
+	public int method108(int i) {
+		return i + 108;
+	}
+
+	public int method109(int i) {
+		return i + 109;
+	}
+
+	public int method110(int i) {
+		return i + 110;
+	}
+
+	public int method111(int i) {
+		return i + 111;
+	}
+
+	public int method112(int i) {
+		return i + 112;
+	}
+
+	public int method113(int i) {
+		return i + 113;
+	}
+
+	public int method114(int i) {
+		return i + 114;
+	}
+
+	public int method115(int i) {
+		return i + 115;
+	}
+
+	public int method116(int i) {
+		return i + 116;
+	}
+
+	public int method117(int i) {
+		return i + 117;
+	}
+
+	public int method118(int i) {
+		return i + 118;
+	}
+
+	public int method119(int i) {
+		return i + 119;
+	}
+
+	public int method120(int i) {
+		return i + 120;
+	}
+
+	public int method121(int i) {
+		return i + 121;
+	}
+
+	public int method122(int i) {
+		return i + 122;
+	}
+
+	public int method123(int i) {
+		return i + 123;
+	}
+
+	public int method124(int i) {
+		return i + 124;
+	}
+
+	public int method125(int i) {
+		return i + 125;
+	}
+
+	public int method126(int i) {
+		return i + 126;
+	}
+
+	public int method127(int i) {
+		return i + 127;
+	}
+
+	public int method128(int i) {
+		return i + 128;
+	}
+
+	public int method129(int i) {
+		return i + 129;
+	}
+
+	public int method130(int i) {
+		return i + 130;
+	}
+
+	public int method131(int i) {
+		return i + 131;
+	}
+
+	public int method132(int i) {
+		return i + 132;
+	}
+
+	public int method133(int i) {
+		return i + 133;
+	}
+
+	public int method134(int i) {
+		return i + 134;
+	}
+
+	public int method135(int i) {
+		return i + 135;
+	}
+
+	public int method136(int i) {
+		return i + 136;
+	}
+
+	public int method137(int i) {
+		return i + 137;
+	}
+
+	public int method138(int i) {
+		return i + 138;
+	}
+
+	public int method139(int i) {
+		return i + 139;
+	}
+
+	public int method140(int i) {
+		return i + 140;
+	}
+
+	public int method141(int i) {
+		return i + 141;
+	}
+
+	public int method142(int i) {
+		return i + 142;
+	}
+
+	public int method143(int i) {
+		return i + 143;
+	}
+
+	public int method144(int i) {
+		return i + 144;
+	}
+
+	public int method145(int i) {
+		return i + 145;
+	}
+
+	public int method146(int i) {
+		return i + 146;
+	}
+
+	public int method147(int i) {
+		return i + 147;
+	}
+
+	public int method148(int i) {
+		return i + 148;
+	}
+
+	public int method149(int i) {
+		return i + 149;
+	}
+
+	public int method150(int i) {
+		return i + 150;
+	}
+
+	public int method151(int i) {
+		return i + 151;
+	}
+
+	public int method152(int i) {
+		return i + 152;
+	}
+
+	public int method153(int i) {
+		return i + 153;
+	}
+
+	public int method154(int i) {
+		return i + 154;
+	}
+
+	public int method155(int i) {
+		return i + 155;
+	}
+
+	public int method156(int i) {
+		return i + 156;
+	}
+
+	public int method157(int i) {
+		return i + 157;
+	}
+
+	public int method158(int i) {
+		return i + 158;
+	}
+
+	public int method159(int i) {
+		return i + 159;
+	}
+
+	public int method160(int i) {
+		return i + 160;
+	}
+
+	public int method161(int i) {
+		return i + 161;
+	}
+
+	public int method162(int i) {
+		return i + 162;
+	}
+
+	public int method163(int i) {
+		return i + 163;
+	}
+
+	public int method164(int i) {
+		return i + 164;
+	}
+
+	public int method165(int i) {
+		return i + 165;
+	}
+
+	public int method166(int i) {
+		return i + 166;
+	}
+
+	public int method167(int i) {
+		return i + 167;
+	}
+
+	public int method168(int i) {
+		return i + 168;
+	}
+
+	public int method169(int i) {
+		return i + 169;
+	}
+
+	public int method170(int i) {
+		return i + 170;
+	}
+
+	public int method171(int i) {
+		return i + 171;
+	}
+
+	public int method172(int i) {
+		return i + 172;
+	}
+
+	public int method173(int i) {
+		return i + 173;
+	}
+
+	public int method174(int i) {
+		return i + 174;
+	}
+
+	public int method175(int i) {
+		return i + 175;
+	}
+
+	public int method176(int i) {
+		return i + 176;
+	}
+
+	public int method177(int i) {
+		return i + 177;
+	}
+
+	public int method178(int i) {
+		return i + 178;
+	}
+
+	public int method179(int i) {
+		return i + 179;
+	}
+
+	public int method180(int i) {
+		return i + 180;
+	}
+
+	public int method181(int i) {
+		return i + 181;
+	}
+
+	public int method182(int i) {
+		return i + 182;
+	}
+
+	public int method183(int i) {
+		return i + 183;
+	}
+
+	public int method184(int i) {
+		return i + 184;
+	}
+
+	public int method185(int i) {
+		return i + 185;
+	}
+
+	public int method186(int i) {
+		return i + 186;
+	}
+
+	public int method187(int i) {
+		return i + 187;
+	}
+
+	public int method188(int i) {
+		return i + 188;
+	}
+
+	public int method189(int i) {
+		return i + 189;
+	}
+
+	public int method190(int i) {
+		return i + 190;
+	}
+
+	public int method191(int i) {
+		return i + 191;
+	}
+
+	public int method192(int i) {
+		return i + 192;
+	}
+
+	public int method193(int i) {
+		return i + 193;
+	}
+
+	public int method194(int i) {
+		return i + 194;
+	}
+
+	public int method195(int i) {
+		return i + 195;
+	}
+
+	public int method196(int i) {
+		return i + 196;
+	}
+
+	public int method197(int i) {
+		return i + 197;
+	}
+
+	public int method198(int i) {
+		return i + 198;
+	}
+
+	public int method199(int i) {
+		return i + 199;
+	}
+
+	public int method200(int i) {
+		return i + 200;
+	}
+
+	public int method201(int i) {
+		return i + 201;
+	}
+
+	public int method202(int i) {
+		return i + 202;
+	}
+
+	public int method203(int i) {
+		return i + 203;
+	}
+
+	public int method204(int i) {
+		return i + 204;
+	}
+
+	public int method205(int i) {
+		return i + 205;
+	}
+
+	public int method206(int i) {
+		return i + 206;
+	}
+
+	public int method207(int i) {
+		return i + 207;
+	}
+
+	public int method208(int i) {
+		return i + 208;
+	}
+
+	public int method209(int i) {
+		return i + 209;
+	}
+
+	public int method210(int i) {
+		return i + 210;
+	}
+
+	public int method211(int i) {
+		return i + 211;
+	}
+
+	public int method212(int i) {
+		return i + 212;
+	}
+
+	public int method213(int i) {
+		return i + 213;
+	}
+
+	public int method214(int i) {
+		return i + 214;
+	}
+
+	public int method215(int i) {
+		return i + 215;
+	}
+
+	public int method216(int i) {
+		return i + 216;
+	}
+
+	public int method217(int i) {
+		return i + 217;
+	}
+
+	public int method218(int i) {
+		return i + 218;
+	}
+
+	public int method219(int i) {
+		return i + 219;
+	}
+
+	public int method220(int i) {
+		return i + 220;
+	}
+
+	public int method221(int i) {
+		return i + 221;
+	}
+
+	public int method222(int i) {
+		return i + 222;
+	}
+
+	public int method223(int i) {
+		return i + 223;
+	}
+
+	public int method224(int i) {
+		return i + 224;
+	}
+
+	public int method225(int i) {
+		return i + 225;
+	}
+
+	public int method226(int i) {
+		return i + 226;
+	}
+
+	public int method227(int i) {
+		return i + 227;
+	}
+
+	public int method228(int i) {
+		return i + 228;
+	}
+
+	public int method229(int i) {
+		return i + 229;
+	}
+
+	public int method230(int i) {
+		return i + 230;
+	}
+
+	public int method231(int i) {
+		return i + 231;
+	}
+
+	public int method232(int i) {
+		return i + 232;
+	}
+
+	public int method233(int i) {
+		return i + 233;
+	}
+
+	public int method234(int i) {
+		return i + 234;
+	}
+
+	public int method235(int i) {
+		return i + 235;
+	}
+
+	public int method236(int i) {
+		return i + 236;
+	}
+
+	public int method237(int i) {
+		return i + 237;
+	}
+
+	public int method238(int i) {
+		return i + 238;
+	}
+
+	public int method239(int i) {
+		return i + 239;
+	}
+
+	public int method240(int i) {
+		return i + 240;
+	}
+
+	public int method241(int i) {
+		return i + 241;
+	}
+
+	public int method242(int i) {
+		return i + 242;
+	}
+
+	public int method243(int i) {
+		return i + 243;
+	}
+
+	public int method244(int i) {
+		return i + 244;
+	}
+
+	public int method245(int i) {
+		return i + 245;
+	}
+
+	public int method246(int i) {
+		return i + 246;
+	}
+
+	public int method247(int i) {
+		return i + 247;
+	}
+
+	public int method248(int i) {
+		return i + 248;
+	}
+
+	public int method249(int i) {
+		return i + 249;
+	}
+
+	public int method250(int i) {
+		return i + 250;
+	}
+
+	public int method251(int i) {
+		return i + 251;
+	}
+
+	public int method252(int i) {
+		return i + 252;
+	}
+
+	public int method253(int i) {
+		return i + 253;
+	}
+
+	public int method254(int i) {
+		return i + 254;
+	}
+
+	public int method255(int i) {
+		return i + 255;
+	}
+
+	public int method256(int i) {
+		return i + 256;
+	}
+
+	public int method257(int i) {
+		return i + 257;
+	}
+
+	public int method258(int i) {
+		return i + 258;
+	}
+
+	public int method259(int i) {
+		return i + 259;
+	}
+
+	public int method260(int i) {
+		return i + 260;
+	}
+
+	public int method261(int i) {
+		return i + 261;
+	}
+
+	public int method262(int i) {
+		return i + 262;
+	}
+
+	public int method263(int i) {
+		return i + 263;
+	}
+
+	public int method264(int i) {
+		return i + 264;
+	}
+
+	public int method265(int i) {
+		return i + 265;
+	}
+
+	public int method266(int i) {
+		return i + 266;
+	}
+
+	public int method267(int i) {
+		return i + 267;
+	}
+
+	public int method268(int i) {
+		return i + 268;
+	}
+
+	public int method269(int i) {
+		return i + 269;
+	}
+
+	public int method270(int i) {
+		return i + 270;
+	}
+
+	public int method271(int i) {
+		return i + 271;
+	}
+
+	public int method272(int i) {
+		return i + 272;
+	}
+
+	public int method273(int i) {
+		return i + 273;
+	}
+
+	public int method274(int i) {
+		return i + 274;
+	}
+
+	public int method275(int i) {
+		return i + 275;
+	}
+
+	public int method276(int i) {
+		return i + 276;
+	}
+
+	public int method277(int i) {
+		return i + 277;
+	}
+
+	public int method278(int i) {
+		return i + 278;
+	}
+
+	public int method279(int i) {
+		return i + 279;
+	}
+
+	public int method280(int i) {
+		return i + 280;
+	}
+
+	public int method281(int i) {
+		return i + 281;
+	}
+
+	public int method282(int i) {
+		return i + 282;
+	}
+
+	public int method283(int i) {
+		return i + 283;
+	}
+
+	public int method284(int i) {
+		return i + 284;
+	}
+
+	public int method285(int i) {
+		return i + 285;
+	}
+
+	public int method286(int i) {
+		return i + 286;
+	}
+
+	public int method287(int i) {
+		return i + 287;
+	}
+
+	public int method288(int i) {
+		return i + 288;
+	}
+
+	public int method289(int i) {
+		return i + 289;
+	}
+
+	public int method290(int i) {
+		return i + 290;
+	}
+
+	public int method291(int i) {
+		return i + 291;
+	}
+
+	public int method292(int i) {
+		return i + 292;
+	}
+
+	public int method293(int i) {
+		return i + 293;
+	}
+
+	public int method294(int i) {
+		return i + 294;
+	}
+
+	public int method295(int i) {
+		return i + 295;
+	}
+
+	public int method296(int i) {
+		return i + 296;
+	}
+
+	public int method297(int i) {
+		return i + 297;
+	}
+
+	public int method298(int i) {
+		return i + 298;
+	}
+
+	public int method299(int i) {
+		return i + 299;
+	}
+
+	public int method300(int i) {
+		return i + 300;
+	}
+
+	public int method301(int i) {
+		return i + 301;
+	}
+
+	public int method302(int i) {
+		return i + 302;
+	}
+
+	public int method303(int i) {
+		return i + 303;
+	}
+
+	public int method304(int i) {
+		return i + 304;
+	}
+
+	public int method305(int i) {
+		return i + 305;
+	}
+
+	public int method306(int i) {
+		return i + 306;
+	}
+
+	public int method307(int i) {
+		return i + 307;
+	}
+
+	public int method308(int i) {
+		return i + 308;
+	}
+
+	public int method309(int i) {
+		return i + 309;
+	}
+
+	public int method310(int i) {
+		return i + 310;
+	}
+
+	public int method311(int i) {
+		return i + 311;
+	}
+
+	public int method312(int i) {
+		return i + 312;
+	}
+
+	public int method313(int i) {
+		return i + 313;
+	}
+
+	public int method314(int i) {
+		return i + 314;
+	}
+
+	public int method315(int i) {
+		return i + 315;
+	}
+
+	public int method316(int i) {
+		return i + 316;
+	}
+
+	public int method317(int i) {
+		return i + 317;
+	}
+
+	public int method318(int i) {
+		return i + 318;
+	}
+
+	public int method319(int i) {
+		return i + 319;
+	}
+
+	public int method320(int i) {
+		return i + 320;
+	}
+
+	public int method321(int i) {
+		return i + 321;
+	}
+
+	public int method322(int i) {
+		return i + 322;
+	}
+
+	public int method323(int i) {
+		return i + 323;
+	}
+
+	public int method324(int i) {
+		return i + 324;
+	}
+
+	public int method325(int i) {
+		return i + 325;
+	}
+
+	public int method326(int i) {
+		return i + 326;
+	}
+
+	public int method327(int i) {
+		return i + 327;
+	}
+
+	public int method328(int i) {
+		return i + 328;
+	}
+
+	public int method329(int i) {
+		return i + 329;
+	}
+
+	public int method330(int i) {
+		return i + 330;
+	}
+
+	public int method331(int i) {
+		return i + 331;
+	}
+
+	public int method332(int i) {
+		return i + 332;
+	}
+
+	public int method333(int i) {
+		return i + 333;
+	}
+
+	public int method334(int i) {
+		return i + 334;
+	}
+
+	public int method335(int i) {
+		return i + 335;
+	}
+
+	public int method336(int i) {
+		return i + 336;
+	}
+
+	public int method337(int i) {
+		return i + 337;
+	}
+
+	public int method338(int i) {
+		return i + 338;
+	}
+
+	public int method339(int i) {
+		return i + 339;
+	}
+
+	public int method340(int i) {
+		return i + 340;
+	}
+
+	public int method341(int i) {
+		return i + 341;
+	}
+
+	public int method342(int i) {
+		return i + 342;
+	}
+
+	public int method343(int i) {
+		return i + 343;
+	}
+
+	public int method344(int i) {
+		return i + 344;
+	}
+
+	public int method345(int i) {
+		return i + 345;
+	}
+
+	public int method346(int i) {
+		return i + 346;
+	}
+
+	public int method347(int i) {
+		return i + 347;
+	}
+
+	public int method348(int i) {
+		return i + 348;
+	}
+
+	public int method349(int i) {
+		return i + 349;
+	}
+
+	public int method350(int i) {
+		return i + 350;
+	}
+
+	public int method351(int i) {
+		return i + 351;
+	}
+
+	public int method352(int i) {
+		return i + 352;
+	}
+
+	public int method353(int i) {
+		return i + 353;
+	}
+
+	public int method354(int i) {
+		return i + 354;
+	}
+
+	public int method355(int i) {
+		return i + 355;
+	}
+
+	public int method356(int i) {
+		return i + 356;
+	}
+
+	public int method357(int i) {
+		return i + 357;
+	}
+
+	public int method358(int i) {
+		return i + 358;
+	}
+
+	public int method359(int i) {
+		return i + 359;
+	}
+
+	public int method360(int i) {
+		return i + 360;
+	}
+
+	public int method361(int i) {
+		return i + 361;
+	}
+
+	public int method362(int i) {
+		return i + 362;
+	}
+
+	public int method363(int i) {
+		return i + 363;
+	}
+
+	public int method364(int i) {
+		return i + 364;
+	}
+
+	public int method365(int i) {
+		return i + 365;
+	}
+
+	public int method366(int i) {
+		return i + 366;
+	}
+
+	public int method367(int i) {
+		return i + 367;
+	}
+
+	public int method368(int i) {
+		return i + 368;
+	}
+
+	public int method369(int i) {
+		return i + 369;
+	}
+
+	public int method370(int i) {
+		return i + 370;
+	}
+
+	public int method371(int i) {
+		return i + 371;
+	}
+
+	public int method372(int i) {
+		return i + 372;
+	}
+
+	public int method373(int i) {
+		return i + 373;
+	}
+
+	public int method374(int i) {
+		return i + 374;
+	}
+
+	public int method375(int i) {
+		return i + 375;
+	}
+
+	public int method376(int i) {
+		return i + 376;
+	}
+
+	public int method377(int i) {
+		return i + 377;
+	}
+
+	public int method378(int i) {
+		return i + 378;
+	}
+
+	public int method379(int i) {
+		return i + 379;
+	}
+
+	public int method380(int i) {
+		return i + 380;
+	}
+
+	public int method381(int i) {
+		return i + 381;
+	}
+
+	public int method382(int i) {
+		return i + 382;
+	}
+
+	public int method383(int i) {
+		return i + 383;
+	}
+
+	public int method384(int i) {
+		return i + 384;
+	}
+
+	public int method385(int i) {
+		return i + 385;
+	}
+
+	public int method386(int i) {
+		return i + 386;
+	}
+
+	public int method387(int i) {
+		return i + 387;
+	}
+
+	public int method388(int i) {
+		return i + 388;
+	}
+
+	public int method389(int i) {
+		return i + 389;
+	}
+
+	public int method390(int i) {
+		return i + 390;
+	}
+
+	public int method391(int i) {
+		return i + 391;
+	}
+
+	public int method392(int i) {
+		return i + 392;
+	}
+
+	public int method393(int i) {
+		return i + 393;
+	}
+
+	public int method394(int i) {
+		return i + 394;
+	}
+
+	public int method395(int i) {
+		return i + 395;
+	}
+
+	public int method396(int i) {
+		return i + 396;
+	}
+
+	public int method397(int i) {
+		return i + 397;
+	}
+
+	public int method398(int i) {
+		return i + 398;
+	}
+
+	public int method399(int i) {
+		return i + 399;
+	}
+
+	public int method400(int i) {
+		return i + 400;
+	}
+
+	public int method401(int i) {
+		return i + 401;
+	}
+
+	public int method402(int i) {
+		return i + 402;
+	}
+
+	public int method403(int i) {
+		return i + 403;
+	}
+
+	public int method404(int i) {
+		return i + 404;
+	}
+
+	public int method405(int i) {
+		return i + 405;
+	}
+
+	public int method406(int i) {
+		return i + 406;
+	}
+
+	public int method407(int i) {
+		return i + 407;
+	}
+
+	public int method408(int i) {
+		return i + 408;
+	}
+
+	public int method409(int i) {
+		return i + 409;
+	}
+
+	public int method410(int i) {
+		return i + 410;
+	}
+
+	public int method411(int i) {
+		return i + 411;
+	}
+
+	public int method412(int i) {
+		return i + 412;
+	}
+
+	public int method413(int i) {
+		return i + 413;
+	}
+
+	public int method414(int i) {
+		return i + 414;
+	}
+
+	public int method415(int i) {
+		return i + 415;
+	}
+
+	public int method416(int i) {
+		return i + 416;
+	}
+
+	public int method417(int i) {
+		return i + 417;
+	}
+
+	public int method418(int i) {
+		return i + 418;
+	}
+
+	public int method419(int i) {
+		return i + 419;
+	}
+
+	public int method420(int i) {
+		return i + 420;
+	}
+
+	public int method421(int i) {
+		return i + 421;
+	}
+
+	public int method422(int i) {
+		return i + 422;
+	}
+
+	public int method423(int i) {
+		return i + 423;
+	}
+
+	public int method424(int i) {
+		return i + 424;
+	}
+
+	public int method425(int i) {
+		return i + 425;
+	}
+
+	public int method426(int i) {
+		return i + 426;
+	}
+
+	public int method427(int i) {
+		return i + 427;
+	}
+
+	public int method428(int i) {
+		return i + 428;
+	}
+
+	public int method429(int i) {
+		return i + 429;
+	}
+
+	public int method430(int i) {
+		return i + 430;
+	}
+
+	public int method431(int i) {
+		return i + 431;
+	}
+
+	public int method432(int i) {
+		return i + 432;
+	}
+
+	public int method433(int i) {
+		return i + 433;
+	}
+
+	public int method434(int i) {
+		return i + 434;
+	}
+
+	public int method435(int i) {
+		return i + 435;
+	}
+
+	public int method436(int i) {
+		return i + 436;
+	}
+
+	public int method437(int i) {
+		return i + 437;
+	}
+
+	public int method438(int i) {
+		return i + 438;
+	}
+
+	public int method439(int i) {
+		return i + 439;
+	}
+
+	public int method440(int i) {
+		return i + 440;
+	}
+
+	public int method441(int i) {
+		return i + 441;
+	}
+
+	public int method442(int i) {
+		return i + 442;
+	}
+
+	public int method443(int i) {
+		return i + 443;
+	}
+
+	public int method444(int i) {
+		return i + 444;
+	}
+
+	public int method445(int i) {
+		return i + 445;
+	}
+
+	public int method446(int i) {
+		return i + 446;
+	}
+
+	public int method447(int i) {
+		return i + 447;
+	}
+
+	public int method448(int i) {
+		return i + 448;
+	}
+
+	public int method449(int i) {
+		return i + 449;
+	}
+
+	public int method450(int i) {
+		return i + 450;
+	}
+
+	public int method451(int i) {
+		return i + 451;
+	}
+
+	public int method452(int i) {
+		return i + 452;
+	}
+
+	public int method453(int i) {
+		return i + 453;
+	}
+
+	public int method454(int i) {
+		return i + 454;
+	}
+
+	public int method455(int i) {
+		return i + 455;
+	}
+
+	public int method456(int i) {
+		return i + 456;
+	}
+
+	public int method457(int i) {
+		return i + 457;
+	}
+
+	public int method458(int i) {
+		return i + 458;
+	}
+
+	public int method459(int i) {
+		return i + 459;
+	}
+
+	public int method460(int i) {
+		return i + 460;
+	}
+
+	public int method461(int i) {
+		return i + 461;
+	}
+
+	public int method462(int i) {
+		return i + 462;
+	}
+
+	public int method463(int i) {
+		return i + 463;
+	}
+
+	public int method464(int i) {
+		return i + 464;
+	}
+
+	public int method465(int i) {
+		return i + 465;
+	}
+
+	public int method466(int i) {
+		return i + 466;
+	}
+
+	public int method467(int i) {
+		return i + 467;
+	}
+
+	public int method468(int i) {
+		return i + 468;
+	}
+
+	public int method469(int i) {
+		return i + 469;
+	}
+
+	public int method470(int i) {
+		return i + 470;
+	}
+
+	public int method471(int i) {
+		return i + 471;
+	}
+
+	public int method472(int i) {
+		return i + 472;
+	}
+
+	public int method473(int i) {
+		return i + 473;
+	}
+
+	public int method474(int i) {
+		return i + 474;
+	}
+
+	public int method475(int i) {
+		return i + 475;
+	}
+
+	public int method476(int i) {
+		return i + 476;
+	}
+
+	public int method477(int i) {
+		return i + 477;
+	}
+
+	public int method478(int i) {
+		return i + 478;
+	}
+
+	public int method479(int i) {
+		return i + 479;
+	}
+
+	public int method480(int i) {
+		return i + 480;
+	}
+
+	public int method481(int i) {
+		return i + 481;
+	}
+
+	public int method482(int i) {
+		return i + 482;
+	}
+
+	public int method483(int i) {
+		return i + 483;
+	}
+
+	public int method484(int i) {
+		return i + 484;
+	}
+
+	public int method485(int i) {
+		return i + 485;
+	}
+
+	public int method486(int i) {
+		return i + 486;
+	}
+
+	public int method487(int i) {
+		return i + 487;
+	}
+
+	public int method488(int i) {
+		return i + 488;
+	}
+
+	public int method489(int i) {
+		return i + 489;
+	}
+
+	public int method490(int i) {
+		return i + 490;
+	}
+
+	public int method491(int i) {
+		return i + 491;
+	}
+
+	public int method492(int i) {
+		return i + 492;
+	}
+
+	public int method493(int i) {
+		return i + 493;
+	}
+
+	public int method494(int i) {
+		return i + 494;
+	}
+
+	public int method495(int i) {
+		return i + 495;
+	}
+
+	public int method496(int i) {
+		return i + 496;
+	}
+
+	public int method497(int i) {
+		return i + 497;
+	}
+
+	public int method498(int i) {
+		return i + 498;
+	}
+
+	public int method499(int i) {
+		return i + 499;
+	}
+
+	public int method500(int i) {
+		return i + 500;
+	}
+
+	public int method501(int i) {
+		return i + 501;
+	}
+
+	public int method502(int i) {
+		return i + 502;
+	}
+
+	public int method503(int i) {
+		return i + 503;
+	}
+
+	public int method504(int i) {
+		return i + 504;
+	}
+
+	public int method505(int i) {
+		return i + 505;
+	}
+
+	public int method506(int i) {
+		return i + 506;
+	}
+
+	public int method507(int i) {
+		return i + 507;
+	}
+
+	public int method508(int i) {
+		return i + 508;
+	}
+
+	public int method509(int i) {
+		return i + 509;
+	}
+
+	public int method510(int i) {
+		return i + 510;
+	}
+
+	public int method511(int i) {
+		return i + 511;
+	}
+
+	public int method512(int i) {
+		return i + 512;
+	}
+
+	public int method513(int i) {
+		return i + 513;
+	}
+
+	public int method514(int i) {
+		return i + 514;
+	}
+
+	public int method515(int i) {
+		return i + 515;
+	}
+
+	public int method516(int i) {
+		return i + 516;
+	}
+
+	public int method517(int i) {
+		return i + 517;
+	}
+
+	public int method518(int i) {
+		return i + 518;
+	}
+
+	public int method519(int i) {
+		return i + 519;
+	}
+
+	public int method520(int i) {
+		return i + 520;
+	}
+
+	public int method521(int i) {
+		return i + 521;
+	}
+
+	public int method522(int i) {
+		return i + 522;
+	}
+
+	public int method523(int i) {
+		return i + 523;
+	}
+
+	public int method524(int i) {
+		return i + 524;
+	}
+
+	public int method525(int i) {
+		return i + 525;
+	}
+
+	public int method526(int i) {
+		return i + 526;
+	}
+
+	public int method527(int i) {
+		return i + 527;
+	}
+
+	public int method528(int i) {
+		return i + 528;
+	}
+
+	public int method529(int i) {
+		return i + 529;
+	}
+
+	public int method530(int i) {
+		return i + 530;
+	}
+
+	public int method531(int i) {
+		return i + 531;
+	}
+
+	public int method532(int i) {
+		return i + 532;
+	}
+
+	public int method533(int i) {
+		return i + 533;
+	}
+
+	public int method534(int i) {
+		return i + 534;
+	}
+
+	public int method535(int i) {
+		return i + 535;
+	}
+
+	public int method536(int i) {
+		return i + 536;
+	}
+
+	public int method537(int i) {
+		return i + 537;
+	}
+
+	public int method538(int i) {
+		return i + 538;
+	}
+
+	public int method539(int i) {
+		return i + 539;
+	}
+
+	public int method540(int i) {
+		return i + 540;
+	}
+
+	public int method541(int i) {
+		return i + 541;
+	}
+
+	public int method542(int i) {
+		return i + 542;
+	}
+
+	public int method543(int i) {
+		return i + 543;
+	}
+
+	public int method544(int i) {
+		return i + 544;
+	}
+
+	public int method545(int i) {
+		return i + 545;
+	}
+
+	public int method546(int i) {
+		return i + 546;
+	}
+
+	public int method547(int i) {
+		return i + 547;
+	}
+
+	public int method548(int i) {
+		return i + 548;
+	}
+
+	public int method549(int i) {
+		return i + 549;
+	}
+
+	public int method550(int i) {
+		return i + 550;
+	}
+
+	public int method551(int i) {
+		return i + 551;
+	}
+
+	public int method552(int i) {
+		return i + 552;
+	}
+
+	public int method553(int i) {
+		return i + 553;
+	}
+
+	public int method554(int i) {
+		return i + 554;
+	}
+
+	public int method555(int i) {
+		return i + 555;
+	}
+
+	public int method556(int i) {
+		return i + 556;
+	}
+
+	public int method557(int i) {
+		return i + 557;
+	}
+
+	public int method558(int i) {
+		return i + 558;
+	}
+
+	public int method559(int i) {
+		return i + 559;
+	}
+
+	public int method560(int i) {
+		return i + 560;
+	}
+
+	public int method561(int i) {
+		return i + 561;
+	}
+
+	public int method562(int i) {
+		return i + 562;
+	}
+
+	public int method563(int i) {
+		return i + 563;
+	}
+
+	public int method564(int i) {
+		return i + 564;
+	}
+
+	public int method565(int i) {
+		return i + 565;
+	}
+
+	public int method566(int i) {
+		return i + 566;
+	}
+
+	public int method567(int i) {
+		return i + 567;
+	}
+
+	public int method568(int i) {
+		return i + 568;
+	}
+
+	public int method569(int i) {
+		return i + 569;
+	}
+
+	public int method570(int i) {
+		return i + 570;
+	}
+
+	public int method571(int i) {
+		return i + 571;
+	}
+
+	public int method572(int i) {
+		return i + 572;
+	}
+
+	public int method573(int i) {
+		return i + 573;
+	}
+
+	public int method574(int i) {
+		return i + 574;
+	}
+
+	public int method575(int i) {
+		return i + 575;
+	}
+
+	public int method576(int i) {
+		return i + 576;
+	}
+
+	public int method577(int i) {
+		return i + 577;
+	}
+
+	public int method578(int i) {
+		return i + 578;
+	}
+
+	public int method579(int i) {
+		return i + 579;
+	}
+
+	public int method580(int i) {
+		return i + 580;
+	}
+
+	public int method581(int i) {
+		return i + 581;
+	}
+
+	public int method582(int i) {
+		return i + 582;
+	}
+
+	public int method583(int i) {
+		return i + 583;
+	}
+
+	public int method584(int i) {
+		return i + 584;
+	}
+
+	public int method585(int i) {
+		return i + 585;
+	}
+
+	public int method586(int i) {
+		return i + 586;
+	}
+
+	public int method587(int i) {
+		return i + 587;
+	}
+
+	public int method588(int i) {
+		return i + 588;
+	}
+
+	public int method589(int i) {
+		return i + 589;
+	}
+
+	public int method590(int i) {
+		return i + 590;
+	}
+
+	public int method591(int i) {
+		return i + 591;
+	}
+
+	public int method592(int i) {
+		return i + 592;
+	}
+
+	public int method593(int i) {
+		return i + 593;
+	}
+
+	public int method594(int i) {
+		return i + 594;
+	}
+
+	public int method595(int i) {
+		return i + 595;
+	}
+
+	public int method596(int i) {
+		return i + 596;
+	}
+
+	public int method597(int i) {
+		return i + 597;
+	}
+
+	public int method598(int i) {
+		return i + 598;
+	}
+
+	public int method599(int i) {
+		return i + 599;
+	}
+
+	public int method600(int i) {
+		return i + 600;
+	}
+
+	public int method601(int i) {
+		return i + 601;
+	}
+
+	public int method602(int i) {
+		return i + 602;
+	}
+
+	public int method603(int i) {
+		return i + 603;
+	}
+
+	public int method604(int i) {
+		return i + 604;
+	}
+
+	public int method605(int i) {
+		return i + 605;
+	}
+
+	public int method606(int i) {
+		return i + 606;
+	}
+
+	public int method607(int i) {
+		return i + 607;
+	}
+
+	public int method608(int i) {
+		return i + 608;
+	}
+
+	public int method609(int i) {
+		return i + 609;
+	}
+
+	public int method610(int i) {
+		return i + 610;
+	}
+
+	public int method611(int i) {
+		return i + 611;
+	}
+
+	public int method612(int i) {
+		return i + 612;
+	}
+
+	public int method613(int i) {
+		return i + 613;
+	}
+
+	public int method614(int i) {
+		return i + 614;
+	}
+
+	public int method615(int i) {
+		return i + 615;
+	}
+
+	public int method616(int i) {
+		return i + 616;
+	}
+
+	public int method617(int i) {
+		return i + 617;
+	}
+
+	public int method618(int i) {
+		return i + 618;
+	}
+
+	public int method619(int i) {
+		return i + 619;
+	}
+
+	public int method620(int i) {
+		return i + 620;
+	}
+
+	public int method621(int i) {
+		return i + 621;
+	}
+
+	public int method622(int i) {
+		return i + 622;
+	}
+
+	public int method623(int i) {
+		return i + 623;
+	}
+
+	public int method624(int i) {
+		return i + 624;
+	}
+
+	public int method625(int i) {
+		return i + 625;
+	}
+
+	public int method626(int i) {
+		return i + 626;
+	}
+
+	public int method627(int i) {
+		return i + 627;
+	}
+
+	public int method628(int i) {
+		return i + 628;
+	}
+
+	public int method629(int i) {
+		return i + 629;
+	}
+
+	public int method630(int i) {
+		return i + 630;
+	}
+
+	public int method631(int i) {
+		return i + 631;
+	}
+
+	public int method632(int i) {
+		return i + 632;
+	}
+
+	public int method633(int i) {
+		return i + 633;
+	}
+
+	public int method634(int i) {
+		return i + 634;
+	}
+
+	public int method635(int i) {
+		return i + 635;
+	}
+
+	public int method636(int i) {
+		return i + 636;
+	}
+
+	public int method637(int i) {
+		return i + 637;
+	}
+
+	public int method638(int i) {
+		return i + 638;
+	}
+
+	public int method639(int i) {
+		return i + 639;
+	}
+
+	public int method640(int i) {
+		return i + 640;
+	}
+
+	public int method641(int i) {
+		return i + 641;
+	}
+
+	public int method642(int i) {
+		return i + 642;
+	}
+
+	public int method643(int i) {
+		return i + 643;
+	}
+
+	public int method644(int i) {
+		return i + 644;
+	}
+
+	public int method645(int i) {
+		return i + 645;
+	}
+
+	public int method646(int i) {
+		return i + 646;
+	}
+
+	public int method647(int i) {
+		return i + 647;
+	}
+
+	public int method648(int i) {
+		return i + 648;
+	}
+
+	public int method649(int i) {
+		return i + 649;
+	}
+
+	public int method650(int i) {
+		return i + 650;
+	}
+
+	public int method651(int i) {
+		return i + 651;
+	}
+
+	public int method652(int i) {
+		return i + 652;
+	}
+
+	public int method653(int i) {
+		return i + 653;
+	}
+
+	public int method654(int i) {
+		return i + 654;
+	}
+
+	public int method655(int i) {
+		return i + 655;
+	}
+
+	public int method656(int i) {
+		return i + 656;
+	}
+
+	public int method657(int i) {
+		return i + 657;
+	}
+
+	public int method658(int i) {
+		return i + 658;
+	}
+
+	public int method659(int i) {
+		return i + 659;
+	}
+
+	public int method660(int i) {
+		return i + 660;
+	}
+
+	public int method661(int i) {
+		return i + 661;
+	}
+
+	public int method662(int i) {
+		return i + 662;
+	}
+
+	public int method663(int i) {
+		return i + 663;
+	}
+
+	public int method664(int i) {
+		return i + 664;
+	}
+
+	public int method665(int i) {
+		return i + 665;
+	}
+
+	public int method666(int i) {
+		return i + 666;
+	}
+
+	public int method667(int i) {
+		return i + 667;
+	}
+
+	public int method668(int i) {
+		return i + 668;
+	}
+
+	public int method669(int i) {
+		return i + 669;
+	}
+
+	public int method670(int i) {
+		return i + 670;
+	}
+
+	public int method671(int i) {
+		return i + 671;
+	}
+
+	public int method672(int i) {
+		return i + 672;
+	}
+
+	public int method673(int i) {
+		return i + 673;
+	}
+
+	public int method674(int i) {
+		return i + 674;
+	}
+
+	public int method675(int i) {
+		return i + 675;
+	}
+
+	public int method676(int i) {
+		return i + 676;
+	}
+
+	public int method677(int i) {
+		return i + 677;
+	}
+
+	public int method678(int i) {
+		return i + 678;
+	}
+
+	public int method679(int i) {
+		return i + 679;
+	}
+
+	public int method680(int i) {
+		return i + 680;
+	}
+
+	public int method681(int i) {
+		return i + 681;
+	}
+
+	public int method682(int i) {
+		return i + 682;
+	}
+
+	public int method683(int i) {
+		return i + 683;
+	}
+
+	public int method684(int i) {
+		return i + 684;
+	}
+
+	public int method685(int i) {
+		return i + 685;
+	}
+
+	public int method686(int i) {
+		return i + 686;
+	}
+
+	public int method687(int i) {
+		return i + 687;
+	}
+
+	public int method688(int i) {
+		return i + 688;
+	}
+
+	public int method689(int i) {
+		return i + 689;
+	}
+
+	public int method690(int i) {
+		return i + 690;
+	}
+
+	public int method691(int i) {
+		return i + 691;
+	}
+
+	public int method692(int i) {
+		return i + 692;
+	}
+
+	public int method693(int i) {
+		return i + 693;
+	}
+
+	public int method694(int i) {
+		return i + 694;
+	}
+
+	public int method695(int i) {
+		return i + 695;
+	}
+
+	public int method696(int i) {
+		return i + 696;
+	}
+
+	public int method697(int i) {
+		return i + 697;
+	}
+
+	public int method698(int i) {
+		return i + 698;
+	}
+
+	public int method699(int i) {
+		return i + 699;
+	}
+
+	public int method700(int i) {
+		return i + 700;
+	}
+
+	public int method701(int i) {
+		return i + 701;
+	}
+
+	public int method702(int i) {
+		return i + 702;
+	}
+
+	public int method703(int i) {
+		return i + 703;
+	}
+
+	public int method704(int i) {
+		return i + 704;
+	}
+
+	public int method705(int i) {
+		return i + 705;
+	}
+
+	public int method706(int i) {
+		return i + 706;
+	}
+
+	public int method707(int i) {
+		return i + 707;
+	}
+
+	public int method708(int i) {
+		return i + 708;
+	}
+
+	public int method709(int i) {
+		return i + 709;
+	}
+
+	public int method710(int i) {
+		return i + 710;
+	}
+
+	public int method711(int i) {
+		return i + 711;
+	}
+
+	public int method712(int i) {
+		return i + 712;
+	}
+
+	public int method713(int i) {
+		return i + 713;
+	}
+
+	public int method714(int i) {
+		return i + 714;
+	}
+
+	public int method715(int i) {
+		return i + 715;
+	}
+
+	public int method716(int i) {
+		return i + 716;
+	}
+
+	public int method717(int i) {
+		return i + 717;
+	}
+
+	public int method718(int i) {
+		return i + 718;
+	}
+
+	public int method719(int i) {
+		return i + 719;
+	}
+
+	public int method720(int i) {
+		return i + 720;
+	}
+
+	public int method721(int i) {
+		return i + 721;
+	}
+
+	public int method722(int i) {
+		return i + 722;
+	}
+
+	public int method723(int i) {
+		return i + 723;
+	}
+
+	public int method724(int i) {
+		return i + 724;
+	}
+
+	public int method725(int i) {
+		return i + 725;
+	}
+
+	public int method726(int i) {
+		return i + 726;
+	}
+
+	public int method727(int i) {
+		return i + 727;
+	}
+
+	public int method728(int i) {
+		return i + 728;
+	}
+
+	public int method729(int i) {
+		return i + 729;
+	}
+
+	public int method730(int i) {
+		return i + 730;
+	}
+
+	public int method731(int i) {
+		return i + 731;
+	}
+
+	public int method732(int i) {
+		return i + 732;
+	}
+
+	public int method733(int i) {
+		return i + 733;
+	}
+
+	public int method734(int i) {
+		return i + 734;
+	}
+
+	public int method735(int i) {
+		return i + 735;
+	}
+
+	public int method736(int i) {
+		return i + 736;
+	}
+
+	public int method737(int i) {
+		return i + 737;
+	}
+
+	public int method738(int i) {
+		return i + 738;
+	}
+
+	public int method739(int i) {
+		return i + 739;
+	}
+
+	public int method740(int i) {
+		return i + 740;
+	}
+
+	public int method741(int i) {
+		return i + 741;
+	}
+
+	public int method742(int i) {
+		return i + 742;
+	}
+
+	public int method743(int i) {
+		return i + 743;
+	}
+
+	public int method744(int i) {
+		return i + 744;
+	}
+
+	public int method745(int i) {
+		return i + 745;
+	}
+
+	public int method746(int i) {
+		return i + 746;
+	}
+
+	public int method747(int i) {
+		return i + 747;
+	}
+
+	public int method748(int i) {
+		return i + 748;
+	}
+
+	public int method749(int i) {
+		return i + 749;
+	}
+
+	public int method750(int i) {
+		return i + 750;
+	}
+
+	public int method751(int i) {
+		return i + 751;
+	}
+
+	public int method752(int i) {
+		return i + 752;
+	}
+
+	public int method753(int i) {
+		return i + 753;
+	}
+
+	public int method754(int i) {
+		return i + 754;
+	}
+
+	public int method755(int i) {
+		return i + 755;
+	}
+
+	public int method756(int i) {
+		return i + 756;
+	}
+
+	public int method757(int i) {
+		return i + 757;
+	}
+
+	public int method758(int i) {
+		return i + 758;
+	}
+
+	public int method759(int i) {
+		return i + 759;
+	}
+
+	public int method760(int i) {
+		return i + 760;
+	}
+
+	public int method761(int i) {
+		return i + 761;
+	}
+
+	public int method762(int i) {
+		return i + 762;
+	}
+
+	public int method763(int i) {
+		return i + 763;
+	}
+
+	public int method764(int i) {
+		return i + 764;
+	}
+
+	public int method765(int i) {
+		return i + 765;
+	}
+
+	public int method766(int i) {
+		return i + 766;
+	}
+
+	public int method767(int i) {
+		return i + 767;
+	}
+
+	public int method768(int i) {
+		return i + 768;
+	}
+
+	public int method769(int i) {
+		return i + 769;
+	}
+
+	public int method770(int i) {
+		return i + 770;
+	}
+
+	public int method771(int i) {
+		return i + 771;
+	}
+
+	public int method772(int i) {
+		return i + 772;
+	}
+
+	public int method773(int i) {
+		return i + 773;
+	}
+
+	public int method774(int i) {
+		return i + 774;
+	}
+
+	public int method775(int i) {
+		return i + 775;
+	}
+
+	public int method776(int i) {
+		return i + 776;
+	}
+
+	public int method777(int i) {
+		return i + 777;
+	}
+
+	public int method778(int i) {
+		return i + 778;
+	}
+
+	public int method779(int i) {
+		return i + 779;
+	}
+
+	public int method780(int i) {
+		return i + 780;
+	}
+
+	public int method781(int i) {
+		return i + 781;
+	}
+
+	public int method782(int i) {
+		return i + 782;
+	}
+
+	public int method783(int i) {
+		return i + 783;
+	}
+
+	public int method784(int i) {
+		return i + 784;
+	}
+
+	public int method785(int i) {
+		return i + 785;
+	}
+
+	public int method786(int i) {
+		return i + 786;
+	}
+
+	public int method787(int i) {
+		return i + 787;
+	}
+
+	public int method788(int i) {
+		return i + 788;
+	}
+
+	public int method789(int i) {
+		return i + 789;
+	}
+
+	public int method790(int i) {
+		return i + 790;
+	}
+
+	public int method791(int i) {
+		return i + 791;
+	}
+
+	public int method792(int i) {
+		return i + 792;
+	}
+
+	public int method793(int i) {
+		return i + 793;
+	}
+
+	public int method794(int i) {
+		return i + 794;
+	}
+
+	public int method795(int i) {
+		return i + 795;
+	}
+
+	public int method796(int i) {
+		return i + 796;
+	}
+
+	public int method797(int i) {
+		return i + 797;
+	}
+
+	public int method798(int i) {
+		return i + 798;
+	}
+
+	public int method799(int i) {
+		return i + 799;
+	}
+
+	public int method800(int i) {
+		return i + 800;
+	}
+
+	public int method801(int i) {
+		return i + 801;
+	}
+
+	public int method802(int i) {
+		return i + 802;
+	}
+
+	public int method803(int i) {
+		return i + 803;
+	}
+
+	public int method804(int i) {
+		return i + 804;
+	}
+
+	public int method805(int i) {
+		return i + 805;
+	}
+
+	public int method806(int i) {
+		return i + 806;
+	}
+
+	public int method807(int i) {
+		return i + 807;
+	}
+
+	public int method808(int i) {
+		return i + 808;
+	}
+
+	public int method809(int i) {
+		return i + 809;
+	}
+
+	public int method810(int i) {
+		return i + 810;
+	}
+
+	public int method811(int i) {
+		return i + 811;
+	}
+
+	public int method812(int i) {
+		return i + 812;
+	}
+
+	public int method813(int i) {
+		return i + 813;
+	}
+
+	public int method814(int i) {
+		return i + 814;
+	}
+
+	public int method815(int i) {
+		return i + 815;
+	}
+
+	public int method816(int i) {
+		return i + 816;
+	}
+
+	public int method817(int i) {
+		return i + 817;
+	}
+
+	public int method818(int i) {
+		return i + 818;
+	}
+
+	public int method819(int i) {
+		return i + 819;
+	}
+
+	public int method820(int i) {
+		return i + 820;
+	}
+
+	public int method821(int i) {
+		return i + 821;
+	}
+
+	public int method822(int i) {
+		return i + 822;
+	}
+
+	public int method823(int i) {
+		return i + 823;
+	}
+
+	public int method824(int i) {
+		return i + 824;
+	}
+
+	public int method825(int i) {
+		return i + 825;
+	}
+
+	public int method826(int i) {
+		return i + 826;
+	}
+
+	public int method827(int i) {
+		return i + 827;
+	}
+
+	public int method828(int i) {
+		return i + 828;
+	}
+
+	public int method829(int i) {
+		return i + 829;
+	}
+
+	public int method830(int i) {
+		return i + 830;
+	}
+
+	public int method831(int i) {
+		return i + 831;
+	}
+
+	public int method832(int i) {
+		return i + 832;
+	}
+
+	public int method833(int i) {
+		return i + 833;
+	}
+
+	public int method834(int i) {
+		return i + 834;
+	}
+
+	public int method835(int i) {
+		return i + 835;
+	}
+
+	public int method836(int i) {
+		return i + 836;
+	}
+
+	public int method837(int i) {
+		return i + 837;
+	}
+
+	public int method838(int i) {
+		return i + 838;
+	}
+
+	public int method839(int i) {
+		return i + 839;
+	}
+
+	public int method840(int i) {
+		return i + 840;
+	}
+
+	public int method841(int i) {
+		return i + 841;
+	}
+
+	public int method842(int i) {
+		return i + 842;
+	}
+
+	public int method843(int i) {
+		return i + 843;
+	}
+
+	public int method844(int i) {
+		return i + 844;
+	}
+
+	public int method845(int i) {
+		return i + 845;
+	}
+
+	public int method846(int i) {
+		return i + 846;
+	}
+
+	public int method847(int i) {
+		return i + 847;
+	}
+
+	public int method848(int i) {
+		return i + 848;
+	}
+
+	public int method849(int i) {
+		return i + 849;
+	}
+
+	public int method850(int i) {
+		return i + 850;
+	}
+
+	public int method851(int i) {
+		return i + 851;
+	}
+
+	public int method852(int i) {
+		return i + 852;
+	}
+
+	public int method853(int i) {
+		return i + 853;
+	}
+
+	public int method854(int i) {
+		return i + 854;
+	}
+
+	public int method855(int i) {
+		return i + 855;
+	}
+
+	public int method856(int i) {
+		return i + 856;
+	}
+
+	public int method857(int i) {
+		return i + 857;
+	}
+
+	public int method858(int i) {
+		return i + 858;
+	}
+
+	public int method859(int i) {
+		return i + 859;
+	}
+
+	public int method860(int i) {
+		return i + 860;
+	}
+
+	public int method861(int i) {
+		return i + 861;
+	}
+
+	public int method862(int i) {
+		return i + 862;
+	}
+
+	public int method863(int i) {
+		return i + 863;
+	}
+
+	public int method864(int i) {
+		return i + 864;
+	}
+
+	public int method865(int i) {
+		return i + 865;
+	}
+
+	public int method866(int i) {
+		return i + 866;
+	}
+
+	public int method867(int i) {
+		return i + 867;
+	}
+
+	public int method868(int i) {
+		return i + 868;
+	}
+
+	public int method869(int i) {
+		return i + 869;
+	}
+
+	public int method870(int i) {
+		return i + 870;
+	}
+
+	public int method871(int i) {
+		return i + 871;
+	}
+
+	public int method872(int i) {
+		return i + 872;
+	}
+
+	public int method873(int i) {
+		return i + 873;
+	}
+
+	public int method874(int i) {
+		return i + 874;
+	}
+
+	public int method875(int i) {
+		return i + 875;
+	}
+
+	public int method876(int i) {
+		return i + 876;
+	}
+
+	public int method877(int i) {
+		return i + 877;
+	}
+
+	public int method878(int i) {
+		return i + 878;
+	}
+
+	public int method879(int i) {
+		return i + 879;
+	}
+
+	public int method880(int i) {
+		return i + 880;
+	}
+
+	public int method881(int i) {
+		return i + 881;
+	}
+
+	public int method882(int i) {
+		return i + 882;
+	}
+
+	public int method883(int i) {
+		return i + 883;
+	}
+
+	public int method884(int i) {
+		return i + 884;
+	}
+
+	public int method885(int i) {
+		return i + 885;
+	}
+
+	public int method886(int i) {
+		return i + 886;
+	}
+
+	public int method887(int i) {
+		return i + 887;
+	}
+
+	public int method888(int i) {
+		return i + 888;
+	}
+
+	public int method889(int i) {
+		return i + 889;
+	}
+
+	public int method890(int i) {
+		return i + 890;
+	}
+
+	public int method891(int i) {
+		return i + 891;
+	}
+
+	public int method892(int i) {
+		return i + 892;
+	}
+
+	public int method893(int i) {
+		return i + 893;
+	}
+
+	public int method894(int i) {
+		return i + 894;
+	}
+
+	public int method895(int i) {
+		return i + 895;
+	}
+
+	public int method896(int i) {
+		return i + 896;
+	}
+
+	public int method897(int i) {
+		return i + 897;
+	}
+
+	public int method898(int i) {
+		return i + 898;
+	}
+
+	public int method899(int i) {
+		return i + 899;
+	}
+
+	public int method900(int i) {
+		return i + 900;
+	}
+
+	public int method901(int i) {
+		return i + 901;
+	}
+
+	public int method902(int i) {
+		return i + 902;
+	}
+
+	public int method903(int i) {
+		return i + 903;
+	}
+
+	public int method904(int i) {
+		return i + 904;
+	}
+
+	public int method905(int i) {
+		return i + 905;
+	}
+
+	public int method906(int i) {
+		return i + 906;
+	}
+
+	public int method907(int i) {
+		return i + 907;
+	}
+
+	public int method908(int i) {
+		return i + 908;
+	}
+
+	public int method909(int i) {
+		return i + 909;
+	}
+
+	public int method910(int i) {
+		return i + 910;
+	}
+
+	public int method911(int i) {
+		return i + 911;
+	}
+
+	public int method912(int i) {
+		return i + 912;
+	}
+
+	public int method913(int i) {
+		return i + 913;
+	}
+
+	public int method914(int i) {
+		return i + 914;
+	}
+
+	public int method915(int i) {
+		return i + 915;
+	}
+
+	public int method916(int i) {
+		return i + 916;
+	}
+
+	public int method917(int i) {
+		return i + 917;
+	}
+
+	public int method918(int i) {
+		return i + 918;
+	}
+
+	public int method919(int i) {
+		return i + 919;
+	}
+
+	public int method920(int i) {
+		return i + 920;
+	}
+
+	public int method921(int i) {
+		return i + 921;
+	}
+
+	public int method922(int i) {
+		return i + 922;
+	}
+
+	public int method923(int i) {
+		return i + 923;
+	}
+
+	public int method924(int i) {
+		return i + 924;
+	}
+
+	public int method925(int i) {
+		return i + 925;
+	}
+
+	public int method926(int i) {
+		return i + 926;
+	}
+
+	public int method927(int i) {
+		return i + 927;
+	}
+
+	public int method928(int i) {
+		return i + 928;
+	}
+
+	public int method929(int i) {
+		return i + 929;
+	}
+
+	public int method930(int i) {
+		return i + 930;
+	}
+
+	public int method931(int i) {
+		return i + 931;
+	}
+
+	public int method932(int i) {
+		return i + 932;
+	}
+
+	public int method933(int i) {
+		return i + 933;
+	}
+
+	public int method934(int i) {
+		return i + 934;
+	}
+
+	public int method935(int i) {
+		return i + 935;
+	}
+
+	public int method936(int i) {
+		return i + 936;
+	}
+
+	public int method937(int i) {
+		return i + 937;
+	}
+
+	public int method938(int i) {
+		return i + 938;
+	}
+
+	public int method939(int i) {
+		return i + 939;
+	}
+
+	public int method940(int i) {
+		return i + 940;
+	}
+
+	public int method941(int i) {
+		return i + 941;
+	}
+
+	public int method942(int i) {
+		return i + 942;
+	}
+
+	public int method943(int i) {
+		return i + 943;
+	}
+
+	public int method944(int i) {
+		return i + 944;
+	}
+
+	public int method945(int i) {
+		return i + 945;
+	}
+
+	public int method946(int i) {
+		return i + 946;
+	}
+
+	public int method947(int i) {
+		return i + 947;
+	}
+
+	public int method948(int i) {
+		return i + 948;
+	}
+
+	public int method949(int i) {
+		return i + 949;
+	}
+
+	public int method950(int i) {
+		return i + 950;
+	}
+
+	public int method951(int i) {
+		return i + 951;
+	}
+
+	public int method952(int i) {
+		return i + 952;
+	}
+
+	public int method953(int i) {
+		return i + 953;
+	}
+
+	public int method954(int i) {
+		return i + 954;
+	}
+
+	public int method955(int i) {
+		return i + 955;
+	}
+
+	public int method956(int i) {
+		return i + 956;
+	}
+
+	public int method957(int i) {
+		return i + 957;
+	}
+
+	public int method958(int i) {
+		return i + 958;
+	}
+
+	public int method959(int i) {
+		return i + 959;
+	}
+
+	public int method960(int i) {
+		return i + 960;
+	}
+
+	public int method961(int i) {
+		return i + 961;
+	}
+
+	public int method962(int i) {
+		return i + 962;
+	}
+
+	public int method963(int i) {
+		return i + 963;
+	}
+
+	public int method964(int i) {
+		return i + 964;
+	}
+
+	public int method965(int i) {
+		return i + 965;
+	}
+
+	public int method966(int i) {
+		return i + 966;
+	}
+
+	public int method967(int i) {
+		return i + 967;
+	}
+
+	public int method968(int i) {
+		return i + 968;
+	}
+
+	public int method969(int i) {
+		return i + 969;
+	}
+
+	public int method970(int i) {
+		return i + 970;
+	}
+
+	public int method971(int i) {
+		return i + 971;
+	}
+
+	public int method972(int i) {
+		return i + 972;
+	}
+
+	public int method973(int i) {
+		return i + 973;
+	}
+
+	public int method974(int i) {
+		return i + 974;
+	}
+
+	public int method975(int i) {
+		return i + 975;
+	}
+
+	public int method976(int i) {
+		return i + 976;
+	}
+
+	public int method977(int i) {
+		return i + 977;
+	}
+
+	public int method978(int i) {
+		return i + 978;
+	}
+
+	public int method979(int i) {
+		return i + 979;
+	}
+
+	public int method980(int i) {
+		return i + 980;
+	}
+
+	public int method981(int i) {
+		return i + 981;
+	}
+
+	public int method982(int i) {
+		return i + 982;
+	}
+
+	public int method983(int i) {
+		return i + 983;
+	}
+
+	public int method984(int i) {
+		return i + 984;
+	}
+
+	public int method985(int i) {
+		return i + 985;
+	}
+
+	public int method986(int i) {
+		return i + 986;
+	}
+
+	public int method987(int i) {
+		return i + 987;
+	}
+
+	public int method988(int i) {
+		return i + 988;
+	}
+
+	public int method989(int i) {
+		return i + 989;
+	}
+
+	public int method990(int i) {
+		return i + 990;
+	}
+
+	public int method991(int i) {
+		return i + 991;
+	}
+
+	public int method992(int i) {
+		return i + 992;
+	}
+
+	public int method993(int i) {
+		return i + 993;
+	}
+
+	public int method994(int i) {
+		return i + 994;
+	}
+
+	public int method995(int i) {
+		return i + 995;
+	}
+
+	public int method996(int i) {
+		return i + 996;
+	}
+
+	public int method997(int i) {
+		return i + 997;
+	}
+
+	public int method998(int i) {
+		return i + 998;
+	}
+
+	public int method999(int i) {
+		return i + 999;
+	}
+
+	public int method1000(int i) {
+		return i + 1000;
+	}
+
+	public int method1001(int i) {
+		return i + 1001;
+	}
+
+	public int method1002(int i) {
+		return i + 1002;
+	}
+
+	public int method1003(int i) {
+		return i + 1003;
+	}
+
+	public int method1004(int i) {
+		return i + 1004;
+	}
+
+	public int method1005(int i) {
+		return i + 1005;
+	}
+
+	public int method1006(int i) {
+		return i + 1006;
+	}
+
+	public int method1007(int i) {
+		return i + 1007;
+	}
+
+	public int method1008(int i) {
+		return i + 1008;
+	}
+
+	public int method1009(int i) {
+		return i + 1009;
+	}
+
+	public int method1010(int i) {
+		return i + 1010;
+	}
+
+	public int method1011(int i) {
+		return i + 1011;
+	}
+
+	public int method1012(int i) {
+		return i + 1012;
+	}
+
+	public int method1013(int i) {
+		return i + 1013;
+	}
+
+	public int method1014(int i) {
+		return i + 1014;
+	}
+
+	public int method1015(int i) {
+		return i + 1015;
+	}
+
+	public int method1016(int i) {
+		return i + 1016;
+	}
+
+	public int method1017(int i) {
+		return i + 1017;
+	}
+
+	public int method1018(int i) {
+		return i + 1018;
+	}
+
+	public int method1019(int i) {
+		return i + 1019;
+	}
+
+	public int method1020(int i) {
+		return i + 1020;
+	}
+
+	public int method1021(int i) {
+		return i + 1021;
+	}
+
+	public int method1022(int i) {
+		return i + 1022;
+	}
+
+	public int method1023(int i) {
+		return i + 1023;
+	}
+
+	public int method1024(int i) {
+		return i + 1024;
+	}
+
+	public int method1025(int i) {
+		return i + 1025;
+	}
+
+	public int method1026(int i) {
+		return i + 1026;
+	}
+
+	public int method1027(int i) {
+		return i + 1027;
+	}
+
+	public int method1028(int i) {
+		return i + 1028;
+	}
+
+	public int method1029(int i) {
+		return i + 1029;
+	}
+
+	public int method1030(int i) {
+		return i + 1030;
+	}
+
+	public int method1031(int i) {
+		return i + 1031;
+	}
+
+	public int method1032(int i) {
+		return i + 1032;
+	}
+
+	public int method1033(int i) {
+		return i + 1033;
+	}
+
+	public int method1034(int i) {
+		return i + 1034;
+	}
+
+	public int method1035(int i) {
+		return i + 1035;
+	}
+
+	public int method1036(int i) {
+		return i + 1036;
+	}
+
+	public int method1037(int i) {
+		return i + 1037;
+	}
+
+	public int method1038(int i) {
+		return i + 1038;
+	}
+
+	public int method1039(int i) {
+		return i + 1039;
+	}
+
+	public int method1040(int i) {
+		return i + 1040;
+	}
+
+	public int method1041(int i) {
+		return i + 1041;
+	}
+
+	public int method1042(int i) {
+		return i + 1042;
+	}
+
+	public int method1043(int i) {
+		return i + 1043;
+	}
+
+	public int method1044(int i) {
+		return i + 1044;
+	}
+
+	public int method1045(int i) {
+		return i + 1045;
+	}
+
+	public int method1046(int i) {
+		return i + 1046;
+	}
+
+	public int method1047(int i) {
+		return i + 1047;
+	}
+
+	public int method1048(int i) {
+		return i + 1048;
+	}
+
+	public int method1049(int i) {
+		return i + 1049;
+	}
+
+	public int method1050(int i) {
+		return i + 1050;
+	}
+
+	public int method1051(int i) {
+		return i + 1051;
+	}
+
+	public int method1052(int i) {
+		return i + 1052;
+	}
+
+	public int method1053(int i) {
+		return i + 1053;
+	}
+
+	public int method1054(int i) {
+		return i + 1054;
+	}
+
+	public int method1055(int i) {
+		return i + 1055;
+	}
+
+	public int method1056(int i) {
+		return i + 1056;
+	}
+
+	public int method1057(int i) {
+		return i + 1057;
+	}
+
+	public int method1058(int i) {
+		return i + 1058;
+	}
+
+	public int method1059(int i) {
+		return i + 1059;
+	}
+
+	public int method1060(int i) {
+		return i + 1060;
+	}
+
+	public int method1061(int i) {
+		return i + 1061;
+	}
+
+	public int method1062(int i) {
+		return i + 1062;
+	}
+
+	public int method1063(int i) {
+		return i + 1063;
+	}
+
+	public int method1064(int i) {
+		return i + 1064;
+	}
+
+	public int method1065(int i) {
+		return i + 1065;
+	}
+
+	public int method1066(int i) {
+		return i + 1066;
+	}
+
+	public int method1067(int i) {
+		return i + 1067;
+	}
+
+	public int method1068(int i) {
+		return i + 1068;
+	}
+
+	public int method1069(int i) {
+		return i + 1069;
+	}
+
+	public int method1070(int i) {
+		return i + 1070;
+	}
+
+	public int method1071(int i) {
+		return i + 1071;
+	}
+
+	public int method1072(int i) {
+		return i + 1072;
+	}
+
+	public int method1073(int i) {
+		return i + 1073;
+	}
+
+	public int method1074(int i) {
+		return i + 1074;
+	}
+
+	public int method1075(int i) {
+		return i + 1075;
+	}
+
+	public int method1076(int i) {
+		return i + 1076;
+	}
+
+	public int method1077(int i) {
+		return i + 1077;
+	}
+
+	public int method1078(int i) {
+		return i + 1078;
+	}
+
+	public int method1079(int i) {
+		return i + 1079;
+	}
+
+	public int method1080(int i) {
+		return i + 1080;
+	}
+
+	public int method1081(int i) {
+		return i + 1081;
+	}
+
+	public int method1082(int i) {
+		return i + 1082;
+	}
+
+	public int method1083(int i) {
+		return i + 1083;
+	}
+
+	public int method1084(int i) {
+		return i + 1084;
+	}
+
+	public int method1085(int i) {
+		return i + 1085;
+	}
+
+	public int method1086(int i) {
+		return i + 1086;
+	}
+
+	public int method1087(int i) {
+		return i + 1087;
+	}
+
+	public int method1088(int i) {
+		return i + 1088;
+	}
+
+	public int method1089(int i) {
+		return i + 1089;
+	}
+
+	public int method1090(int i) {
+		return i + 1090;
+	}
+
+	public int method1091(int i) {
+		return i + 1091;
+	}
+
+	public int method1092(int i) {
+		return i + 1092;
+	}
+
+	public int method1093(int i) {
+		return i + 1093;
+	}
+
+	public int method1094(int i) {
+		return i + 1094;
+	}
+
+	public int method1095(int i) {
+		return i + 1095;
+	}
+
+	public int method1096(int i) {
+		return i + 1096;
+	}
+
+	public int method1097(int i) {
+		return i + 1097;
+	}
+
+	public int method1098(int i) {
+		return i + 1098;
+	}
+
+	public int method1099(int i) {
+		return i + 1099;
+	}
+
+	public int method1100(int i) {
+		return i + 1100;
+	}
+
+	public int method1101(int i) {
+		return i + 1101;
+	}
+
+	public int method1102(int i) {
+		return i + 1102;
+	}
+
+	public int method1103(int i) {
+		return i + 1103;
+	}
+
+	public int method1104(int i) {
+		return i + 1104;
+	}
+
+	public int method1105(int i) {
+		return i + 1105;
+	}
+
+	public int method1106(int i) {
+		return i + 1106;
+	}
+
+	public int method1107(int i) {
+		return i + 1107;
+	}
+
+	public int method1108(int i) {
+		return i + 1108;
+	}
+
+	public int method1109(int i) {
+		return i + 1109;
+	}
+
+	public int method1110(int i) {
+		return i + 1110;
+	}
+
+	public int method1111(int i) {
+		return i + 1111;
+	}
+
+	public int method1112(int i) {
+		return i + 1112;
+	}
+
+	public int method1113(int i) {
+		return i + 1113;
+	}
+
+	public int method1114(int i) {
+		return i + 1114;
+	}
+
+	public int method1115(int i) {
+		return i + 1115;
+	}
+
+	public int method1116(int i) {
+		return i + 1116;
+	}
+
+	public int method1117(int i) {
+		return i + 1117;
+	}
+
+	public int method1118(int i) {
+		return i + 1118;
+	}
+
+	public int method1119(int i) {
+		return i + 1119;
+	}
+
+	public int method1120(int i) {
+		return i + 1120;
+	}
+
+	public int method1121(int i) {
+		return i + 1121;
+	}
+
+	public int method1122(int i) {
+		return i + 1122;
+	}
+
+	public int method1123(int i) {
+		return i + 1123;
+	}
+
+	public int method1124(int i) {
+		return i + 1124;
+	}
+
+	public int method1125(int i) {
+		return i + 1125;
+	}
+
+	public int method1126(int i) {
+		return i + 1126;
+	}
+
+	public int method1127(int i) {
+		return i + 1127;
+	}
+
+	public int method1128(int i) {
+		return i + 1128;
+	}
+
+	public int method1129(int i) {
+		return i + 1129;
+	}
+
+	public int method1130(int i) {
+		return i + 1130;
+	}
+
+	public int method1131(int i) {
+		return i + 1131;
+	}
+
+	public int method1132(int i) {
+		return i + 1132;
+	}
+
+	public int method1133(int i) {
+		return i + 1133;
+	}
+
+	public int method1134(int i) {
+		return i + 1134;
+	}
+
+	public int method1135(int i) {
+		return i + 1135;
+	}
+
+	public int method1136(int i) {
+		return i + 1136;
+	}
+
+	public int method1137(int i) {
+		return i + 1137;
+	}
+
+	public int method1138(int i) {
+		return i + 1138;
+	}
+
+	public int method1139(int i) {
+		return i + 1139;
+	}
+
+	public int method1140(int i) {
+		return i + 1140;
+	}
+
+	public int method1141(int i) {
+		return i + 1141;
+	}
+
+	public int method1142(int i) {
+		return i + 1142;
+	}
+
+	public int method1143(int i) {
+		return i + 1143;
+	}
+
+	public int method1144(int i) {
+		return i + 1144;
+	}
+
+	public int method1145(int i) {
+		return i + 1145;
+	}
+
+	public int method1146(int i) {
+		return i + 1146;
+	}
+
+	public int method1147(int i) {
+		return i + 1147;
+	}
+
+	public int method1148(int i) {
+		return i + 1148;
+	}
+
+	public int method1149(int i) {
+		return i + 1149;
+	}
+
+	public int method1150(int i) {
+		return i + 1150;
+	}
+
+	public int method1151(int i) {
+		return i + 1151;
+	}
+
+	public int method1152(int i) {
+		return i + 1152;
+	}
+
+	public int method1153(int i) {
+		return i + 1153;
+	}
+
+	public int method1154(int i) {
+		return i + 1154;
+	}
+
+	public int method1155(int i) {
+		return i + 1155;
+	}
+
+	public int method1156(int i) {
+		return i + 1156;
+	}
+
+	public int method1157(int i) {
+		return i + 1157;
+	}
+
+	public int method1158(int i) {
+		return i + 1158;
+	}
+
+	public int method1159(int i) {
+		return i + 1159;
+	}
+
+	public int method1160(int i) {
+		return i + 1160;
+	}
+
+	public int method1161(int i) {
+		return i + 1161;
+	}
+
+	public int method1162(int i) {
+		return i + 1162;
+	}
+
+	public int method1163(int i) {
+		return i + 1163;
+	}
+
+	public int method1164(int i) {
+		return i + 1164;
+	}
+
+	public int method1165(int i) {
+		return i + 1165;
+	}
+
+	public int method1166(int i) {
+		return i + 1166;
+	}
+
+	public int method1167(int i) {
+		return i + 1167;
+	}
+
+	public int method1168(int i) {
+		return i + 1168;
+	}
+
+	public int method1169(int i) {
+		return i + 1169;
+	}
+
+	public int method1170(int i) {
+		return i + 1170;
+	}
+
+	public int method1171(int i) {
+		return i + 1171;
+	}
+
+	public int method1172(int i) {
+		return i + 1172;
+	}
+
+	public int method1173(int i) {
+		return i + 1173;
+	}
+
+	public int method1174(int i) {
+		return i + 1174;
+	}
+
+	public int method1175(int i) {
+		return i + 1175;
+	}
+
+	public int method1176(int i) {
+		return i + 1176;
+	}
+
+	public int method1177(int i) {
+		return i + 1177;
+	}
+
+	public int method1178(int i) {
+		return i + 1178;
+	}
+
+	public int method1179(int i) {
+		return i + 1179;
+	}
+
+	public int method1180(int i) {
+		return i + 1180;
+	}
+
+	public int method1181(int i) {
+		return i + 1181;
+	}
+
+	public int method1182(int i) {
+		return i + 1182;
+	}
+
+	public int method1183(int i) {
+		return i + 1183;
+	}
+
+	public int method1184(int i) {
+		return i + 1184;
+	}
+
+	public int method1185(int i) {
+		return i + 1185;
+	}
+
+	public int method1186(int i) {
+		return i + 1186;
+	}
+
+	public int method1187(int i) {
+		return i + 1187;
+	}
+
+	public int method1188(int i) {
+		return i + 1188;
+	}
+
+	public int method1189(int i) {
+		return i + 1189;
+	}
+
+	public int method1190(int i) {
+		return i + 1190;
+	}
+
+	public int method1191(int i) {
+		return i + 1191;
+	}
+
+	public int method1192(int i) {
+		return i + 1192;
+	}
+
+	public int method1193(int i) {
+		return i + 1193;
+	}
+
+	public int method1194(int i) {
+		return i + 1194;
+	}
+
+	public int method1195(int i) {
+		return i + 1195;
+	}
+
+	public int method1196(int i) {
+		return i + 1196;
+	}
+
+	public int method1197(int i) {
+		return i + 1197;
+	}
+
+	public int method1198(int i) {
+		return i + 1198;
+	}
+
+	public int method1199(int i) {
+		return i + 1199;
+	}
+
+	public int method1200(int i) {
+		return i + 1200;
+	}
+
+	public int method1201(int i) {
+		return i + 1201;
+	}
+
+	public int method1202(int i) {
+		return i + 1202;
+	}
+
+	public int method1203(int i) {
+		return i + 1203;
+	}
+
+	public int method1204(int i) {
+		return i + 1204;
+	}
+
+	public int method1205(int i) {
+		return i + 1205;
+	}
+
+	public int method1206(int i) {
+		return i + 1206;
+	}
+
+	public int method1207(int i) {
+		return i + 1207;
+	}
+
+	public int method1208(int i) {
+		return i + 1208;
+	}
+
+	public int method1209(int i) {
+		return i + 1209;
+	}
+
+	public int method1210(int i) {
+		return i + 1210;
+	}
+
+	public int method1211(int i) {
+		return i + 1211;
+	}
+
+	public int method1212(int i) {
+		return i + 1212;
+	}
+
+	public int method1213(int i) {
+		return i + 1213;
+	}
+
+	public int method1214(int i) {
+		return i + 1214;
+	}
+
+	public int method1215(int i) {
+		return i + 1215;
+	}
+
+	public int method1216(int i) {
+		return i + 1216;
+	}
+
+	public int method1217(int i) {
+		return i + 1217;
+	}
+
+	public int method1218(int i) {
+		return i + 1218;
+	}
+
+	public int method1219(int i) {
+		return i + 1219;
+	}
+
+	public int method1220(int i) {
+		return i + 1220;
+	}
+
+	public int method1221(int i) {
+		return i + 1221;
+	}
+
+	public int method1222(int i) {
+		return i + 1222;
+	}
+
+	public int method1223(int i) {
+		return i + 1223;
+	}
+
+	public int method1224(int i) {
+		return i + 1224;
+	}
+
+	public int method1225(int i) {
+		return i + 1225;
+	}
+
+	public int method1226(int i) {
+		return i + 1226;
+	}
+
+	public int method1227(int i) {
+		return i + 1227;
+	}
+
+	public int method1228(int i) {
+		return i + 1228;
+	}
+
+	public int method1229(int i) {
+		return i + 1229;
+	}
+
+	public int method1230(int i) {
+		return i + 1230;
+	}
+
+	public int method1231(int i) {
+		return i + 1231;
+	}
+
+	public int method1232(int i) {
+		return i + 1232;
+	}
+
+	public int method1233(int i) {
+		return i + 1233;
+	}
+
+	public int method1234(int i) {
+		return i + 1234;
+	}
+
+	public int method1235(int i) {
+		return i + 1235;
+	}
+
+	public int method1236(int i) {
+		return i + 1236;
+	}
+
+	public int method1237(int i) {
+		return i + 1237;
+	}
+
+	public int method1238(int i) {
+		return i + 1238;
+	}
+
+	public int method1239(int i) {
+		return i + 1239;
+	}
+
+	public int method1240(int i) {
+		return i + 1240;
+	}
+
+	public int method1241(int i) {
+		return i + 1241;
+	}
+
+	public int method1242(int i) {
+		return i + 1242;
+	}
+
+	public int method1243(int i) {
+		return i + 1243;
+	}
+
+	public int method1244(int i) {
+		return i + 1244;
+	}
+
+	public int method1245(int i) {
+		return i + 1245;
+	}
+
+	public int method1246(int i) {
+		return i + 1246;
+	}
+
+	public int method1247(int i) {
+		return i + 1247;
+	}
+
+	public int method1248(int i) {
+		return i + 1248;
+	}
+
+	public int method1249(int i) {
+		return i + 1249;
+	}
+
+	public int method1250(int i) {
+		return i + 1250;
+	}
+
+	public int method1251(int i) {
+		return i + 1251;
+	}
+
+	public int method1252(int i) {
+		return i + 1252;
+	}
+
+	public int method1253(int i) {
+		return i + 1253;
+	}
+
+	public int method1254(int i) {
+		return i + 1254;
+	}
+
+	public int method1255(int i) {
+		return i + 1255;
+	}
+
+	public int method1256(int i) {
+		return i + 1256;
+	}
+
+	public int method1257(int i) {
+		return i + 1257;
+	}
+
+	public int method1258(int i) {
+		return i + 1258;
+	}
+
+	public int method1259(int i) {
+		return i + 1259;
+	}
+
+	public int method1260(int i) {
+		return i + 1260;
+	}
+
+	public int method1261(int i) {
+		return i + 1261;
+	}
+
+	public int method1262(int i) {
+		return i + 1262;
+	}
+
+	public int method1263(int i) {
+		return i + 1263;
+	}
+
+	public int method1264(int i) {
+		return i + 1264;
+	}
+
+	public int method1265(int i) {
+		return i + 1265;
+	}
+
+	public int method1266(int i) {
+		return i + 1266;
+	}
+
+	public int method1267(int i) {
+		return i + 1267;
+	}
+
+	public int method1268(int i) {
+		return i + 1268;
+	}
+
+	public int method1269(int i) {
+		return i + 1269;
+	}
+
+	public int method1270(int i) {
+		return i + 1270;
+	}
+
+	public int method1271(int i) {
+		return i + 1271;
+	}
+
+	public int method1272(int i) {
+		return i + 1272;
+	}
+
+	public int method1273(int i) {
+		return i + 1273;
+	}
+
+	public int method1274(int i) {
+		return i + 1274;
+	}
+
+	public int method1275(int i) {
+		return i + 1275;
+	}
+
+	public int method1276(int i) {
+		return i + 1276;
+	}
+
+	public int method1277(int i) {
+		return i + 1277;
+	}
+
+	public int method1278(int i) {
+		return i + 1278;
+	}
+
+	public int method1279(int i) {
+		return i + 1279;
+	}
+
+	public int method1280(int i) {
+		return i + 1280;
+	}
+
+	public int method1281(int i) {
+		return i + 1281;
+	}
+
+	public int method1282(int i) {
+		return i + 1282;
+	}
+
+	public int method1283(int i) {
+		return i + 1283;
+	}
+
+	public int method1284(int i) {
+		return i + 1284;
+	}
+
+	public int method1285(int i) {
+		return i + 1285;
+	}
+
+	public int method1286(int i) {
+		return i + 1286;
+	}
+
+	public int method1287(int i) {
+		return i + 1287;
+	}
+
+	public int method1288(int i) {
+		return i + 1288;
+	}
+
+	public int method1289(int i) {
+		return i + 1289;
+	}
+
+	public int method1290(int i) {
+		return i + 1290;
+	}
+
+	public int method1291(int i) {
+		return i + 1291;
+	}
+
+	public int method1292(int i) {
+		return i + 1292;
+	}
+
+	public int method1293(int i) {
+		return i + 1293;
+	}
+
+	public int method1294(int i) {
+		return i + 1294;
+	}
+
+	public int method1295(int i) {
+		return i + 1295;
+	}
+
+	public int method1296(int i) {
+		return i + 1296;
+	}
+
+	public int method1297(int i) {
+		return i + 1297;
+	}
+
+	public int method1298(int i) {
+		return i + 1298;
+	}
+
+	public int method1299(int i) {
+		return i + 1299;
+	}
+
+	public int method1300(int i) {
+		return i + 1300;
+	}
+
+	public int method1301(int i) {
+		return i + 1301;
+	}
+
+	public int method1302(int i) {
+		return i + 1302;
+	}
+
+	public int method1303(int i) {
+		return i + 1303;
+	}
+
+	public int method1304(int i) {
+		return i + 1304;
+	}
+
+	public int method1305(int i) {
+		return i + 1305;
+	}
+
+	public int method1306(int i) {
+		return i + 1306;
+	}
+
+	public int method1307(int i) {
+		return i + 1307;
+	}
+
+	public int method1308(int i) {
+		return i + 1308;
+	}
+
+	public int method1309(int i) {
+		return i + 1309;
+	}
+
+	public int method1310(int i) {
+		return i + 1310;
+	}
+
+	public int method1311(int i) {
+		return i + 1311;
+	}
+
+	public int method1312(int i) {
+		return i + 1312;
+	}
+
+	public int method1313(int i) {
+		return i + 1313;
+	}
+
+	public int method1314(int i) {
+		return i + 1314;
+	}
+
+	public int method1315(int i) {
+		return i + 1315;
+	}
+
+	public int method1316(int i) {
+		return i + 1316;
+	}
+
+	public int method1317(int i) {
+		return i + 1317;
+	}
+
+	public int method1318(int i) {
+		return i + 1318;
+	}
+
+	public int method1319(int i) {
+		return i + 1319;
+	}
+
+	public int method1320(int i) {
+		return i + 1320;
+	}
+
+	public int method1321(int i) {
+		return i + 1321;
+	}
+
+	public int method1322(int i) {
+		return i + 1322;
+	}
+
+	public int method1323(int i) {
+		return i + 1323;
+	}
+
+	public int method1324(int i) {
+		return i + 1324;
+	}
+
+	public int method1325(int i) {
+		return i + 1325;
+	}
+
+	public int method1326(int i) {
+		return i + 1326;
+	}
+
+	public int method1327(int i) {
+		return i + 1327;
+	}
+
+	public int method1328(int i) {
+		return i + 1328;
+	}
+
+	public int method1329(int i) {
+		return i + 1329;
+	}
+
+	public int method1330(int i) {
+		return i + 1330;
+	}
+
+	public int method1331(int i) {
+		return i + 1331;
+	}
+
+	public int method1332(int i) {
+		return i + 1332;
+	}
+
+	public int method1333(int i) {
+		return i + 1333;
+	}
+
+	public int method1334(int i) {
+		return i + 1334;
+	}
+
+	public int method1335(int i) {
+		return i + 1335;
+	}
+
+	public int method1336(int i) {
+		return i + 1336;
+	}
+
+	public int method1337(int i) {
+		return i + 1337;
+	}
+
+	public int method1338(int i) {
+		return i + 1338;
+	}
+
+	public int method1339(int i) {
+		return i + 1339;
+	}
+
+	public int method1340(int i) {
+		return i + 1340;
+	}
+
+	public int method1341(int i) {
+		return i + 1341;
+	}
+
+	public int method1342(int i) {
+		return i + 1342;
+	}
+
+	public int method1343(int i) {
+		return i + 1343;
+	}
+
+	public int method1344(int i) {
+		return i + 1344;
+	}
+
+	public int method1345(int i) {
+		return i + 1345;
+	}
+
+	public int method1346(int i) {
+		return i + 1346;
+	}
+
+	public int method1347(int i) {
+		return i + 1347;
+	}
+
+	public int method1348(int i) {
+		return i + 1348;
+	}
+
+	public int method1349(int i) {
+		return i + 1349;
+	}
+
+	public int method1350(int i) {
+		return i + 1350;
+	}
+
+	public int method1351(int i) {
+		return i + 1351;
+	}
+
+	public int method1352(int i) {
+		return i + 1352;
+	}
+
+	public int method1353(int i) {
+		return i + 1353;
+	}
+
+	public int method1354(int i) {
+		return i + 1354;
+	}
+
+	public int method1355(int i) {
+		return i + 1355;
+	}
+
+	public int method1356(int i) {
+		return i + 1356;
+	}
+
+	public int method1357(int i) {
+		return i + 1357;
+	}
+
+	public int method1358(int i) {
+		return i + 1358;
+	}
+
+	public int method1359(int i) {
+		return i + 1359;
+	}
+
+	public int method1360(int i) {
+		return i + 1360;
+	}
+
+	public int method1361(int i) {
+		return i + 1361;
+	}
+
+	public int method1362(int i) {
+		return i + 1362;
+	}
+
+	public int method1363(int i) {
+		return i + 1363;
+	}
+
+	public int method1364(int i) {
+		return i + 1364;
+	}
+
+	public int method1365(int i) {
+		return i + 1365;
+	}
+
+	public int method1366(int i) {
+		return i + 1366;
+	}
+
+	public int method1367(int i) {
+		return i + 1367;
+	}
+
+	public int method1368(int i) {
+		return i + 1368;
+	}
+
+	public int method1369(int i) {
+		return i + 1369;
+	}
+
+	public int method1370(int i) {
+		return i + 1370;
+	}
+
+	public int method1371(int i) {
+		return i + 1371;
+	}
+
+	public int method1372(int i) {
+		return i + 1372;
+	}
+
+	public int method1373(int i) {
+		return i + 1373;
+	}
+
+	public int method1374(int i) {
+		return i + 1374;
+	}
+
+	public int method1375(int i) {
+		return i + 1375;
+	}
+
+	public int method1376(int i) {
+		return i + 1376;
+	}
+
+	public int method1377(int i) {
+		return i + 1377;
+	}
+
+	public int method1378(int i) {
+		return i + 1378;
+	}
+
+	public int method1379(int i) {
+		return i + 1379;
+	}
+
+	public int method1380(int i) {
+		return i + 1380;
+	}
+
+	public int method1381(int i) {
+		return i + 1381;
+	}
+
+	public int method1382(int i) {
+		return i + 1382;
+	}
+
+	public int method1383(int i) {
+		return i + 1383;
+	}
+
+	public int method1384(int i) {
+		return i + 1384;
+	}
+
+	public int method1385(int i) {
+		return i + 1385;
+	}
+
+	public int method1386(int i) {
+		return i + 1386;
+	}
+
+	public int method1387(int i) {
+		return i + 1387;
+	}
+
+	public int method1388(int i) {
+		return i + 1388;
+	}
+
+	public int method1389(int i) {
+		return i + 1389;
+	}
+
+	public int method1390(int i) {
+		return i + 1390;
+	}
+
+	public int method1391(int i) {
+		return i + 1391;
+	}
+
+	public int method1392(int i) {
+		return i + 1392;
+	}
+
+	public int method1393(int i) {
+		return i + 1393;
+	}
+
+	public int method1394(int i) {
+		return i + 1394;
+	}
+
+	public int method1395(int i) {
+		return i + 1395;
+	}
+
+	public int method1396(int i) {
+		return i + 1396;
+	}
+
+	public int method1397(int i) {
+		return i + 1397;
+	}
+
+	public int method1398(int i) {
+		return i + 1398;
+	}
+
+	public int method1399(int i) {
+		return i + 1399;
+	}
+
+	public int method1400(int i) {
+		return i + 1400;
+	}
+
+	public int method1401(int i) {
+		return i + 1401;
+	}
+
+	public int method1402(int i) {
+		return i + 1402;
+	}
+
+	public int method1403(int i) {
+		return i + 1403;
+	}
+
+	public int method1404(int i) {
+		return i + 1404;
+	}
+
+	public int method1405(int i) {
+		return i + 1405;
+	}
+
+	public int method1406(int i) {
+		return i + 1406;
+	}
+
+	public int method1407(int i) {
+		return i + 1407;
+	}
+
+	public int method1408(int i) {
+		return i + 1408;
+	}
+
+	public int method1409(int i) {
+		return i + 1409;
+	}
+
+	public int method1410(int i) {
+		return i + 1410;
+	}
+
+	public int method1411(int i) {
+		return i + 1411;
+	}
+
+	public int method1412(int i) {
+		return i + 1412;
+	}
+
+	public int method1413(int i) {
+		return i + 1413;
+	}
+
+	public int method1414(int i) {
+		return i + 1414;
+	}
+
+	public int method1415(int i) {
+		return i + 1415;
+	}
+
+	public int method1416(int i) {
+		return i + 1416;
+	}
+
+	public int method1417(int i) {
+		return i + 1417;
+	}
+
+	public int method1418(int i) {
+		return i + 1418;
+	}
+
+	public int method1419(int i) {
+		return i + 1419;
+	}
+
+	public int method1420(int i) {
+		return i + 1420;
+	}
+
+	public int method1421(int i) {
+		return i + 1421;
+	}
+
+	public int method1422(int i) {
+		return i + 1422;
+	}
+
+	public int method1423(int i) {
+		return i + 1423;
+	}
+
+	public int method1424(int i) {
+		return i + 1424;
+	}
+
+	public int method1425(int i) {
+		return i + 1425;
+	}
+
+	public int method1426(int i) {
+		return i + 1426;
+	}
+
+	public int method1427(int i) {
+		return i + 1427;
+	}
+
+	public int method1428(int i) {
+		return i + 1428;
+	}
+
+	public int method1429(int i) {
+		return i + 1429;
+	}
+
+	public int method1430(int i) {
+		return i + 1430;
+	}
+
+	public int method1431(int i) {
+		return i + 1431;
+	}
+
+	public int method1432(int i) {
+		return i + 1432;
+	}
+
+	public int method1433(int i) {
+		return i + 1433;
+	}
+
+	public int method1434(int i) {
+		return i + 1434;
+	}
+
+	public int method1435(int i) {
+		return i + 1435;
+	}
+
+	public int method1436(int i) {
+		return i + 1436;
+	}
+
+	public int method1437(int i) {
+		return i + 1437;
+	}
+
+	public int method1438(int i) {
+		return i + 1438;
+	}
+
+	public int method1439(int i) {
+		return i + 1439;
+	}
+
+	public int method1440(int i) {
+		return i + 1440;
+	}
+
+	public int method1441(int i) {
+		return i + 1441;
+	}
+
+	public int method1442(int i) {
+		return i + 1442;
+	}
+
+	public int method1443(int i) {
+		return i + 1443;
+	}
+
+	public int method1444(int i) {
+		return i + 1444;
+	}
+
+	public int method1445(int i) {
+		return i + 1445;
+	}
+
+	public int method1446(int i) {
+		return i + 1446;
+	}
+
+	public int method1447(int i) {
+		return i + 1447;
+	}
+
+	public int method1448(int i) {
+		return i + 1448;
+	}
+
+	public int method1449(int i) {
+		return i + 1449;
+	}
+
+	public int method1450(int i) {
+		return i + 1450;
+	}
+
+	public int method1451(int i) {
+		return i + 1451;
+	}
+
+	public int method1452(int i) {
+		return i + 1452;
+	}
+
+	public int method1453(int i) {
+		return i + 1453;
+	}
+
+	public int method1454(int i) {
+		return i + 1454;
+	}
+
+	public int method1455(int i) {
+		return i + 1455;
+	}
+
+	public int method1456(int i) {
+		return i + 1456;
+	}
+
+	public int method1457(int i) {
+		return i + 1457;
+	}
+
+	public int method1458(int i) {
+		return i + 1458;
+	}
+
+	public int method1459(int i) {
+		return i + 1459;
+	}
+
+	public int method1460(int i) {
+		return i + 1460;
+	}
+
+	public int method1461(int i) {
+		return i + 1461;
+	}
+
+	public int method1462(int i) {
+		return i + 1462;
+	}
+
+	public int method1463(int i) {
+		return i + 1463;
+	}
+
+	public int method1464(int i) {
+		return i + 1464;
+	}
+
+	public int method1465(int i) {
+		return i + 1465;
+	}
+
+	public int method1466(int i) {
+		return i + 1466;
+	}
+
+	public int method1467(int i) {
+		return i + 1467;
+	}
+
+	public int method1468(int i) {
+		return i + 1468;
+	}
+
+	public int method1469(int i) {
+		return i + 1469;
+	}
+
+	public int method1470(int i) {
+		return i + 1470;
+	}
+
+	public int method1471(int i) {
+		return i + 1471;
+	}
+
+	public int method1472(int i) {
+		return i + 1472;
+	}
+
+	public int method1473(int i) {
+		return i + 1473;
+	}
+
+	public int method1474(int i) {
+		return i + 1474;
+	}
+
+	public int method1475(int i) {
+		return i + 1475;
+	}
+
+	public int method1476(int i) {
+		return i + 1476;
+	}
+
+	public int method1477(int i) {
+		return i + 1477;
+	}
+
+	public int method1478(int i) {
+		return i + 1478;
+	}
+
+	public int method1479(int i) {
+		return i + 1479;
+	}
+
+	public int method1480(int i) {
+		return i + 1480;
+	}
+
+	public int method1481(int i) {
+		return i + 1481;
+	}
+
+	public int method1482(int i) {
+		return i + 1482;
+	}
+
+	public int method1483(int i) {
+		return i + 1483;
+	}
+
+	public int method1484(int i) {
+		return i + 1484;
+	}
+
+	public int method1485(int i) {
+		return i + 1485;
+	}
+
+	public int method1486(int i) {
+		return i + 1486;
+	}
+
+	public int method1487(int i) {
+		return i + 1487;
+	}
+
+	public int method1488(int i) {
+		return i + 1488;
+	}
+
+	public int method1489(int i) {
+		return i + 1489;
+	}
+
+	public int method1490(int i) {
+		return i + 1490;
+	}
+
+	public int method1491(int i) {
+		return i + 1491;
+	}
+
+	public int method1492(int i) {
+		return i + 1492;
+	}
+
+	public int method1493(int i) {
+		return i + 1493;
+	}
+
+	public int method1494(int i) {
+		return i + 1494;
+	}
+
+	public int method1495(int i) {
+		return i + 1495;
+	}
+
+	public int method1496(int i) {
+		return i + 1496;
+	}
+
+	public int method1497(int i) {
+		return i + 1497;
+	}
+
+	public int method1498(int i) {
+		return i + 1498;
+	}
+
+	public int method1499(int i) {
+		return i + 1499;
+	}
+
+	public int method1500(int i) {
+		return i + 1500;
+	}
+
+	public int method1501(int i) {
+		return i + 1501;
+	}
+
+	public int method1502(int i) {
+		return i + 1502;
+	}
+
+	public int method1503(int i) {
+		return i + 1503;
+	}
+
+	public int method1504(int i) {
+		return i + 1504;
+	}
+
+	public int method1505(int i) {
+		return i + 1505;
+	}
+
+	public int method1506(int i) {
+		return i + 1506;
+	}
+
+	public int method1507(int i) {
+		return i + 1507;
+	}
+
+	public int method1508(int i) {
+		return i + 1508;
+	}
+
+	public int method1509(int i) {
+		return i + 1509;
+	}
+
+	public int method1510(int i) {
+		return i + 1510;
+	}
+
+	public int method1511(int i) {
+		return i + 1511;
+	}
+
+	public int method1512(int i) {
+		return i + 1512;
+	}
+
+	public int method1513(int i) {
+		return i + 1513;
+	}
+
+	public int method1514(int i) {
+		return i + 1514;
+	}
+
+	public int method1515(int i) {
+		return i + 1515;
+	}
+
+	public int method1516(int i) {
+		return i + 1516;
+	}
+
+	public int method1517(int i) {
+		return i + 1517;
+	}
+
+	public int method1518(int i) {
+		return i + 1518;
+	}
+
+	public int method1519(int i) {
+		return i + 1519;
+	}
+
+	public int method1520(int i) {
+		return i + 1520;
+	}
+
+	public int method1521(int i) {
+		return i + 1521;
+	}
+
+	public int method1522(int i) {
+		return i + 1522;
+	}
+
+	public int method1523(int i) {
+		return i + 1523;
+	}
+
+	public int method1524(int i) {
+		return i + 1524;
+	}
+
+	public int method1525(int i) {
+		return i + 1525;
+	}
+
+	public int method1526(int i) {
+		return i + 1526;
+	}
+
+	public int method1527(int i) {
+		return i + 1527;
+	}
+
+	public int method1528(int i) {
+		return i + 1528;
+	}
+
+	public int method1529(int i) {
+		return i + 1529;
+	}
+
+	public int method1530(int i) {
+		return i + 1530;
+	}
+
+	public int method1531(int i) {
+		return i + 1531;
+	}
+
+	public int method1532(int i) {
+		return i + 1532;
+	}
+
+	public int method1533(int i) {
+		return i + 1533;
+	}
+
+	public int method1534(int i) {
+		return i + 1534;
+	}
+
+	public int method1535(int i) {
+		return i + 1535;
+	}
+
+	public int method1536(int i) {
+		return i + 1536;
+	}
+
+	public int method1537(int i) {
+		return i + 1537;
+	}
+
+	public int method1538(int i) {
+		return i + 1538;
+	}
+
+	public int method1539(int i) {
+		return i + 1539;
+	}
+
+	public int method1540(int i) {
+		return i + 1540;
+	}
+
+	public int method1541(int i) {
+		return i + 1541;
+	}
+
+	public int method1542(int i) {
+		return i + 1542;
+	}
+
+	public int method1543(int i) {
+		return i + 1543;
+	}
+
+	public int method1544(int i) {
+		return i + 1544;
+	}
+
+	public int method1545(int i) {
+		return i + 1545;
+	}
+
+	public int method1546(int i) {
+		return i + 1546;
+	}
+
+	public int method1547(int i) {
+		return i + 1547;
+	}
+
+	public int method1548(int i) {
+		return i + 1548;
+	}
+
+	public int method1549(int i) {
+		return i + 1549;
+	}
+
+	public int method1550(int i) {
+		return i + 1550;
+	}
+
+	public int method1551(int i) {
+		return i + 1551;
+	}
+
+	public int method1552(int i) {
+		return i + 1552;
+	}
+
+	public int method1553(int i) {
+		return i + 1553;
+	}
+
+	public int method1554(int i) {
+		return i + 1554;
+	}
+
+	public int method1555(int i) {
+		return i + 1555;
+	}
+
+	public int method1556(int i) {
+		return i + 1556;
+	}
+
+	public int method1557(int i) {
+		return i + 1557;
+	}
+
+	public int method1558(int i) {
+		return i + 1558;
+	}
+
+	public int method1559(int i) {
+		return i + 1559;
+	}
+
+	public int method1560(int i) {
+		return i + 1560;
+	}
+
+	public int method1561(int i) {
+		return i + 1561;
+	}
+
+	public int method1562(int i) {
+		return i + 1562;
+	}
+
+	public int method1563(int i) {
+		return i + 1563;
+	}
+
+	public int method1564(int i) {
+		return i + 1564;
+	}
+
+	public int method1565(int i) {
+		return i + 1565;
+	}
+
+	public int method1566(int i) {
+		return i + 1566;
+	}
+
+	public int method1567(int i) {
+		return i + 1567;
+	}
+
+	public int method1568(int i) {
+		return i + 1568;
+	}
+
+	public int method1569(int i) {
+		return i + 1569;
+	}
+
+	public int method1570(int i) {
+		return i + 1570;
+	}
+
+	public int method1571(int i) {
+		return i + 1571;
+	}
+
+	public int method1572(int i) {
+		return i + 1572;
+	}
+
+	public int method1573(int i) {
+		return i + 1573;
+	}
+
+	public int method1574(int i) {
+		return i + 1574;
+	}
+
+	public int method1575(int i) {
+		return i + 1575;
+	}
+
+	public int method1576(int i) {
+		return i + 1576;
+	}
+
+	public int method1577(int i) {
+		return i + 1577;
+	}
+
+	public int method1578(int i) {
+		return i + 1578;
+	}
+
+	public int method1579(int i) {
+		return i + 1579;
+	}
+
+	public int method1580(int i) {
+		return i + 1580;
+	}
+
+	public int method1581(int i) {
+		return i + 1581;
+	}
+
+	public int method1582(int i) {
+		return i + 1582;
+	}
+
+	public int method1583(int i) {
+		return i + 1583;
+	}
+
+	public int method1584(int i) {
+		return i + 1584;
+	}
+
+	public int method1585(int i) {
+		return i + 1585;
+	}
+
+	public int method1586(int i) {
+		return i + 1586;
+	}
+
+	public int method1587(int i) {
+		return i + 1587;
+	}
+
+	public int method1588(int i) {
+		return i + 1588;
+	}
+
+	public int method1589(int i) {
+		return i + 1589;
+	}
+
+	public int method1590(int i) {
+		return i + 1590;
+	}
+
+	public int method1591(int i) {
+		return i + 1591;
+	}
+
+	public int method1592(int i) {
+		return i + 1592;
+	}
+
+	public int method1593(int i) {
+		return i + 1593;
+	}
+
+	public int method1594(int i) {
+		return i + 1594;
+	}
+
+	public int method1595(int i) {
+		return i + 1595;
+	}
+
+	public int method1596(int i) {
+		return i + 1596;
+	}
+
+	public int method1597(int i) {
+		return i + 1597;
+	}
+
+	public int method1598(int i) {
+		return i + 1598;
+	}
+
+	public int method1599(int i) {
+		return i + 1599;
+	}
+
+	public int method1600(int i) {
+		return i + 1600;
+	}
+
+	public int method1601(int i) {
+		return i + 1601;
+	}
+
+	public int method1602(int i) {
+		return i + 1602;
+	}
+
+	public int method1603(int i) {
+		return i + 1603;
+	}
+
+	public int method1604(int i) {
+		return i + 1604;
+	}
+
+	public int method1605(int i) {
+		return i + 1605;
+	}
+
+	public int method1606(int i) {
+		return i + 1606;
+	}
+
+	public int method1607(int i) {
+		return i + 1607;
+	}
+
+	public int method1608(int i) {
+		return i + 1608;
+	}
+
+	public int method1609(int i) {
+		return i + 1609;
+	}
+
+	public int method1610(int i) {
+		return i + 1610;
+	}
+
+	public int method1611(int i) {
+		return i + 1611;
+	}
+
+	public int method1612(int i) {
+		return i + 1612;
+	}
+
+	public int method1613(int i) {
+		return i + 1613;
+	}
+
+	public int method1614(int i) {
+		return i + 1614;
+	}
+
+	public int method1615(int i) {
+		return i + 1615;
+	}
+
+	public int method1616(int i) {
+		return i + 1616;
+	}
+
+	public int method1617(int i) {
+		return i + 1617;
+	}
+
+	public int method1618(int i) {
+		return i + 1618;
+	}
+
+	public int method1619(int i) {
+		return i + 1619;
+	}
+
+	public int method1620(int i) {
+		return i + 1620;
+	}
+
+	public int method1621(int i) {
+		return i + 1621;
+	}
+
+	public int method1622(int i) {
+		return i + 1622;
+	}
+
+	public int method1623(int i) {
+		return i + 1623;
+	}
+
+	public int method1624(int i) {
+		return i + 1624;
+	}
+
+	public int method1625(int i) {
+		return i + 1625;
+	}
+
+	public int method1626(int i) {
+		return i + 1626;
+	}
+
+	public int method1627(int i) {
+		return i + 1627;
+	}
+
+	public int method1628(int i) {
+		return i + 1628;
+	}
+
+	public int method1629(int i) {
+		return i + 1629;
+	}
+
+	public int method1630(int i) {
+		return i + 1630;
+	}
+
+	public int method1631(int i) {
+		return i + 1631;
+	}
+
+	public int method1632(int i) {
+		return i + 1632;
+	}
+
+	public int method1633(int i) {
+		return i + 1633;
+	}
+
+	public int method1634(int i) {
+		return i + 1634;
+	}
+
+	public int method1635(int i) {
+		return i + 1635;
+	}
+
+	public int method1636(int i) {
+		return i + 1636;
+	}
+
+	public int method1637(int i) {
+		return i + 1637;
+	}
+
+	public int method1638(int i) {
+		return i + 1638;
+	}
+
+	public int method1639(int i) {
+		return i + 1639;
+	}
+
+	public int method1640(int i) {
+		return i + 1640;
+	}
+
+	public int method1641(int i) {
+		return i + 1641;
+	}
+
+	public int method1642(int i) {
+		return i + 1642;
+	}
+
+	public int method1643(int i) {
+		return i + 1643;
+	}
+
+	public int method1644(int i) {
+		return i + 1644;
+	}
+
+	public int method1645(int i) {
+		return i + 1645;
+	}
+
+	public int method1646(int i) {
+		return i + 1646;
+	}
+
+	public int method1647(int i) {
+		return i + 1647;
+	}
+
+	public int method1648(int i) {
+		return i + 1648;
+	}
+
+	public int method1649(int i) {
+		return i + 1649;
+	}
+
+	public int method1650(int i) {
+		return i + 1650;
+	}
+
+	public int method1651(int i) {
+		return i + 1651;
+	}
+
+	public int method1652(int i) {
+		return i + 1652;
+	}
+
+	public int method1653(int i) {
+		return i + 1653;
+	}
+
+	public int method1654(int i) {
+		return i + 1654;
+	}
+
+	public int method1655(int i) {
+		return i + 1655;
+	}
+
+	public int method1656(int i) {
+		return i + 1656;
+	}
+
+	public int method1657(int i) {
+		return i + 1657;
+	}
+
+	public int method1658(int i) {
+		return i + 1658;
+	}
+
+	public int method1659(int i) {
+		return i + 1659;
+	}
+
+	public int method1660(int i) {
+		return i + 1660;
+	}
+
+	public int method1661(int i) {
+		return i + 1661;
+	}
+
+	public int method1662(int i) {
+		return i + 1662;
+	}
+
+	public int method1663(int i) {
+		return i + 1663;
+	}
+
+	public int method1664(int i) {
+		return i + 1664;
+	}
+
+	public int method1665(int i) {
+		return i + 1665;
+	}
+
+	public int method1666(int i) {
+		return i + 1666;
+	}
+
+	public int method1667(int i) {
+		return i + 1667;
+	}
+
+	public int method1668(int i) {
+		return i + 1668;
+	}
+
+	public int method1669(int i) {
+		return i + 1669;
+	}
+
+	public int method1670(int i) {
+		return i + 1670;
+	}
+
+	public int method1671(int i) {
+		return i + 1671;
+	}
+
+	public int method1672(int i) {
+		return i + 1672;
+	}
+
+	public int method1673(int i) {
+		return i + 1673;
+	}
+
+	public int method1674(int i) {
+		return i + 1674;
+	}
+
+	public int method1675(int i) {
+		return i + 1675;
+	}
+
+	public int method1676(int i) {
+		return i + 1676;
+	}
+
+	public int method1677(int i) {
+		return i + 1677;
+	}
+
+	public int method1678(int i) {
+		return i + 1678;
+	}
+
+	public int method1679(int i) {
+		return i + 1679;
+	}
+
+	public int method1680(int i) {
+		return i + 1680;
+	}
+
+	public int method1681(int i) {
+		return i + 1681;
+	}
+
+	public int method1682(int i) {
+		return i + 1682;
+	}
+
+	public int method1683(int i) {
+		return i + 1683;
+	}
+
+	public int method1684(int i) {
+		return i + 1684;
+	}
+
+	public int method1685(int i) {
+		return i + 1685;
+	}
+
+	public int method1686(int i) {
+		return i + 1686;
+	}
+
+	public int method1687(int i) {
+		return i + 1687;
+	}
+
+	public int method1688(int i) {
+		return i + 1688;
+	}
+
+	public int method1689(int i) {
+		return i + 1689;
+	}
+
+	public int method1690(int i) {
+		return i + 1690;
+	}
+
+	public int method1691(int i) {
+		return i + 1691;
+	}
+
+	public int method1692(int i) {
+		return i + 1692;
+	}
+
+	public int method1693(int i) {
+		return i + 1693;
+	}
+
+	public int method1694(int i) {
+		return i + 1694;
+	}
+
+	public int method1695(int i) {
+		return i + 1695;
+	}
+
+	public int method1696(int i) {
+		return i + 1696;
+	}
+
+	public int method1697(int i) {
+		return i + 1697;
+	}
+
+	public int method1698(int i) {
+		return i + 1698;
+	}
+
+	public int method1699(int i) {
+		return i + 1699;
+	}
+
+	public int method1700(int i) {
+		return i + 1700;
+	}
+
+	public int method1701(int i) {
+		return i + 1701;
+	}
+
+	public int method1702(int i) {
+		return i + 1702;
+	}
+
+	public int method1703(int i) {
+		return i + 1703;
+	}
+
+	public int method1704(int i) {
+		return i + 1704;
+	}
+
+	public int method1705(int i) {
+		return i + 1705;
+	}
+
+	public int method1706(int i) {
+		return i + 1706;
+	}
+
+	public int method1707(int i) {
+		return i + 1707;
+	}
+
+	public int method1708(int i) {
+		return i + 1708;
+	}
+
+	public int method1709(int i) {
+		return i + 1709;
+	}
+
+	public int method1710(int i) {
+		return i + 1710;
+	}
+
+	public int method1711(int i) {
+		return i + 1711;
+	}
+
+	public int method1712(int i) {
+		return i + 1712;
+	}
+
+	public int method1713(int i) {
+		return i + 1713;
+	}
+
+	public int method1714(int i) {
+		return i + 1714;
+	}
+
+	public int method1715(int i) {
+		return i + 1715;
+	}
+
+	public int method1716(int i) {
+		return i + 1716;
+	}
+
+	public int method1717(int i) {
+		return i + 1717;
+	}
+
+	public int method1718(int i) {
+		return i + 1718;
+	}
+
+	public int method1719(int i) {
+		return i + 1719;
+	}
+
+	public int method1720(int i) {
+		return i + 1720;
+	}
+
+	public int method1721(int i) {
+		return i + 1721;
+	}
+
+	public int method1722(int i) {
+		return i + 1722;
+	}
+
+	public int method1723(int i) {
+		return i + 1723;
+	}
+
+	public int method1724(int i) {
+		return i + 1724;
+	}
+
+	public int method1725(int i) {
+		return i + 1725;
+	}
+
+	public int method1726(int i) {
+		return i + 1726;
+	}
+
+	public int method1727(int i) {
+		return i + 1727;
+	}
+
+	public int method1728(int i) {
+		return i + 1728;
+	}
+
+	public int method1729(int i) {
+		return i + 1729;
+	}
+
+	public int method1730(int i) {
+		return i + 1730;
+	}
+
+	public int method1731(int i) {
+		return i + 1731;
+	}
+
+	public int method1732(int i) {
+		return i + 1732;
+	}
+
+	public int method1733(int i) {
+		return i + 1733;
+	}
+
+	public int method1734(int i) {
+		return i + 1734;
+	}
+
+	public int method1735(int i) {
+		return i + 1735;
+	}
+
+	public int method1736(int i) {
+		return i + 1736;
+	}
+
+	public int method1737(int i) {
+		return i + 1737;
+	}
+
+	public int method1738(int i) {
+		return i + 1738;
+	}
+
+	public int method1739(int i) {
+		return i + 1739;
+	}
+
+	public int method1740(int i) {
+		return i + 1740;
+	}
+
+	public int method1741(int i) {
+		return i + 1741;
+	}
+
+	public int method1742(int i) {
+		return i + 1742;
+	}
+
+	public int method1743(int i) {
+		return i + 1743;
+	}
+
+	public int method1744(int i) {
+		return i + 1744;
+	}
+
+	public int method1745(int i) {
+		return i + 1745;
+	}
+
+	public int method1746(int i) {
+		return i + 1746;
+	}
+
+	public int method1747(int i) {
+		return i + 1747;
+	}
+
+	public int method1748(int i) {
+		return i + 1748;
+	}
+
+	public int method1749(int i) {
+		return i + 1749;
+	}
+
+	public int method1750(int i) {
+		return i + 1750;
+	}
+
+	public int method1751(int i) {
+		return i + 1751;
+	}
+
+	public int method1752(int i) {
+		return i + 1752;
+	}
+
+	public int method1753(int i) {
+		return i + 1753;
+	}
+
+	public int method1754(int i) {
+		return i + 1754;
+	}
+
+	public int method1755(int i) {
+		return i + 1755;
+	}
+
+	public int method1756(int i) {
+		return i + 1756;
+	}
+
+	public int method1757(int i) {
+		return i + 1757;
+	}
+
+	public int method1758(int i) {
+		return i + 1758;
+	}
+
+	public int method1759(int i) {
+		return i + 1759;
+	}
+
+	public int method1760(int i) {
+		return i + 1760;
+	}
+
+	public int method1761(int i) {
+		return i + 1761;
+	}
+
+	public int method1762(int i) {
+		return i + 1762;
+	}
+
+	public int method1763(int i) {
+		return i + 1763;
+	}
+
+	public int method1764(int i) {
+		return i + 1764;
+	}
+
+	public int method1765(int i) {
+		return i + 1765;
+	}
+
+	public int method1766(int i) {
+		return i + 1766;
+	}
+
+	public int method1767(int i) {
+		return i + 1767;
+	}
+
+	public int method1768(int i) {
+		return i + 1768;
+	}
+
+	public int method1769(int i) {
+		return i + 1769;
+	}
+
+	public int method1770(int i) {
+		return i + 1770;
+	}
+
+	public int method1771(int i) {
+		return i + 1771;
+	}
+
+	public int method1772(int i) {
+		return i + 1772;
+	}
+
+	public int method1773(int i) {
+		return i + 1773;
+	}
+
+	public int method1774(int i) {
+		return i + 1774;
+	}
+
+	public int method1775(int i) {
+		return i + 1775;
+	}
+
+	public int method1776(int i) {
+		return i + 1776;
+	}
+
+	public int method1777(int i) {
+		return i + 1777;
+	}
+
+	public int method1778(int i) {
+		return i + 1778;
+	}
+
+	public int method1779(int i) {
+		return i + 1779;
+	}
+
+	public int method1780(int i) {
+		return i + 1780;
+	}
+
+	public int method1781(int i) {
+		return i + 1781;
+	}
+
+	public int method1782(int i) {
+		return i + 1782;
+	}
+
+	public int method1783(int i) {
+		return i + 1783;
+	}
+
+	public int method1784(int i) {
+		return i + 1784;
+	}
+
+	public int method1785(int i) {
+		return i + 1785;
+	}
+
+	public int method1786(int i) {
+		return i + 1786;
+	}
+
+	public int method1787(int i) {
+		return i + 1787;
+	}
+
+	public int method1788(int i) {
+		return i + 1788;
+	}
+
+	public int method1789(int i) {
+		return i + 1789;
+	}
+
+	public int method1790(int i) {
+		return i + 1790;
+	}
+
+	public int method1791(int i) {
+		return i + 1791;
+	}
+
+	public int method1792(int i) {
+		return i + 1792;
+	}
+
+	public int method1793(int i) {
+		return i + 1793;
+	}
+
+	public int method1794(int i) {
+		return i + 1794;
+	}
+
+	public int method1795(int i) {
+		return i + 1795;
+	}
+
+	public int method1796(int i) {
+		return i + 1796;
+	}
+
+	public int method1797(int i) {
+		return i + 1797;
+	}
+
+	public int method1798(int i) {
+		return i + 1798;
+	}
+
+	public int method1799(int i) {
+		return i + 1799;
+	}
+
+	public int method1800(int i) {
+		return i + 1800;
+	}
+
+	public int method1801(int i) {
+		return i + 1801;
+	}
+
+	public int method1802(int i) {
+		return i + 1802;
+	}
+
+	public int method1803(int i) {
+		return i + 1803;
+	}
+
+	public int method1804(int i) {
+		return i + 1804;
+	}
+
+	public int method1805(int i) {
+		return i + 1805;
+	}
+
+	public int method1806(int i) {
+		return i + 1806;
+	}
+
+	public int method1807(int i) {
+		return i + 1807;
+	}
+
+	public int method1808(int i) {
+		return i + 1808;
+	}
+
+	public int method1809(int i) {
+		return i + 1809;
+	}
+
+	public int method1810(int i) {
+		return i + 1810;
+	}
+
+	public int method1811(int i) {
+		return i + 1811;
+	}
+
+	public int method1812(int i) {
+		return i + 1812;
+	}
+
+	public int method1813(int i) {
+		return i + 1813;
+	}
+
+	public int method1814(int i) {
+		return i + 1814;
+	}
+
+	public int method1815(int i) {
+		return i + 1815;
+	}
+
+	public int method1816(int i) {
+		return i + 1816;
+	}
+
+	public int method1817(int i) {
+		return i + 1817;
+	}
+
+	public int method1818(int i) {
+		return i + 1818;
+	}
+
+	public int method1819(int i) {
+		return i + 1819;
+	}
+
+	public int method1820(int i) {
+		return i + 1820;
+	}
+
+	public int method1821(int i) {
+		return i + 1821;
+	}
+
+	public int method1822(int i) {
+		return i + 1822;
+	}
+
+	public int method1823(int i) {
+		return i + 1823;
+	}
+
+	public int method1824(int i) {
+		return i + 1824;
+	}
+
+	public int method1825(int i) {
+		return i + 1825;
+	}
+
+	public int method1826(int i) {
+		return i + 1826;
+	}
+
+	public int method1827(int i) {
+		return i + 1827;
+	}
+
+	public int method1828(int i) {
+		return i + 1828;
+	}
+
+	public int method1829(int i) {
+		return i + 1829;
+	}
+
+	public int method1830(int i) {
+		return i + 1830;
+	}
+
+	public int method1831(int i) {
+		return i + 1831;
+	}
+
+	public int method1832(int i) {
+		return i + 1832;
+	}
+
+	public int method1833(int i) {
+		return i + 1833;
+	}
+
+	public int method1834(int i) {
+		return i + 1834;
+	}
+
+	public int method1835(int i) {
+		return i + 1835;
+	}
+
+	public int method1836(int i) {
+		return i + 1836;
+	}
+
+	public int method1837(int i) {
+		return i + 1837;
+	}
+
+	public int method1838(int i) {
+		return i + 1838;
+	}
+
+	public int method1839(int i) {
+		return i + 1839;
+	}
+
+	public int method1840(int i) {
+		return i + 1840;
+	}
+
+	public int method1841(int i) {
+		return i + 1841;
+	}
+
+	public int method1842(int i) {
+		return i + 1842;
+	}
+
+	public int method1843(int i) {
+		return i + 1843;
+	}
+
+	public int method1844(int i) {
+		return i + 1844;
+	}
+
+	public int method1845(int i) {
+		return i + 1845;
+	}
+
+	public int method1846(int i) {
+		return i + 1846;
+	}
+
+	public int method1847(int i) {
+		return i + 1847;
+	}
+
+	public int method1848(int i) {
+		return i + 1848;
+	}
+
+	public int method1849(int i) {
+		return i + 1849;
+	}
+
+	public int method1850(int i) {
+		return i + 1850;
+	}
+
+	public int method1851(int i) {
+		return i + 1851;
+	}
+
+	public int method1852(int i) {
+		return i + 1852;
+	}
+
+	public int method1853(int i) {
+		return i + 1853;
+	}
+
+	public int method1854(int i) {
+		return i + 1854;
+	}
+
+	public int method1855(int i) {
+		return i + 1855;
+	}
+
+	public int method1856(int i) {
+		return i + 1856;
+	}
+
+	public int method1857(int i) {
+		return i + 1857;
+	}
+
+	public int method1858(int i) {
+		return i + 1858;
+	}
+
+	public int method1859(int i) {
+		return i + 1859;
+	}
+
+	public int method1860(int i) {
+		return i + 1860;
+	}
+
+	public int method1861(int i) {
+		return i + 1861;
+	}
+
+	public int method1862(int i) {
+		return i + 1862;
+	}
+
+	public int method1863(int i) {
+		return i + 1863;
+	}
+
+	public int method1864(int i) {
+		return i + 1864;
+	}
+
+	public int method1865(int i) {
+		return i + 1865;
+	}
+
+	public int method1866(int i) {
+		return i + 1866;
+	}
+
+	public int method1867(int i) {
+		return i + 1867;
+	}
+
+	public int method1868(int i) {
+		return i + 1868;
+	}
+
+	public int method1869(int i) {
+		return i + 1869;
+	}
+
+	public int method1870(int i) {
+		return i + 1870;
+	}
+
+	public int method1871(int i) {
+		return i + 1871;
+	}
+
+	public int method1872(int i) {
+		return i + 1872;
+	}
+
+	public int method1873(int i) {
+		return i + 1873;
+	}
+
+	public int method1874(int i) {
+		return i + 1874;
+	}
+
+	public int method1875(int i) {
+		return i + 1875;
+	}
+
+	public int method1876(int i) {
+		return i + 1876;
+	}
+
+	public int method1877(int i) {
+		return i + 1877;
+	}
+
+	public int method1878(int i) {
+		return i + 1878;
+	}
+
+	public int method1879(int i) {
+		return i + 1879;
+	}
+
+	public int method1880(int i) {
+		return i + 1880;
+	}
+
+	public int method1881(int i) {
+		return i + 1881;
+	}
+
+	public int method1882(int i) {
+		return i + 1882;
+	}
+
+	public int method1883(int i) {
+		return i + 1883;
+	}
+
+	public int method1884(int i) {
+		return i + 1884;
+	}
+
+	public int method1885(int i) {
+		return i + 1885;
+	}
+
+	public int method1886(int i) {
+		return i + 1886;
+	}
+
+	public int method1887(int i) {
+		return i + 1887;
+	}
+
+	public int method1888(int i) {
+		return i + 1888;
+	}
+
+	public int method1889(int i) {
+		return i + 1889;
+	}
+
+	public int method1890(int i) {
+		return i + 1890;
+	}
+
+	public int method1891(int i) {
+		return i + 1891;
+	}
+
+	public int method1892(int i) {
+		return i + 1892;
+	}
+
+	public int method1893(int i) {
+		return i + 1893;
+	}
+
+	public int method1894(int i) {
+		return i + 1894;
+	}
+
+	public int method1895(int i) {
+		return i + 1895;
+	}
+
+	public int method1896(int i) {
+		return i + 1896;
+	}
+
+	public int method1897(int i) {
+		return i + 1897;
+	}
+
+	public int method1898(int i) {
+		return i + 1898;
+	}
+
+	public int method1899(int i) {
+		return i + 1899;
+	}
+
+	public int method1900(int i) {
+		return i + 1900;
+	}
+
+	public int method1901(int i) {
+		return i + 1901;
+	}
+
+	public int method1902(int i) {
+		return i + 1902;
+	}
+
+	public int method1903(int i) {
+		return i + 1903;
+	}
+
+	public int method1904(int i) {
+		return i + 1904;
+	}
+
+	public int method1905(int i) {
+		return i + 1905;
+	}
+
+	public int method1906(int i) {
+		return i + 1906;
+	}
+
+	public int method1907(int i) {
+		return i + 1907;
+	}
+
+	public int method1908(int i) {
+		return i + 1908;
+	}
+
+	public int method1909(int i) {
+		return i + 1909;
+	}
+
+	public int method1910(int i) {
+		return i + 1910;
+	}
+
+	public int method1911(int i) {
+		return i + 1911;
+	}
+
+	public int method1912(int i) {
+		return i + 1912;
+	}
+
+	public int method1913(int i) {
+		return i + 1913;
+	}
+
+	public int method1914(int i) {
+		return i + 1914;
+	}
+
+	public int method1915(int i) {
+		return i + 1915;
+	}
+
+	public int method1916(int i) {
+		return i + 1916;
+	}
+
+	public int method1917(int i) {
+		return i + 1917;
+	}
+
+	public int method1918(int i) {
+		return i + 1918;
+	}
+
+	public int method1919(int i) {
+		return i + 1919;
+	}
+
+	public int method1920(int i) {
+		return i + 1920;
+	}
+
+	public int method1921(int i) {
+		return i + 1921;
+	}
+
+	public int method1922(int i) {
+		return i + 1922;
+	}
+
+	public int method1923(int i) {
+		return i + 1923;
+	}
+
+	public int method1924(int i) {
+		return i + 1924;
+	}
+
+	public int method1925(int i) {
+		return i + 1925;
+	}
+
+	public int method1926(int i) {
+		return i + 1926;
+	}
+
+	public int method1927(int i) {
+		return i + 1927;
+	}
+
+	public int method1928(int i) {
+		return i + 1928;
+	}
+
+	public int method1929(int i) {
+		return i + 1929;
+	}
+
+	public int method1930(int i) {
+		return i + 1930;
+	}
+
+	public int method1931(int i) {
+		return i + 1931;
+	}
+
+	public int method1932(int i) {
+		return i + 1932;
+	}
+
+	public int method1933(int i) {
+		return i + 1933;
+	}
+
+	public int method1934(int i) {
+		return i + 1934;
+	}
+
+	public int method1935(int i) {
+		return i + 1935;
+	}
+
+	public int method1936(int i) {
+		return i + 1936;
+	}
+
+	public int method1937(int i) {
+		return i + 1937;
+	}
+
+	public int method1938(int i) {
+		return i + 1938;
+	}
+
+	public int method1939(int i) {
+		return i + 1939;
+	}
+
+	public int method1940(int i) {
+		return i + 1940;
+	}
+
+	public int method1941(int i) {
+		return i + 1941;
+	}
+
+	public int method1942(int i) {
+		return i + 1942;
+	}
+
+	public int method1943(int i) {
+		return i + 1943;
+	}
+
+	public int method1944(int i) {
+		return i + 1944;
+	}
+
+	public int method1945(int i) {
+		return i + 1945;
+	}
+
+	public int method1946(int i) {
+		return i + 1946;
+	}
+
+	public int method1947(int i) {
+		return i + 1947;
+	}
+
+	public int method1948(int i) {
+		return i + 1948;
+	}
+
+	public int method1949(int i) {
+		return i + 1949;
+	}
+
+	public int method1950(int i) {
+		return i + 1950;
+	}
+
+	public int method1951(int i) {
+		return i + 1951;
+	}
+
+	public int method1952(int i) {
+		return i + 1952;
+	}
+
+	public int method1953(int i) {
+		return i + 1953;
+	}
+
+	public int method1954(int i) {
+		return i + 1954;
+	}
+
+	public int method1955(int i) {
+		return i + 1955;
+	}
+
+	public int method1956(int i) {
+		return i + 1956;
+	}
+
+	public int method1957(int i) {
+		return i + 1957;
+	}
+
+	public int method1958(int i) {
+		return i + 1958;
+	}
+
+	public int method1959(int i) {
+		return i + 1959;
+	}
+
+	public int method1960(int i) {
+		return i + 1960;
+	}
+
+	public int method1961(int i) {
+		return i + 1961;
+	}
+
+	public int method1962(int i) {
+		return i + 1962;
+	}
+
+	public int method1963(int i) {
+		return i + 1963;
+	}
+
+	public int method1964(int i) {
+		return i + 1964;
+	}
+
+	public int method1965(int i) {
+		return i + 1965;
+	}
+
+	public int method1966(int i) {
+		return i + 1966;
+	}
+
+	public int method1967(int i) {
+		return i + 1967;
+	}
+
+	public int method1968(int i) {
+		return i + 1968;
+	}
+
+	public int method1969(int i) {
+		return i + 1969;
+	}
+
+	public int method1970(int i) {
+		return i + 1970;
+	}
+
+	public int method1971(int i) {
+		return i + 1971;
+	}
+
+	public int method1972(int i) {
+		return i + 1972;
+	}
+
+	public int method1973(int i) {
+		return i + 1973;
+	}
+
+	public int method1974(int i) {
+		return i + 1974;
+	}
+
+	public int method1975(int i) {
+		return i + 1975;
+	}
+
+	public int method1976(int i) {
+		return i + 1976;
+	}
+
+	public int method1977(int i) {
+		return i + 1977;
+	}
+
+	public int method1978(int i) {
+		return i + 1978;
+	}
+
+	public int method1979(int i) {
+		return i + 1979;
+	}
+
+	public int method1980(int i) {
+		return i + 1980;
+	}
+
+	public int method1981(int i) {
+		return i + 1981;
+	}
+
+	public int method1982(int i) {
+		return i + 1982;
+	}
+
+	public int method1983(int i) {
+		return i + 1983;
+	}
+
+	public int method1984(int i) {
+		return i + 1984;
+	}
+
+	public int method1985(int i) {
+		return i + 1985;
+	}
+
+	public int method1986(int i) {
+		return i + 1986;
+	}
+
+	public int method1987(int i) {
+		return i + 1987;
+	}
+
+	public int method1988(int i) {
+		return i + 1988;
+	}
+
+	public int method1989(int i) {
+		return i + 1989;
+	}
+
+	public int method1990(int i) {
+		return i + 1990;
+	}
+
+	public int method1991(int i) {
+		return i + 1991;
+	}
+
+	public int method1992(int i) {
+		return i + 1992;
+	}
+
+	public int method1993(int i) {
+		return i + 1993;
+	}
+
+	public int method1994(int i) {
+		return i + 1994;
+	}
+
+	public int method1995(int i) {
+		return i + 1995;
+	}
+
+	public int method1996(int i) {
+		return i + 1996;
+	}
+
+	public int method1997(int i) {
+		return i + 1997;
+	}
+
+	public int method1998(int i) {
+		return i + 1998;
+	}
+
+	public int method1999(int i) {
+		return i + 1999;
+	}
+}
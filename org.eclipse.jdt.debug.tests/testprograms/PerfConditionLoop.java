@@ -0,0 +1,28 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * A tight loop to hit a conditional breakpoint in
+ */
+public class PerfConditionLoop {
+
+	public static void main(String[] args) {
+		String name = "loop";
+		int sum = 0;
+		for (int i = 0; i < 5000; i++) {
+			sum += i;
+		}
+		System.out.println(name + sum);
+	}
+}
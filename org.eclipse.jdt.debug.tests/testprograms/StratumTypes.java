@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Loads the classes with source maps that StratumTests writes to the
+ * "stratum" directory.
+ */
+public class StratumTypes {
+
+	public static void main(String[] args) throws Exception {
+		ClassLoader loader = new URLClassLoader(new URL[] { new File("stratum").toURI().toURL() }, null);
+		String[] names = { "StratumOne", "StratumTwo", "InvalidOne", "InvalidTwo" };
+		for (int i = 0; i < names.length; i++) {
+			Class.forName(names[i], true, loader);
+		}
+		System.out.println(names.length);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,16 +13,29 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.internal.ui.views.console.ProcessConsole;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestUtil;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.eval.RemoteEvaluator;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.Interpreter;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.RemoteOperator;
 
 /**
  * Tests conditional breakpoints.
@@ -540,4 +553,130 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that side-effect free conditions are evaluated without invoking
+	 * methods, and that conditions that invoke methods are not
+	 */
+	public void testConditionEvaluatedWithoutInvocations() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createLineBreakpoint(19, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			ASTEvaluationEngine engine = (ASTEvaluationEngine) ((JDIDebugTarget) thread.getDebugTarget()).getEvaluationEngine(getProjectContext());
+			IJavaValue value = engine.evaluateWithoutInvocations(engine.getCompiledExpression("i == 0 && args.length == 0", frame), frame);
+			assertNotNull("Condition should be evaluated without invocations", value);
+			assertEquals("Wrong value", "true", value.getValueString());
+
+			value = engine.evaluateWithoutInvocations(engine.getCompiledExpression("args.toString() != null", frame), frame);
+			assertNull("Message sent to an object should not be evaluated", value);
+
+			value = engine.evaluateWithoutInvocations(engine.getCompiledExpression("!\"loop\".equals(null)", frame), frame);
+			assertNotNull("String equals should be evaluated without invocations", value);
+			assertEquals("Wrong value", "true", value.getValueString());
+
+			ICompiledExpression objectEquals = engine.getCompiledExpression("args.equals(null)", frame);
+			assertFalse("Equals sent to an object that is not a string should not be side-effect free", ((InstructionSequence) objectEquals).isSideEffectFree());
+
+			value = engine.evaluateWithoutInvocations(engine.getCompiledExpression("ArgumentsTests.fact(i) == 1", frame), frame);
+			assertNull("Method invocation should not be evaluated", value);
+
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an object pushed several times by a condition evaluated
+	 * without invocations is pinned once
+	 */
+	public void testConditionWithoutInvocationsPinsObjectsOnce() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createLineBreakpoint(19, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			ASTEvaluationEngine engine = (ASTEvaluationEngine) ((JDIDebugTarget) thread.getDebugTarget()).getEvaluationEngine(getProjectContext());
+			long avoided = Interpreter.getAvoidedPinCount();
+			IJavaValue value = engine.evaluateWithoutInvocations(engine.getCompiledExpression("args == args", frame), frame);
+			assertNotNull("Comparison should be evaluated without invocations", value);
+			assertEquals("Wrong value", "true", value.getValueString());
+			assertTrue("'args' should be pinned once", Interpreter.getAvoidedPinCount() > avoided);
+
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests a condition calling several methods when conditions are injected
+	 * into the target
+	 */
+	public void testInjectedConditionalBreakpoint() throws Exception {
+		assertInjectedCondition("ArgumentsTests.fact(i) == 24 && Integer.toString(i).length() == 1", true);
+	}
+
+	/**
+	 * Tests that a condition calling a single method is interpreted rather
+	 * than injected, as this takes fewer round trips to the target
+	 */
+	public void testConditionWithOneInvocationNotInjected() throws Exception {
+		assertInjectedCondition("ArgumentsTests.fact(i) == 24", false);
+	}
+
+	/**
+	 * Runs to a breakpoint with the given condition, true on the fifth
+	 * iteration, when conditions are injected into the target, and checks
+	 * whether the condition was evaluated by injected code.
+	 */
+	private void assertInjectedCondition(String condition, boolean injected) throws Exception {
+		String typeName = "HitCountLooper";
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_INJECT_BREAKPOINT_CONDITIONS, true);
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(19, typeName, condition, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+
+			IJavaPrimitiveValue value = (IJavaPrimitiveValue)var.getValue();
+			assertNotNull("variable 'i' has no value", value);
+			int iValue = value.getIntValue();
+			assertEquals("value of 'i' should be '4', but was " + iValue, 4, iValue);
+
+			ASTEvaluationEngine engine = (ASTEvaluationEngine) ((JDIDebugTarget) thread.getDebugTarget()).getEvaluationEngine(getProjectContext());
+			ICompiledExpression expression = engine.getInjectedCompiledExpression(condition, frame);
+			assertFalse("Condition should be injectable", expression.hasErrors());
+			// the cached expression shares its evaluator with the one used on the breakpoint hit
+			RemoteEvaluator evaluator = null;
+			for (Instruction instruction : ((InstructionSequence) expression).getInstructions()) {
+				if (instruction instanceof RemoteOperator) {
+					evaluator = ((RemoteOperator) instruction).getEvaluator();
+				}
+			}
+			assertNotNull("Condition should be compiled into a remote operator", evaluator);
+			assertEquals("Whether the condition was evaluated by the injected code", injected, evaluator.isLoaded((IJavaDebugTarget) thread.getDebugTarget()));
+
+			bp.delete();
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_INJECT_BREAKPOINT_CONDITIONS);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
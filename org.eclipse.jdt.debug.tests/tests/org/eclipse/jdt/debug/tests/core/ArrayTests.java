@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,12 +20,14 @@ import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 
 /**
  * Tests indexed collection API
@@ -103,6 +105,60 @@ public class ArrayTests extends AbstractDebugTest {
 		}
 	}
 
+	public void testGetVariablesOneRequestPerWindow() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(22, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			JDIArrayValue array = (JDIArrayValue) v.getValue();
+			assertNotNull(array);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			for (int i = 0; i < array.getSize(); i++) {
+				assertEquals("Wrong value", target.newValue(i), array.getVariable(i).getValue());
+			}
+			assertEquals("Elements should be retrieved in one request", 1, array.getSliceCache().getRequestCount());
+
+			// an invocation resumes the thread, the elements may have changed
+			((IJavaObject) target.newValue("array")).sendMessage("length", "()I", null, thread, false);
+			assertEquals("Wrong value", target.newValue(0), array.getVariable(0).getValue());
+			assertEquals("Elements should be retrieved again after an invocation", 2, array.getSliceCache().getRequestCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	public void testGetValuesOfLargeArrayOneRequest() throws Exception {
+		String typeName = "ByteArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
+
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "bytes");
+			assertNotNull(v);
+			JDIArrayValue array = (JDIArrayValue) v.getValue();
+			assertNotNull(array);
+			IJavaValue[] values = array.getValues();
+			assertEquals("Wrong number of values", 10000, values.length);
+			for (int i = 0; i < values.length; i++) {
+				assertEquals("Wrong value", (byte) (i % 128), ((IJavaPrimitiveValue) values[i]).getByteValue());
+			}
+			assertEquals("Elements should be retrieved in one request", 1, array.getSliceCache().getRequestCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testSetValueRange() throws Exception {
 		String typeName = "ByteArrayTests";
 		ILineBreakpoint bp = createLineBreakpoint(30, typeName);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2017 salesforce.com.
+ *  Copyright (c) 2017, 2026 salesforce.com.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -16,20 +16,34 @@ package org.eclipse.jdt.debug.tests.core;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.jdt.core.dom.Message;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaBreakpointListener;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher.AbstractDispatchJob;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 
 public class EventDispatcherTest extends AbstractDebugTest {
@@ -103,6 +117,116 @@ public class EventDispatcherTest extends AbstractDebugTest {
 		assertEquals("Unexpected number of event dispatching jobs: " + jobs.size() + " | " + jobs.keySet(), 0, jobs.size());
 	}
 
+	/**
+	 * Tests that the events of many threads are all dispatched when
+	 * dispatching the event sets of different threads concurrently, by a
+	 * bounded number of jobs
+	 */
+	public void testConcurrentBulkThreadCreation() throws Exception {
+		AtomicInteger threadCount = new AtomicInteger();
+		IDebugEventSetListener debugListener = events -> {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.CREATE && event.getSource() instanceof JDIThread) {
+					JDIThread thread = (JDIThread) event.getSource();
+					try {
+						if (thread.getName().startsWith("bulk-")) {
+							threadCount.incrementAndGet();
+						}
+					}
+					catch (DebugException e) {
+					}
+				}
+			}
+		};
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_CONCURRENT_EVENT_DISPATCH, true);
+		IJavaThread suspendedThread = null;
+		try {
+			DebugPlugin.getDefault().addDebugEventListener(debugListener);
+			createLineBreakpoint(27, "BulkThreadCreationTest");
+			suspendedThread = launchToBreakpoint("BulkThreadCreationTest");
+			EventDispatcher dispatcher = ((JDIDebugTarget) suspendedThread.getDebugTarget()).getEventDispatcher();
+			assertTrue("Event sets should have been dispatched by shards", dispatcher.getMaxQueueDepth() > 0);
+		}
+		finally {
+			prefs.remove(JDIDebugPlugin.PREF_CONCURRENT_EVENT_DISPATCH);
+			terminateAndRemove(suspendedThread);
+			removeAllBreakpoints();
+			DebugPlugin.getDefault().removeDebugEventListener(debugListener);
+		}
+
+		assertEquals("Unexpected number of JDIThread thread-create events", 1000, threadCount.get());
+		assertTrue("Unexpected number of event dispatching jobs: " + jobs.size() + " | " + jobs.keySet(), jobs.size() <= 4);
+	}
+
+	/**
+	 * Tests that when dispatching the event sets of different threads
+	 * concurrently, a thread whose breakpoint event takes long to handle does
+	 * not delay the breakpoint events of another thread
+	 */
+	public void testConcurrentBlockedThreadDoesNotDelayOtherThreads() throws Exception {
+		String typeName = "MultiThreadedLoop";
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicBoolean released = new AtomicBoolean();
+		IJavaBreakpointListener listener = new IJavaBreakpointListener() {
+			@Override
+			public void addingBreakpoint(IJavaDebugTarget target, IJavaBreakpoint breakpoint) {
+			}
+
+			@Override
+			public int installingBreakpoint(IJavaDebugTarget target, IJavaBreakpoint breakpoint, IJavaType type) {
+				return DONT_CARE;
+			}
+
+			@Override
+			public void breakpointInstalled(IJavaDebugTarget target, IJavaBreakpoint breakpoint) {
+			}
+
+			@Override
+			public int breakpointHit(IJavaThread thread, IJavaBreakpoint breakpoint) {
+				try {
+					if ("2ndThread".equals(thread.getName())) {
+						// the first thread hits the breakpoint 400ms later
+						released.set(latch.await(DEFAULT_TIMEOUT / 3, TimeUnit.MILLISECONDS));
+					} else {
+						latch.countDown();
+					}
+				}
+				catch (DebugException | InterruptedException e) {
+				}
+				return DONT_CARE;
+			}
+
+			@Override
+			public void breakpointRemoved(IJavaDebugTarget target, IJavaBreakpoint breakpoint) {
+			}
+
+			@Override
+			public void breakpointHasRuntimeException(IJavaLineBreakpoint breakpoint, DebugException exception) {
+			}
+
+			@Override
+			public void breakpointHasCompilationErrors(IJavaLineBreakpoint breakpoint, Message[] errors) {
+			}
+		};
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_CONCURRENT_EVENT_DISPATCH, true);
+		IJavaThread thread = null;
+		try {
+			JDIDebugModel.addJavaBreakpointListener(listener);
+			IJavaLineBreakpoint breakpoint = createLineBreakpoint(43, typeName);
+			breakpoint.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+			thread = launchToLineBreakpoint(typeName, breakpoint);
+			assertTrue("The breakpoint event of the first thread was delayed by the second thread", released.get());
+		}
+		finally {
+			JDIDebugModel.removeJavaBreakpointListener(listener);
+			prefs.remove(JDIDebugPlugin.PREF_CONCURRENT_EVENT_DISPATCH);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests that a conditional breakpoint with an expression that will hit a breakpoint will complete the conditional expression evaluation (bug
 	 * 269231) and that we dispatch events for conditional breakpoints in dedicated jobs.
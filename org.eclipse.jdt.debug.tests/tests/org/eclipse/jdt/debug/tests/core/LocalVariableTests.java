@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2018 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,17 +13,22 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDILocalVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
@@ -83,6 +88,41 @@ public class LocalVariableTests extends AbstractDebugTest implements IValueDetai
 		}
 	}
 
+	/**
+	 * Tests that the variables of frames at the bottom of a deep stack are
+	 * found after a step, when only the top frames are retrieved again
+	 */
+	public void testDeepStackFrameVariables() throws Exception {
+		String typeName = "DeepStack";
+		IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		prefs.putBoolean(JDIDebugPlugin.PREF_INCREMENTAL_STACK_FRAMES, true);
+		ILineBreakpoint bp = createLineBreakpoint(25, typeName);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IStackFrame[] frames = thread.getStackFrames();
+			int depth = frames.length;
+			assertTrue("The stack should be deeper than the recursion", depth > 200);
+			IJavaStackFrame bottom = (IJavaStackFrame) frames[depth - 2];
+
+			stepOver((IJavaStackFrame) thread.getTopStackFrame());
+			frames = thread.getStackFrames();
+			assertEquals("The stack should have the same depth", depth, frames.length);
+			assertSame("The bottom frame should be re-used", bottom, frames[depth - 2]);
+			assertEquals("Wrong line number in the top frame", 26, frames[0].getLineNumber());
+			assertEquals("Wrong line number in the bottom frame", 23, bottom.getLineNumber());
+			assertEquals("Wrong method of the bottom frame", "recurse", bottom.getMethodName());
+			IJavaVariable var = bottom.findVariable("depth");
+			assertNotNull("Could not find 'depth'", var);
+			assertEquals("Wrong value of 'depth'", 200, ((IJavaPrimitiveValue) var.getValue()).getIntValue());
+		} finally {
+			prefs.remove(JDIDebugPlugin.PREF_INCREMENTAL_STACK_FRAMES);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testSimpleVisibility() throws Exception {
 		String typeName = "LocalVariablesTests";
 
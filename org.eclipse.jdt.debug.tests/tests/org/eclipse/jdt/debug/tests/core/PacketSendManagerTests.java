@@ -0,0 +1,70 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+
+import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.connect.TransportMetrics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdt.debug.testplugin.SocketLoopback;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+
+/**
+ * Tests sending JDWP packets over the socket transport.
+ */
+public class PacketSendManagerTests extends AbstractDebugTest {
+
+	private static final int PACKETS = 1000;
+
+	public PacketSendManagerTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that packets queued while the send thread is busy are written to
+	 * the socket with a single flush, in the order they were queued.
+	 */
+	public void testQueuedPacketsCoalesced() throws Exception {
+		SocketLoopback loopback = new SocketLoopback();
+		PacketSendManager sendManager = new PacketSendManager(loopback.getConnection());
+		TransportMetrics metrics = new TransportMetrics();
+		sendManager.setTransportMetrics(metrics);
+		try {
+			int[] ids = new int[PACKETS];
+			for (int i = 0; i < PACKETS; i++) {
+				JdwpCommandPacket packet = new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION);
+				ids[i] = packet.getId();
+				sendManager.sendPacket(packet);
+			}
+			Thread sendThread = new Thread(sendManager, "Socket send");
+			sendThread.setDaemon(true);
+			sendThread.start();
+
+			DataInputStream in = new DataInputStream(new BufferedInputStream(loopback.getRemote().getInputStream()));
+			for (int i = 0; i < PACKETS; i++) {
+				int length = in.readInt();
+				assertEquals("Unexpected packet length", 11, length);
+				assertEquals("Packets must be received in order", ids[i], in.readInt());
+				in.skipBytes(length - 8);
+			}
+			assertEquals("Unexpected number of packets sent", PACKETS, metrics.getPacketsSent());
+			assertEquals("Queued packets should be flushed at once", 1, metrics.getFlushes());
+		} finally {
+			sendManager.disconnectVM();
+			loopback.close();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,16 +15,30 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertArrayEquals;
 
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.List;
 
+import org.eclipse.core.runtime.Path;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.testplugin.JavaTestPlugin;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.JDIHelpers;
 
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.VirtualMachine;
+
 /**
  * Tests strata.
  */
@@ -141,4 +155,135 @@ public class StratumTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}
 	}
+
+	/**
+	 * Tests that two types with the same SMAP share the information parsed
+	 * from it.
+	 */
+	public void testTypesSharingSmap() throws Exception {
+		IJavaThread thread = launchToStratumTypes();
+		try {
+			VirtualMachine vm = ((JDIDebugTarget) thread.getDebugTarget()).getVM();
+			ReferenceType one = getType(vm, "StratumOne");
+			ReferenceType two = getType(vm, "StratumTwo");
+			assertSame("SMAP should be shared", one.sourceDebugExtension(), two.sourceDebugExtension());
+			assertEquals("Wrong default stratum", "Test", one.defaultStratum());
+			assertEquals("Wrong source names", Arrays.asList("Test.txt"), one.sourceNames("Test"));
+			assertEquals("Wrong source names", one.sourceNames("Test"), two.sourceNames("Test"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an invalid SMAP is reported as absent for every type with it,
+	 * including the types for which it is found parsed already.
+	 */
+	public void testInvalidSmap() throws Exception {
+		IJavaThread thread = launchToStratumTypes();
+		try {
+			VirtualMachine vm = ((JDIDebugTarget) thread.getDebugTarget()).getVM();
+			for (String name : new String[] { "InvalidOne", "InvalidTwo", "InvalidOne" }) {
+				ReferenceType type = getType(vm, name);
+				try {
+					type.sourceDebugExtension();
+					fail("SMAP of " + name + " should be absent");
+				} catch (AbsentInformationException e) {
+					// expected
+				}
+				assertEquals("Only the Java stratum should be available", Arrays.asList("Java"), type.availableStrata());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that when several SMAP entries map to the same output line, the
+	 * line of the first entry is used.
+	 */
+	public void testSmapEntriesOfSameLine() throws Exception {
+		IJavaThread thread = launchToStratumTypes();
+		try {
+			VirtualMachine vm = ((JDIDebugTarget) thread.getDebugTarget()).getVM();
+			ReferenceType type = getType(vm, "StratumOne");
+			Method main = type.methodsByName("main").get(0);
+			List<Location> locations = main.allLineLocations();
+			assertEquals("Wrong Java line", 4, locations.get(0).lineNumber("Java"));
+			assertEquals("Wrong line for first entry", 9, locations.get(0).lineNumber("Test"));
+			assertEquals("Wrong line", 5, locations.get(1).lineNumber("Test"));
+			List<Location> lineLocations = main.locationsOfLine("Test", "Test.txt", 9);
+			assertEquals("Wrong locations of line", 1, lineLocations.size());
+			assertEquals("Wrong location of line", locations.get(0), lineLocations.get(0));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Writes the classes with source maps that the StratumTypes program loads
+	 * and launches it.
+	 */
+	private IJavaThread launchToStratumTypes() throws Exception {
+		String smap = "SMAP\nGenerated.java\nTest\n*S Test\n*F\n1 Test.txt\n*L\n1#1:2\n9:4\n3:4\n5:5\n*E\n";
+		String invalidSmap = "NOT A SMAP\n";
+		File dir = new File(get14Project().getProject().getLocation().toFile(), "stratum");
+		dir.mkdirs();
+		writeType(dir, "StratumOne", smap);
+		writeType(dir, "StratumTwo", smap);
+		writeType(dir, "InvalidOne", invalidSmap);
+		writeType(dir, "InvalidTwo", invalidSmap);
+
+		String typeName = "StratumTypes";
+		createLineBreakpoint(31, typeName);
+		IJavaThread thread = launchToBreakpoint(typeName);
+		assertNotNull("Breakpoint not hit within timeout period", thread);
+		return thread;
+	}
+
+	private static ReferenceType getType(VirtualMachine vm, String name) {
+		List<ReferenceType> types = vm.classesByName(name);
+		assertEquals("Type " + name + " should be loaded", 1, types.size());
+		return types.get(0);
+	}
+
+	/**
+	 * Writes a copy of the HelloWorld class generated by Xtend, with the given
+	 * name of ten characters and the given SMAP.
+	 */
+	private static void writeType(File dir, String name, String smap) throws Exception {
+		File file = JavaTestPlugin.getDefault().getFileInPlugin(new Path("testresources/xtend/HelloWorld.class"));
+		byte[] bytes = replace(Files.readAllBytes(file.toPath()), "HelloWorld".getBytes(StandardCharsets.US_ASCII), name.getBytes(StandardCharsets.US_ASCII));
+		// the SMAP is the content of the SourceDebugExtension attribute,
+		// which is preceded by its length
+		int start = indexOf(bytes, "SMAP\n".getBytes(StandardCharsets.US_ASCII), 0);
+		int length = ByteBuffer.wrap(bytes, start - 4, 4).getInt();
+		byte[] smapBytes = smap.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer result = ByteBuffer.allocate(bytes.length - length + smapBytes.length);
+		result.put(bytes, 0, start - 4);
+		result.putInt(smapBytes.length);
+		result.put(smapBytes);
+		result.put(bytes, start + length, bytes.length - start - length);
+		Files.write(new File(dir, name + ".class").toPath(), result.array());
+	}
+
+	private static byte[] replace(byte[] bytes, byte[] from, byte[] to) {
+		byte[] result = bytes.clone();
+		for (int i = indexOf(result, from, 0); i >= 0; i = indexOf(result, from, i + from.length)) {
+			System.arraycopy(to, 0, result, i, to.length);
+		}
+		return result;
+	}
+
+	private static int indexOf(byte[] bytes, byte[] pattern, int from) {
+		for (int i = from; i <= bytes.length - pattern.length; i++) {
+			if (Arrays.equals(bytes, i, i + pattern.length, pattern, 0, pattern.length)) {
+				return i;
+			}
+		}
+		return -1;
+	}
 }
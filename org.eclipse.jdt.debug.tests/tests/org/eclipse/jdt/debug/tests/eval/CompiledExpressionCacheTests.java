@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.eval;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.CompiledExpressionCache;
+
+/**
+ * Tests the cache of compiled expressions of the AST evaluation engine.
+ */
+public class CompiledExpressionCacheTests extends AbstractDebugTest {
+
+	private IJavaThread fThread;
+	private ASTEvaluationEngine fEngine;
+
+	public CompiledExpressionCacheTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected IJavaProject getProjectContext() {
+		return get14Project();
+	}
+
+	/**
+	 * Tests that compiling a snippet again in the same frame returns another
+	 * copy of the cached expression, which evaluates like the first one.
+	 */
+	public void testCompileTwiceInFrame() throws Exception {
+		ASTEvaluationEngine engine = launch();
+		CompiledExpressionCache cache = engine.getCompiledExpressionCache();
+		IJavaStackFrame frame = (IJavaStackFrame) fThread.getTopStackFrame();
+
+		ICompiledExpression first = engine.getCompiledExpression("xVarInt + 1", frame);
+		assertFalse("Should compile", first.hasErrors());
+		long hits = cache.getHitCount();
+		ICompiledExpression second = engine.getCompiledExpression("xVarInt + 1", frame);
+		assertEquals("Second compile should hit the cache", hits + 1, cache.getHitCount());
+		assertNotSame("Cache should return a copy", first, second);
+
+		assertEquals("Wrong result", "-4", evaluate(engine, second, frame));
+		assertEquals("Wrong result", "-4", evaluate(engine, first, frame));
+	}
+
+	/**
+	 * Tests that copies of an array allocation do not share the array types
+	 * resolved when one of them is evaluated.
+	 */
+	public void testArrayAllocationCopies() throws Exception {
+		ASTEvaluationEngine engine = launch();
+		IJavaStackFrame frame = (IJavaStackFrame) fThread.getTopStackFrame();
+
+		ICompiledExpression first = engine.getCompiledExpression("(new int[2][3])[1].length", frame);
+		assertFalse("Should compile", first.hasErrors());
+		assertEquals("Wrong result", "3", evaluate(engine, first, frame));
+		ICompiledExpression second = engine.getCompiledExpression("(new int[2][3])[1].length", frame);
+		assertEquals("Wrong result", "3", evaluate(engine, second, frame));
+	}
+
+	/**
+	 * Tests that different snippets and errors are cached separately.
+	 */
+	public void testDifferentSnippets() throws Exception {
+		ASTEvaluationEngine engine = launch();
+		CompiledExpressionCache cache = engine.getCompiledExpressionCache();
+		IJavaStackFrame frame = (IJavaStackFrame) fThread.getTopStackFrame();
+
+		engine.getCompiledExpression("xVarInt + 1", frame);
+		long misses = cache.getMissCount();
+		engine.getCompiledExpression("xVarInt + 2", frame);
+		assertEquals("Different snippet should miss", misses + 1, cache.getMissCount());
+
+		ICompiledExpression error = engine.getCompiledExpression("xVarUnknown", frame);
+		assertTrue("Should not compile", error.hasErrors());
+		error = engine.getCompiledExpression("xVarUnknown", frame);
+		assertTrue("Cached expression should keep its errors", error.hasErrors());
+	}
+
+	/**
+	 * Tests that a hot code replace clears the cache.
+	 */
+	public void testHotCodeReplaceClearsCache() throws Exception {
+		ASTEvaluationEngine engine = launch();
+		CompiledExpressionCache cache = engine.getCompiledExpressionCache();
+		IJavaStackFrame frame = (IJavaStackFrame) fThread.getTopStackFrame();
+
+		engine.getCompiledExpression("xVarInt + 1", frame);
+		assertTrue("Expression should be cached", cache.size() > 0);
+		JDIDebugTarget target = (JDIDebugTarget) fThread.getDebugTarget();
+		for (IJavaHotCodeReplaceListener listener : target.getHotCodeReplaceListeners()) {
+			listener.hotCodeReplaceSucceeded(target);
+		}
+		assertEquals("Cache should be empty", 0, cache.size());
+	}
+
+	private String evaluate(ASTEvaluationEngine engine, ICompiledExpression expression, IJavaStackFrame frame) throws Exception {
+		IEvaluationResult[] result = new IEvaluationResult[1];
+		engine.evaluateExpression(expression, frame, r -> {
+			synchronized (result) {
+				result[0] = r;
+				result.notifyAll();
+			}
+		}, DebugEvent.EVALUATION_IMPLICIT, false);
+		synchronized (result) {
+			if (result[0] == null) {
+				result.wait(DEFAULT_TIMEOUT);
+			}
+		}
+		assertNotNull("Evaluation did not complete", result[0]);
+		assertFalse("Evaluation should not have errors", result[0].hasErrors());
+		return result[0].getValue().getValueString();
+	}
+
+	private ASTEvaluationEngine launch() throws Exception {
+		createLineBreakpoint(29, "EvalSimpleTests");
+		fThread = launchToBreakpoint("EvalSimpleTests");
+		assertNotNull("The program did not suspend", fThread);
+		fEngine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) fThread.getDebugTarget());
+		return fEngine;
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try {
+			if (fEngine != null) {
+				fEngine.dispose();
+			}
+			terminateAndRemove(fThread);
+		} finally {
+			super.tearDown();
+			removeAllBreakpoints();
+		}
+	}
+}
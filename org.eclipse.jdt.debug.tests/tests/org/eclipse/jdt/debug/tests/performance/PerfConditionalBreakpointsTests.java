@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.performance;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -21,6 +23,7 @@ import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.test.performance.Dimension;
 
 /**
@@ -29,6 +32,13 @@ import org.eclipse.test.performance.Dimension;
 public class PerfConditionalBreakpointsTests extends AbstractDebugPerformanceTest {
     private final String fTypeName = "PerfLoop";
 
+    private final String fLoopTypeName = "PerfConditionLoop";
+
+    /**
+     * A condition of the loop program making three method invocations
+     */
+    private static final String INVOCATION_CONDITION = "String.valueOf(i).length() + name.length() == -1";
+
     private int fHitCount = 0;
 
     private IJavaLineBreakpoint fBP;
@@ -95,6 +105,78 @@ public class PerfConditionalBreakpointsTests extends AbstractDebugPerformanceTes
         }
     }
 
+    /**
+     * Tests the rate of conditional breakpoint hits with a condition comparing
+     * a local variable to a literal. The breakpoint is hit on each of the 5000
+     * iterations of a tight loop, and never suspends.
+     */
+    public void testPrimitiveConditionHits() throws Exception {
+        tagAsSummary("Conditional Breakpoint Hits: primitive compare", Dimension.ELAPSED_PROCESS);
+        runConditionLoop("i == -1");
+    }
+
+    /**
+     * Tests the rate of conditional breakpoint hits with a condition comparing
+     * a local string to a literal with <code>equals</code>. The breakpoint is
+     * hit on each of the 5000 iterations of a tight loop, and never suspends.
+     */
+    public void testStringConditionHits() throws Exception {
+        tagAsSummary("Conditional Breakpoint Hits: string equals", Dimension.ELAPSED_PROCESS);
+        runConditionLoop("name.equals(\"none\")");
+    }
+
+    /**
+     * Tests the rate of conditional breakpoint hits with a condition making
+     * three method invocations, interpreted. The breakpoint is hit on each of
+     * the 5000 iterations of a tight loop, and never suspends.
+     */
+    public void testInvocationConditionHits() throws Exception {
+        tagAsSummary("Conditional Breakpoint Hits: invocations", Dimension.ELAPSED_PROCESS);
+        runConditionLoop(INVOCATION_CONDITION);
+    }
+
+    /**
+     * Tests the rate of conditional breakpoint hits with the condition of
+     * {@link #testInvocationConditionHits()} injected into the target, to
+     * compare with interpreting it.
+     */
+    public void testInjectedInvocationConditionHits() throws Exception {
+        tagAsSummary("Conditional Breakpoint Hits: injected invocations", Dimension.ELAPSED_PROCESS);
+        IEclipsePreferences prefs = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+        prefs.putBoolean(JDIDebugPlugin.PREF_INJECT_BREAKPOINT_CONDITIONS, true);
+        try {
+            runConditionLoop(INVOCATION_CONDITION);
+        } finally {
+            prefs.remove(JDIDebugPlugin.PREF_INJECT_BREAKPOINT_CONDITIONS);
+        }
+    }
+
+    /**
+     * Measures running the tight loop program with a conditional breakpoint on
+     * the body of the loop.
+     */
+    private void runConditionLoop(String condition) throws Exception {
+        removeAllBreakpoints();
+        createConditionalLineBreakpoint(24, fLoopTypeName, condition, true);
+        ILaunchConfiguration config = getLaunchConfiguration(fLoopTypeName);
+        try {
+            for (int i = 0; i < 6; i++) {
+                // the first run warms up
+                if (i > 0) {
+                    startMeasuring();
+                }
+                launchAndTerminate(config, 5 * 60 * 1000, false);
+                if (i > 0) {
+                    stopMeasuring();
+                }
+            }
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+        }
+    }
+
     private synchronized void breakpointHit(IJavaThread thread) {
         try {
             if (!fConditionalBreakpointSet) {
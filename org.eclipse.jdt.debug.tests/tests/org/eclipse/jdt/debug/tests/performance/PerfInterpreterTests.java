@@ -0,0 +1,103 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.Interpreter;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.RuntimeContext;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of the interpreter executing compiled expressions. The
+ * expressions only compute with primitives and invoke no methods in the
+ * target, so they are executed directly rather than as evaluations in the
+ * suspended thread, which isolates the cost of the interpreter.
+ */
+public class PerfInterpreterTests extends AbstractDebugPerformanceTest {
+
+    /**
+     * Constructor
+     */
+    public PerfInterpreterTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Tests the performance of executing an expression of arithmetic and
+     * compare instructions on local variables.
+     */
+    public void testArithmeticExpression() throws Exception {
+        tagAsSummary("Interpreter: arithmetic expression", Dimension.ELAPSED_PROCESS);
+        runExpression("(xVarInt * 3 + yVarInt % 5 - 7) * 2 > yVarInt && xVarInt != yVarInt || xVarInt + yVarInt == 2", 2000);
+    }
+
+    /**
+     * Tests the performance of executing a loop over primitive local
+     * variables declared by the snippet.
+     */
+    public void testPrimitiveLoop() throws Exception {
+        tagAsSummary("Interpreter: primitive loop", Dimension.ELAPSED_PROCESS);
+        runExpression("int sum = 0; for (int j = 0; j < 100; j++) { if (j % 3 == 0) { sum += j * yVarInt; } else { sum -= xVarInt; } } return sum;", 20);
+    }
+
+    /**
+     * Measures executing the given snippet the given number of times per
+     * measurement, in the frame of <code>EvalSimpleTests</code> where its
+     * primitive local variables are defined.
+     */
+    private void runExpression(String snippet, int executions) throws Exception {
+        removeAllBreakpoints();
+        createLineBreakpoint(40, "EvalSimpleTests");
+        IJavaThread thread = null;
+        ASTEvaluationEngine engine = null;
+        try {
+            thread = launchToBreakpoint("EvalSimpleTests");
+            assertNotNull("The program did not suspend", thread);
+            IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+            engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+            ICompiledExpression expression = engine.getCompiledExpression(snippet, frame);
+            assertFalse("Snippet should compile", expression.hasErrors());
+            Interpreter interpreter = new Interpreter((InstructionSequence) expression, new RuntimeContext(getProjectContext(), frame));
+
+            // warm up
+            for (int i = 0; i < 100; i++) {
+                interpreter.execute(false);
+            }
+
+            // test
+            for (int i = 0; i < 100; i++) {
+                startMeasuring();
+                for (int j = 0; j < executions; j++) {
+                    interpreter.execute(false);
+                }
+                stopMeasuring();
+            }
+
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            if (engine != null) {
+                engine.dispose();
+            }
+            removeAllBreakpoints();
+            terminateAndRemove(thread);
+        }
+    }
+}
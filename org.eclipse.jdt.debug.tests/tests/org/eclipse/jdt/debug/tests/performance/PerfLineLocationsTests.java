@@ -0,0 +1,90 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Tests performance of finding the locations of lines in a class with
+ * thousands of methods, as done when installing line breakpoints.
+ */
+public class PerfLineLocationsTests extends AbstractDebugPerformanceTest {
+
+    /**
+     * Number of methods of <code>LotsOfMethods</code>
+     */
+    private static final int METHODS = 2000;
+
+    /**
+     * Constructor
+     */
+    public PerfLineLocationsTests(String name) {
+        super(name);
+    }
+
+    /**
+     * Tests the performance of finding the location of the line of each
+     * method of the class.
+     */
+    public void testLocationsOfLine() throws Exception {
+        tagAsSummary("Locations of line in 2000 methods", Dimension.ELAPSED_PROCESS);
+        String typeName = "LotsOfMethods";
+        createLineBreakpoint(22, typeName);
+        IJavaThread thread = null;
+        try {
+            thread = launchToBreakpoint(typeName);
+            assertNotNull("The program did not suspend", thread);
+            ReferenceType type = ((JDIDebugTarget) thread.getDebugTarget()).getVM().classesByName(typeName).get(0);
+
+            // warm up
+            for (int i = 0; i < 10; i++) {
+                for (int j = 0; j < METHODS; j++) {
+                    List<Location> locations = type.locationsOfLine(getLine(j));
+                    assertEquals("Wrong number of locations", 1, locations.size());
+                    assertEquals("Wrong method", "method" + j, locations.get(0).method().name());
+                }
+            }
+
+            // test
+            for (int i = 0; i < 100; i++) {
+                startMeasuring();
+                for (int j = 0; j < METHODS; j++) {
+                    type.locationsOfLine(getLine(j));
+                }
+                stopMeasuring();
+            }
+
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+            terminateAndRemove(thread);
+        }
+    }
+
+    /**
+     * Returns the line of the statement of the method with the given number.
+     */
+    private static int getLine(int method) {
+        return 26 + 4 * method;
+    }
+}
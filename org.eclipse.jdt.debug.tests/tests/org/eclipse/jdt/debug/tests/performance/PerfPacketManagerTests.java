@@ -0,0 +1,319 @@
+/*******************************************************************************
+ *  Copyright (c) 2026 IBM Corporation and others.
+ *
+ *  This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License 2.0
+ *  which accompanies this distribution, and is available at
+ *  https://www.eclipse.org/legal/epl-2.0/
+ *
+ *  SPDX-License-Identifier: EPL-2.0
+ *
+ *  Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
+import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.connect.TransportMetrics;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdt.debug.testplugin.LoopbackConnection;
+import org.eclipse.jdt.debug.testplugin.SocketLoopback;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the throughput of the JDWP packet managers against a loopback
+ * connection, with a varying number of threads issuing requests concurrently,
+ * and through the socket transport.
+ */
+public class PerfPacketManagerTests extends AbstractDebugPerformanceTest {
+
+	private static final int REQUESTS = 64 * 1000;
+
+	private static final int EVENTS = 100 * 1000;
+
+	private LoopbackConnection fConnection;
+	private PacketSendManager fSendManager;
+	private PacketReceiveManager fReceiveManager;
+
+	public PerfPacketManagerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fConnection = new LoopbackConnection();
+		fSendManager = new PacketSendManager(fConnection);
+		fReceiveManager = new PacketReceiveManager(fConnection, null);
+		// metrics are always recorded by a VirtualMachineImpl
+		TransportMetrics metrics = new TransportMetrics();
+		fSendManager.setTransportMetrics(metrics);
+		fReceiveManager.setTransportMetrics(metrics);
+		Thread receiveThread = new Thread(fReceiveManager, "Loopback receive");
+		Thread sendThread = new Thread(fSendManager, "Loopback send");
+		fReceiveManager.setPartnerThread(sendThread);
+		fSendManager.setPartnerThread(receiveThread);
+		receiveThread.setDaemon(true);
+		sendThread.setDaemon(true);
+		receiveThread.start();
+		sendThread.start();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fSendManager.disconnectVM();
+		fReceiveManager.disconnectVM();
+		super.tearDown();
+	}
+
+	/**
+	 * Tests reply correlation with a single requesting thread.
+	 */
+	public void testReplyThroughput1Requester() throws Exception {
+		tagAsSummary("Reply correlation: 1 requester", Dimension.ELAPSED_PROCESS);
+		runRequests(1);
+	}
+
+	/**
+	 * Tests reply correlation with 8 concurrently requesting threads.
+	 */
+	public void testReplyThroughput8Requesters() throws Exception {
+		tagAsSummary("Reply correlation: 8 requesters", Dimension.ELAPSED_PROCESS);
+		runRequests(8);
+	}
+
+	/**
+	 * Tests reply correlation with 64 concurrently requesting threads.
+	 */
+	public void testReplyThroughput64Requesters() throws Exception {
+		tagAsSummary("Reply correlation: 64 requesters", Dimension.ELAPSED_PROCESS);
+		runRequests(64);
+	}
+
+	/**
+	 * Tests receiving and decoding large replies, as sent for
+	 * <code>allClasses</code> on big targets.
+	 */
+	public void testLargeReplyThroughput() throws Exception {
+		tagAsSummary("Large reply decoding", Dimension.ELAPSED_PROCESS);
+		fConnection.setAnswerCommands(false);
+		byte[] data = new byte[4 * 1024 * 1024];
+		for (int i = 0; i < 13; i++) {
+			if (i >= 3) {
+				startMeasuring();
+			}
+			for (int j = 0; j < 20; j++) {
+				JdwpCommandPacket command = new JdwpCommandPacket(JdwpCommandPacket.VM_ALL_CLASSES);
+				fSendManager.sendPacket(command);
+				fConnection.inject(LoopbackConnection.replyPacket(command.getId(), data));
+				JdwpReplyPacket reply = fReceiveManager.getReply(command.getId(), 10000);
+				DataInputStream replyData = reply.dataInStream();
+				replyData.readFully(new byte[data.length]);
+			}
+			if (i >= 3) {
+				stopMeasuring();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests receiving {@link #EVENTS} composite event packets, as sent by the
+	 * VM during event storms, while another thread issues requests.
+	 */
+	public void testEventThroughput() throws Exception {
+		tagAsSummary("Composite event throughput", Dimension.ELAPSED_PROCESS);
+		byte[][] events = new byte[EVENTS][];
+		byte[] data = new byte[32];
+		for (int i = 0; i < EVENTS; i++) {
+			events[i] = LoopbackConnection.commandPacket(i, JdwpCommandPacket.E_COMPOSITE, data);
+		}
+		for (int i = 0; i < 13; i++) {
+			if (i >= 3) {
+				startMeasuring();
+			}
+			final AtomicReference<Throwable> failure = new AtomicReference<>();
+			final AtomicBoolean done = new AtomicBoolean();
+			Thread requester = new Thread(() -> {
+				try {
+					while (!done.get()) {
+						JdwpCommandPacket command = new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION);
+						fSendManager.sendPacket(command);
+						fReceiveManager.getReply(command.getId(), 10000);
+					}
+				} catch (Throwable t) {
+					failure.compareAndSet(null, t);
+				}
+			}, "Requester");
+			requester.start();
+			Thread injector = new Thread(() -> {
+				for (byte[] event : events) {
+					fConnection.inject(event);
+				}
+			}, "Event injector");
+			injector.start();
+			for (int j = 0; j < EVENTS; j++) {
+				JdwpCommandPacket event = fReceiveManager.getCommand(JdwpCommandPacket.E_COMPOSITE, 10000);
+				assertEquals("Events must be received in order", j, event.getId());
+			}
+			done.set(true);
+			requester.join();
+			injector.join();
+			if (i >= 3) {
+				stopMeasuring();
+			}
+			if (failure.get() != null) {
+				throw new AssertionError("Request failed", failure.get());
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests receiving {@link #EVENTS} small composite event packets through
+	 * the socket transport, as sent by the VM during event storms.
+	 */
+	public void testSocketReceiveThroughput() throws Exception {
+		tagAsSummary("Socket receive throughput", Dimension.ELAPSED_PROCESS);
+		byte[] data = new byte[32];
+		ByteArrayOutputStream events = new ByteArrayOutputStream();
+		for (int i = 0; i < EVENTS; i++) {
+			events.write(LoopbackConnection.commandPacket(i, JdwpCommandPacket.E_COMPOSITE, data));
+		}
+		byte[] eventBytes = events.toByteArray();
+		for (int i = 0; i < 13; i++) {
+			SocketLoopback loopback = new SocketLoopback();
+			PacketReceiveManager receiveManager = new PacketReceiveManager(loopback.getConnection(), null);
+			receiveManager.setTransportMetrics(new TransportMetrics());
+			Thread receiveThread = new Thread(receiveManager, "Socket receive");
+			receiveThread.setDaemon(true);
+			receiveThread.start();
+			Thread writer = new Thread(() -> {
+				try {
+					OutputStream out = loopback.getRemote().getOutputStream();
+					out.write(eventBytes);
+					out.flush();
+				} catch (IOException e) {
+					// the receiving side fails the test
+				}
+			}, "Socket event writer");
+			try {
+				if (i >= 3) {
+					startMeasuring();
+				}
+				writer.start();
+				for (int j = 0; j < EVENTS; j++) {
+					JdwpCommandPacket event = receiveManager.getCommand(JdwpCommandPacket.E_COMPOSITE, 10000);
+					assertNotNull("Event must be received", event);
+					assertEquals("Events must be received in order", j, event.getId());
+				}
+				if (i >= 3) {
+					stopMeasuring();
+				}
+				writer.join();
+			} finally {
+				receiveManager.disconnectVM();
+				loopback.close();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests sending {@link #REQUESTS} requests through the socket transport,
+	 * with the VM side reading them as fast as it can.
+	 */
+	public void testSocketSendThroughput() throws Exception {
+		tagAsSummary("Socket send throughput", Dimension.ELAPSED_PROCESS);
+		for (int i = 0; i < 13; i++) {
+			SocketLoopback loopback = new SocketLoopback();
+			PacketSendManager sendManager = new PacketSendManager(loopback.getConnection());
+			sendManager.setTransportMetrics(new TransportMetrics());
+			Thread sendThread = new Thread(sendManager, "Socket send");
+			sendThread.setDaemon(true);
+			sendThread.start();
+			try {
+				DataInputStream in = new DataInputStream(new BufferedInputStream(loopback.getRemote().getInputStream()));
+				byte[] packet = new byte[64];
+				if (i >= 3) {
+					startMeasuring();
+				}
+				for (int j = 0; j < REQUESTS; j++) {
+					sendManager.sendPacket(new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION));
+				}
+				for (int j = 0; j < REQUESTS; j++) {
+					in.readFully(packet, 0, in.readInt() - 4);
+				}
+				if (i >= 3) {
+					stopMeasuring();
+				}
+			} finally {
+				sendManager.disconnectVM();
+				loopback.close();
+			}
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Issues {@link #REQUESTS} requests split over the given number of
+	 * threads, a few times for warm up and then measured.
+	 */
+	private void runRequests(int requesters) throws Exception {
+		for (int i = 0; i < 3; i++) {
+			issueRequests(requesters);
+		}
+		for (int i = 0; i < 10; i++) {
+			startMeasuring();
+			issueRequests(requesters);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void issueRequests(int requesters) throws Exception {
+		final int perThread = REQUESTS / requesters;
+		final CountDownLatch done = new CountDownLatch(requesters);
+		final AtomicReference<Throwable> failure = new AtomicReference<>();
+		for (int i = 0; i < requesters; i++) {
+			Thread requester = new Thread(() -> {
+				try {
+					for (int j = 0; j < perThread; j++) {
+						JdwpCommandPacket command = new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION);
+						fSendManager.sendPacket(command);
+						JdwpReplyPacket reply = fReceiveManager.getReply(command.getId(), 10000);
+						if (reply.getId() != command.getId()) {
+							throw new IllegalStateException("Reply " + reply.getId() + " does not match request " + command.getId());
+						}
+					}
+				} catch (Throwable t) {
+					failure.compareAndSet(null, t);
+				} finally {
+					done.countDown();
+				}
+			}, "Requester " + i);
+			requester.start();
+		}
+		done.await();
+		if (failure.get() != null) {
+			throw new AssertionError("Request failed", failure.get());
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018 Andrey Loskutov and others.
+ *  Copyright (c) 2018, 2026 Andrey Loskutov and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -17,11 +17,15 @@ import java.util.Arrays;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.debug.core.model.IStackFrame;
+import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.ui.IDebugUIConstants;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.monitors.ThreadMonitorManager;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.swt.widgets.TreeItem;
 import org.eclipse.test.OrderedTestSuite;
@@ -226,6 +230,46 @@ public class DebugViewTests extends AbstractDebugViewTests {
 		doTestWrongSelection(iterations, typeName, breakpointMethodName, expectedBreakpointHitsCount);
 	}
 
+	/**
+	 * Tests that the two threads of a lock ordering deadlock are both reported as being in a deadlock, and that the thread waiting for them is
+	 * not.
+	 */
+	public void testDeadlockDetected() throws Exception {
+		String typeName = "Deadlock";
+		IJavaLineBreakpoint bp = createLineBreakpoint(30, typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			IJavaThread one = findThread(thread, "DeadlockOne");
+			IJavaThread two = findThread(thread, "DeadlockTwo");
+			assertTrue("Threads should be suspended", one.isSuspended() && two.isSuspended());
+
+			ThreadMonitorManager manager = ThreadMonitorManager.getDefault();
+			long timeout = System.currentTimeMillis() + 10000;
+			while (!(manager.isInDeadlock(one) && manager.isInDeadlock(two)) && System.currentTimeMillis() < timeout) {
+				waitForNonConsoleJobs();
+				Thread.sleep(100);
+			}
+			assertTrue("First thread should be in a deadlock", manager.isInDeadlock(one));
+			assertTrue("Second thread should be in a deadlock", manager.isInDeadlock(two));
+			assertFalse("Main thread should not be in a deadlock", manager.isInDeadlock(thread));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	private static IJavaThread findThread(IJavaThread thread, String name) throws Exception {
+		for (IThread t : thread.getDebugTarget().getThreads()) {
+			if (name.equals(t.getName())) {
+				return (IJavaThread) t;
+			}
+		}
+		throw new AssertionError("Thread not found: " + name);
+	}
+
 	/**
 	 * Test for Bug 534319 - Debug View shows wrong information due to threads with short lifetime
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2010, 2022 IBM Corporation and others.
+ *  Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -633,6 +633,31 @@ public class OpenFromClipboardTests {
 		assertEquals(1, matches.size());
 	}
 
+	@Test
+	public void testTypeIndexUpdate() throws Exception {
+		String s = "p.OpenFromClipboardTests:100";
+		setupTypeTest("OpenFromClipboardTests");
+		assertEquals(1, getJavaElementMatches(s).size());
+
+		// a type added to a compilation unit already indexed
+		ICompilationUnit unit = fSourceFolder.getPackageFragment("p").getCompilationUnit("OpenFromClipboardTests.java");
+		unit.getType("OpenFromClipboardTests").createType("class Inner {}", null, false, null);
+		assertEquals(1, getJavaElementMatches("p.OpenFromClipboardTests.Inner:100").size());
+
+		unit.delete(true, null);
+		assertEquals(0, getJavaElementMatches(s).size());
+		assertEquals(0, getJavaElementMatches("p.OpenFromClipboardTests.Inner:100").size());
+	}
+
+	@Test
+	public void testTypeIndexLibraryType() throws Exception {
+		setupTypeTest("OpenFromClipboardTests");
+		assertEquals(1, getJavaElementMatches("p.OpenFromClipboardTests:100").size());
+
+		// library types are not indexed, but still found
+		assertEquals(1, getJavaElementMatches("java.lang.Thread:100").size());
+	}
+
 	// invalid pattern tests
 	@Test
 	public void testInvalidPattern_1() throws Exception {
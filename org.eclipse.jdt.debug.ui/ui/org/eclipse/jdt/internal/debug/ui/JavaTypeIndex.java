@@ -0,0 +1,367 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+/**
+ * Index of the source types of the workspace by fully qualified name and by
+ * simple name, so that the many type names of a stack trace are resolved
+ * without a search of the workspace for each of them. The names of member
+ * types are qualified with dots, like <code>p.Outer.Inner</code>.
+ * <p>
+ * Only the types of the source folders of the Java projects are indexed.
+ * Types with a name that no source type has, like the types of the JRE and
+ * of other libraries, are searched for directly.
+ * </p>
+ * <p>
+ * The index is built with one search on first use and is kept for the
+ * session. It is updated from the Java model deltas: the types of a changed
+ * compilation unit are indexed again on the next lookup, while changes of
+ * projects or class paths cause the index to be built again.
+ * </p>
+ */
+public class JavaTypeIndex implements IElementChangedListener {
+
+	private static JavaTypeIndex fgDefault;
+
+	/**
+	 * Types by fully qualified name, and by simple name, or <code>null</code>
+	 * when the index needs to be built.
+	 */
+	private Map<String, List<IType>> fTypesByName;
+	private Map<String, List<IType>> fTypesBySimpleName;
+
+	/**
+	 * Indexed types of each compilation unit.
+	 */
+	private final Map<ICompilationUnit, IType[]> fUnitTypes = new HashMap<>();
+
+	/**
+	 * Compilation units changed since their types have been indexed, and
+	 * whether the index needs to be built again. Recorded under the lock of
+	 * the set, so that the notification of changes does not wait for a
+	 * lookup.
+	 */
+	private final Set<ICompilationUnit> fChangedUnits = new HashSet<>();
+	private boolean fRebuild;
+
+	/**
+	 * Whether the index has been built and does not need to be built again.
+	 */
+	private volatile boolean fBuilt;
+
+	private JavaTypeIndex() {
+		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Returns the index of the workspace types.
+	 *
+	 * @return the index of the workspace types
+	 */
+	public static synchronized JavaTypeIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new JavaTypeIndex();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Called at shutdown by the Java debug ui plug-in
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault != null) {
+			JavaCore.removeElementChangedListener(fgDefault);
+			fgDefault = null;
+		}
+	}
+
+	/**
+	 * Returns the types of the workspace with the given name. The source
+	 * types with the name are looked up in the index, which is built first if
+	 * needed; if there are none, the workspace is searched for the types with
+	 * the name.
+	 * <p>
+	 * Building the index takes a while, so this is meant to be called with a
+	 * progress monitor outside of the UI thread.
+	 * </p>
+	 *
+	 * @param typeName
+	 *            fully qualified name of the types, or simple name to find the
+	 *            types of any package
+	 * @param monitor
+	 *            progress monitor for building the index and searching, or
+	 *            <code>null</code>
+	 * @return the types with the given name, possibly empty
+	 * @throws JavaModelException
+	 *             if building the index or searching fails
+	 */
+	public List<IType> findTypes(String typeName, IProgressMonitor monitor) throws JavaModelException {
+		List<IType> types;
+		synchronized (this) {
+			update(monitor);
+			types = lookup(typeName);
+		}
+		if (types.isEmpty()) {
+			types = searchTypes(typeName, monitor);
+		}
+		return types;
+	}
+
+	/**
+	 * Returns the source types of the workspace with the given name if the
+	 * index is built, without building it.
+	 *
+	 * @param typeName
+	 *            fully qualified name of the types, or simple name to find the
+	 *            types of any package
+	 * @return the source types with the given name, possibly empty, or
+	 *         <code>null</code> if the index is not built or has to be
+	 *         rebuilt
+	 */
+	public List<IType> findTypesIfBuilt(String typeName) {
+		if (!fBuilt) {
+			return null;
+		}
+		synchronized (this) {
+			List<ICompilationUnit> changedUnits;
+			synchronized (fChangedUnits) {
+				// a pending rebuild is left to findTypes(), never done here
+				if (fRebuild || fTypesByName == null) {
+					return null;
+				}
+				changedUnits = new ArrayList<>(fChangedUnits);
+				fChangedUnits.clear();
+			}
+			updateUnits(changedUnits);
+			return lookup(typeName);
+		}
+	}
+
+	/**
+	 * Searches the workspace for the types with the given name.
+	 */
+	private static List<IType> searchTypes(String typeName, IProgressMonitor monitor) throws JavaModelException {
+		int dot = typeName.lastIndexOf('.');
+		char[][] qualifications;
+		String simpleName;
+		if (dot != -1) {
+			qualifications = new char[][] { typeName.substring(0, dot).toCharArray() };
+			simpleName = typeName.substring(dot + 1);
+		} else {
+			qualifications = null;
+			simpleName = typeName;
+		}
+		char[][] typeNames = new char[][] { simpleName.toCharArray() };
+		List<IType> matchingTypes = new ArrayList<>();
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				matchingTypes.add(match.getType());
+			}
+		};
+		new SearchEngine().searchAllTypeNames(qualifications, typeNames, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		return matchingTypes;
+	}
+
+	private List<IType> lookup(String typeName) {
+		Map<String, List<IType>> index = typeName.indexOf('.') == -1 ? fTypesBySimpleName : fTypesByName;
+		List<IType> types = index.get(typeName);
+		return types == null ? Collections.emptyList() : new ArrayList<>(types);
+	}
+
+	/**
+	 * Builds the index if needed, or indexes the types of the changed
+	 * compilation units again.
+	 */
+	private void update(IProgressMonitor monitor) throws JavaModelException {
+		List<ICompilationUnit> changedUnits;
+		synchronized (fChangedUnits) {
+			if (fRebuild) {
+				fTypesByName = null;
+				fRebuild = false;
+			}
+			if (fTypesByName == null) {
+				fBuilt = false;
+			}
+			changedUnits = new ArrayList<>(fChangedUnits);
+			fChangedUnits.clear();
+		}
+		if (fTypesByName == null) {
+			build(monitor);
+		} else {
+			updateUnits(changedUnits);
+		}
+	}
+
+	/**
+	 * Indexes the types of the given changed compilation units again.
+	 */
+	private void updateUnits(List<ICompilationUnit> changedUnits) {
+		for (ICompilationUnit unit : changedUnits) {
+			IType[] types = fUnitTypes.remove(unit);
+			if (types != null) {
+				for (IType type : types) {
+					remove(fTypesByName, type.getFullyQualifiedName('.'), type);
+					remove(fTypesBySimpleName, type.getElementName(), type);
+				}
+			}
+			if (unit.exists()) {
+				try {
+					types = unit.getAllTypes();
+				} catch (JavaModelException e) {
+					// not on the class path (anymore)
+					continue;
+				}
+				for (IType type : types) {
+					add(type);
+				}
+				fUnitTypes.put(unit, types);
+			}
+		}
+	}
+
+	/**
+	 * Indexes the types of the source folders of the Java projects of the
+	 * workspace.
+	 */
+	private void build(IProgressMonitor monitor) throws JavaModelException {
+		Map<String, List<IType>> typesByName = new HashMap<>();
+		Map<String, List<IType>> typesBySimpleName = new HashMap<>();
+		Map<ICompilationUnit, List<IType>> unitTypes = new HashMap<>();
+		fTypesByName = typesByName;
+		fTypesBySimpleName = typesBySimpleName;
+		fUnitTypes.clear();
+		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
+			@Override
+			public void acceptTypeNameMatch(TypeNameMatch match) {
+				IType type = match.getType();
+				add(type);
+				ICompilationUnit unit = type.getCompilationUnit();
+				if (unit != null) {
+					unitTypes.computeIfAbsent(unit, u -> new ArrayList<>()).add(type);
+				}
+			}
+		};
+		try {
+			IJavaProject[] projects = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+			IJavaSearchScope scope = SearchEngine.createJavaSearchScope(projects, IJavaSearchScope.SOURCES);
+			new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null, SearchPattern.R_PATTERN_MATCH, IJavaSearchConstants.TYPE, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+		} catch (JavaModelException | RuntimeException e) {
+			fTypesByName = null;
+			fTypesBySimpleName = null;
+			throw e;
+		}
+		for (Map.Entry<ICompilationUnit, List<IType>> entry : unitTypes.entrySet()) {
+			fUnitTypes.put(entry.getKey(), entry.getValue().toArray(new IType[entry.getValue().size()]));
+		}
+		fBuilt = true;
+	}
+
+	private void add(IType type) {
+		fTypesByName.computeIfAbsent(type.getFullyQualifiedName('.'), name -> new ArrayList<>(1)).add(type);
+		fTypesBySimpleName.computeIfAbsent(type.getElementName(), name -> new ArrayList<>(1)).add(type);
+	}
+
+	private static void remove(Map<String, List<IType>> index, String name, IType type) {
+		List<IType> types = index.get(name);
+		if (types != null) {
+			types.remove(type);
+			if (types.isEmpty()) {
+				index.remove(name);
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.core.IElementChangedListener#elementChanged(org.eclipse.jdt.core.ElementChangedEvent)
+	 */
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (fChangedUnits) {
+			if (!fRebuild && !processDelta(event.getDelta())) {
+				fRebuild = true;
+				fBuilt = false;
+				fChangedUnits.clear();
+			}
+		}
+	}
+
+	/**
+	 * Records the compilation units changed by the given delta.
+	 *
+	 * @return <code>false</code> if the index needs to be built again
+	 */
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element = delta.getElement();
+		int flags = delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (((IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT)).isArchive()) {
+					// no source types
+					return true;
+				}
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH)) != 0) {
+					return false;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				fChangedUnits.add(((ICompilationUnit) element).getPrimary());
+				return true;
+			case IJavaElement.CLASS_FILE:
+				// binary types are not indexed
+				return true;
+			default:
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (!processDelta(child)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
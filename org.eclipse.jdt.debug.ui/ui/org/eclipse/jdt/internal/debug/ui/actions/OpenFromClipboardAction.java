@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,11 +34,10 @@ import org.eclipse.jdt.core.search.SearchMatch;
 import org.eclipse.jdt.core.search.SearchParticipant;
 import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.search.SearchRequestor;
-import org.eclipse.jdt.core.search.TypeNameMatch;
-import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.debug.ui.console.JavaStackTraceConsoleFactory;
 import org.eclipse.jdt.internal.debug.ui.IJDIPreferencesConstants;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.JavaTypeIndex;
 import org.eclipse.jdt.internal.debug.ui.console.JavaStackTraceConsole;
 import org.eclipse.jdt.ui.JavaElementLabelProvider;
 import org.eclipse.jdt.ui.JavaUI;
@@ -615,13 +614,8 @@ public class OpenFromClipboardAction implements IWorkbenchWindowActionDelegate {
 	}
 
 	/**
-	 * Perform a Java search for the type and return the corresponding Java elements.
-	 *
-	 * <p>
-	 * TODO: Because of faster performance SearchEngine.searchAllTypeNames(...) is used to do the
-	 * Java Search, instead of the usual SearchEngine.search(...) API. This logic should be moved to
-	 * JDT/Core.
-	 * </p>
+	 * Look up the type in the index of the workspace source types, or search for it if it is not a
+	 * source type, and return the corresponding Java elements.
 	 *
 	 * @param typeName
 	 *            the Type Name
@@ -631,23 +625,8 @@ public class OpenFromClipboardAction implements IWorkbenchWindowActionDelegate {
 	 *            the Progress Monitor
 	 */
 	private static void doTypeSearch(String typeName, final List<Object> matches, IProgressMonitor monitor) {
-		IJavaSearchScope scope = SearchEngine.createWorkspaceScope();
-		SearchEngine searchEngine = new SearchEngine();
-
-		String packageName = null;
-		int index = typeName.lastIndexOf('.');
-		if (index != -1) {
-			packageName = typeName.substring(0, index);
-			typeName = typeName.substring(index + 1);
-		}
 		try {
-			searchEngine.searchAllTypeNames(packageName == null ? null : packageName.toCharArray(), packageName == null ? SearchPattern.R_EXACT_MATCH : getSearchFlags(), typeName.toCharArray(),
-					getSearchFlags(), IJavaSearchConstants.TYPE, scope, new TypeNameMatchRequestor() {
-						@Override
-						public void acceptTypeNameMatch(TypeNameMatch match) {
-							matches.add(match.getType());
-						}
-					}, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			matches.addAll(JavaTypeIndex.getDefault().findTypes(typeName, monitor));
 		} catch (CoreException e) {
 			JDIDebugUIPlugin.log(e);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.internal.debug.ui.actions;
 
 
 import java.util.Iterator;
+import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -34,6 +35,7 @@ import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.JavaTypeIndex;
 import org.eclipse.jdt.internal.ui.util.OpenTypeHierarchyUtil;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.action.IAction;
@@ -154,6 +156,16 @@ public abstract class OpenTypeAction extends ObjectActionDelegate {
 	 * @throws CoreException if search failed
 	 */
 	public static IType findTypeInWorkspace(String typeName, boolean findOnlyUniqueMatch) throws CoreException {
+		// source types are looked up in the type index if it is built already
+		List<IType> sourceTypes= JavaTypeIndex.getDefault().findTypesIfBuilt(typeName);
+		if (sourceTypes != null && !sourceTypes.isEmpty()) {
+			if (!findOnlyUniqueMatch) {
+				return sourceTypes.get(0);
+			}
+			if (sourceTypes.size() > 1) {
+				return null;
+			}
+		}
 		int dot= typeName.lastIndexOf('.');
 		char[][] qualifications;
 		String simpleName;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,6 @@
 package org.eclipse.jdt.internal.debug.ui.console;
 
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
@@ -29,14 +28,10 @@ import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.debug.ui.IDebugUIConstants;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.TypeNameMatch;
-import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
+import org.eclipse.jdt.internal.debug.ui.JavaTypeIndex;
 import org.eclipse.jdt.internal.debug.ui.actions.OpenFromClipboardAction;
-import org.eclipse.jdt.internal.debug.ui.actions.OpenTypeAction;
 import org.eclipse.jface.dialogs.ErrorDialog;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.text.BadLocationException;
@@ -116,23 +111,17 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 				ILaunch launch = getLaunch();
 				Object result = null;
 				try {
-					// search for the type in the workspace
-					result = OpenTypeAction.findTypeInWorkspace(typeName, true);
+					// look up the type in the workspace
+					List<IType> types = JavaTypeIndex.getDefault().findTypes(typeName, monitor);
+					if (types.size() == 1) {
+						result = types.get(0);
+					}
 					if (result == null && launch != null) {
 						result = JavaDebugUtils.resolveSourceElement(JavaDebugUtils.generateSourceName(typeName), getLaunch());
 					}
-					if (result == null) {
-						// search for all types in the workspace
-						List<IType> types = findTypesInWorkspace(typeName);
-						if (types.isEmpty()) {
-							result = null;
-						} else {
-							if (types.size() == 1) {
-								result = types.get(0);
-							} else {
-								result = types;
-							}
-						}
+					if (result == null && !types.isEmpty()) {
+						// ambiguous
+						result = types;
 					}
 					searchCompleted(result, typeName, lineNumber, null);
 				} catch (CoreException e) {
@@ -145,29 +134,6 @@ public class JavaStackTraceHyperlink implements IHyperlink {
 		search.schedule();
 	}
 
-	private static List<IType> findTypesInWorkspace(String typeName) throws CoreException {
-		int dot = typeName.lastIndexOf('.');
-		char[][] qualifications;
-		String simpleName;
-		if (dot != -1) {
-			qualifications = new char[][] { typeName.substring(0, dot).toCharArray() };
-			simpleName = typeName.substring(dot + 1);
-		} else {
-			qualifications = null;
-			simpleName = typeName;
-		}
-		char[][] typeNames = new char[][] { simpleName.toCharArray() };
-		List<IType> matchingTypes = new ArrayList<>();
-		TypeNameMatchRequestor requestor = new TypeNameMatchRequestor() {
-			@Override
-			public void acceptTypeNameMatch(TypeNameMatch match) {
-				matchingTypes.add(match.getType());
-			}
-		};
-		SearchEngine searchEngine = new SearchEngine();
-		searchEngine.searchAllTypeNames(qualifications, typeNames, SearchEngine.createWorkspaceScope(), requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
-		return matchingTypes;
-	}
 	/**
 	 * Reported back to from {@link JavaStackTraceHyperlink#startSourceSearch(String, int)} when results are found
 	 *
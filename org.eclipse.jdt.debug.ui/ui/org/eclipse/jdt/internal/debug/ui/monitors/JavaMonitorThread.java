@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2012 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,13 @@ public class JavaMonitorThread extends PlatformObject {
 	 * may have changed.
 	 */
 	private boolean fToUpdate= true;
+	/**
+	 * Monitor information retrieved along with the information of other
+	 * threads, used by the next update instead of retrieving it for this
+	 * thread alone. <code>null</code> if there is none.
+	 */
+	private IJavaObject fPrefetchedContendedMonitor;
+	private IJavaObject[] fPrefetchedOwnedMonitors;
 
 	/**
 	 * List of JavaOwningThread and JavaWaitingThread associated with this thread.
@@ -176,7 +183,7 @@ public class JavaMonitorThread extends PlatformObject {
 			}
 			try {
 				// update the contended monitor
-				IJavaObject contendedMonitor= fThread.getContendedMonitor();
+				IJavaObject contendedMonitor= fPrefetchedOwnedMonitors != null ? fPrefetchedContendedMonitor : fThread.getContendedMonitor();
 				if (contendedMonitor == null) {
 					changed= fContendedMonitor != null;
 					fContendedMonitor= null;
@@ -185,7 +192,7 @@ public class JavaMonitorThread extends PlatformObject {
 					fContendedMonitor= ThreadMonitorManager.getDefault().getJavaMonitor(contendedMonitor);
 				}
 				// update the owned monitors
-				IJavaObject[] ownedMonitors= fThread.getOwnedMonitors();
+				IJavaObject[] ownedMonitors= fPrefetchedOwnedMonitors != null ? fPrefetchedOwnedMonitors : fThread.getOwnedMonitors();
 				if (ownedMonitors == null || ownedMonitors.length == 0) {
 					// no owned monitor, not much to do
 					changed= fOwnedMonitors != null && fOwnedMonitors.length != 0;
@@ -228,6 +235,8 @@ public class JavaMonitorThread extends PlatformObject {
 			    }
 			} finally {
 				fToUpdate= false;
+				fPrefetchedContendedMonitor= null;
+				fPrefetchedOwnedMonitors= null;
 			}
 		}
 		if (changed) {
@@ -263,6 +272,8 @@ public class JavaMonitorThread extends PlatformObject {
 	}
 
 	public synchronized void setToUpdate() {
+		fPrefetchedContendedMonitor= null;
+		fPrefetchedOwnedMonitors= null;
 		if (!fToUpdate) {
 			fToUpdate= true;
 			if (fContendedMonitor != null) {
@@ -276,6 +287,24 @@ public class JavaMonitorThread extends PlatformObject {
 		}
 	}
 
+	/**
+	 * Indicate if the information for this thread needs to be updated.
+	 */
+	protected synchronized boolean isToUpdate() {
+		return fToUpdate;
+	}
+
+	/**
+	 * Set the monitor information retrieved for this thread along with the
+	 * information of other threads, to be used by the next update.
+	 */
+	protected synchronized void setPrefetchedMonitors(IJavaObject contendedMonitor, IJavaObject[] ownedMonitors) {
+		if (fToUpdate) {
+			fPrefetchedContendedMonitor= contendedMonitor;
+			fPrefetchedOwnedMonitors= ownedMonitors;
+		}
+	}
+
 	protected void addElement(JavaOwningThread thread) {
 		fElements.add(thread);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2015 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,21 +14,27 @@
 package org.eclipse.jdt.internal.debug.ui.monitors;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IDebugElement;
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.ui.IJavaDebugUIConstants;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPlugin;
 import org.eclipse.jdt.internal.debug.ui.JDIDebugUIPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
@@ -229,6 +235,7 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 		@Override
 		public void run() {
 			JavaMonitorThread[] threads= getJavaMonitorThreads();
+			prefetchMonitors(threads);
 			for (int i = 0; i < threads.length; i++) {
 				threads[i].refresh();
 			}
@@ -236,42 +243,59 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 		}
 	}
 
+	/**
+	 *  Runnable to be run asynchronously, to look for deadlocks.
+	 *  <p>
+	 *  Each thread waits for at most one monitor, owned by at most one thread,
+	 *  so the wait chains are followed from each thread until a thread already
+	 *  visited: each thread is visited once, and a thread visited twice in
+	 *  the same chain closes a deadlock. The threads of a chain leading to a
+	 *  deadlock are in the deadlock too.
+	 *  </p>
+	 */
 	class DetectDeadlock implements Runnable {
 		@Override
 		public void run() {
 			JavaMonitorThread[] threads= getJavaMonitorThreads();
 			JavaMonitor[] monitors= getJavaMonitors();
-			List<Object> inDeadlock= new ArrayList<>();
+			prefetchMonitors(threads);
+			// the owners of the monitors, as known from the threads
+			Map<JavaMonitor, JavaMonitorThread> owners= new IdentityHashMap<>();
+			for (int i = 0; i < threads.length; i++) {
+				JavaMonitor[] ownedMonitors= threads[i].getOwnedMonitors0();
+				for (int j = 0; j < ownedMonitors.length; j++) {
+					owners.put(ownedMonitors[j], threads[i]);
+				}
+			}
+			// thread -> index of the chain it has been visited in
+			Map<JavaMonitorThread, Integer> visited= new IdentityHashMap<>();
+			Set<Object> inDeadlock= Collections.newSetFromMap(new IdentityHashMap<>());
 			for (int i = 0; i < threads.length; i++) {
 				JavaMonitorThread thread= threads[i];
 				List<JavaMonitorThread> threadStack= new ArrayList<>();
 				List<JavaMonitor> monitorStack= new ArrayList<>();
+				boolean isInDeadlock= false;
 				while (thread != null) {
-					boolean isInDeadlock= false;
-					if (inDeadlock.contains(thread) || threadStack.contains(thread)) {
-						isInDeadlock= true;
-					} else {
-						JavaMonitor monitor = thread.getContendedMonitor0();
-						if (monitor == null) {
-							thread= null;
-						} else if (inDeadlock.contains(monitor)) {
-							isInDeadlock= true;
-						} else {
-							threadStack.add(thread);
-							monitorStack.add(monitor);
-							thread= monitor.getOwningThread0();
-						}
+					Integer chain= visited.get(thread);
+					if (chain != null) {
+						// back in this chain (a cycle), or waiting on a deadlocked thread
+						isInDeadlock= chain.intValue() == i || inDeadlock.contains(thread);
+						break;
 					}
-					if (isInDeadlock) {
-						// is in a deadlock, set the elements of the back trace as 'in a deadlock'
-						for (Iterator<JavaMonitorThread> iter = threadStack.iterator(); iter.hasNext();) {
-							inDeadlock.add(iter.next());
-						}
-						for (Iterator<JavaMonitor> iter = monitorStack.iterator(); iter.hasNext();) {
-							inDeadlock.add(iter.next());
-						}
-						thread= null;
+					visited.put(thread, Integer.valueOf(i));
+					JavaMonitor monitor= thread.getContendedMonitor0();
+					if (monitor == null) {
+						break;
 					}
+					threadStack.add(thread);
+					monitorStack.add(monitor);
+					JavaMonitorThread owner= owners.get(monitor);
+					thread= owner != null ? owner : monitor.getOwningThread0();
+				}
+				if (isInDeadlock) {
+					// is in a deadlock, set the elements of the back trace as 'in a deadlock'
+					inDeadlock.addAll(threadStack);
+					inDeadlock.addAll(monitorStack);
 				}
 			}
 			for (int i = 0; i < threads.length; i++) {
@@ -285,6 +309,40 @@ public class ThreadMonitorManager implements IDebugEventSetListener, IPropertyCh
 		}
 	}
 
+	/**
+	 * Retrieves the monitor information of the given threads which need to
+	 * be updated, with one burst of requests per debug target instead of
+	 * requests for each thread. Threads for which it could not be retrieved
+	 * this way retrieve it when updated.
+	 */
+	private void prefetchMonitors(JavaMonitorThread[] threads) {
+		Map<IDebugTarget, List<JDIThread>> toUpdate= new HashMap<>();
+		Map<IJavaThread, JavaMonitorThread> monitorThreads= new HashMap<>();
+		for (int i = 0; i < threads.length; i++) {
+			JavaMonitorThread thread= threads[i];
+			if (thread.isToUpdate() && thread.getThread() instanceof JDIThread && thread.isSuspended()) {
+				toUpdate.computeIfAbsent(thread.getDebugTarget(), target -> new ArrayList<>()).add((JDIThread) thread.getThread());
+				monitorThreads.put(thread.getThread(), thread);
+			}
+		}
+		for (List<JDIThread> targetThreads : toUpdate.values()) {
+			if (targetThreads.size() < 2 || !((IJavaDebugTarget) targetThreads.get(0).getDebugTarget()).supportsMonitorInformation()) {
+				continue;
+			}
+			Map<IJavaThread, IJavaObject> contendedMonitors= new HashMap<>();
+			Map<IJavaThread, IJavaObject[]> ownedMonitors= new HashMap<>();
+			try {
+				JDIThread.getMonitors(targetThreads, contendedMonitors, ownedMonitors);
+			} catch (DebugException e) {
+				// the threads retrieve their information one by one
+				continue;
+			}
+			for (Entry<IJavaThread, IJavaObject[]> entry : ownedMonitors.entrySet()) {
+				monitorThreads.get(entry.getKey()).setPrefetchedMonitors(contendedMonitors.get(entry.getKey()), entry.getValue());
+			}
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see org.eclipse.jface.util.IPropertyChangeListener#propertyChange(org.eclipse.jface.util.PropertyChangeEvent)
 	 */
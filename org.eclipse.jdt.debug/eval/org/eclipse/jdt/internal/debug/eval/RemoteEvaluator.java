@@ -1,6 +1,6 @@
 /*******************************************************************************
 
- * Copyright (c) 2019, 2020 Jesper Steen Møller and others.
+ * Copyright (c) 2019, 2026 Jesper Steen Møller and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ package org.eclipse.jdt.internal.debug.eval;
 
 import static org.eclipse.jdt.core.eval.ICodeSnippetRequestor.LOCAL_VAR_PREFIX;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +33,7 @@ import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaClassObject;
 import org.eclipse.jdt.debug.core.IJavaClassType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaFieldVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaThread;
@@ -40,6 +43,7 @@ import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 
 import com.sun.jdi.InvocationException;
@@ -57,7 +61,28 @@ public class RemoteEvaluator {
 
 	private final List<String> variableNames;
 
-	private final IJavaClassObject loadedClass = null;
+	/**
+	 * The code snippet class loaded in {@link #loadedTarget}, or <code>null</code>
+	 */
+	private IJavaClassObject loadedClass;
+
+	private IJavaDebugTarget loadedTarget;
+
+	/**
+	 * Whether each thread reuses a code snippet instance, which is only safe
+	 * when the snippet does not return closures over the instance, like
+	 * lambdas capturing free variables.
+	 */
+	private final boolean reuseInstances;
+
+	/**
+	 * The code snippet instance each thread of {@link #loadedTarget} runs when
+	 * instances are reused, so that an evaluation invokes a single method.
+	 * The instances are kept from being collected, along with the values of
+	 * their last evaluation, until an instance is created after their thread
+	 * terminated.
+	 */
+	private final Map<IJavaThread, CodeSnippetInstance> instances = new HashMap<>();
 
 	private final String enclosingTypeName;
 
@@ -66,18 +91,27 @@ public class RemoteEvaluator {
 	 * deployed to the specified directory (which must be on the class path of the VM in order for evaluation to work).
 	 */
 	public RemoteEvaluator(LinkedHashMap<String, byte[]> classFiles, String codeSnippetClassName, List<String> variableNames, String enclosingTypeName) {
+		this(classFiles, codeSnippetClassName, variableNames, enclosingTypeName, false);
+	}
+
+	/**
+	 * Constructs a new evaluation engine, whose code snippet instances are
+	 * reused by the evaluations in the same thread if so specified.
+	 */
+	public RemoteEvaluator(LinkedHashMap<String, byte[]> classFiles, String codeSnippetClassName, List<String> variableNames, String enclosingTypeName, boolean reuseInstances) {
 		this.classFiles = classFiles;
 		this.enclosingTypeName = enclosingTypeName;
 		this.codeSnippetClassName = codeSnippetClassName.replace('.', '/');
 		this.variableNames = variableNames;
+		this.reuseInstances = reuseInstances;
 	}
 
-	private IJavaClassObject loadTheClasses(IJavaThread theThread) throws DebugException {
-
-		if (loadedClass != null) {
+	private synchronized IJavaClassObject loadTheClasses(IJavaThread theThread) throws DebugException {
+		JDIDebugTarget debugTarget = ((JDIDebugTarget) theThread.getDebugTarget());
+		if (loadedClass != null && loadedTarget == debugTarget) {
+			// evaluated before, look the classes up only once
 			return loadedClass;
 		}
-		JDIDebugTarget debugTarget = ((JDIDebugTarget) theThread.getDebugTarget());
 		IJavaClassObject theMainClass = null;
 		IJavaObject classloader = null;
 
@@ -108,6 +142,9 @@ public class RemoteEvaluator {
 				}
 			}
 		}
+		loadedClass = theMainClass;
+		loadedTarget = debugTarget;
+		instances.clear();
 		return theMainClass;
 	}
 
@@ -149,30 +186,41 @@ public class RemoteEvaluator {
 	}
 
 	/**
-	 * Initializes the value of instance variables in the 'code snippet object' that are used as place-holders for free variables and 'this' in the
-	 * current stack frame.
+	 * Returns the code snippet instance the given thread runs, creating it on
+	 * the first evaluation in the thread if instances are reused.
 	 *
-	 * @param object
-	 *            instance of code snippet class that will be run
-	 * @param boundValues
-	 *            popped values which should be injected into the code snippet object.
 	 * @exception DebugException
-	 *                if an exception is thrown accessing the given object
+	 *                if creation fails
 	 */
-	protected void initializeFreeVars(IJavaObject object, IJavaValue boundValues[]) throws DebugException {
-		if (boundValues.length != this.variableNames.size()) {
-			throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.REQUEST_FAILED, EvaluationMessages.LocalEvaluationEngine_Evaluation_failed___unable_to_initialize_local_variables__4, null));
+	private CodeSnippetInstance getInstance(IJavaThread theThread) throws DebugException {
+		if (!reuseInstances) {
+			return new CodeSnippetInstance((JDIObjectValue) newInstance(theThread));
 		}
-
-		for (int i = 0; i < boundValues.length; ++i) {
-			IJavaVariable field = object.getField(new String(LOCAL_VAR_PREFIX) + this.variableNames.get(i), false);
-			if (field != null) {
-				IJavaValue bound = boundValues[i];
-				field.setValue(bound);
-			} else {
-				// System.out.print(Arrays.asList(((IJavaReferenceType) object.getJavaType()).getAllFieldNames()));
-				throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.REQUEST_FAILED, EvaluationMessages.LocalEvaluationEngine_Evaluation_failed___unable_to_initialize_local_variables__4, null));
+		synchronized (this) {
+			CodeSnippetInstance instance = null;
+			if (loadedTarget == theThread.getDebugTarget()) {
+				instance = instances.get(theThread);
 			}
+			if (instance == null) {
+				JDIObjectValue object = (JDIObjectValue) newInstance(theThread);
+				object.disableCollection();
+				instance = new CodeSnippetInstance(object);
+				// release the instances of the threads that ended
+				Iterator<Map.Entry<IJavaThread, CodeSnippetInstance>> iter = instances.entrySet().iterator();
+				while (iter.hasNext()) {
+					Map.Entry<IJavaThread, CodeSnippetInstance> entry = iter.next();
+					if (entry.getKey().isTerminated()) {
+						iter.remove();
+						try {
+							entry.getValue().object.enableCollection();
+						} catch (DebugException e) {
+							JDIDebugPlugin.log(e);
+						}
+					}
+				}
+				instances.put(theThread, instance);
+			}
+			return instance;
 		}
 	}
 
@@ -296,26 +344,15 @@ public class RemoteEvaluator {
 	}
 
 	public IJavaValue evaluate(IJavaThread theThread, IJavaValue[] args) throws DebugException {
-		IJavaObject codeSnippetInstance = null;
 		IJavaDebugTarget debugTarget = ((IJavaDebugTarget) theThread.getDebugTarget());
 		try {
-			codeSnippetInstance = newInstance(theThread);
-			initializeFreeVars(codeSnippetInstance, args);
-			codeSnippetInstance.sendMessage(ICodeSnippetRequestor.RUN_METHOD, "()V", null, theThread, false); //$NON-NLS-1$
+			CodeSnippetInstance codeSnippetInstance = getInstance(theThread);
+			codeSnippetInstance.initializeFreeVars(args);
+			codeSnippetInstance.object.sendMessage(ICodeSnippetRequestor.RUN_METHOD, "()V", null, theThread, false); //$NON-NLS-1$
 
 			// now retrieve the description of the result
-			IVariable[] fields = codeSnippetInstance.getVariables();
-			IJavaVariable resultValue = null;
-			IJavaVariable resultType = null;
-			for (IVariable field : fields) {
-				if (field.getName().equals(ICodeSnippetRequestor.RESULT_TYPE_FIELD)) {
-					resultType = (IJavaVariable) field;
-				}
-				if (field.getName().equals(ICodeSnippetRequestor.RESULT_VALUE_FIELD)) {
-					resultValue = (IJavaVariable) field;
-				}
-			}
-			IJavaValue result = convertResult(debugTarget, (IJavaClassObject) resultType.getValue(), (IJavaValue) resultValue.getValue());
+			IJavaValue[] resultFields = codeSnippetInstance.object.getFieldValues(codeSnippetInstance.resultFields);
+			IJavaValue result = convertResult(debugTarget, (IJavaClassObject) resultFields[0], resultFields[1]);
 			return result;
 		} catch (DebugException e) {
 			Throwable underlyingException = e.getStatus().getException();
@@ -338,6 +375,18 @@ public class RemoteEvaluator {
 		}
 	}
 
+	/**
+	 * Returns whether the code snippet classes of this evaluator have been
+	 * loaded in the given target by an evaluation.
+	 *
+	 * @param target
+	 *            the debug target
+	 * @return whether the classes are loaded in the target
+	 */
+	public synchronized boolean isLoaded(IJavaDebugTarget target) {
+		return loadedClass != null && loadedTarget == target;
+	}
+
 	public int getVariableCount() {
 		return this.variableNames.size();
 	}
@@ -345,4 +394,61 @@ public class RemoteEvaluator {
 	public String getVariableName(int i) {
 		return this.variableNames.get(i);
 	}
+
+	/**
+	 * An instance of the code snippet class, along with the fields that pass
+	 * the free variables and the result of the snippet, looked up once so
+	 * that an evaluation sets and reads them with a round trip each.
+	 */
+	private class CodeSnippetInstance {
+
+		final JDIObjectValue object;
+
+		/**
+		 * The place-holders for free variables and 'this' in the current
+		 * stack frame, in the order of the variable names.
+		 */
+		private final IJavaFieldVariable[] freeVars;
+
+		/**
+		 * The fields holding the type and the value of the result.
+		 */
+		final IJavaFieldVariable[] resultFields = new IJavaFieldVariable[2];
+
+		CodeSnippetInstance(JDIObjectValue object) throws DebugException {
+			this.object = object;
+			this.freeVars = new IJavaFieldVariable[variableNames.size()];
+			for (int i = 0; i < freeVars.length; ++i) {
+				freeVars[i] = object.getField(new String(LOCAL_VAR_PREFIX) + variableNames.get(i), false);
+				if (freeVars[i] == null) {
+					throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.REQUEST_FAILED, EvaluationMessages.LocalEvaluationEngine_Evaluation_failed___unable_to_initialize_local_variables__4, null));
+				}
+			}
+			for (IVariable field : object.getVariables()) {
+				if (field.getName().equals(ICodeSnippetRequestor.RESULT_TYPE_FIELD)) {
+					resultFields[0] = (IJavaFieldVariable) field;
+				}
+				if (field.getName().equals(ICodeSnippetRequestor.RESULT_VALUE_FIELD)) {
+					resultFields[1] = (IJavaFieldVariable) field;
+				}
+			}
+		}
+
+		/**
+		 * Initializes the value of the place-holders for free variables and
+		 * 'this' in the current stack frame.
+		 *
+		 * @param boundValues
+		 *            popped values which should be injected into the code
+		 *            snippet object.
+		 * @exception DebugException
+		 *                if an exception is thrown accessing the object
+		 */
+		void initializeFreeVars(IJavaValue boundValues[]) throws DebugException {
+			if (boundValues.length != freeVars.length) {
+				throw new DebugException(new Status(IStatus.ERROR, JDIDebugModel.getPluginIdentifier(), DebugException.REQUEST_FAILED, EvaluationMessages.LocalEvaluationEngine_Evaluation_failed___unable_to_initialize_local_variables__4, null));
+			}
+			object.setFieldValues(freeVars, boundValues);
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Jesper Steen Møller and others.
+ * Copyright (c) 2019, 2026 Jesper Steen Møller and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -64,6 +64,12 @@ public class RemoteEvaluatorBuilder {
 	private String snippet = null;
 	private final ITypeBinding enclosingClass;
 
+	/**
+	 * Whether the snippet is an expression compiled as a whole, which does not
+	 * return closures over the code snippet instance
+	 */
+	private boolean isExpression = false;
+
 	public RemoteEvaluatorBuilder(IJavaProject javaProject, ExpressionBinder binder, ITypeBinding enclosingClass, boolean isStatic, boolean isConstructor) {
 		this.javaProject = javaProject;
 		this.binder = binder;
@@ -86,6 +92,19 @@ public class RemoteEvaluatorBuilder {
 		acceptFunctionalExpression(node, expectedResult);
 	}
 
+	/**
+	 * Accepts an expression to be compiled as a whole, such as a breakpoint
+	 * condition, rather than interpreted.
+	 *
+	 * @param node
+	 *            the expression
+	 * @param expectedResult
+	 *            the type of the expression
+	 */
+	public void acceptExpression(Expression node, ITypeBinding expectedResult) {
+		acceptFunctionalExpression(node, expectedResult);
+		isExpression = true;
+	}
 
 	private void acceptFunctionalExpression(Expression node, ITypeBinding expectedResult) {
 		FunctionalEvalVisitor visitor = new FunctionalEvalVisitor();
@@ -149,7 +168,7 @@ public class RemoteEvaluatorBuilder {
 			throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), errors.toString()));
 		}
 
-		return new RemoteEvaluator(classFiles, codeSnippetClassName, getVariableNames(), enclosingType.getFullyQualifiedName('$'));
+		return new RemoteEvaluator(classFiles, codeSnippetClassName, getVariableNames(), enclosingType.getFullyQualifiedName('$'), isExpression);
 	}
 
 	private void setCodeSnippetClassName(String codeSnippetClassName) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,10 @@ import org.eclipse.debug.core.IDebugEventFilter;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.Signature;
@@ -52,6 +56,7 @@ import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaArrayType;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
@@ -89,6 +94,18 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 	private IJavaDebugTarget fDebugTarget;
 
+	/**
+	 * Expressions compiled by this engine, see
+	 * {@link #getCompiledExpressionCache()}.
+	 */
+	private final CompiledExpressionCache fExpressionCache = new CompiledExpressionCache();
+
+	/**
+	 * Clears the expression cache when classes are redefined or the class
+	 * path changes, or <code>null</code> while nothing is cached.
+	 */
+	private CacheInvalidator fCacheInvalidator;
+
 	/**
 	 * Regex to find occurrences of 'this' in a code snippet
 	 */
@@ -132,6 +149,9 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	}
 
 	public void setJavaProject(IJavaProject project) {
+		if (fProject != null && !fProject.equals(project)) {
+			fExpressionCache.clear();
+		}
 		fProject = project;
 	}
 
@@ -251,6 +271,46 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 				hitBreakpoints);
 	}
 
+	/**
+	 * Evaluates the given expression in the given frame, in the calling thread,
+	 * if the expression is side-effect free. Such expressions, like
+	 * comparisons of local variables and fields with literals, only read
+	 * values of the target and are evaluated without queueing an evaluation in
+	 * the thread of the frame and without resuming it, which makes this much
+	 * cheaper than {@link #evaluateExpression(ICompiledExpression, IJavaStackFrame, IEvaluationListener, int, boolean)}
+	 * for expressions evaluated very often, such as breakpoint conditions.
+	 * <p>
+	 * The thread of the frame must be suspended.
+	 * </p>
+	 *
+	 * @param expression
+	 *            the expression to evaluate
+	 * @param frame
+	 *            the frame to evaluate the expression in
+	 * @return Returns the value of the expression, or <code>null</code> if the
+	 *         expression is not side-effect free or its evaluation failed, in
+	 *         which case it must be evaluated with
+	 *         {@link #evaluateExpression(ICompiledExpression, IJavaStackFrame, IEvaluationListener, int, boolean)}
+	 *         to report the failure
+	 */
+	public IJavaValue evaluateWithoutInvocations(ICompiledExpression expression, IJavaStackFrame frame) {
+		if (!(expression instanceof InstructionSequence) || expression.hasErrors()
+				|| !((InstructionSequence) expression).isSideEffectFree()) {
+			return null;
+		}
+		Interpreter interpreter = new Interpreter((InstructionSequence) expression,
+				new RuntimeContext(getJavaProject(), frame));
+		try {
+			interpreter.executeWithoutInvocations();
+		} catch (CoreException e) {
+			if (JDIDebugOptions.DEBUG_AST_EVAL) {
+				JDIDebugOptions.trace("\tEvaluation without invocations failed: " + e.getMessage()); //$NON-NLS-1$
+			}
+			return null;
+		}
+		return interpreter.getResult();
+	}
+
 	/**
 	 * Evaluates the given expression in the given thread and the given runtime
 	 * context.
@@ -295,11 +355,41 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	@Override
 	public ICompiledExpression getCompiledExpression(String snippet,
 			IJavaStackFrame frame) {
+		return getCompiledExpression(snippet, frame, false);
+	}
+
+	/**
+	 * Returns a compiled expression for the given snippet in the context of
+	 * the given frame, where the expressions returned by the snippet are
+	 * compiled into a class that is injected in the target and run there by a
+	 * single method invocation. This is worthwhile for expressions that are
+	 * evaluated often and make several method calls or object creations, like
+	 * some breakpoint conditions, as the interpreter runs each of them with
+	 * its own invocation in the target.
+	 * <p>
+	 * Snippets that cannot be compiled this way, for instance because they
+	 * refer to local types, return an expression with errors.
+	 * </p>
+	 *
+	 * @param snippet
+	 *            the code snippet to compile
+	 * @param frame
+	 *            the stack frame providing the context of the snippet
+	 * @return the compiled expression
+	 */
+	public ICompiledExpression getInjectedCompiledExpression(String snippet,
+			IJavaStackFrame frame) {
+		return getCompiledExpression(snippet, frame, true);
+	}
+
+	private ICompiledExpression getCompiledExpression(String snippet,
+			IJavaStackFrame frame, boolean inject) {
 		IJavaProject javaProject = getJavaProject();
 		RuntimeContext context = new RuntimeContext(javaProject, frame);
 
 		EvaluationSourceGenerator mapper = null;
 		CompilationUnit unit = null;
+		CompiledExpressionCache.Key key;
 		try {
 			List<IJavaVariable> localsVar = new ArrayList<>();
 			localsVar.addAll(Arrays.asList(context.getLocals()));
@@ -393,9 +483,18 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 				extraOptions = Collections.singletonMap(CompilerOptions.OPTION_JdtDebugCompileMode, JavaCore.ENABLED);
 			}
 
+			int lineNumber = frame.getLineNumber();
+			boolean isStatic = frame.isStatic();
+			key = new CompiledExpressionCache.Key(snippet, receivingType.getSignature(), extraOptions,
+					localVariables, localTypesNames, Integer.valueOf(lineNumber), Boolean.valueOf(isStatic), Boolean.valueOf(inject));
+			ICompiledExpression cached = fExpressionCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
+
 			unit = parseCompilationUnit(
-					mapper.getSource(receivingType, frame.getLineNumber(), javaProject,
-							frame.isStatic()).toCharArray(),
+					mapper.getSource(receivingType, lineNumber, javaProject,
+							isStatic).toCharArray(),
 					mapper.getCompilationUnitName(), javaProject, extraOptions);
 		} catch (CoreException e) {
 			InstructionSequence expression = new InstructionSequence(snippet);
@@ -403,7 +502,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			return expression;
 		}
 
-		return createExpressionFromAST(snippet, mapper, unit);
+		return cache(key, createExpressionFromAST(snippet, mapper, unit, inject));
 	}
 
 	private IVariable[] extractVariables(IJavaObject thisClass) throws DebugException {
@@ -526,7 +625,13 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			IJavaArrayType arrayType) {
 		EvaluationSourceGenerator mapper = null;
 		CompilationUnit unit = null;
+		CompiledExpressionCache.Key key;
 		try {
+			key = new CompiledExpressionCache.Key(snippet, arrayType.getSignature(), null, IJavaArrayType.class.getName());
+			ICompiledExpression cached = fExpressionCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
 			IJavaProject javaProject = getJavaProject();
 			// replace all occurrences of 'this' with '_a_t'
 			String newSnippet = replaceThisReferences(snippet);
@@ -585,7 +690,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			return expression;
 		}
 
-		return createExpressionFromAST(snippet, mapper, unit);
+		return cache(key, createExpressionFromAST(snippet, mapper, unit));
 	}
 
 	/*
@@ -636,11 +741,17 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 		EvaluationSourceGenerator mapper = null;
 		CompilationUnit unit = null;
+		CompiledExpressionCache.Key key;
 
 		mapper = new EvaluationSourceGenerator(new String[0], new String[0],
 				snippet, getJavaProject());
 
 		try {
+			key = new CompiledExpressionCache.Key(snippet, type.getSignature(), compileOptions);
+			ICompiledExpression cached = fExpressionCache.get(key);
+			if (cached != null) {
+				return cached;
+			}
 			unit = parseCompilationUnit(
 					mapper.getSource(type, -1, javaProject, false).toCharArray(),
 					mapper.getCompilationUnitName(), javaProject, compileOptions);
@@ -649,7 +760,41 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			expression.addError(e.getStatus().getMessage());
 			return expression;
 		}
-		return createExpressionFromAST(snippet, mapper, unit);
+		return cache(key, createExpressionFromAST(snippet, mapper, unit));
+	}
+
+	/**
+	 * Caches the given newly compiled expression under the given key. The
+	 * cached expression is never evaluated itself, every caller gets a copy.
+	 *
+	 * @return a copy of the expression
+	 */
+	private ICompiledExpression cache(CompiledExpressionCache.Key key, ICompiledExpression expression) {
+		if (expression instanceof InstructionSequence) {
+			synchronized (fExpressionCache) {
+				if (fCacheInvalidator == null) {
+					fCacheInvalidator = new CacheInvalidator();
+					fCacheInvalidator.install();
+				}
+			}
+			InstructionSequence sequence = (InstructionSequence) expression;
+			fExpressionCache.put(key, sequence);
+			return sequence.copy();
+		}
+		return expression;
+	}
+
+	/**
+	 * Returns the cache of the expressions compiled by this engine. Compiling
+	 * a snippet that was compiled before in the same context returns a copy
+	 * of the cached expression. The cache is cleared when classes are
+	 * redefined in the debug target or the class path or sources of the
+	 * project change.
+	 *
+	 * @return the compiled expression cache
+	 */
+	public CompiledExpressionCache getCompiledExpressionCache() {
+		return fExpressionCache;
 	}
 
 	/**
@@ -665,6 +810,25 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 */
 	private ICompiledExpression createExpressionFromAST(String snippet,
 			EvaluationSourceGenerator mapper, CompilationUnit unit) {
+		return createExpressionFromAST(snippet, mapper, unit, false);
+	}
+
+	/**
+	 * Creates a compiled expression for the given snippet using the given
+	 * mapper and compilation unit (AST).
+	 *
+	 * @param snippet
+	 *            the code snippet to be compiled
+	 * @param mapper
+	 *            the object which will be used to create the expression
+	 * @param unit
+	 *            the compilation unit (AST) generated for the snippet
+	 * @param inject
+	 *            whether returned expressions are compiled into a class
+	 *            injected in the target
+	 */
+	private ICompiledExpression createExpressionFromAST(String snippet,
+			EvaluationSourceGenerator mapper, CompilationUnit unit, boolean inject) {
 		IProblem[] problems = unit.getProblems();
 		if (problems.length != 0) {
 			boolean snippetError = false;
@@ -714,6 +878,7 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 
 		ASTInstructionCompiler visitor = new ASTInstructionCompiler(
 				mapper.getSnippetStart(), snippet, getJavaProject());
+		visitor.setInjectExpressions(inject);
 		unit.accept(visitor);
 
 		return visitor.getInstructions();
@@ -746,6 +911,89 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 	 */
 	@Override
 	public void dispose() {
+		synchronized (fExpressionCache) {
+			if (fCacheInvalidator != null) {
+				fCacheInvalidator.uninstall();
+				fCacheInvalidator = null;
+			}
+		}
+		fExpressionCache.clear();
+	}
+
+	/**
+	 * Clears the expression cache when classes are redefined in the debug
+	 * target, or when the class path or a compilation unit of the project
+	 * changes.
+	 */
+	private class CacheInvalidator implements IJavaHotCodeReplaceListener, IElementChangedListener {
+
+		private final IJavaDebugTarget fTarget = getDebugTarget();
+
+		void install() {
+			if (fTarget != null) {
+				fTarget.addHotCodeReplaceListener(this);
+			}
+			JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
+		}
+
+		void uninstall() {
+			if (fTarget != null) {
+				fTarget.removeHotCodeReplaceListener(this);
+			}
+			JavaCore.removeElementChangedListener(this);
+		}
+
+		@Override
+		public void hotCodeReplaceSucceeded(IJavaDebugTarget target) {
+			fExpressionCache.clear();
+		}
+
+		@Override
+		public void hotCodeReplaceFailed(IJavaDebugTarget target, DebugException exception) {
+			// some classes may have been redefined
+			fExpressionCache.clear();
+		}
+
+		@Override
+		public void obsoleteMethods(IJavaDebugTarget target) {
+		}
+
+		@Override
+		public void elementChanged(ElementChangedEvent event) {
+			IJavaProject project = getJavaProject();
+			if (project == null) {
+				return;
+			}
+			for (IJavaElementDelta delta : event.getDelta().getAffectedChildren()) {
+				if (project.equals(delta.getElement()) && affectsExpressions(delta)) {
+					fExpressionCache.clear();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Returns whether the given delta changes the class path or the
+		 * sources expressions are compiled against.
+		 */
+		private boolean affectsExpressions(IJavaElementDelta delta) {
+			int flags = delta.getFlags();
+			if (delta.getKind() != IJavaElementDelta.CHANGED
+					|| (flags & (IJavaElementDelta.F_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED
+							| IJavaElementDelta.F_CLOSED)) != 0) {
+				return true;
+			}
+			if (delta.getElement() instanceof ICompilationUnit) {
+				return (flags & IJavaElementDelta.F_PRIMARY_RESOURCE) != 0;
+			}
+			for (IJavaElementDelta child : delta.getAffectedChildren()) {
+				if (affectsExpressions(child)) {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 	class EvalRunnable implements Runnable {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -161,6 +161,12 @@ public class ASTInstructionCompiler extends ASTVisitor {
 
 	private final IJavaProject fJavaProject;
 
+	/**
+	 * Whether returned expressions are compiled into a class injected in the
+	 * target
+	 */
+	private boolean fInjectExpressions;
+
 	/**
 	 * Create a new AST instruction compiler
 	 */
@@ -172,6 +178,18 @@ public class ASTInstructionCompiler extends ASTVisitor {
 		fJavaProject = javaProject;
 	}
 
+	/**
+	 * Sets whether the expressions returned by the snippet, like the
+	 * expression of a snippet that is a single expression, are compiled into
+	 * a class that is injected in the target and run there, rather than into
+	 * instructions that are interpreted. Injected expressions are evaluated
+	 * with a constant number of method invocations, whatever their
+	 * complexity.
+	 */
+	public void setInjectExpressions(boolean inject) {
+		fInjectExpressions = inject;
+	}
+
 	/**
 	 * Returns the instruction sequence generated by this AST instruction
 	 * compiler
@@ -3076,8 +3094,9 @@ public class ASTInstructionCompiler extends ASTVisitor {
 				addPopInstruction();
 			}
 		} else {
+			boolean stringReceiver = "java.lang.String".equals(methodBinding.getDeclaringClass().getQualifiedName()); //$NON-NLS-1$
 			push(new SendMessage(selector, signature, paramCount, null,
-					fCounter));
+					stringReceiver, fCounter));
 			if (expression == null) {
 				push(new PushThis(getEnclosingLevel(node,
 						methodBinding.getDeclaringClass())));
@@ -3744,6 +3763,20 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 		push(new ReturnInstruction(fCounter));
+		Expression expression = node.getExpression();
+		if (fInjectExpressions && expression != null) {
+			try {
+				RemoteEvaluatorBuilder builder = makeBuilder(expression);
+				builder.acceptExpression(expression, expression.resolveTypeBinding());
+				RemoteEvaluator remoteEvaluator = builder.build();
+				push(new RemoteOperator(builder.getSnippet(), expression.getStartPosition(), remoteEvaluator));
+				storeInstruction();
+			} catch (JavaModelException | DebugException e) {
+				addErrorMessage(e.getMessage());
+				setHasError(true);
+			}
+			return false;
+		}
 		return true;
 	}
 
@@ -4109,7 +4142,7 @@ public class ASTInstructionCompiler extends ASTVisitor {
 					if (node.getAST().apiLevel() >= AST.JLS14) {
 						for (Object expression : switchCase.expressions()) {
 							if (expression instanceof StringLiteral || expression instanceof TextBlock) {
-								push(new SendMessage("equals", "(Ljava/lang/Object;)Z", 1, null, fCounter)); //$NON-NLS-1$ //$NON-NLS-2$
+								push(new SendMessage("equals", "(Ljava/lang/Object;)Z", 1, null, true, fCounter)); //$NON-NLS-1$ //$NON-NLS-2$
 							} else {
 								push(new EqualEqualOperator(Instruction.T_int, Instruction.T_int, true, fCounter));
 							}
@@ -4120,7 +4153,7 @@ public class ASTInstructionCompiler extends ASTVisitor {
 						}
 					} else {
 						if (switchCase.getExpression() instanceof StringLiteral || switchCase.getExpression() instanceof TextBlock) {
-							push(new SendMessage("equals", "(Ljava/lang/Object;)Z", 1, null, fCounter)); //$NON-NLS-1$ //$NON-NLS-2$
+							push(new SendMessage("equals", "(Ljava/lang/Object;)Z", 1, null, true, fCounter)); //$NON-NLS-1$ //$NON-NLS-2$
 						} else {
 							push(new EqualEqualOperator(Instruction.T_int, Instruction.T_int, true, fCounter));
 						}
@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
+
+/**
+ * A bounded cache of the expressions compiled by an {@link ASTEvaluationEngine},
+ * evicting the least recently used expression when full. Expressions are
+ * cached by snippet, by the signature of the type they are compiled in and
+ * by whatever else the generated source depends on, such as the compile
+ * options or the visible local variables.
+ * <p>
+ * Instructions refer to the interpreter executing them, so a compiled
+ * expression must not be evaluated by several threads at once. The cache
+ * therefore returns a copy of the cached expression on each hit.
+ * </p>
+ */
+public class CompiledExpressionCache {
+
+	/** Default maximum number of cached expressions. */
+	public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+	/**
+	 * Cached expressions by key, least recently used first. Access is guarded
+	 * by the cache.
+	 */
+	private final LinkedHashMap<Key, InstructionSequence> fExpressions = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int fMaximumSize;
+	private long fHits;
+	private long fMisses;
+	private long fEvictions;
+	private long fInvalidations;
+
+	/**
+	 * Creates a cache holding at most {@link #DEFAULT_MAXIMUM_SIZE}
+	 * expressions.
+	 */
+	public CompiledExpressionCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	/**
+	 * Creates a cache holding at most the given number of expressions.
+	 */
+	public CompiledExpressionCache(int maximumSize) {
+		setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * Returns a copy of the expression cached under the given key.
+	 *
+	 * @return Returns the expression, or <code>null</code> if none is cached
+	 */
+	public synchronized InstructionSequence get(Key key) {
+		InstructionSequence expression = fExpressions.get(key);
+		if (expression == null) {
+			fMisses++;
+			return null;
+		}
+		fHits++;
+		return expression.copy();
+	}
+
+	/**
+	 * Caches the given expression under the given key. The expression must
+	 * not be modified afterwards.
+	 */
+	public synchronized void put(Key key, InstructionSequence expression) {
+		fExpressions.put(key, expression);
+		evict();
+	}
+
+	/**
+	 * Removes all cached expressions, for instance because the classes or the
+	 * class path they were compiled against have changed.
+	 */
+	public synchronized void clear() {
+		if (!fExpressions.isEmpty()) {
+			fExpressions.clear();
+			fInvalidations++;
+		}
+	}
+
+	/**
+	 * @return Returns the number of cached expressions.
+	 */
+	public synchronized int size() {
+		return fExpressions.size();
+	}
+
+	/**
+	 * Sets the maximum number of cached expressions, evicting the excess.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of expressions, must be positive
+	 */
+	public synchronized void setMaximumSize(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		fMaximumSize = maximumSize;
+		evict();
+	}
+
+	/**
+	 * @return Returns the maximum number of cached expressions.
+	 */
+	public synchronized int getMaximumSize() {
+		return fMaximumSize;
+	}
+
+	/**
+	 * @return Returns the number of lookups that found a cached expression.
+	 */
+	public synchronized long getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * @return Returns the number of lookups that did not find a cached
+	 *         expression.
+	 */
+	public synchronized long getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * @return Returns the number of expressions evicted because the cache was
+	 *         full.
+	 */
+	public synchronized long getEvictionCount() {
+		return fEvictions;
+	}
+
+	/**
+	 * @return Returns the number of times the cache was cleared while it held
+	 *         expressions.
+	 */
+	public synchronized long getInvalidationCount() {
+		return fInvalidations;
+	}
+
+	/**
+	 * Resets the hit, miss, eviction and invalidation counters.
+	 */
+	public synchronized void resetStatistics() {
+		fHits = 0;
+		fMisses = 0;
+		fEvictions = 0;
+		fInvalidations = 0;
+	}
+
+	private void evict() {
+		Iterator<Key> keys = fExpressions.keySet().iterator();
+		while (fExpressions.size() > fMaximumSize && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+			fEvictions++;
+		}
+	}
+
+	/**
+	 * Identifies a compiled expression: the snippet, the signature of the
+	 * type it is compiled in, the compile options and any further values the
+	 * source generated for the snippet depends on.
+	 */
+	public static final class Key {
+
+		private final String fSnippet;
+		private final String fTypeSignature;
+		private final Map<String, String> fOptions;
+		private final Object[] fContext;
+		private final int fHashCode;
+
+		/**
+		 * Creates a key.
+		 *
+		 * @param snippet
+		 *            the snippet
+		 * @param typeSignature
+		 *            signature of the type the snippet is compiled in
+		 * @param options
+		 *            compile options overriding those of the project
+		 * @param context
+		 *            further values the compiled expression depends on, such
+		 *            as the names and types of local variables
+		 */
+		public Key(String snippet, String typeSignature, Map<String, String> options, Object... context) {
+			fSnippet = snippet;
+			fTypeSignature = typeSignature;
+			fOptions = options == null || options.isEmpty() ? Map.of() : Map.copyOf(options);
+			fContext = context;
+			fHashCode = Objects.hash(fSnippet, fTypeSignature, fOptions, Integer.valueOf(Arrays.deepHashCode(fContext)));
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return fHashCode == other.fHashCode
+					&& Objects.equals(fSnippet, other.fSnippet)
+					&& Objects.equals(fTypeSignature, other.fTypeSignature)
+					&& fOptions.equals(other.fOptions)
+					&& Arrays.deepEquals(fContext, other.fContext);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+	}
+}
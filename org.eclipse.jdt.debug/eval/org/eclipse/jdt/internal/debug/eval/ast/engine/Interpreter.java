@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,14 @@
 package org.eclipse.jdt.internal.debug.eval.ast.engine;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -30,6 +33,8 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
@@ -39,35 +44,69 @@ public class Interpreter {
 	private final Instruction[] fInstructions;
 	private int fInstructionCounter;
 	private final IRuntimeContext fContext;
-	private Stack<Object> fStack;
+
+	/**
+	 * The operand stack, its top at <code>fStackSize - 1</code>. Kept between
+	 * executions so evaluating an expression again does not allocate.
+	 */
+	private Object[] fStack = new Object[16];
+	private int fStackSize;
 	private IJavaValue fLastValue;
 
+	/**
+	 * Values of the booleans and of small integers, by value, created on
+	 * first use. Primitive values are immutable, so the arithmetic and
+	 * compare instructions share them rather than mirroring a new value for
+	 * each result.
+	 */
+	private IJavaValue[] fBooleanValues;
+	private IJavaValue[] fIntValues;
+	private static final int INT_CACHE_LOW = -128;
+	private static final int INT_CACHE_HIGH = 127;
+
 	/**
 	 * The list of internal variables
 	 */
 	private final Map<String, IVariable> fInternalVariables;
 
 	/**
-	 * List of objects for which GC has been disabled
+	 * Objects for which GC has been disabled
 	 */
-	private List<IJavaObject> fPermStorage = null;
+	private Set<IJavaObject> fPermStorage = null;
+
+	/**
+	 * Number of requests to disable and enable GC of objects that were not
+	 * needed, by all interpreters
+	 */
+	private static final AtomicLong fgAvoidedPins = new AtomicLong();
 
 	private boolean fStopped = false;
 
+	/**
+	 * Whether instructions may invoke methods in the target
+	 */
+	private boolean fCanInvokeMethods = true;
+
+	/**
+	 * Creates an interpreter of the given instructions. Compiled expressions
+	 * are shared and may be evaluated by several threads at once, so the
+	 * interpreter executes its own copy of the instructions, bound to it.
+	 */
 	public Interpreter(InstructionSequence instructions, IRuntimeContext context) {
-		fInstructions = instructions.getInstructions();
+		fInstructions = instructions.copy().getInstructions();
 		fContext = context;
 		fInternalVariables = new HashMap<>();
+		for (Instruction instruction : fInstructions) {
+			instruction.setInterpreter(this);
+		}
 	}
 
 	public void execute(boolean disableGcOnResult) throws CoreException {
+		Instruction[] instructions = fInstructions;
 		try {
 			reset();
-			while (fInstructionCounter < fInstructions.length && !fStopped) {
-				Instruction instruction = fInstructions[fInstructionCounter++];
-				instruction.setInterpreter(this);
-				instruction.execute();
-				instruction.setInterpreter(null);
+			while (fInstructionCounter < instructions.length && !fStopped) {
+				instructions[fInstructionCounter++].execute();
 			}
 		} catch (CoreException e) {
 			throw e;
@@ -79,12 +118,41 @@ public class Interpreter {
 		}
 	}
 
+	/**
+	 * Executes the instructions in the calling thread without invoking
+	 * methods in the target, so the thread executing the instructions is not
+	 * resumed. Instructions that need to invoke a method fail instead. This is
+	 * meant for expressions of {@link Instruction#isSideEffectFree()
+	 * side-effect free} instructions, which can be evaluated without
+	 * {@link org.eclipse.jdt.debug.core.IJavaThread#runEvaluation running an
+	 * evaluation} in the thread.
+	 *
+	 * @throws CoreException
+	 *             if an instruction fails, or needs to invoke a method
+	 */
+	public void executeWithoutInvocations() throws CoreException {
+		fCanInvokeMethods = false;
+		try {
+			execute(false);
+		} finally {
+			fCanInvokeMethods = true;
+		}
+	}
+
+	/**
+	 * Returns whether instructions may invoke methods in the target.
+	 */
+	public boolean canInvokeMethods() {
+		return fCanInvokeMethods;
+	}
+
 	public void stop() {
 		fStopped = true;
 	}
 
 	private void reset() {
-		fStack = new Stack<>();
+		Arrays.fill(fStack, 0, fStackSize, null);
+		fStackSize = 0;
 		fInstructionCounter = 0;
 	}
 
@@ -97,25 +165,34 @@ public class Interpreter {
 
 	/**
 	 * Pushes an object onto the stack. Disables garbage collection for any
-	 * interim object pushed onto the stack. Objects are released after the
-	 * evaluation completes.
+	 * interim object pushed onto the stack, once per evaluation. Objects are
+	 * released after the evaluation completes.
 	 */
 	public void push(Object object) {
-		fStack.push(object);
-		if (object instanceof IJavaObject) {
+		if (fStackSize == fStack.length) {
+			fStack = Arrays.copyOf(fStack, fStackSize * 2);
+		}
+		fStack[fStackSize++] = object;
+		if (object instanceof IJavaObject && !(object instanceof JDINullValue)) {
 			disableCollection((IJavaObject) object);
 		}
 	}
 
 	/**
-	 * Avoid garbage collecting interim results.
+	 * Avoid garbage collecting interim results. Garbage collection is disabled
+	 * right away, as other threads may run and the object may not be
+	 * referenced from anywhere else, like the result of a method invocation.
 	 *
 	 * @param value
 	 *            object to disable garbage collection for
 	 */
 	private void disableCollection(IJavaObject value) {
 		if (fPermStorage == null) {
-			fPermStorage = new ArrayList<>(5);
+			fPermStorage = new HashSet<>();
+		} else if (fPermStorage.contains(value)) {
+			// GC is disabled once per evaluation
+			fgAvoidedPins.addAndGet(2);
+			return;
 		}
 		try {
 			value.disableCollection();
@@ -130,23 +207,28 @@ public class Interpreter {
 	}
 
 	/**
-	 * Re-enable garbage collection if interim results.
+	 * Re-enable garbage collection if interim results, with a single round
+	 * trip to the target.
 	 */
 	private void releaseObjects(boolean disableGcOnResult) {
+		IJavaValue result = getResult();
 		if (fPermStorage != null) {
-			IJavaValue result = getResult();
-			Iterator<IJavaObject> iterator = fPermStorage.iterator();
-			while (iterator.hasNext()) {
-				IJavaObject object = iterator.next();
-				try {
-					if (!disableGcOnResult || object != result) {
-						object.enableCollection();
+			List<JDIObjectValue> objects = new ArrayList<>(fPermStorage.size());
+			try {
+				for (IJavaObject object : fPermStorage) {
+					if (disableGcOnResult && object.equals(result)) {
+						continue;
 					}
-				} catch (CoreException e) {
-					// don't worry about GC if the VM has terminated
-					if ((e.getStatus().getException() instanceof VMDisconnectedException)) {
-						break;
+					if (object instanceof JDIObjectValue) {
+						objects.add((JDIObjectValue) object);
+					} else {
+						object.enableCollection();
 					}
+				}
+				JDIObjectValue.enableCollection(objects);
+			} catch (CoreException e) {
+				// don't worry about GC if the VM has terminated
+				if (!(e.getStatus().getException() instanceof VMDisconnectedException)) {
 					JDIDebugPlugin.log(e);
 				}
 			}
@@ -154,18 +236,74 @@ public class Interpreter {
 		}
 	}
 
+	/**
+	 * Returns the number of requests to disable or enable garbage collection
+	 * of objects that interpreters avoided, because the objects were
+	 * pushed several times in an evaluation.
+	 *
+	 * @return Returns the number of avoided requests.
+	 */
+	public static long getAvoidedPinCount() {
+		return fgAvoidedPins.get();
+	}
+
 	/**
 	 * Peeks at the top object of the stack
 	 */
 	public Object peek() {
-		return fStack.peek();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		return fStack[fStackSize - 1];
 	}
 
 	/**
 	 * Pops an object off of the stack
 	 */
 	public Object pop() {
-		return fStack.pop();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		Object object = fStack[--fStackSize];
+		fStack[fStackSize] = null;
+		return object;
+	}
+
+	/**
+	 * Returns the value of the given boolean in the target, shared by all the
+	 * instructions executed by this interpreter.
+	 */
+	public IJavaValue newValue(boolean value) {
+		if (fBooleanValues == null) {
+			fBooleanValues = new IJavaValue[2];
+		}
+		int index = value ? 1 : 0;
+		IJavaValue javaValue = fBooleanValues[index];
+		if (javaValue == null) {
+			javaValue = fContext.getVM().newValue(value);
+			fBooleanValues[index] = javaValue;
+		}
+		return javaValue;
+	}
+
+	/**
+	 * Returns the value of the given integer in the target. The values of
+	 * small integers are shared by all the instructions executed by this
+	 * interpreter.
+	 */
+	public IJavaValue newValue(int value) {
+		if (value < INT_CACHE_LOW || value > INT_CACHE_HIGH) {
+			return fContext.getVM().newValue(value);
+		}
+		if (fIntValues == null) {
+			fIntValues = new IJavaValue[INT_CACHE_HIGH - INT_CACHE_LOW + 1];
+		}
+		IJavaValue javaValue = fIntValues[value - INT_CACHE_LOW];
+		if (javaValue == null) {
+			javaValue = fContext.getVM().newValue(value);
+			fIntValues[value - INT_CACHE_LOW] = javaValue;
+		}
+		return javaValue;
 	}
 
 	/**
@@ -176,13 +314,13 @@ public class Interpreter {
 	}
 
 	public IJavaValue getResult() {
-		if (fStack == null || fStack.isEmpty()) {
+		if (fStackSize == 0) {
 			if (fLastValue == null) {
 				return getContext().getVM().voidValue();
 			}
 			return fLastValue;
 		}
-		Object top = fStack.peek();
+		Object top = fStack[fStackSize - 1];
 		if (top instanceof IJavaVariable) {
 			try {
 				return (IJavaValue) ((IJavaVariable) top).getValue();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -81,4 +81,9 @@ public class ArrayAccess extends ArrayInstruction {
 					"Internal error: attempt to access non-array object", null)); //$NON-NLS-1$
 		}
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -73,6 +73,13 @@ public class ArrayAllocation extends ArrayInstruction {
 		}
 	}
 
+	@Override
+	public Instruction copy() {
+		ArrayAllocation copy = (ArrayAllocation) super.copy();
+		copy.fCachedArrayTypes = null;
+		return copy;
+	}
+
 	/**
 	 * Create and populate an array.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -252,4 +252,13 @@ public abstract class BinaryOperator extends CompoundInstruction {
 		return getBinaryPromotionType(fLeftTypeId, fRightTypeId);
 	}
 
+	/**
+	 * Binary operators are side-effect free unless they assign, or
+	 * concatenate strings, which may call <code>toString()</code>.
+	 */
+	@Override
+	public boolean isSideEffectFree() {
+		return !fIsAssignmentOperator && fResultTypeId != T_String;
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,12 +34,46 @@ import org.eclipse.osgi.util.NLS;
 /**
  * Common behavior for instructions.
  */
-public abstract class Instruction {
+public abstract class Instruction implements Cloneable {
 
 	private Interpreter fInterpreter;
 
 	public abstract int getSize();
 
+	/**
+	 * Returns a copy of this instruction that can be executed independently
+	 * of it.
+	 */
+	public Instruction copy() {
+		try {
+			Instruction copy = (Instruction) clone();
+			copy.fInterpreter = null;
+			return copy;
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns whether this instruction can be executed without running code
+	 * in the target or changing its state. Such instructions only read values
+	 * or create new ones, like string literals, and can be executed by an
+	 * interpreter that does not invoke methods.
+	 *
+	 * @see Interpreter#executeWithoutInvocations()
+	 */
+	public boolean isSideEffectFree() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the interpreter executing this instruction may invoke
+	 * methods in the target.
+	 */
+	protected boolean canInvokeMethods() {
+		return fInterpreter.canInvokeMethods();
+	}
+
 	public void setInterpreter(Interpreter interpreter) {
 		fInterpreter = interpreter;
 	}
@@ -120,7 +154,7 @@ public abstract class Instruction {
 	}
 
 	protected IJavaValue newValue(boolean value) {
-		return getVM().newValue(value);
+		return fInterpreter.newValue(value);
 	}
 
 	protected void pushNewValue(byte value) {
@@ -144,7 +178,7 @@ public abstract class Instruction {
 	}
 
 	protected IJavaValue newValue(int value) {
-		return getVM().newValue(value);
+		return fInterpreter.newValue(value);
 	}
 
 	protected void pushNewValue(long value) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,52 @@ public class InstructionSequence implements ICompiledExpression {
 		fSnippet = snippet;
 	}
 
+	/**
+	 * Returns a copy of this sequence that can be evaluated independently of
+	 * it. Instructions refer to the interpreter executing them, so each
+	 * interpreter executes its own copy.
+	 */
+	public InstructionSequence copy() {
+		InstructionSequence copy = new InstructionSequence(fSnippet);
+		for (Instruction instruction : fInstructions) {
+			copy.fInstructions.add(instruction.copy());
+		}
+		copy.fErrors.addAll(fErrors);
+		return copy;
+	}
+
+	/**
+	 * Returns whether all instructions of this sequence are side-effect free,
+	 * so that it can be evaluated without invoking methods in the target.
+	 *
+	 * @see Instruction#isSideEffectFree()
+	 */
+	public boolean isSideEffectFree() {
+		for (Instruction instruction : fInstructions) {
+			if (!instruction.isSideEffectFree()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of method invocations and object creations in this
+	 * sequence, each of which the interpreter runs with its own invocation in
+	 * the target. Instructions in loops are counted once.
+	 */
+	public int getInvocationCount() {
+		int count = 0;
+		for (Instruction instruction : fInstructions) {
+			if (instruction instanceof SendMessage || instruction instanceof SendStaticMessage || instruction instanceof Constructor) {
+				if (!instruction.isSideEffectFree()) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
 	/**
 	 * Returns the runtime exception that occurred while evaluating this
 	 * expression or <code>null</code> if no exception occurred.
@@ -1,5 +1,5 @@
 /**********************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -98,6 +98,7 @@ public class InstructionsEvaluationMessages extends NLS {
 	public static String PushStaticFieldVariable_push_static_field__0__2;
 	public static String SendMessage_Attempt_to_send_a_message_to_a_non_object_value_1;
 	public static String SendMessage_send_message__0___1__2;
+	public static String SendMessage_Cannot_send_message__0__without_invoking_methods_3;
 	public static String SendStaticMessage_Cannot_send_a_static_message_to_a_non_class_type_object_1;
 	public static String SendStaticMessage_send_static_message__0___1__2;
 	public static String Instruction_No_type;
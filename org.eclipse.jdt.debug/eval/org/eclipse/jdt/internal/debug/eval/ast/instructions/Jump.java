@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,4 +38,8 @@ public class Jump extends SimpleInstruction {
 		return InstructionsEvaluationMessages.Jump_jump_1;
 	}
 
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,4 +102,9 @@ public class PushFieldVariable extends CompoundInstruction {
 		return NLS.bind(InstructionsEvaluationMessages.PushFieldVariable_push_field__0__2,
 						new String[] { fName });
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,4 +34,8 @@ public class PushInt extends SimpleInstruction {
 		return InstructionsEvaluationMessages.PushInt_push__1 + fValue;
 	}
 
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
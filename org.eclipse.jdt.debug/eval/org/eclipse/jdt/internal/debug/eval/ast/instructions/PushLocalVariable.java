@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -102,4 +102,9 @@ public class PushLocalVariable extends SimpleInstruction {
 				InstructionsEvaluationMessages.PushLocalVariable_push____0___2,
 				new String[] { getName() });
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,4 +27,9 @@ public class PushNull extends SimpleInstruction {
 	public String toString() {
 		return InstructionsEvaluationMessages.PushNull_push___null__1;
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
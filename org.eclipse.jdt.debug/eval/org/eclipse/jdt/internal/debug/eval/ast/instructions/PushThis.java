@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -61,4 +61,9 @@ public class PushThis extends SimpleInstruction {
 	public String toString() {
 		return InstructionsEvaluationMessages.PushThis_push___this__1;
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
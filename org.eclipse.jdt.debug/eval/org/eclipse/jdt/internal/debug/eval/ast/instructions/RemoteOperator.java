@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020, Jesper Steen Møller and others.
+ * Copyright (c) 2020, 2026 Jesper Steen Møller and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -44,6 +44,14 @@ public class RemoteOperator extends CompoundInstruction {
 		push(result);
 	}
 
+	/**
+	 * @return Returns the evaluator running the code of this operator in the
+	 *         target.
+	 */
+	public RemoteEvaluator getEvaluator() {
+		return fEvaluator;
+	}
+
 	@Override
 	public String toString() {
 		return InstructionsEvaluationMessages.Run_Remote_1
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,4 +35,8 @@ public class ReturnInstruction extends CompoundInstruction {
 		return InstructionsEvaluationMessages.ReturnInstruction_return;
 	}
 
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
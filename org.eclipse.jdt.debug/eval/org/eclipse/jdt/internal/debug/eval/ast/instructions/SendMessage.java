@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
@@ -33,13 +34,31 @@ public class SendMessage extends CompoundInstruction {
 	private final String fSignature;
 	private final String fDeclaringType;
 
+	/**
+	 * Whether the static type of the receiver is <code>java.lang.String</code>.
+	 */
+	private final boolean fStringReceiver;
+
 	public SendMessage(String selector, String signature, int argCount,
 			String declaringType, int start) {
+		this(selector, signature, argCount, declaringType, false, start);
+	}
+
+	/**
+	 * @param stringReceiver
+	 *            whether the static type of the receiver is
+	 *            <code>java.lang.String</code>, so that
+	 *            <code>equals(Object)</code> can be evaluated without invoking
+	 *            it
+	 */
+	public SendMessage(String selector, String signature, int argCount,
+			String declaringType, boolean stringReceiver, int start) {
 		super(start);
 		fArgCount = argCount;
 		fSelector = selector;
 		fSignature = signature;
 		fDeclaringType = declaringType;
+		fStringReceiver = stringReceiver;
 	}
 
 	@Override
@@ -57,8 +76,21 @@ public class SendMessage extends CompoundInstruction {
 		}
 
 		if (receiver instanceof IJavaObject) {
-			result = ((IJavaObject) receiver).sendMessage(fSelector,
-					fSignature, args, getContext().getThread(), fDeclaringType);
+			result = stringEquals((IJavaObject) receiver, args);
+			if (result == null) {
+				if (!canInvokeMethods()) {
+					throw new CoreException(
+							new Status(
+									IStatus.ERROR,
+									JDIDebugPlugin.getUniqueIdentifier(),
+									IStatus.OK,
+									NLS.bind(InstructionsEvaluationMessages.SendMessage_Cannot_send_message__0__without_invoking_methods_3,
+											fSelector),
+									null));
+				}
+				result = ((IJavaObject) receiver).sendMessage(fSelector,
+						fSignature, args, getContext().getThread(), fDeclaringType);
+			}
 		} else {
 			throw new CoreException(
 					new Status(
@@ -75,6 +107,53 @@ public class SendMessage extends CompoundInstruction {
 		}
 	}
 
+	/**
+	 * Compares strings locally when the message is
+	 * <code>String.equals(Object)</code>, rather than invoking the method.
+	 * <code>String</code> is final and its <code>equals</code> method has no
+	 * side effects, so the result is the same.
+	 *
+	 * @return the result of the comparison, or <code>null</code> if the
+	 *         message is not <code>String.equals(Object)</code> or the
+	 *         argument is not a reference
+	 */
+	private IJavaValue stringEquals(IJavaObject receiver, IJavaValue[] args) throws CoreException {
+		if (!isStringEquals() || receiver.isNull() || !isString(receiver)) {
+			return null;
+		}
+		IJavaValue argument = args[0];
+		if (argument.isNull()) {
+			return newValue(false);
+		}
+		if (!(argument instanceof IJavaObject)) {
+			return null;
+		}
+		if (!isString(argument)) {
+			return newValue(false);
+		}
+		return newValue(receiver.equals(argument)
+				|| receiver.getValueString().equals(argument.getValueString()));
+	}
+
+	private boolean isStringEquals() {
+		return fStringReceiver && fArgCount == 1 && "equals".equals(fSelector) //$NON-NLS-1$
+				&& "(Ljava/lang/Object;)Z".equals(fSignature); //$NON-NLS-1$
+	}
+
+	private static boolean isString(IJavaValue value) throws CoreException {
+		IJavaType type = value.getJavaType();
+		return type != null && "java.lang.String".equals(type.getName()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Only <code>equals(Object)</code> messages to a receiver known to be a
+	 * string are side-effect free.
+	 */
+	@Override
+	public boolean isSideEffectFree() {
+		return isStringEquals();
+	}
+
 	@Override
 	public String toString() {
 		return NLS.bind(InstructionsEvaluationMessages.SendMessage_send_message__0___1__2,
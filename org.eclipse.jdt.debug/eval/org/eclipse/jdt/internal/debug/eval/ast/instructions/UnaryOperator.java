@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,4 +20,9 @@ public abstract class UnaryOperator extends CompoundInstruction {
 		super(start);
 		fExpressionTypeId = expressionTypeId;
 	}
+
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2011 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -36,4 +36,8 @@ public class Value extends CompoundInstruction {
 		push(popValue());
 	}
 
+	@Override
+	public boolean isSideEffectFree() {
+		return true;
+	}
 }
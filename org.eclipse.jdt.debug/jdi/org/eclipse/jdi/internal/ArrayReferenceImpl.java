@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ArrayReference;
@@ -130,7 +131,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReader replyData = dataReader(replyPacket);
 
 			/*
 			 * NOTE: The JDWP documentation is not clear on this: it turns out
@@ -151,7 +152,9 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 			case ObjectReferenceImpl.tag:
 			case ThreadGroupReferenceImpl.tag:
 			case ThreadReferenceImpl.tag:
-				return readObjectSequence(readLength, replyData);
+				DataInputStream objectData = replyPacket.dataInStream();
+				objectData.skipBytes(5); // type and length, read above
+				return readObjectSequence(readLength, objectData);
 
 				// Primitive type.
 			case BooleanValueImpl.tag:
@@ -162,7 +165,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 			case IntegerValueImpl.tag:
 			case LongValueImpl.tag:
 			case ShortValueImpl.tag:
-				return readPrimitiveSequence(readLength, type, replyData);
+				return PrimitiveArrayValues.read(this, readLength, type, replyData);
 
 			case VoidValueImpl.tag:
 			case 0:
@@ -179,6 +182,31 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		}
 	}
 
+	/**
+	 * Gets the values starting at firstIndex and ending at firstIndex+length of
+	 * an array of primitives, as an array of their primitive type, like
+	 * <code>int[]</code> for an <code>int[]</code>, without creating a
+	 * {@link Value} per element.
+	 *
+	 * @param firstIndex the start
+	 * @param length the number of values to return, or -1 for all the values to the end
+	 * @return the values, or <code>null</code> if the components of this array are not primitives
+	 * @throws IndexOutOfBoundsException if the index is outside the bounds of the array
+	 * @see PrimitiveArrayValues#getElements()
+	 */
+	public Object getPrimitiveValues(int firstIndex, int length)
+			throws IndexOutOfBoundsException {
+		String componentSignature = ((ArrayTypeImpl) referenceType()).componentSignature();
+		if (componentSignature.charAt(0) == 'L' || componentSignature.charAt(0) == '[') {
+			return null;
+		}
+		List<Value> values = getValues(firstIndex, length);
+		if (values instanceof PrimitiveArrayValues) {
+			return ((PrimitiveArrayValues) values).getElements();
+		}
+		return null;
+	}
+
 	/**
 	 * Reads the given length of objects from the given stream
 	 * @param length the number of objects to read
@@ -198,27 +226,6 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		return elements;
 	}
 
-	/**
-	 * @param length
-	 *            the number of primitives to read
-	 * @param type
-	 *            the type
-	 * @param in
-	 *            the input stream
-	 * @return Returns sequence of values of primitive type.
-	 * @throws IOException
-	 *             if reading from the stream encounters a problem
-	 */
-	private List<Value> readPrimitiveSequence(int length, int type, DataInputStream in)
-			throws IOException {
-		List<Value> elements = new ArrayList<>(length);
-		for (int i = 0; i < length; i++) {
-			ValueImpl value = ValueImpl.readWithoutTag(this, type, in);
-			elements.add(value);
-		}
-		return elements;
-	}
-
 	/**
 	 * @return Returns the number of components in this array.
 	 */
@@ -230,7 +237,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.AR_LENGTH, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpReader replyData = dataReader(replyPacket);
 				fLength = readInt("length", replyData); //$NON-NLS-1$
 			} catch (IOException e) {
 				defaultIOExceptionHandler(e);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.AbsentInformationException;
@@ -268,6 +269,42 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 		if (ID.isNull())
 			return null;
 
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @param target the target
+	 * @param withGenericSignature if the generic signature should be read
+	 * @param in the reader
+	 * @return Reads JDWP representation and returns new instance.
+	 * @throws IOException if the read fails
+	 */
+	public static ArrayTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpArrayID ID = new JdwpArrayID(vmImpl);
+		ID.read(in);
+		if (target.fVerboseWriter != null)
+			target.fVerboseWriter.println("arrayType", ID.value()); //$NON-NLS-1$
+
+		String signature = target.readSignature("signature", in); //$NON-NLS-1$
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = target.readSignature("generic signature", in); //$NON-NLS-1$
+		}
+		if (ID.isNull())
+			return null;
+
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Returns the new or cached instance for the given ID, with the
+	 *         given signatures.
+	 */
+	private static ArrayTypeImpl mirrorWithSignature(VirtualMachineImpl vmImpl,
+			JdwpArrayID ID, String signature, String genericSignature) {
 		ArrayTypeImpl mirror = (ArrayTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new ArrayTypeImpl(vmImpl, ID);
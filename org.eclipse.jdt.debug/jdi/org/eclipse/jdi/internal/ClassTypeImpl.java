@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassNotLoadedException;
@@ -94,9 +95,9 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 		// For all classes that have this class cached as superclass, this cache
 		// must be undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType instanceof ClassTypeImpl) {
 				ClassTypeImpl classType = (ClassTypeImpl) refType;
 				if (classType.fSuperclass != null && classType.fSuperclass.equals(this)) {
@@ -363,6 +364,39 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 		if (ID.isNull())
 			return null;
 
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/*
+	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
+	 * ID is unknown a newly created ReferenceTypeImpl.
+	 */
+	public static ClassTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpClassID ID = new JdwpClassID(vmImpl);
+		ID.read(in);
+		if (target.fVerboseWriter != null)
+			target.fVerboseWriter.println("classType", ID.value()); //$NON-NLS-1$
+
+		String signature = target.readSignature("signature", in); //$NON-NLS-1$
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = target.readSignature("generic signature", in); //$NON-NLS-1$
+		}
+		if (ID.isNull())
+			return null;
+
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Returns the new or cached instance for the given ID, with the
+	 *         given signatures.
+	 */
+	private static ClassTypeImpl mirrorWithSignature(VirtualMachineImpl vmImpl,
+			JdwpClassID ID, String signature, String genericSignature) {
 		ClassTypeImpl mirror = (ClassTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new ClassTypeImpl(vmImpl, ID);
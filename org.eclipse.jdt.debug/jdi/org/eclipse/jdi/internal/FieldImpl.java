@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.Field;
@@ -196,7 +197,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 */
 	public static FieldImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFieldID ID = new JdwpFieldID(vmImpl);
@@ -207,10 +208,10 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 		if (ID.isNull())
 			return null;
 		String name = target.readString("name", in); //$NON-NLS-1$
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readSignature("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSignature("generic signature", in); //$NON-NLS-1$
 			if ("".equals(genericSignature)) { //$NON-NLS-1$
 				genericSignature = null;
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpInterfaceID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassNotPreparedException;
@@ -89,9 +90,9 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 
 		// For all reference types that have this interface cached, this cache must be
 		// undone.
-		Iterator<Object> itr = virtualMachineImpl().allCachedRefTypes();
+		Iterator<ReferenceTypeImpl> itr = virtualMachineImpl().allCachedRefTypes();
 		while (itr.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
+			ReferenceTypeImpl refType = itr.next();
 			if (refType.fInterfaces != null
 					&& refType.fInterfaces.contains(this)) {
 				refType.flushStoredJdwpResults();
@@ -260,8 +261,42 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 			return null;
 		}
 
-		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl
-				.getCachedMirror(ID);
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
+	 *         ID is unknown a newly created ReferenceTypeImpl.
+	 */
+	public static InterfaceTypeImpl readWithSignature(MirrorImpl target,
+			boolean withGenericSignature, JdwpReader in)
+			throws IOException {
+		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
+		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
+		ID.read(in);
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("interfaceType", ID.value()); //$NON-NLS-1$
+		}
+
+		String signature = target.readSignature("signature", in); //$NON-NLS-1$
+		String genericSignature = null;
+		if (withGenericSignature) {
+			genericSignature = target.readSignature("generic signature", in); //$NON-NLS-1$
+		}
+		if (ID.isNull()) {
+			return null;
+		}
+
+		return mirrorWithSignature(vmImpl, ID, signature, genericSignature);
+	}
+
+	/**
+	 * @return Returns the new or cached instance for the given ID, with the
+	 *         given signatures.
+	 */
+	private static InterfaceTypeImpl mirrorWithSignature(VirtualMachineImpl vmImpl,
+			JdwpInterfaceID ID, String signature, String genericSignature) {
+		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl.getCachedMirror(ID);
 		if (mirror == null) {
 			mirror = new InterfaceTypeImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
@@ -0,0 +1,233 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Location;
+import com.sun.jdi.Method;
+
+/**
+ * Index of the line tables of the methods of a reference type by line number
+ * in the Java stratum, so that the locations of a line are found without
+ * going through the line table of each method. Lines of other strata are
+ * looked up through the Java lines they are translated to.
+ * <p>
+ * The entries of all line tables are numbered in the order of the methods,
+ * then of the line tables, and held sorted by line in primitive arrays.
+ * </p>
+ */
+class LineIndex {
+
+	private final VirtualMachineImpl fVirtualMachine;
+
+	/**
+	 * The methods with a line table, in the order of the methods of the type.
+	 */
+	private final MethodImpl[] fMethods;
+
+	/**
+	 * Number of the first entry of the line table of each method.
+	 */
+	private final int[] fFirstEntries;
+
+	/**
+	 * Code indexes and Java lines of the line table of each method.
+	 */
+	private final long[][] fCodeIndexes;
+	private final int[][] fLines;
+
+	/**
+	 * Java line of each entry and number of the entry, sorted by line then by
+	 * number.
+	 */
+	private final int[] fSortedLines;
+	private final int[] fSortedEntries;
+
+	/**
+	 * Whether the type has methods with code.
+	 */
+	private final boolean fHasCode;
+
+	/**
+	 * Exception thrown when retrieving the line table of a method, if no
+	 * method has a line table.
+	 */
+	private final AbsentInformationException fException;
+
+	/**
+	 * Builds the index of the line tables of the given methods, retrieving the
+	 * line tables not known yet.
+	 *
+	 * @param vmImpl
+	 *            the virtual machine
+	 * @param methods
+	 *            the methods of the type
+	 */
+	LineIndex(VirtualMachineImpl vmImpl, List<Method> methods) {
+		fVirtualMachine = vmImpl;
+		List<MethodImpl> indexed = new ArrayList<>(methods.size());
+		List<long[]> codeIndexes = new ArrayList<>(methods.size());
+		List<int[]> lines = new ArrayList<>(methods.size());
+		boolean hasCode = false;
+		AbsentInformationException exception = null;
+		for (Method method : methods) {
+			MethodImpl methodImpl = (MethodImpl) method;
+			if (methodImpl.isAbstract() || methodImpl.isNative()) {
+				continue;
+			}
+			hasCode = true;
+			try {
+				long[] codeIndexTable = methodImpl.javaStratumCodeIndexTable();
+				int[] lineTable = methodImpl.javaStratumLineNumberTable();
+				if (codeIndexTable != null && lineTable != null) {
+					indexed.add(methodImpl);
+					codeIndexes.add(codeIndexTable);
+					lines.add(lineTable);
+				}
+			} catch (AbsentInformationException e) {
+				exception = e;
+			}
+		}
+		fHasCode = hasCode;
+		fException = indexed.isEmpty() ? exception : null;
+		fMethods = indexed.toArray(new MethodImpl[indexed.size()]);
+		fCodeIndexes = codeIndexes.toArray(new long[indexed.size()][]);
+		fLines = lines.toArray(new int[indexed.size()][]);
+		fFirstEntries = new int[fMethods.length];
+		int count = 0;
+		for (int i = 0; i < fMethods.length; i++) {
+			fFirstEntries[i] = count;
+			count += fLines[i].length;
+		}
+		// sort the entries by line, then by number, as one key each
+		long[] keys = new long[count];
+		int entry = 0;
+		for (int[] lineTable : fLines) {
+			for (int line : lineTable) {
+				keys[entry] = ((long) line << 32) | entry;
+				entry++;
+			}
+		}
+		Arrays.sort(keys);
+		fSortedLines = new int[count];
+		fSortedEntries = new int[count];
+		for (int i = 0; i < count; i++) {
+			fSortedLines[i] = (int) (keys[i] >> 32);
+			fSortedEntries[i] = (int) keys[i];
+		}
+	}
+
+	/**
+	 * @return Returns whether the type has methods with code.
+	 */
+	boolean hasCode() {
+		return fHasCode;
+	}
+
+	/**
+	 * Returns the locations of the given Java lines in all methods: for each
+	 * method, in the order of the methods, one location for each range of
+	 * code that has been assigned to these lines.
+	 *
+	 * @param javaLines
+	 *            lines in the Java stratum
+	 * @return the locations of the lines
+	 * @throws AbsentInformationException
+	 *             if no method has line number information
+	 */
+	List<Location> locationsOfLines(List<Integer> javaLines) throws AbsentInformationException {
+		checkLineInformation();
+		int[] lines = new int[javaLines.size()];
+		for (int i = 0; i < lines.length; i++) {
+			lines[i] = javaLines.get(i).intValue();
+		}
+		Arrays.sort(lines);
+		int[] entries = new int[8];
+		int count = 0;
+		for (int i = 0; i < lines.length; i++) {
+			if (i > 0 && lines[i] == lines[i - 1]) {
+				continue;
+			}
+			for (int j = firstOfLine(lines[i]); j < fSortedLines.length && fSortedLines[j] == lines[i]; j++) {
+				if (count == entries.length) {
+					entries = Arrays.copyOf(entries, count * 2);
+				}
+				entries[count++] = fSortedEntries[j];
+			}
+		}
+		Arrays.sort(entries, 0, count);
+		List<Location> locations = new ArrayList<>();
+		int method = 0;
+		for (int i = 0; i < count; i++) {
+			int entry = entries[i];
+			while (method + 1 < fMethods.length && fFirstEntries[method + 1] <= entry) {
+				method++;
+			}
+			int index = entry - fFirstEntries[method];
+			// only the start of each range of code of the lines
+			if (index > 0 && Arrays.binarySearch(lines, fLines[method][index - 1]) >= 0) {
+				continue;
+			}
+			locations.add(new LocationImpl(fVirtualMachine, fMethods[method], fCodeIndexes[method][index]));
+		}
+		return locations;
+	}
+
+	/**
+	 * Returns the locations of all the entries of the line tables of all
+	 * methods, in the order of the methods.
+	 *
+	 * @return the locations of all lines in the Java stratum
+	 * @throws AbsentInformationException
+	 *             if no method has line number information
+	 */
+	List<Location> allLineLocations() throws AbsentInformationException {
+		checkLineInformation();
+		List<Location> locations = new ArrayList<>(fSortedEntries.length);
+		for (int i = 0; i < fMethods.length; i++) {
+			for (long codeIndex : fCodeIndexes[i]) {
+				locations.add(new LocationImpl(fVirtualMachine, fMethods[i], codeIndex));
+			}
+		}
+		return locations;
+	}
+
+	private void checkLineInformation() throws AbsentInformationException {
+		if (fException != null) {
+			throw fException;
+		}
+	}
+
+	/**
+	 * Returns the position of the first entry of the given line in the sorted
+	 * entries, or of the entry it would be inserted at.
+	 */
+	private int firstOfLine(int line) {
+		int low = 0;
+		int high = fSortedLines.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (fSortedLines[middle] < line) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+}
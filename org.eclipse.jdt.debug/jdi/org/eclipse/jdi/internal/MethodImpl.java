@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,9 +30,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.AbsentInformationException;
@@ -139,6 +141,24 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		return fLineToCodeIndexes.get(Integer.valueOf(line));
 	}
 
+	/**
+	 * @return Returns the code indexes of the line table, in the order of the
+	 *         line table, or <code>null</code> if the method is obsolete.
+	 */
+	long[] javaStratumCodeIndexTable() throws AbsentInformationException {
+		getLineTable();
+		return fCodeIndexTable;
+	}
+
+	/**
+	 * @return Returns the line numbers of the line table, in the order of the
+	 *         line table, or <code>null</code> if the method is obsolete.
+	 */
+	int[] javaStratumLineNumberTable() throws AbsentInformationException {
+		getLineTable();
+		return fJavaStratumLineNumberTable;
+	}
+
 	/**
 	 * Gets line table from VM.
 	 */
@@ -162,6 +182,43 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.M_LINE_TABLE, outBytes);
+			readLineTable(replyPacket);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * @return Returns whether the line table has been retrieved from the VM,
+	 *         or does not need to be.
+	 */
+	boolean isLineTableKnown() {
+		return fCodeIndexToLine != null || isObsolete() || isAbstract() || isNative();
+	}
+
+	/**
+	 * Sends the request for the line table without waiting for the reply.
+	 *
+	 * @return the future reply, to be decoded with
+	 *         {@link #readLineTable(JdwpReplyPacket)}
+	 */
+	CompletableFuture<JdwpReplyPacket> requestLineTable() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithReferenceType(this, outData);
+		return requestVMAsync(JdwpCommandPacket.M_LINE_TABLE, outBytes);
+	}
+
+	/**
+	 * Decodes and stores the line table in the given reply.
+	 *
+	 * @throws AbsentInformationException
+	 *             if the method has no line number information
+	 */
+	void readLineTable(JdwpReplyPacket replyPacket) throws AbsentInformationException {
+		try {
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.ABSENT_INFORMATION:
 				throw new AbsentInformationException(
@@ -207,8 +264,6 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			fCodeIndexToLine = null;
 			fLineToCodeIndexes = null;
 			defaultIOExceptionHandler(e);
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -530,18 +585,59 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			DataOutputStream outData = new DataOutputStream(outBytes);
 			writeWithReferenceType(this, outData);
 
-			boolean withGenericSignature = virtualMachineImpl()
-					.isJdwpVersionGreaterOrEqual(1, 5);
-			int jdwpCommand = withGenericSignature ? JdwpCommandPacket.M_VARIABLE_TABLE_WITH_GENERIC
-					: JdwpCommandPacket.M_VARIABLE_TABLE;
-			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, outBytes);
+			JdwpReplyPacket replyPacket = requestVM(variableTableCommand(), outBytes);
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.ABSENT_INFORMATION:
 				return inferArguments();
 			}
+			return readVariables(replyPacket);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * @return Returns whether the variable table has been retrieved from the
+	 *         VM, or does not need to be.
+	 */
+	boolean isVariableTableKnown() {
+		return fVariables != null || isAbstract() || isNative();
+	}
+
+	/**
+	 * Sends the request for the variable table without waiting for the reply.
+	 *
+	 * @return the future reply, to be decoded with
+	 *         {@link #readVariables(JdwpReplyPacket)} unless the method has no
+	 *         variable information
+	 */
+	CompletableFuture<JdwpReplyPacket> requestVariables() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeWithReferenceType(this, outData);
+		return requestVMAsync(variableTableCommand(), outBytes);
+	}
 
+	private int variableTableCommand() {
+		return virtualMachineImpl().isJdwpVersionGreaterOrEqual(1, 5) ? JdwpCommandPacket.M_VARIABLE_TABLE_WITH_GENERIC
+				: JdwpCommandPacket.M_VARIABLE_TABLE;
+	}
+
+	/**
+	 * Decodes and stores the variable table in the given reply.
+	 *
+	 * @return the variables of the method
+	 */
+	List<LocalVariable> readVariables(JdwpReplyPacket replyPacket) {
+		try {
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
+			boolean withGenericSignature = virtualMachineImpl()
+					.isJdwpVersionGreaterOrEqual(1, 5);
+
 			DataInputStream replyData = replyPacket.dataInStream();
 			fArgumentSlotsCount = readInt("arg count", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
@@ -576,8 +672,6 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			fVariables = null;
 			defaultIOExceptionHandler(e);
 			return null;
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -724,7 +818,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 */
 	protected static MethodImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReader in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpMethodID ID = new JdwpMethodID(vmImpl);
@@ -737,10 +831,10 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return null;
 		}
 		String name = target.readString("name", in); //$NON-NLS-1$
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readSignature("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readSignature("generic signature", in); //$NON-NLS-1$
 			if ("".equals(genericSignature)) { //$NON-NLS-1$
 				genericSignature = null;
 			}
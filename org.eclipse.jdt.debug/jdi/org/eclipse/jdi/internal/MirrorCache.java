@@ -0,0 +1,378 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe cache of mirrors keyed by the value of their JDWP ID. The
+ * cache is split into segments, each guarded by its own lock, so that
+ * concurrent lookups of different IDs rarely contend. Once a segment exceeds
+ * its share of the maximum size, entries are evicted according to the
+ * {@link EvictionPolicy} of the cache.
+ * <p>
+ * The maximum size bounds the mirrors the cache keeps alive. An evicted
+ * mirror is only weakly held from then on, and is returned again as long as
+ * it is referenced elsewhere, so that there is never more than one mirror for
+ * an ID: mirrors hold state, like the stored results of JDWP requests, which
+ * must be seen and flushed through a single instance. Mirrors that are not
+ * referenced anymore are forgotten once garbage collected, and created again
+ * the next time their ID is read.
+ * </p>
+ *
+ * @param <V>
+ *            the type of the cached mirrors
+ */
+public class MirrorCache<V> {
+
+	/**
+	 * Determines which entry is evicted when the cache is full.
+	 */
+	public enum EvictionPolicy {
+		/** Evicts the entry that was accessed least recently. */
+		LEAST_RECENTLY_USED,
+		/** Evicts the entry that was added first, ignoring later accesses. */
+		FIRST_IN_FIRST_OUT
+	}
+
+	/** Number of segments, must be a power of two. */
+	private static final int SEGMENT_COUNT = 16;
+
+	private final Segment<V>[] fSegments;
+	private final EvictionPolicy fPolicy;
+	private volatile int fMaximumSize;
+
+	private final LongAdder fHits = new LongAdder();
+	private final LongAdder fMisses = new LongAdder();
+	private final LongAdder fEvictions = new LongAdder();
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of entries held by the cache
+	 * @param policy
+	 *            the policy used to select the entries to evict
+	 */
+	@SuppressWarnings("unchecked")
+	public MirrorCache(int maximumSize, EvictionPolicy policy) {
+		if (policy == null) {
+			throw new NullPointerException();
+		}
+		fPolicy = policy;
+		fSegments = (Segment<V>[]) new Segment<?>[SEGMENT_COUNT];
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			fSegments[i] = new Segment<>(policy == EvictionPolicy.LEAST_RECENTLY_USED);
+		}
+		setMaximumSize(maximumSize);
+	}
+
+	/**
+	 * @return Returns the value cached under the given ID, or
+	 *         <code>null</code> if there is none. A value that has been
+	 *         evicted but is still referenced is kept by the cache again.
+	 */
+	public V get(long id) {
+		Segment<V> segment = segmentFor(id);
+		V value;
+		synchronized (segment) {
+			value = segment.get(Long.valueOf(id));
+		}
+		if (value == null) {
+			fMisses.increment();
+		} else {
+			fHits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Caches the given value under the given ID, replacing any previously
+	 * cached value.
+	 */
+	public void put(long id, V value) {
+		if (value == null) {
+			throw new NullPointerException();
+		}
+		Segment<V> segment = segmentFor(id);
+		synchronized (segment) {
+			segment.put(Long.valueOf(id), value);
+			evict(segment, segmentCapacity());
+		}
+	}
+
+	/**
+	 * Removes the value cached under the given ID.
+	 *
+	 * @return Returns the value that was removed, or <code>null</code> if there
+	 *         was none.
+	 */
+	public V remove(long id) {
+		Segment<V> segment = segmentFor(id);
+		synchronized (segment) {
+			return segment.remove(Long.valueOf(id));
+		}
+	}
+
+	/**
+	 * Removes all values from the cache. Statistics are not reset.
+	 */
+	public void clear() {
+		for (Segment<V> segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return Returns a snapshot of the values currently in the cache,
+	 *         including the evicted values which are still referenced. Later
+	 *         changes to the cache are not reflected in the returned
+	 *         collection.
+	 */
+	public Collection<V> values() {
+		List<V> values = new ArrayList<>();
+		for (Segment<V> segment : fSegments) {
+			synchronized (segment) {
+				segment.addValues(values);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @return Returns the number of values currently kept by the cache, not
+	 *         counting the evicted values which are still referenced.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment<V> segment : fSegments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Sets the maximum number of entries held by the cache. If the cache
+	 * currently holds more entries, the excess is evicted.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of entries, must be positive
+	 */
+	public void setMaximumSize(int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException();
+		}
+		fMaximumSize = maximumSize;
+		int capacity = segmentCapacity();
+		for (Segment<V> segment : fSegments) {
+			synchronized (segment) {
+				evict(segment, capacity);
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the maximum number of entries held by the cache.
+	 */
+	public int getMaximumSize() {
+		return fMaximumSize;
+	}
+
+	/**
+	 * @return Returns the policy used to select the entries to evict.
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return fPolicy;
+	}
+
+	/**
+	 * @return Returns the number of lookups that found a cached value.
+	 */
+	public long getHitCount() {
+		return fHits.sum();
+	}
+
+	/**
+	 * @return Returns the number of lookups that did not find a cached value.
+	 */
+	public long getMissCount() {
+		return fMisses.sum();
+	}
+
+	/**
+	 * @return Returns the number of values evicted because the cache was full,
+	 *         whether they were still referenced or not.
+	 */
+	public long getEvictionCount() {
+		return fEvictions.sum();
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters.
+	 */
+	public void resetStatistics() {
+		fHits.reset();
+		fMisses.reset();
+		fEvictions.reset();
+	}
+
+	private Segment<V> segmentFor(long id) {
+		// IDs are often allocated sequentially or aligned, spread the bits
+		// before selecting a segment.
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return fSegments[(int) (hash >>> 60) & (SEGMENT_COUNT - 1)];
+	}
+
+	/**
+	 * @return Returns the maximum number of entries of a single segment.
+	 */
+	private int segmentCapacity() {
+		return Math.max(1, (fMaximumSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT);
+	}
+
+	/**
+	 * Evicts the eldest entries of the given segment until it keeps at most
+	 * the given number of entries. Must be called while holding the lock of
+	 * the segment.
+	 */
+	private void evict(Segment<V> segment, int capacity) {
+		int evicted = segment.evict(capacity);
+		if (evicted > 0) {
+			fEvictions.add(evicted);
+		}
+	}
+
+	/**
+	 * A segment of the cache: the entries it keeps, iterating from the eldest
+	 * to the youngest, and the evicted entries, weakly referenced. Access
+	 * must be synchronized on the segment.
+	 */
+	private static class Segment<V> {
+
+		private final LinkedHashMap<Long, V> fEntries;
+		private final Map<Long, EvictedEntry<V>> fEvicted = new HashMap<>();
+		private final ReferenceQueue<V> fCollected = new ReferenceQueue<>();
+
+		Segment(boolean accessOrder) {
+			fEntries = new LinkedHashMap<>(16, 0.75f, accessOrder);
+		}
+
+		V get(Long id) {
+			V value = fEntries.get(id);
+			if (value == null) {
+				expungeCollected();
+				EvictedEntry<V> evicted = fEvicted.remove(id);
+				if (evicted != null) {
+					value = evicted.get();
+					if (value != null) {
+						// referenced again, keep it again
+						fEntries.put(id, value);
+					}
+				}
+			}
+			return value;
+		}
+
+		void put(Long id, V value) {
+			fEntries.put(id, value);
+			fEvicted.remove(id);
+		}
+
+		V remove(Long id) {
+			V value = fEntries.remove(id);
+			EvictedEntry<V> evicted = fEvicted.remove(id);
+			if (value == null && evicted != null) {
+				value = evicted.get();
+			}
+			return value;
+		}
+
+		void clear() {
+			fEntries.clear();
+			fEvicted.clear();
+		}
+
+		void addValues(List<V> values) {
+			values.addAll(fEntries.values());
+			for (EvictedEntry<V> evicted : fEvicted.values()) {
+				V value = evicted.get();
+				if (value != null) {
+					values.add(value);
+				}
+			}
+		}
+
+		int size() {
+			return fEntries.size();
+		}
+
+		/**
+		 * Moves the eldest entries to the evicted ones until at most the
+		 * given number of entries are kept.
+		 *
+		 * @return the number of entries evicted
+		 */
+		int evict(int capacity) {
+			expungeCollected();
+			int evicted = 0;
+			Iterator<Map.Entry<Long, V>> iter = fEntries.entrySet().iterator();
+			while (fEntries.size() > capacity && iter.hasNext()) {
+				Map.Entry<Long, V> entry = iter.next();
+				fEvicted.put(entry.getKey(), new EvictedEntry<>(entry.getKey(), entry.getValue(), fCollected));
+				iter.remove();
+				evicted++;
+			}
+			return evicted;
+		}
+
+		/**
+		 * Forgets the evicted entries whose value has been garbage collected.
+		 */
+		private void expungeCollected() {
+			Object collected;
+			while ((collected = fCollected.poll()) != null) {
+				EvictedEntry<?> entry = (EvictedEntry<?>) collected;
+				if (fEvicted.get(entry.fId) == entry) {
+					fEvicted.remove(entry.fId);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Weak reference to an evicted value, knowing its ID.
+	 */
+	private static class EvictedEntry<V> extends WeakReference<V> {
+
+		final Long fId;
+
+		EvictedEntry(Long id, V value, ReferenceQueue<V> queue) {
+			super(value, queue);
+			fId = id;
+		}
+	}
+}
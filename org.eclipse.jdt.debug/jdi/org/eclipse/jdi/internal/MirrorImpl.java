@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,11 +20,14 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpString;
 import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
@@ -205,18 +208,8 @@ public class MirrorImpl implements Mirror {
 
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
-		long recieved = System.currentTimeMillis();
 		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
-			StringBuilder buf = new StringBuilder();
-			buf.append(JDIDebugOptions.FORMAT.format(Instant.ofEpochMilli(sent)));
-			buf.append(" JDI Request: "); //$NON-NLS-1$
-			buf.append(commandPacket.toString());
-			buf.append("\n\tResponse Time: "); //$NON-NLS-1$
-			buf.append(recieved - sent);
-			buf.append("ms"); //$NON-NLS-1$
-			buf.append(" length: "); //$NON-NLS-1$
-			buf.append(reply.getLength());
-			JDIDebugOptions.trace(buf.toString());
+			traceRequestTime(commandPacket, sent, reply);
 		}
 		if (fVerboseWriter != null) {
 			fVerboseWriter.println();
@@ -233,6 +226,89 @@ public class MirrorImpl implements Mirror {
 		return reply;
 	}
 
+	/**
+	 * Sends a VM request without waiting for the reply. Several requests can
+	 * be sent this way before waiting for any of the replies, so that their
+	 * round trips to the VM overlap. The reply must be retrieved with
+	 * {@link #waitForReply(CompletableFuture)} on the calling thread.
+	 *
+	 * @return Returns a future for the reply data.
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, byte[] outData) {
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		commandPacket.setData(outData);
+		long sent = System.currentTimeMillis();
+		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+		fPendingJdwpRequest = true;
+		writeVerboseCommandPacketHeader(commandPacket);
+		CompletableFuture<JdwpReplyPacket> reply = fVirtualMachineImpl.packetReceiveManager().getReplyAsync(commandPacket);
+		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			reply.thenAccept(replyPacket -> traceRequestTime(commandPacket, sent, replyPacket));
+		}
+		return reply;
+	}
+
+	/**
+	 * Traces the time it took the VM to answer the given request.
+	 */
+	private static void traceRequestTime(JdwpCommandPacket commandPacket, long sent, JdwpReplyPacket reply) {
+		long recieved = System.currentTimeMillis();
+		StringBuilder buf = new StringBuilder();
+		buf.append(JDIDebugOptions.FORMAT.format(Instant.ofEpochMilli(sent)));
+		buf.append(" JDI Request: "); //$NON-NLS-1$
+		buf.append(commandPacket.toString());
+		buf.append("\n\tResponse Time: "); //$NON-NLS-1$
+		buf.append(recieved - sent);
+		buf.append("ms"); //$NON-NLS-1$
+		buf.append(" length: "); //$NON-NLS-1$
+		buf.append(reply.getLength());
+		JDIDebugOptions.trace(buf.toString());
+	}
+
+	/**
+	 * Sends a VM request without waiting for the reply.
+	 *
+	 * @return Returns a future for the reply data.
+	 * @see #requestVMAsync(int, byte[])
+	 */
+	public CompletableFuture<JdwpReplyPacket> requestVMAsync(int command, ByteArrayOutputStream outData) {
+		return requestVMAsync(command, outData.toByteArray());
+	}
+
+	/**
+	 * Waits for the reply of a request sent with
+	 * {@link #requestVMAsync(int, byte[])}.
+	 *
+	 * @return Returns reply data.
+	 */
+	public JdwpReplyPacket waitForReply(CompletableFuture<JdwpReplyPacket> replyFuture) {
+		JdwpReplyPacket reply;
+		try {
+			reply = replyFuture.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println();
+			fVerboseWriter.println("Received reply"); //$NON-NLS-1$
+			fVerboseWriter.println("length", reply.getLength()); //$NON-NLS-1$
+			fVerboseWriter.println("id", reply.getId()); //$NON-NLS-1$
+			fVerboseWriter.println(
+					"flags", reply.getFlags(), JdwpPacket.getFlagMap()); //$NON-NLS-1$
+			fVerboseWriter
+					.println(
+							"error code", reply.errorCode(), JdwpReplyPacket.errorMap()); //$NON-NLS-1$
+		}
+		return reply;
+	}
+
 	/**
 	 * Performs a VM request.
 	 *
@@ -528,6 +604,84 @@ public class MirrorImpl implements Mirror {
 		return result;
 	}
 
+	/**
+	 * @return Returns a reader over the data of the given packet that interns
+	 *         signatures in the table of the Virtual Machine.
+	 */
+	public JdwpReader dataReader(JdwpPacket packet) {
+		return packet.dataReader(virtualMachineImpl().signatureTable());
+	}
+
+	/**
+	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description, Map<Integer, String> valueToString,
+			JdwpReader in) throws IOException {
+		byte result = in.readByte();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result, valueToString);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, JdwpReader in) throws IOException {
+		int result = in.readInt();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, String[] bitNames, JdwpReader in)
+			throws IOException {
+		int result = in.readInt();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result, bitNames);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public String readString(String description, JdwpReader in)
+			throws IOException {
+		String result = in.readString();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a signature and, if verbose is on, outputs verbose info. The
+	 * signature is interned if the reader interns signatures.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public String readSignature(String description, JdwpReader in)
+			throws IOException {
+		String result = in.readSignature();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
 	/**
 	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
@@ -121,6 +122,55 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Permits garbage collection for several objects. The requests for all
+	 * objects are sent before waiting for any reply, so that this costs a
+	 * single round trip to the VM instead of one per object.
+	 *
+	 * @param objects
+	 *            the objects
+	 * @throws ObjectCollectedException
+	 *             if an object has been garbage collected, after the requests
+	 *             for the other objects have completed
+	 */
+	public static void enableCollection(List<? extends ObjectReference> objects) {
+		List<CompletableFuture<JdwpReplyPacket>> replies = new ArrayList<>(objects.size());
+		for (ObjectReference object : objects) {
+			ObjectReferenceImpl objectImpl = (ObjectReferenceImpl) object;
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			try {
+				objectImpl.write(objectImpl, outData);
+			} catch (IOException e) {
+				objectImpl.defaultIOExceptionHandler(e);
+			}
+			objectImpl.initJdwpRequest();
+			try {
+				replies.add(objectImpl.requestVMAsync(JdwpCommandPacket.OR_ENABLE_COLLECTION, outBytes));
+			} finally {
+				objectImpl.handledJdwpRequest();
+			}
+		}
+		RuntimeException error = null;
+		for (int i = 0; i < replies.size(); i++) {
+			ObjectReferenceImpl objectImpl = (ObjectReferenceImpl) objects.get(i);
+			objectImpl.initJdwpRequest();
+			try {
+				JdwpReplyPacket replyPacket = objectImpl.waitForReply(replies.get(i));
+				objectImpl.defaultReplyErrorHandler(replyPacket.errorCode());
+			} catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				}
+			} finally {
+				objectImpl.handledJdwpRequest();
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
 	/**
 	 * Inner class used to return monitor info.
 	 */
@@ -278,69 +328,106 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
+			return requestValues(allFields).read();
+		} finally {
+			handledJdwpRequest();
+		}
+	}
 
-			/*
-			 * Distinguish static fields from non-static fields: For static
-			 * fields ReferenceTypeImpl.getValues() must be used.
-			 */
-			List<Field> staticFields = new ArrayList<>();
-			List<FieldImpl> nonStaticFields = new ArrayList<>();
-
-			// Separate static and non-static fields.
-			int allFieldsSize = allFields.size();
-			for (int i = 0; i < allFieldsSize; i++) {
-				FieldImpl field = (FieldImpl) allFields.get(i);
-				checkVM(field);
-				if (field.isStatic())
-					staticFields.add(field);
-				else
-					nonStaticFields.add(field);
+	/**
+	 * Sends the requests for the values of the given fields without waiting
+	 * for the replies. Static fields are requested from the reference type
+	 * and instance fields from this object, both requests are in flight at the
+	 * same time.
+	 */
+	private PendingValues requestValues(List<? extends Field> allFields) {
+		/*
+		 * Distinguish static fields from non-static fields: For static
+		 * fields ReferenceTypeImpl.getValues() must be used.
+		 */
+		PendingValues pending = new PendingValues();
+		int allFieldsSize = allFields.size();
+		for (int i = 0; i < allFieldsSize; i++) {
+			FieldImpl field = (FieldImpl) allFields.get(i);
+			checkVM(field);
+			if (field.isStatic())
+				pending.fStaticFields.add(field);
+			else
+				pending.fNonStaticFields.add(field);
+		}
+
+		// First request values for the static fields.
+		if (!pending.fStaticFields.isEmpty()) {
+			pending.fReferenceType = (ReferenceTypeImpl) referenceType();
+			pending.fStaticReply = pending.fReferenceType.requestValues(pending.fStaticFields);
+		}
+
+		// Then request the values for the non-static fields.
+		if (!pending.fNonStaticFields.isEmpty()) {
+			try {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				int nonStaticFieldsSize = pending.fNonStaticFields.size();
+				write(this, outData);
+				writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
+				for (int i = 0; i < nonStaticFieldsSize; i++) {
+					FieldImpl field = pending.fNonStaticFields.get(i);
+					field.write(this, outData);
+				}
+				pending.fNonStaticReply = requestVMAsync(JdwpCommandPacket.OR_GET_VALUES, outBytes);
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
 			}
+		}
+		return pending;
+	}
 
-			// First get values for the static fields.
+	/**
+	 * Field values requested from the VM whose replies have not been read yet.
+	 */
+	private class PendingValues {
+		final List<Field> fStaticFields = new ArrayList<>();
+		final List<FieldImpl> fNonStaticFields = new ArrayList<>();
+		ReferenceTypeImpl fReferenceType;
+		CompletableFuture<JdwpReplyPacket> fStaticReply;
+		CompletableFuture<JdwpReplyPacket> fNonStaticReply;
+
+		/**
+		 * Waits for the replies and decodes them.
+		 *
+		 * @return the requested fields with their values
+		 */
+		Map<Field, Value> read() {
 			Map<Field, Value> resultMap;
-			if (staticFields.isEmpty()) {
+			if (fStaticReply == null) {
 				resultMap = new HashMap<>();
 			} else {
-				resultMap = referenceType().getValues(staticFields);
+				resultMap = fReferenceType.readValues(fStaticFields, fStaticReply);
 			}
-
 			// if no non-static fields are requested, return directly the
 			// result.
-			if (nonStaticFields.isEmpty()) {
+			if (fNonStaticReply == null) {
 				return resultMap;
 			}
-			// Then get the values for the non-static fields.
-			int nonStaticFieldsSize = nonStaticFields.size();
-			write(this, outData);
-			writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
-			for (int i = 0; i < nonStaticFieldsSize; i++) {
-				FieldImpl field = nonStaticFields.get(i);
-				field.write(this, outData);
-			}
+			try {
+				JdwpReplyPacket replyPacket = waitForReply(fNonStaticReply);
+				defaultReplyErrorHandler(replyPacket.errorCode());
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.OR_GET_VALUES, outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
+				DataInputStream replyData = replyPacket.dataInStream();
+				int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+				if (nrOfElements != fNonStaticFields.size())
+					throw new InternalError(
+							JDIMessages.ObjectReferenceImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
 
-			DataInputStream replyData = replyPacket.dataInStream();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != nonStaticFieldsSize)
-				throw new InternalError(
-						JDIMessages.ObjectReferenceImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
-
-			for (int i = 0; i < nrOfElements; i++) {
-				resultMap.put(nonStaticFields.get(i),
-						ValueImpl.readWithTag(this, replyData));
+				for (int i = 0; i < nrOfElements; i++) {
+					resultMap.put(fNonStaticFields.get(i),
+							ValueImpl.readWithTag(ObjectReferenceImpl.this, replyData));
+				}
+				return resultMap;
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+				return null;
 			}
-			return resultMap;
-		} catch (IOException e) {
-			defaultIOExceptionHandler(e);
-			return null;
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -590,6 +677,60 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Sets the values of the given instance fields in this object with a
+	 * single request, rather than one request per field as
+	 * {@link #setValue(Field, Value)} does.
+	 *
+	 * @param values
+	 *            the fields with their new values
+	 */
+	public void setValues(Map<? extends Field, ? extends Value> values) throws InvalidTypeException,
+			ClassNotLoadedException {
+		// if there are no fields, nothing to do.
+		if (values.isEmpty()) {
+			return;
+		}
+		// Note that this information should not be cached.
+		initJdwpRequest();
+		try {
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			write(this, outData);
+			writeInt(values.size(), "size", outData); //$NON-NLS-1$
+			for (Map.Entry<? extends Field, ? extends Value> entry : values.entrySet()) {
+				Field field = entry.getKey();
+				checkVM(field);
+				((FieldImpl) field).write(this, outData);
+
+				// check the type and the vm of the value. Convert the value if
+				// needed
+				ValueImpl checkedValue = ValueImpl.checkValue(entry.getValue(), field.type(),
+						virtualMachineImpl());
+
+				if (checkedValue != null) {
+					checkedValue.write(this, outData);
+				} else {
+					ValueImpl.writeNull(this, outData);
+				}
+			}
+
+			JdwpReplyPacket replyPacket = requestVM(
+					JdwpCommandPacket.OR_SET_VALUES, outBytes);
+			switch (replyPacket.errorCode()) {
+			case JdwpReplyPacket.TYPE_MISMATCH:
+				throw new InvalidTypeException();
+			case JdwpReplyPacket.INVALID_CLASS:
+				throw new ClassNotLoadedException(referenceType().name());
+			}
+			defaultReplyErrorHandler(replyPacket.errorCode());
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * @return Returns a unique identifier for this ObjectReference.
 	 */
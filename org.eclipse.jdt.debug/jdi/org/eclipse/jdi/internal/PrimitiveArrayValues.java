@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
+
+import com.sun.jdi.InternalException;
+import com.sun.jdi.Value;
+
+/**
+ * The values of a region of an array of primitives, held as an array of the
+ * primitive type, like <code>int[]</code>. The {@link Value} mirrors of the
+ * elements are only created when asked for, so that large arrays do not cost
+ * an object per element. Elements replaced with {@link #set(int, Value)} are
+ * held as given, apart from the array of primitives.
+ */
+public class PrimitiveArrayValues extends AbstractList<Value> implements RandomAccess {
+
+	private final VirtualMachineImpl fVirtualMachine;
+
+	/**
+	 * JDWP tag of the elements.
+	 */
+	private final int fType;
+
+	/**
+	 * The elements: a <code>boolean[]</code>, <code>byte[]</code>,
+	 * <code>char[]</code>, <code>short[]</code>, <code>int[]</code>,
+	 * <code>long[]</code>, <code>float[]</code> or <code>double[]</code>.
+	 */
+	private final Object fElements;
+
+	/**
+	 * Elements replaced in this list, created on the first replacement.
+	 */
+	private Value[] fReplaced;
+
+	private PrimitiveArrayValues(VirtualMachineImpl vmImpl, int type, Object elements) {
+		fVirtualMachine = vmImpl;
+		fType = type;
+		fElements = elements;
+	}
+
+	/**
+	 * Reads the given number of primitives of the given type, without tags.
+	 * The primitives are decoded straight from the packet buffer; if verbose
+	 * is on, they are output once all are read.
+	 *
+	 * @param target
+	 *            the mirror reading
+	 * @param length
+	 *            the number of primitives to read
+	 * @param type
+	 *            the JDWP tag of the primitives
+	 * @param in
+	 *            the reader over the reply data
+	 * @return Returns the values read.
+	 * @throws IOException
+	 *             if reading from the reply encounters a problem
+	 */
+	public static PrimitiveArrayValues read(MirrorImpl target, int length, int type, JdwpReader in) throws IOException {
+		Object elements;
+		switch (type) {
+		case BooleanValueImpl.tag: {
+			boolean[] values = new boolean[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readBoolean();
+			}
+			elements = values;
+			break;
+		}
+		case ByteValueImpl.tag: {
+			byte[] values = new byte[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readByte();
+			}
+			elements = values;
+			break;
+		}
+		case CharValueImpl.tag: {
+			char[] values = new char[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readChar();
+			}
+			elements = values;
+			break;
+		}
+		case ShortValueImpl.tag: {
+			short[] values = new short[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readShort();
+			}
+			elements = values;
+			break;
+		}
+		case IntegerValueImpl.tag: {
+			int[] values = new int[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readInt();
+			}
+			elements = values;
+			break;
+		}
+		case LongValueImpl.tag: {
+			long[] values = new long[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readLong();
+			}
+			elements = values;
+			break;
+		}
+		case FloatValueImpl.tag: {
+			float[] values = new float[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readFloat();
+			}
+			elements = values;
+			break;
+		}
+		case DoubleValueImpl.tag: {
+			double[] values = new double[length];
+			for (int i = 0; i < length; i++) {
+				values[i] = in.readDouble();
+			}
+			elements = values;
+			break;
+		}
+		default:
+			throw new InternalException(JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2 + type);
+		}
+		if (target.fVerboseWriter != null) {
+			printElements(target.fVerboseWriter, type, elements);
+		}
+		return new PrimitiveArrayValues(target.virtualMachineImpl(), type, elements);
+	}
+
+	/**
+	 * Outputs the given elements as verbose info.
+	 */
+	private static void printElements(VerboseWriter writer, int type, Object elements) {
+		int length = Array.getLength(elements);
+		for (int i = 0; i < length; i++) {
+			switch (type) {
+			case BooleanValueImpl.tag:
+				writer.println("booleanValue", ((boolean[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case ByteValueImpl.tag:
+				writer.println("byteValue", ((byte[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case CharValueImpl.tag:
+				writer.println("charValue", ((char[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case ShortValueImpl.tag:
+				writer.println("shortValue", ((short[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case IntegerValueImpl.tag:
+				writer.println("integerValue", ((int[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case LongValueImpl.tag:
+				writer.println("longValue", ((long[]) elements)[i]); //$NON-NLS-1$
+				break;
+			case FloatValueImpl.tag:
+				writer.println("floatValue", ((float[]) elements)[i]); //$NON-NLS-1$
+				break;
+			default:
+				writer.println("doubleValue", ((double[]) elements)[i]); //$NON-NLS-1$
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the elements as an array of their primitive type, like
+	 * <code>int[]</code> for the values of an <code>int[]</code>, as they
+	 * were read. The returned array must not be modified.
+	 *
+	 * @return Returns the elements.
+	 */
+	public Object getElements() {
+		return fElements;
+	}
+
+	/**
+	 * Returns a mirror of the element at the given index, created on each
+	 * call unless the element was replaced.
+	 */
+	@Override
+	public Value get(int index) {
+		if (fReplaced != null && fReplaced[index] != null) {
+			return fReplaced[index];
+		}
+		switch (fType) {
+		case BooleanValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((boolean[]) fElements)[index]);
+		case ByteValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((byte[]) fElements)[index]);
+		case CharValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((char[]) fElements)[index]);
+		case ShortValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((short[]) fElements)[index]);
+		case IntegerValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((int[]) fElements)[index]);
+		case LongValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((long[]) fElements)[index]);
+		case FloatValueImpl.tag:
+			return fVirtualMachine.mirrorOf(((float[]) fElements)[index]);
+		default:
+			return fVirtualMachine.mirrorOf(((double[]) fElements)[index]);
+		}
+	}
+
+	@Override
+	public Value set(int index, Value element) {
+		Value previous = get(index);
+		if (fReplaced == null) {
+			fReplaced = new Value[size()];
+		}
+		fReplaced[index] = element;
+		return previous;
+	}
+
+	@Override
+	public int size() {
+		return Array.getLength(fElements);
+	}
+}
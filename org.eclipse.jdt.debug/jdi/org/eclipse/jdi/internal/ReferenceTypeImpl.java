@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,11 +30,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.osgi.util.NLS;
@@ -99,11 +101,15 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		protected String fAbsoluteFileName;
 
 		/**
-		 * Map line number in the input source file -> list of [start line in
-		 * the output source file, range in the output source file]. (Integer ->
-		 * List of int[2]).
+		 * Line mapping entries: line number in the input source file, start
+		 * line in the output source file and range in the output source file.
+		 * Sorted by input line once compiled, entries of the same input line
+		 * being kept in the order they were added.
 		 */
-		private final HashMap<Integer, List<int[]>> fLineInfo;
+		private int[] fInputLines = new int[8];
+		private int[] fOutputStartLines = new int[8];
+		private int[] fOutputLineRanges = new int[8];
+		private int fLineCount;
 
 		/**
 		 * FileInfo constructor.
@@ -119,7 +125,6 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			fFileId = fileId;
 			fFileName = fileName;
 			fAbsoluteFileName = absoluteFileName;
-			fLineInfo = new HashMap<>();
 		}
 
 		/**
@@ -137,13 +142,27 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 */
 		public void addLineInfo(int inputLine, int outputStartLine,
 				int outputLineRange) {
-			Integer key = Integer.valueOf(inputLine);
-			List<int[]> outputLines = fLineInfo.get(key);
-			if (outputLines == null) {
-				outputLines = new ArrayList<>();
-				fLineInfo.put(key, outputLines);
+			if (fLineCount == fInputLines.length) {
+				int length = fLineCount * 2;
+				fInputLines = Arrays.copyOf(fInputLines, length);
+				fOutputStartLines = Arrays.copyOf(fOutputStartLines, length);
+				fOutputLineRanges = Arrays.copyOf(fOutputLineRanges, length);
 			}
-			outputLines.add(new int[] { outputStartLine, outputLineRange });
+			fInputLines[fLineCount] = inputLine;
+			fOutputStartLines[fLineCount] = outputStartLine;
+			fOutputLineRanges[fLineCount] = outputLineRange;
+			fLineCount++;
+		}
+
+		/**
+		 * Sorts the line mapping entries by input line, once all have been
+		 * added.
+		 */
+		void compile() {
+			int[] order = sortedOrder(fInputLines, fLineCount);
+			fInputLines = reorder(fInputLines, order);
+			fOutputStartLines = reorder(fOutputStartLines, order);
+			fOutputLineRanges = reorder(fOutputLineRanges, order);
 		}
 
 		/**
@@ -156,17 +175,15 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 */
 		public List<Integer> getOutputLinesForLine(int lineNumber) {
 			List<Integer> list = new ArrayList<>();
-			List<int[]> outputLines = fLineInfo.get(Integer.valueOf(lineNumber));
-			if (outputLines != null) {
-				for (int[] info : outputLines) {
-					int outputLineNumber = info[0];
-					int length = info[1];
-					if (length == 0) {
-						length = length + 1;
-					}
-					for (int i = 0; i < length; i++) {
-						list.add(Integer.valueOf(outputLineNumber++));
-					}
+			for (int entry = firstIndexOf(fInputLines, fLineCount, lineNumber); entry < fLineCount
+					&& fInputLines[entry] == lineNumber; entry++) {
+				int outputLineNumber = fOutputStartLines[entry];
+				int length = fOutputLineRanges[entry];
+				if (length == 0) {
+					length = length + 1;
+				}
+				for (int i = 0; i < length; i++) {
+					list.add(Integer.valueOf(outputLineNumber++));
 				}
 			}
 			return list;
@@ -206,10 +223,15 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		private int fPrimaryFileId;
 
 		/**
-		 * Map line number in the output source file -> list of line numbers in
-		 * the input source file. (Integer -> List of Integer)
+		 * Entries mapping a line number in the output source file to a line
+		 * number in an input source file: output line, id of the input file
+		 * and input line. Sorted by output line once compiled, entries of the
+		 * same output line being kept in the order they were added.
 		 */
-		private final HashMap<Integer, List<int[]>> fOutputLineToInputLine;
+		private int[] fOutputLines = new int[8];
+		private int[] fInputFileIds = new int[8];
+		private int[] fInputLines = new int[8];
+		private int fLineCount;
 
 		/**
 		 * Stratum constructor.
@@ -220,7 +242,6 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		public Stratum(String id) {
 			fId = id;
 			fFileInfos = new ArrayList<>();
-			fOutputLineToInputLine = new HashMap<>();
 			fPrimaryFileId = -1;
 		}
 
@@ -312,13 +333,30 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 */
 		private void addLineInfoToMap(int inputStartLine, int lineFileId,
 				int outputStartLine) {
-			Integer key = Integer.valueOf(outputStartLine);
-			List<int[]> inputLines = fOutputLineToInputLine.get(key);
-			if (inputLines == null) {
-				inputLines = new ArrayList<>();
-				fOutputLineToInputLine.put(key, inputLines);
+			if (fLineCount == fOutputLines.length) {
+				int length = fLineCount * 2;
+				fOutputLines = Arrays.copyOf(fOutputLines, length);
+				fInputFileIds = Arrays.copyOf(fInputFileIds, length);
+				fInputLines = Arrays.copyOf(fInputLines, length);
+			}
+			fOutputLines[fLineCount] = outputStartLine;
+			fInputFileIds[fLineCount] = lineFileId;
+			fInputLines[fLineCount] = inputStartLine;
+			fLineCount++;
+		}
+
+		/**
+		 * Sorts the line mapping entries of this stratum and of its files by
+		 * line, once all have been added.
+		 */
+		void compile() {
+			int[] order = sortedOrder(fOutputLines, fLineCount);
+			fOutputLines = reorder(fOutputLines, order);
+			fInputFileIds = reorder(fInputFileIds, order);
+			fInputLines = reorder(fInputLines, order);
+			for (FileInfo fileInfo : fFileInfos) {
+				fileInfo.compile();
 			}
-			inputLines.add(new int[] { lineFileId, inputStartLine });
 		}
 
 		/**
@@ -338,12 +376,119 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			return null;
 		}
 
+		/**
+		 * Return the lines in the input source files associated with the given
+		 * line in the output source file, or <code>null</code> if there are
+		 * none.
+		 *
+		 * @param outputLineNumber
+		 *            the line number in the output source file.
+		 * @return a List of int[2]: [fileId, inputLineNumber]
+		 */
 		public List<int[]> getInputLineInfos(int outputLineNumber) {
-			return fOutputLineToInputLine.get(Integer.valueOf(outputLineNumber));
+			int entry = firstIndexOf(fOutputLines, fLineCount, outputLineNumber);
+			if (entry == fLineCount || fOutputLines[entry] != outputLineNumber) {
+				return null;
+			}
+			List<int[]> lineInfos = new ArrayList<>(1);
+			for (; entry < fLineCount && fOutputLines[entry] == outputLineNumber; entry++) {
+				lineInfos.add(new int[] { fInputFileIds[entry], fInputLines[entry] });
+			}
+			return lineInfos;
 		}
 
 	}
 
+	/**
+	 * The information parsed from a SMAP, shared by the types with the same
+	 * SMAP.
+	 */
+	protected static class SourceMap {
+
+		/**
+		 * The SMAP.
+		 */
+		protected final String fSmap;
+
+		/**
+		 * The name of the output source file, or <code>null</code> if the
+		 * SMAP is invalid before it.
+		 */
+		protected String fOutputFileName;
+
+		/**
+		 * The id of the default stratum.
+		 */
+		protected String fDefaultStratumId;
+
+		/**
+		 * The strata, by id.
+		 */
+		protected final Map<String, Stratum> fStrata = new HashMap<>();
+
+		/**
+		 * The reason why the SMAP is invalid, or <code>null</code> if it is
+		 * valid.
+		 */
+		protected AbsentInformationException fError;
+
+		/**
+		 * SourceMap constructor.
+		 *
+		 * @param smap
+		 *            the SMAP.
+		 */
+		public SourceMap(String smap) {
+			fSmap = smap;
+		}
+	}
+
+	/**
+	 * Returns the indexes of the given number of first values, in the order
+	 * of the values, equal values staying in their order.
+	 */
+	static int[] sortedOrder(int[] values, int count) {
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++) {
+			keys[i] = ((long) values[i] << 32) | i;
+		}
+		Arrays.sort(keys);
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[i] = (int) keys[i];
+		}
+		return order;
+	}
+
+	/**
+	 * Returns the values at the given indexes.
+	 */
+	static int[] reorder(int[] values, int[] order) {
+		int[] result = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			result[i] = values[order[i]];
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the index of the first occurrence of the given value among the
+	 * given number of first sorted values, or of where it would be inserted.
+	 */
+	static int firstIndexOf(int[] values, int count, int value) {
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (values[middle] < value) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
 	/** ReferenceTypeID that corresponds to this reference. */
 	private final JdwpReferenceTypeID fReferenceTypeID;
 
@@ -358,6 +503,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	private List<Field> fVisibleFields = null;
 	private List<InterfaceType> fAllInterfaces = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
+	private LineIndex fLineIndex = null;
 	private String fSourceName = null;
 	private int fModifierBits = -1;
 	private ClassLoaderReferenceImpl fClassLoader = null;
@@ -389,6 +535,12 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	private String fSmap; // JSR-045 addition
 
+	/**
+	 * The information parsed from the source map, shared with the other types
+	 * with the same source map. Holding it keeps it cached by the VM.
+	 */
+	private SourceMap fSourceMap; // JSR-045 addition
+
 	/**
 	 * Creates new instance.
 	 */
@@ -443,6 +595,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fVisibleFields = null;
 		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		fLineIndex = null;
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -457,6 +610,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fDefaultStratumId = null;
 		fStrata = null;
 		fSmap = null;
+		fSourceMap = null;
 
 		// The following cached results are stored higher up in the class
 		// hierarchy.
@@ -930,7 +1084,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_FIELDS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReader replyData = dataReader(replyPacket);
 			List<Field> elements = new ArrayList<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -1010,6 +1164,23 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 		// Note that this information should not be cached.
 		initJdwpRequest();
+		try {
+			return readValues(fields, requestValues(fields));
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Sends the request for the values of the given static fields without
+	 * waiting for the reply.
+	 *
+	 * @param fields
+	 *            the static fields, must not be empty
+	 * @return the future reply, to be decoded with
+	 *         {@link #readValues(List, CompletableFuture)}
+	 */
+	CompletableFuture<JdwpReplyPacket> requestValues(List<? extends Field> fields) {
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
 			DataOutputStream outData = new DataOutputStream(outBytes);
@@ -1021,15 +1192,34 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				checkVM(field);
 				field.getFieldID().write(outData);
 			}
+			return requestVMAsync(JdwpCommandPacket.RT_GET_VALUES, outBytes);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.RT_GET_VALUES, outBytes);
+	/**
+	 * Waits for the reply of {@link #requestValues(List)} and decodes it.
+	 *
+	 * @param fields
+	 *            the static fields the values were requested for
+	 * @param reply
+	 *            the future reply
+	 * @return the requested fields with their values
+	 */
+	Map<Field, Value> readValues(List<? extends Field> fields, CompletableFuture<JdwpReplyPacket> reply) {
+		return readValues(fields, waitForReply(reply));
+	}
+
+	private Map<Field, Value> readValues(List<? extends Field> fields, JdwpReplyPacket replyPacket) {
+		try {
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
 			HashMap<Field, Value> map = new HashMap<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != fieldsSize) {
+			if (nrOfElements != fields.size()) {
 				throw new InternalError(
 						JDIMessages.ReferenceTypeImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_3);
 			}
@@ -1041,8 +1231,6 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -1137,7 +1325,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReader replyData = dataReader(replyPacket);
 			List<Method> elements = new ArrayList<>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -1374,6 +1562,31 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						+ typeTag);
 	}
 
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance.
+	 */
+	public static ReferenceTypeImpl readWithTypeTagAndSignature(
+			MirrorImpl target, boolean withGenericSignature, JdwpReader in)
+			throws IOException {
+		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
+		switch (typeTag) {
+		case 0:
+			return null;
+		case ArrayTypeImpl.typeTag:
+			return ArrayTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		case ClassTypeImpl.typeTag:
+			return ClassTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		case InterfaceTypeImpl.typeTag:
+			return InterfaceTypeImpl.readWithSignature(target,
+					withGenericSignature, in);
+		}
+		throw new InternalException(
+				JDIMessages.ReferenceTypeImpl_Invalid_ReferenceTypeID_tag_encountered___8
+						+ typeTag);
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ReferenceType#allLineLocations()
 	 */
@@ -1612,6 +1825,12 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			// get the line locations
 			allLineLocations = sourceNameAllLineLocations.get(sourceName);
 		}
+		if (allLineLocations == null && getStratum(stratum) == null) {
+			// Java stratum
+			LineIndex index = getLineIndex();
+			allLineLocations = index.hasCode() ? index.allLineLocations() : new ArrayList<>();
+			sourceNameAllLineLocations.put(sourceName, allLineLocations);
+		}
 		if (allLineLocations == null) { // the line locations are not known, compute and store them
 			allLineLocations = new ArrayList<>();
 			boolean hasLineInformation = false;
@@ -1641,29 +1860,91 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	@Override
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
-		List<Location> locations = new ArrayList<>();
-		boolean hasLineInformation = false;
-		AbsentInformationException exception = null;
-		while (allMethods.hasNext()) {
-			MethodImpl method = (MethodImpl) allMethods.next();
-			if (method.isAbstract() || method.isNative()) {
-				continue;
+		LineIndex index = getLineIndex();
+		if (!index.hasCode()) {
+			return new ArrayList<>();
+		}
+		// one line in the input source can be translate in multiple lines
+		// in different methods in the output source. We need all these
+		// locations.
+		return index.locationsOfLines(javaStratumLines(stratum, sourceName, lineNumber));
+	}
+
+	/**
+	 * Retrieves the line tables of all the methods of this type which are not
+	 * known yet, and their variable tables if asked, sending all the requests
+	 * before reading any reply so that there is a single round trip to the VM
+	 * rather than one per method. Methods without line or variable
+	 * information are left to be handled when their tables are asked for.
+	 *
+	 * @param withVariables
+	 *            whether to retrieve the variable tables as well
+	 */
+	public void prefetchMethodTables(boolean withVariables) {
+		List<MethodImpl> lineTableMethods = new ArrayList<>();
+		List<CompletableFuture<JdwpReplyPacket>> lineTables = new ArrayList<>();
+		List<MethodImpl> variableTableMethods = new ArrayList<>();
+		List<CompletableFuture<JdwpReplyPacket>> variableTables = new ArrayList<>();
+		initJdwpRequest();
+		try {
+			for (Method method : methods()) {
+				MethodImpl methodImpl = (MethodImpl) method;
+				if (!methodImpl.isLineTableKnown()) {
+					lineTableMethods.add(methodImpl);
+					lineTables.add(methodImpl.requestLineTable());
+				}
+				if (withVariables && !methodImpl.isVariableTableKnown()) {
+					variableTableMethods.add(methodImpl);
+					variableTables.add(methodImpl.requestVariables());
+				}
 			}
-			// one line in the input source can be translate in multiple lines
-			// in different
-			// methods in the output source. We need all these locations.
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+		RuntimeException error = null;
+		for (int i = 0; i < lineTables.size(); i++) {
 			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
-				hasLineInformation = true;
+				JdwpReplyPacket reply = waitForReply(lineTables.get(i));
+				lineTableMethods.get(i).readLineTable(reply);
 			} catch (AbsentInformationException e) {
-				exception = e;
+				// the method has no line information
+			} catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				}
 			}
 		}
-		if (!hasLineInformation && exception != null) {
-			throw exception;
+		for (int i = 0; i < variableTables.size(); i++) {
+			try {
+				JdwpReplyPacket reply = waitForReply(variableTables.get(i));
+				if (reply.errorCode() != JdwpReplyPacket.ABSENT_INFORMATION) {
+					variableTableMethods.get(i).readVariables(reply);
+				}
+			} catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				}
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	/**
+	 * Returns the index of the line tables of the methods of this type,
+	 * building it on first use.
+	 */
+	private LineIndex getLineIndex() {
+		LineIndex index = fLineIndex;
+		if (index == null) {
+			prefetchMethodTables(false);
+			index = new LineIndex(virtualMachineImpl(), methods());
+			fLineIndex = index;
 		}
-		return locations;
+		return index;
 	}
 
 	/* (non-Javadoc)
@@ -1758,9 +2039,18 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			throw new AbsentInformationException(
 					JDIMessages.ReferenceTypeImpl_31);
 		}
-		// parse the source map.
-		fStrata = new HashMap<>();
-		SourceDebugExtensionParser.parse(fSmap, this);
+		// parse the source map, unless parsed for another type
+		SourceMap sourceMap = virtualMachineImpl().getSourceMap(fSmap);
+		fSourceMap = sourceMap;
+		fSmap = sourceMap.fSmap;
+		if (sourceMap.fOutputFileName != null) {
+			fSourceName = sourceMap.fOutputFileName;
+		}
+		fDefaultStratumId = sourceMap.fDefaultStratumId;
+		fStrata = sourceMap.fStrata;
+		if (sourceMap.fError != null) {
+			throw new AbsentInformationException(sourceMap.fError.getMessage());
+		}
 	}
 
 	/**
@@ -1816,29 +2106,6 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		return true;
 	}
 
-	/**
-	 * Set the output file name, i.e. the .java file used to generate the
-	 * bytecode.
-	 */
-	protected void setOutputFileName(String outputFileName) {
-		fSourceName = outputFileName;
-	}
-
-	/**
-	 * Set the default stratum. This stratum will be used for the method on
-	 * strata related data, but with no stratum parameter.
-	 */
-	protected void setDefaultStratumId(String defaultStratumId) {
-		fDefaultStratumId = defaultStratumId;
-	}
-
-	/**
-	 * Add a new stratum to this type.
-	 */
-	protected void addStratum(Stratum stratum) {
-		fStrata.put(stratum.fId, stratum);
-	}
-
 	/**
 	 * Return the name of the input source file of which the given code index is
 	 * part of the translation, for this stratum. If the code at the given index
@@ -1999,6 +2266,19 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		return method.javaStratumLocationsOfLines(javaStratumLines(stratumId, sourceName, lineNumber));
+	}
+
+	/**
+	 * Returns the lines in the Java stratum which are part of the translation
+	 * of the given line, in the given stratum in the source file with the
+	 * given source name, or in all source files if sourceName is
+	 * <code>null</code>.
+	 *
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private List<Integer> javaStratumLines(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		List<Integer> javaLines = new ArrayList<>();
 		if (stratum != null) {
@@ -2015,7 +2295,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} else { // Java stratum
 			javaLines.add(Integer.valueOf(lineNumber));
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		return javaLines;
 	}
 
 	/**
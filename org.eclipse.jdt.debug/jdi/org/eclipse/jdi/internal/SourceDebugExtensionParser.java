@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2012 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -228,9 +228,9 @@ public class SourceDebugExtensionParser {
 	}
 
 	/**
-	 * The reference type to which this source debug extension is associated.
+	 * The information parsed from the source debug extension.
 	 */
-	private final ReferenceTypeImpl fReferenceType;
+	private final ReferenceTypeImpl.SourceMap fSourceMap;
 
 	private final List<String> fDefinedStrata;
 
@@ -240,16 +240,29 @@ public class SourceDebugExtensionParser {
 	private boolean fLineSectionDefinedForCurrentStratum;
 	private int fCurrentLineFileId;
 
-	public static void parse(String smap, ReferenceTypeImpl referenceType)
-			throws AbsentInformationException {
-		new SourceDebugExtensionParser(referenceType).parseSmap(smap);
+	/**
+	 * Parses the given source debug extension. If it is invalid, the returned
+	 * information holds the reason why, along with what was parsed before.
+	 *
+	 * @param smap
+	 *            the source debug extension
+	 * @return the parsed information
+	 */
+	public static ReferenceTypeImpl.SourceMap parse(String smap) {
+		ReferenceTypeImpl.SourceMap sourceMap = new ReferenceTypeImpl.SourceMap(smap);
+		try {
+			new SourceDebugExtensionParser(sourceMap).parseSmap(smap);
+		} catch (AbsentInformationException e) {
+			sourceMap.fError = e;
+		}
+		return sourceMap;
 	}
 
 	/**
 	 * SourceDebugExtension constructor.
 	 */
-	private SourceDebugExtensionParser(ReferenceTypeImpl referenceType) {
-		fReferenceType = referenceType;
+	private SourceDebugExtensionParser(ReferenceTypeImpl.SourceMap sourceMap) {
+		fSourceMap = sourceMap;
 		fDefinedStrata = new ArrayList<>();
 		fDefinedStrata.add(VirtualMachineImpl.JAVA_STRATUM_NAME);
 	}
@@ -258,7 +271,7 @@ public class SourceDebugExtensionParser {
 		Lexer lexer = new Lexer(smap);
 		parseHeader(lexer);
 		parseSections(lexer);
-		if (!fDefinedStrata.contains(fReferenceType.defaultStratum())) {
+		if (!fDefinedStrata.contains(fSourceMap.fDefaultStratumId)) {
 			throw new AbsentInformationException(
 					JDIMessages.SourceDebugExtensionParser_2);
 		}
@@ -278,12 +291,12 @@ public class SourceDebugExtensionParser {
 			throw new AbsentInformationException(
 					JDIMessages.SourceDebugExtensionParser_5);
 		}
-		fReferenceType.setOutputFileName(getNonAsteriskString(lexer));
+		fSourceMap.fOutputFileName = getNonAsteriskString(lexer);
 		if (isAsteriskLexem(lexer.lexemType())) {
 			throw new AbsentInformationException(
 					JDIMessages.SourceDebugExtensionParser_6);
 		}
-		fReferenceType.setDefaultStratumId(getNonAsteriskString(lexer));
+		fSourceMap.fDefaultStratumId = getNonAsteriskString(lexer);
 	}
 
 	private void parseSections(Lexer lexer) throws AbsentInformationException {
@@ -356,7 +369,8 @@ public class SourceDebugExtensionParser {
 					new String[] { stratumId }));
 		}
 		fDefinedStrata.add(stratumId);
-		fReferenceType.addStratum(fCurrentStratum);
+		fCurrentStratum.compile();
+		fSourceMap.fStrata.put(stratumId, fCurrentStratum);
 	}
 
 	private void parseFileSection(Lexer lexer)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,12 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFrameID;
@@ -31,6 +33,7 @@ import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassNotLoadedException;
+import com.sun.jdi.Field;
 import com.sun.jdi.InvalidStackFrameException;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.LocalVariable;
@@ -123,43 +126,167 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		// Request values for local variables other than 'this'.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeWithThread(this, outData);
-			writeInt(sizeNotThis, "size", outData); //$NON-NLS-1$
+			List<LocalVariable> notThis = new ArrayList<>(sizeNotThis);
 			for (int i = 0; i < sizeAll; i++) {
 				if (!isThisValue[i]) {
-					LocalVariableImpl var = (LocalVariableImpl) variables
-							.get(i);
-					checkVM(var);
-					writeInt(var.slot(), "slot", outData); //$NON-NLS-1$
-					writeByte(var.tag(), "tag", JdwpID.tagMap(), outData); //$NON-NLS-1$
+					notThis.add(variables.get(i));
 				}
 			}
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.SF_GET_VALUES, outBytes);
+			map.putAll(readValues(notThis, requestValues(notThis)));
+			return map;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Sends the request for the values of the given local variables, which
+	 * must not include 'this', without waiting for the reply.
+	 *
+	 * @param variables
+	 *            the local variables, must not be empty
+	 * @return the future reply, to be decoded with
+	 *         {@link #readValues(List, CompletableFuture)}
+	 */
+	private CompletableFuture<JdwpReplyPacket> requestValues(List<? extends LocalVariable> variables) {
+		try {
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			int size = variables.size();
+			writeWithThread(this, outData);
+			writeInt(size, "size", outData); //$NON-NLS-1$
+			for (int i = 0; i < size; i++) {
+				LocalVariableImpl var = (LocalVariableImpl) variables.get(i);
+				checkVM(var);
+				writeInt(var.slot(), "slot", outData); //$NON-NLS-1$
+				writeByte(var.tag(), "tag", JdwpID.tagMap(), outData); //$NON-NLS-1$
+			}
+			return requestVMAsync(JdwpCommandPacket.SF_GET_VALUES, outBytes);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Waits for the reply of {@link #requestValues(List)} and decodes it.
+	 *
+	 * @param variables
+	 *            the local variables the values were requested for
+	 * @param reply
+	 *            the future reply
+	 * @return the requested local variables with their values
+	 */
+	private Map<LocalVariable, Value> readValues(List<? extends LocalVariable> variables, CompletableFuture<JdwpReplyPacket> reply) {
+		try {
+			JdwpReplyPacket replyPacket = waitForReply(reply);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			if (nrOfElements != sizeNotThis)
+			if (nrOfElements != variables.size())
 				throw new InternalError(
 						JDIMessages.StackFrameImpl_Retrieved_a_different_number_of_values_from_the_VM_than_requested_1);
 
-			for (int i = 0, j = 0; i < sizeAll; i++) {
-				if (!isThisValue[i])
-					map.put(variables.get(j++),
-							ValueImpl.readWithTag(this, replyData));
+			Map<LocalVariable, Value> map = new HashMap<>(nrOfElements);
+			for (int i = 0; i < nrOfElements; i++) {
+				map.put(variables.get(i), ValueImpl.readWithTag(this, replyData));
 			}
 			return map;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
+		}
+	}
+
+	/**
+	 * Retrieves what is shown of this frame when its thread suspends: the
+	 * values of the given local variables, 'this' and the values of its
+	 * fields, or the values of the given static fields for a static method.
+	 * The requests for 'this', the local variables and the static fields are
+	 * in flight at the same time, the fields of 'this' are requested once it
+	 * is known.
+	 *
+	 * @param variables
+	 *            the local variables, not including 'this'
+	 * @param withThis
+	 *            whether to retrieve 'this', <code>false</code> for static
+	 *            and native methods
+	 * @param staticFields
+	 *            the static fields of the declaring type to retrieve
+	 * @return Returns the values of this frame.
+	 * @throws InvalidStackFrameException
+	 *             if this frame is no longer valid
+	 */
+	public FrameValues getFrameValues(List<? extends LocalVariable> variables, boolean withThis, List<? extends Field> staticFields)
+			throws InvalidStackFrameException {
+		initJdwpRequest();
+		try {
+			CompletableFuture<JdwpReplyPacket> thisReply = withThis ? requestThisObject() : null;
+			CompletableFuture<JdwpReplyPacket> valuesReply = variables.isEmpty() ? null : requestValues(variables);
+			ReferenceTypeImpl declaringType = (ReferenceTypeImpl) fLocation.declaringType();
+			CompletableFuture<JdwpReplyPacket> staticReply = staticFields.isEmpty() ? null
+					: declaringType.requestValues(staticFields);
+
+			FrameValues result = new FrameValues();
+			if (thisReply != null) {
+				result.fThisObject = readThisObject(thisReply);
+			}
+			if (valuesReply != null) {
+				result.fValues = readValues(variables, valuesReply);
+			}
+			if (staticReply != null) {
+				result.fStaticValues = declaringType.readValues(staticFields, staticReply);
+			}
+			if (result.fThisObject != null) {
+				result.fThisValues = result.fThisObject.getValues(result.fThisObject.referenceType().allFields());
+			}
+			return result;
 		} finally {
 			handledJdwpRequest();
 		}
 	}
 
+	/**
+	 * The values of a stack frame retrieved at once with
+	 * {@link StackFrameImpl#getFrameValues(List, boolean, List)}.
+	 */
+	public static class FrameValues {
+		ObjectReference fThisObject;
+		Map<LocalVariable, Value> fValues = Collections.emptyMap();
+		Map<Field, Value> fThisValues = Collections.emptyMap();
+		Map<Field, Value> fStaticValues = Collections.emptyMap();
+
+		/**
+		 * @return Returns 'this', or <code>null</code> if not retrieved.
+		 */
+		public ObjectReference getThisObject() {
+			return fThisObject;
+		}
+
+		/**
+		 * @return Returns the local variables with their values.
+		 */
+		public Map<LocalVariable, Value> getValues() {
+			return fValues;
+		}
+
+		/**
+		 * @return Returns the fields of 'this' with their values.
+		 */
+		public Map<Field, Value> getThisValues() {
+			return fThisValues;
+		}
+
+		/**
+		 * @return Returns the static fields of the declaring type with their
+		 *         values.
+		 */
+		public Map<Field, Value> getStaticValues() {
+			return fStaticValues;
+		}
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.StackFrame#getArgumentValues()
 	 */
@@ -243,13 +370,34 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 	public ObjectReference thisObject() throws InvalidStackFrameException {
 		// Note that this information should not be cached.
 		initJdwpRequest();
+		try {
+			return readThisObject(requestThisObject());
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Sends the request for 'this' without waiting for the reply.
+	 */
+	private CompletableFuture<JdwpReplyPacket> requestThisObject() {
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
 			DataOutputStream outData = new DataOutputStream(outBytes);
 			writeWithThread(this, outData);
+			return requestVMAsync(JdwpCommandPacket.SF_THIS_OBJECT, outBytes);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.SF_THIS_OBJECT, outBytes);
+	/**
+	 * Waits for the reply of {@link #requestThisObject()} and decodes it.
+	 */
+	private ObjectReference readThisObject(CompletableFuture<JdwpReplyPacket> reply) {
+		try {
+			JdwpReplyPacket replyPacket = waitForReply(reply);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
 			DataInputStream replyData = replyPacket.dataInStream();
@@ -259,8 +407,6 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdi.OpaqueFrameException;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
@@ -46,6 +47,7 @@ import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMCannotBeModifiedException;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
 
 /**
  * This class implements the corresponding interfaces declared by the JDI
@@ -125,8 +127,96 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.TR_CURRENT_CONTENDED_MONITOR, this);
+			return readContendedMonitor(requestMonitors(JdwpCommandPacket.TR_CURRENT_CONTENDED_MONITOR));
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Returns the monitors several threads are waiting for and the monitors
+	 * they own. The requests for all threads are sent before waiting for any
+	 * reply, so that retrieving the monitors costs a single round trip to the
+	 * VM instead of two per thread. Threads that are not suspended or have
+	 * been collected are left out of the results.
+	 *
+	 * @param threads
+	 *            the threads to retrieve the monitors of
+	 * @param contendedMonitors
+	 *            receives the monitor each thread is waiting for, or
+	 *            <code>null</code> for the threads not waiting for a monitor
+	 * @param ownedMonitors
+	 *            receives the monitors each thread owns
+	 */
+	public static void monitors(List<? extends ThreadReference> threads,
+			Map<ThreadReference, ObjectReference> contendedMonitors,
+			Map<ThreadReference, List<ObjectReference>> ownedMonitors) {
+		if (threads.isEmpty()) {
+			return;
+		}
+		VirtualMachine vm = threads.get(0).virtualMachine();
+		if (!vm.canGetCurrentContendedMonitor() || !vm.canGetOwnedMonitorInfo()) {
+			throw new UnsupportedOperationException();
+		}
+		List<CompletableFuture<JdwpReplyPacket>> replies = new ArrayList<>(threads.size() * 2);
+		for (ThreadReference thread : threads) {
+			ThreadReferenceImpl threadImpl = (ThreadReferenceImpl) thread;
+			replies.add(threadImpl.requestMonitors(JdwpCommandPacket.TR_CURRENT_CONTENDED_MONITOR));
+			replies.add(threadImpl.requestMonitors(JdwpCommandPacket.TR_OWNED_MONITORS));
+		}
+		RuntimeException failure = null;
+		for (int i = 0; i < threads.size(); i++) {
+			ThreadReferenceImpl thread = (ThreadReferenceImpl) threads.get(i);
+			thread.initJdwpRequest();
+			try {
+				ObjectReference contendedMonitor = thread.readContendedMonitor(replies.get(2 * i));
+				List<ObjectReference> owned = thread.readOwnedMonitors(replies.get(2 * i + 1));
+				contendedMonitors.put(thread, contendedMonitor);
+				ownedMonitors.put(thread, owned);
+			} catch (IncompatibleThreadStateException | ObjectCollectedException e) {
+				// thread not suspended (anymore) or gone, leave it out
+			} catch (RuntimeException e) {
+				// read the other replies before failing
+				if (failure == null) {
+					failure = e;
+				}
+			} finally {
+				thread.handledJdwpRequest();
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Sends a request for the monitors of this thread without waiting for the
+	 * reply.
+	 *
+	 * @param command
+	 *            {@link JdwpCommandPacket#TR_CURRENT_CONTENDED_MONITOR} or
+	 *            {@link JdwpCommandPacket#TR_OWNED_MONITORS}
+	 */
+	private CompletableFuture<JdwpReplyPacket> requestMonitors(int command) {
+		try {
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			write(this, outData);
+			return requestVMAsync(command, outBytes);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Waits for the reply of a request for the contended monitor of this
+	 * thread and decodes it.
+	 */
+	private ObjectReference readContendedMonitor(CompletableFuture<JdwpReplyPacket> reply)
+			throws IncompatibleThreadStateException {
+		try {
+			JdwpReplyPacket replyPacket = waitForReply(reply);
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_THREAD:
 				throw new ObjectCollectedException();
@@ -143,8 +233,37 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
-		} finally {
-			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Waits for the reply of a request for the owned monitors of this thread
+	 * and decodes it.
+	 */
+	private List<ObjectReference> readOwnedMonitors(CompletableFuture<JdwpReplyPacket> reply)
+			throws IncompatibleThreadStateException {
+		try {
+			JdwpReplyPacket replyPacket = waitForReply(reply);
+			switch (replyPacket.errorCode()) {
+			case JdwpReplyPacket.INVALID_THREAD:
+				throw new ObjectCollectedException();
+			case JdwpReplyPacket.THREAD_NOT_SUSPENDED:
+				throw new IncompatibleThreadStateException(
+						JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_5);
+			}
+			defaultReplyErrorHandler(replyPacket.errorCode());
+			DataInputStream replyData = replyPacket.dataInStream();
+
+			int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
+			List<ObjectReference> result = new ArrayList<>(nrOfMonitors);
+			for (int i = 0; i < nrOfMonitors; i++) {
+				result.add(ObjectReferenceImpl.readObjectRefWithTag(this,
+						replyData));
+			}
+			return result;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
 		}
 	}
 
@@ -263,15 +382,38 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			IncompatibleThreadStateException {
 		// Note that this information should not be cached.
 		initJdwpRequest();
+		try {
+			return readFrames(requestFrames(start, length));
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Sends the request for stack frames of this thread without waiting for
+	 * the reply.
+	 */
+	private CompletableFuture<JdwpReplyPacket> requestFrames(int start, int length) {
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
 			DataOutputStream outData = new DataOutputStream(outBytes);
 			write(this, outData);
 			writeInt(start, "start", outData); //$NON-NLS-1$
 			writeInt(length, "length", outData); //$NON-NLS-1$
+			return requestVMAsync(JdwpCommandPacket.TR_FRAMES, outBytes);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		}
+	}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.TR_FRAMES, outBytes);
+	/**
+	 * Waits for the reply of {@link #requestFrames(int, int)} and decodes it.
+	 */
+	private List<StackFrame> readFrames(CompletableFuture<JdwpReplyPacket> reply) throws IndexOutOfBoundsException,
+			IncompatibleThreadStateException {
+		try {
+			JdwpReplyPacket replyPacket = waitForReply(reply);
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_THREAD:
 				throw new ObjectCollectedException();
@@ -299,8 +441,6 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
-		} finally {
-			handledJdwpRequest();
 		}
 	}
 
@@ -428,28 +568,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.TR_OWNED_MONITORS, this);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_THREAD:
-				throw new ObjectCollectedException();
-			case JdwpReplyPacket.THREAD_NOT_SUSPENDED:
-				throw new IncompatibleThreadStateException(
-						JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_5);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
-			List<ObjectReference> result = new ArrayList<>(nrOfMonitors);
-			for (int i = 0; i < nrOfMonitors; i++) {
-				result.add(ObjectReferenceImpl.readObjectRefWithTag(this,
-						replyData));
-			}
-			return result;
-		} catch (IOException e) {
-			defaultIOExceptionHandler(e);
-			return null;
+			return readOwnedMonitors(requestMonitors(JdwpCommandPacket.TR_OWNED_MONITORS));
 		} finally {
 			handledJdwpRequest();
 		}
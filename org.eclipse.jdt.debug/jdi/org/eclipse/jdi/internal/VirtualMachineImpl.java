@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,23 +17,30 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdi.Bootstrap;
 import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.connect.TransportMetrics;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReader;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.ClassPrepareRequestImpl;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.osgi.util.NLS;
 
@@ -90,13 +97,52 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	/** If a launching connector is used, we store the process. */
 	private Process fLaunchedProcess;
 
+	/** Default maximum number of cached reference types. */
+	public static final int DEFAULT_REFTYPE_CACHE_SIZE = 256 * 1024;
+	/** Default maximum number of cached object references. */
+	public static final int DEFAULT_OBJECT_CACHE_SIZE = 64 * 1024;
+
 	/**
 	 * The following field contains cached Mirrors. Note that these are
 	 * optional: their only purpose is to speed up the debugger by being able to
-	 * use the stored results of JDWP calls.
+	 * use the stored results of JDWP calls. The caches bound the mirrors they
+	 * keep alive, an evicted mirror is returned again while it is referenced
+	 * elsewhere, and only created again once garbage collected.
+	 */
+	private final MirrorCache<ReferenceTypeImpl> fCachedReftypes = new MirrorCache<>(
+			DEFAULT_REFTYPE_CACHE_SIZE, MirrorCache.EvictionPolicy.LEAST_RECENTLY_USED);
+	private final MirrorCache<ObjectReferenceImpl> fCachedObjects = new MirrorCache<>(
+			DEFAULT_OBJECT_CACHE_SIZE, MirrorCache.EvictionPolicy.LEAST_RECENTLY_USED);
+
+	/**
+	 * Table in which the signatures read from JDWP replies are interned, so
+	 * that equal signatures of different types and members share one string.
+	 */
+	private final Map<String, String> fSignatures = new ConcurrentHashMap<>();
+
+	/**
+	 * The information parsed from the SMAPs of the types, by SMAP, so that the
+	 * types generated with the same SMAP share it and it is parsed once. The
+	 * information is only weakly held: it is forgotten once no type refers to
+	 * it anymore, for example after the types were unloaded.
+	 */
+	private final Map<String, SourceMapReference> fSourceMaps = new HashMap<>();
+
+	/** Queue of the source maps that have been garbage collected. */
+	private final ReferenceQueue<ReferenceTypeImpl.SourceMap> fCollectedSourceMaps = new ReferenceQueue<>();
+
+	/**
+	 * Index of the loaded reference types by signature, least recently used
+	 * first. An entry is created when the types of a signature are requested
+	 * from the VM. It is kept up to date by an internal class prepare request
+	 * for the signature, enabled as long as the entry is in the index, and
+	 * is invalidated by class unload events. At most
+	 * {@link #MAX_KNOWN_SIGNATURES} signatures are indexed.
 	 */
-	private final ValueCache fCachedReftypes = new ValueCache();
-	private final ValueCache fCachedObjects = new ValueCache();
+	private final Map<String, KnownRefTypes> fKnownRefTypes = new LinkedHashMap<>(16, 0.75f, true);
+
+	/** Maximum number of signatures in the index of loaded reference types. */
+	private static final int MAX_KNOWN_SIGNATURES = 256;
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -160,6 +206,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private String fDefaultStratum;
 	private final PacketReceiveManager fPacketReceiveManager;
 	private final PacketSendManager fPacketSendManager;
+	/** Statistics of the packets exchanged with the VM. */
+	private final TransportMetrics fTransportMetrics = new TransportMetrics();
 
 	/**
 	 * Creates a new Virtual Machine.
@@ -172,6 +220,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				.virtualMachineManager()).getGlobalRequestTimeout();
 
 		fPacketReceiveManager = new PacketReceiveManager(connection, this);
+		fPacketReceiveManager.setTransportMetrics(fTransportMetrics);
 		Thread receiveThread = new Thread(fPacketReceiveManager,
 				JDIMessages.VirtualMachineImpl_0);
 		receiveThread.setDaemon(true);
@@ -179,6 +228,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		receiveThread.start();
 
 		fPacketSendManager = new PacketSendManager(connection);
+		fPacketSendManager.setTransportMetrics(fTransportMetrics);
 		Thread sendThread = new Thread(fPacketSendManager,
 				JDIMessages.VirtualMachineImpl_1);
 		sendThread.setDaemon(true);
@@ -225,21 +275,21 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ReferenceTypeImpl getCachedMirror(JdwpReferenceTypeID ID) {
-		return (ReferenceTypeImpl) fCachedReftypes.get(ID);
+		return fCachedReftypes.get(ID.value());
 	}
 
 	/**
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ObjectReferenceImpl getCachedMirror(JdwpObjectID ID) {
-		return (ObjectReferenceImpl) fCachedObjects.get(ID);
+		return fCachedObjects.get(ID.value());
 	}
 
 	/**
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ReferenceTypeImpl mirror) {
-		fCachedReftypes.put(mirror.getRefTypeID(), mirror);
+		fCachedReftypes.put(mirror.getRefTypeID().value(), mirror);
 		// TBD: It is now yet possible to only ask for unload events for
 		// classes that we know of due to a limitation in the J9 VM.
 		// eventRequestManagerImpl().enableInternalClasUnloadEvent(mirror);
@@ -249,7 +299,23 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ObjectReferenceImpl mirror) {
-		fCachedObjects.put(mirror.getObjectID(), mirror);
+		fCachedObjects.put(mirror.getObjectID().value(), mirror);
+	}
+
+	/**
+	 * @return Returns the cache of reference type mirrors, for configuration
+	 *         and statistics.
+	 */
+	public MirrorCache<ReferenceTypeImpl> referenceTypeCache() {
+		return fCachedReftypes;
+	}
+
+	/**
+	 * @return Returns the cache of object reference mirrors, for configuration
+	 *         and statistics.
+	 */
+	public MirrorCache<ObjectReferenceImpl> objectCache() {
+		return fCachedObjects;
 	}
 
 	/**
@@ -257,9 +323,9 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public void flushStoredJdwpResults() {
 		// All known classes also become invalid.
-		Iterator<Object> iter = fCachedReftypes.values().iterator();
+		Iterator<ReferenceTypeImpl> iter = fCachedReftypes.values().iterator();
 		while (iter.hasNext()) {
-			ReferenceTypeImpl refType = (ReferenceTypeImpl) iter.next();
+			ReferenceTypeImpl refType = iter.next();
 			refType.flushStoredJdwpResults();
 		}
 
@@ -268,13 +334,43 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		fHcrCapabilities = null;
 	}
 
+	/**
+	 * Adds a known class that has been prepared in the VM to the signature
+	 * index. Only signatures for which the loaded types have already been
+	 * requested are indexed, types of other signatures are ignored.
+	 */
+	public final void addKnownRefType(ReferenceTypeImpl refType) {
+		synchronized (fKnownRefTypes) {
+			KnownRefTypes known = fKnownRefTypes.get(refType.signature());
+			if (known != null && !known.fTypes.contains(refType)) {
+				known.fTypes.add(refType);
+			}
+		}
+	}
+
 	/*
 	 * Removes a known class. A class/interface is known if we have ever
 	 * received its ReferenceTypeID and we have not received an unload event for
 	 * it.
 	 */
 	public final void removeKnownRefType(String signature) {
-		List<ReferenceType> refTypeList = classesBySignature(signature);
+		List<ReferenceType> refTypeList = null;
+		synchronized (fKnownRefTypes) {
+			KnownRefTypes known = fKnownRefTypes.get(signature);
+			if (known != null) {
+				if (known.fComplete) {
+					refTypeList = new ArrayList<>(known.fTypes);
+				}
+				// The types of the signature, possibly loaded by other class
+				// loaders, are requested from the VM again on next lookup.
+				known.fTypes.clear();
+				known.fComplete = false;
+				known.fInvalidations++;
+			}
+		}
+		if (refTypeList == null) {
+			refTypeList = requestClassesBySignature(signature);
+		}
 		if (refTypeList.isEmpty()) {
 			return;
 		}
@@ -285,7 +381,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		if (refTypeList.size() == 1) {
 			ReferenceTypeImpl refType = (ReferenceTypeImpl) refTypeList.get(0);
 			refType.flushStoredJdwpResults();
-			fCachedReftypes.remove(refType.getRefTypeID());
+			fCachedReftypes.remove(refType.getRefTypeID().value());
 			return;
 		}
 
@@ -303,7 +399,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			if (!prepared) {
 				refType.flushStoredJdwpResults();
 				iter.remove();
-				fCachedReftypes.remove(refType.getRefTypeID());
+				fCachedReftypes.remove(refType.getRefTypeID().value());
 			}
 		}
 	}
@@ -333,6 +429,80 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fPacketReceiveManager;
 	}
 
+	/**
+	 * @return Returns the table in which signatures read from JDWP replies are
+	 *         interned.
+	 */
+	public Map<String, String> signatureTable() {
+		return fSignatures;
+	}
+
+	/**
+	 * Returns the information parsed from the given SMAP, parsing it if no
+	 * type with the same SMAP has been asked for before.
+	 *
+	 * @param smap
+	 *            the SMAP of a type
+	 * @return Returns the information parsed from the SMAP.
+	 */
+	public ReferenceTypeImpl.SourceMap getSourceMap(String smap) {
+		synchronized (fSourceMaps) {
+			ReferenceTypeImpl.SourceMap sourceMap = cachedSourceMap(smap);
+			if (sourceMap != null) {
+				return sourceMap;
+			}
+		}
+		// parse outside of the lock, the SMAPs of other types can be looked
+		// up meanwhile
+		ReferenceTypeImpl.SourceMap parsed = SourceDebugExtensionParser.parse(smap);
+		synchronized (fSourceMaps) {
+			ReferenceTypeImpl.SourceMap sourceMap = cachedSourceMap(smap);
+			if (sourceMap != null) {
+				return sourceMap;
+			}
+			fSourceMaps.put(smap, new SourceMapReference(parsed, fCollectedSourceMaps));
+			return parsed;
+		}
+	}
+
+	/**
+	 * Returns the information parsed from the given SMAP if it is still
+	 * cached, after forgetting the information that has been garbage
+	 * collected. Must be called while holding the lock of the cache.
+	 */
+	private ReferenceTypeImpl.SourceMap cachedSourceMap(String smap) {
+		SourceMapReference collected;
+		while ((collected = (SourceMapReference) fCollectedSourceMaps.poll()) != null) {
+			if (fSourceMaps.get(collected.fSmap) == collected) {
+				fSourceMaps.remove(collected.fSmap);
+			}
+		}
+		SourceMapReference reference = fSourceMaps.get(smap);
+		return reference == null ? null : reference.get();
+	}
+
+	/**
+	 * Weak reference to the information parsed from a SMAP, which knows the
+	 * SMAP it is cached under.
+	 */
+	private static class SourceMapReference extends WeakReference<ReferenceTypeImpl.SourceMap> {
+
+		final String fSmap;
+
+		SourceMapReference(ReferenceTypeImpl.SourceMap sourceMap, ReferenceQueue<ReferenceTypeImpl.SourceMap> queue) {
+			super(sourceMap, queue);
+			fSmap = sourceMap.fSmap;
+		}
+	}
+
+	/**
+	 * @return Returns the statistics of the JDWP packets exchanged with the
+	 *         VM. Use {@link TransportMetrics#snapshot()} for a stable copy.
+	 */
+	public TransportMetrics transportMetrics() {
+		return fTransportMetrics;
+	}
+
 	/*
 	 * @return Returns Manager for sending packets to the Virtual Machine.
 	 */
@@ -376,7 +546,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					: JdwpCommandPacket.VM_ALL_CLASSES;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReader replyData = dataReader(replyPacket);
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -409,7 +579,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	/**
 	 * @return Returns an iterator over all cached classes.
 	 */
-	protected final Iterator<Object> allCachedRefTypes() {
+	protected final Iterator<ReferenceTypeImpl> allCachedRefTypes() {
 		return fCachedReftypes.values().iterator();
 	}
 
@@ -645,9 +815,70 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 
 	/**
 	 * @return Returns the loaded reference types that match a given signature.
+	 *         The types are taken from the signature index if possible, and
+	 *         requested from the VM otherwise. Signatures without known types
+	 *         are always requested, since the class prepare event of a type
+	 *         that has just been loaded may not have been read yet. Array
+	 *         types are never prepared, so their signatures are not indexed.
 	 */
 	public List<ReferenceType> classesBySignature(String signature) {
-		// Note that this information should not be cached.
+		if (signature.startsWith("[")) { //$NON-NLS-1$
+			return requestClassesBySignature(signature);
+		}
+		KnownRefTypes known;
+		KnownRefTypes evicted = null;
+		int invalidations;
+		synchronized (fKnownRefTypes) {
+			known = fKnownRefTypes.get(signature);
+			if (known == null) {
+				known = new KnownRefTypes();
+				fKnownRefTypes.put(signature, known);
+				if (fKnownRefTypes.size() > MAX_KNOWN_SIGNATURES) {
+					Iterator<KnownRefTypes> leastRecentlyUsed = fKnownRefTypes.values().iterator();
+					evicted = leastRecentlyUsed.next();
+					leastRecentlyUsed.remove();
+				}
+			} else if (known.fComplete && !known.fTypes.isEmpty()) {
+				return new ArrayList<>(known.fTypes);
+			}
+			invalidations = known.fInvalidations;
+		}
+		if (evicted != null) {
+			evicted.unwatch();
+		}
+		// The class prepare events of the signature are requested before its
+		// types, so that no type prepared after the reply is missed.
+		known.watch(this, signature);
+		boolean indexed;
+		synchronized (fKnownRefTypes) {
+			indexed = fKnownRefTypes.get(signature) == known;
+		}
+		if (!indexed) {
+			// evicted while the request was enabled
+			known.unwatch();
+		}
+		List<ReferenceType> elements = requestClassesBySignature(signature);
+		synchronized (fKnownRefTypes) {
+			// Types prepared while the request was pending have been added to
+			// the entry. If a type of the signature was unloaded meanwhile, the
+			// entry has been invalidated and the reply is not indexed.
+			if (elements != null && fKnownRefTypes.get(signature) == known && known.fInvalidations == invalidations) {
+				for (ReferenceType element : elements) {
+					if (!known.fTypes.contains(element)) {
+						known.fTypes.add((ReferenceTypeImpl) element);
+					}
+				}
+				known.fComplete = true;
+			}
+		}
+		return elements;
+	}
+
+	/**
+	 * @return Returns the loaded reference types that match a given
+	 *         signature, as reported by the VM.
+	 */
+	private List<ReferenceType> requestClassesBySignature(String signature) {
 		initJdwpRequest();
 		try {
 			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
@@ -1276,7 +1507,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
-				fCachedReftypes.remove(type.getRefTypeID()); // flush local
+				fCachedReftypes.remove(type.getRefTypeID().value()); // flush local
 																// cache of
 																// redefined
 																// types
@@ -1517,6 +1748,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public synchronized void setDisconnected(boolean disconnected) {
 		fIsDisconnected = disconnected;
+		if (disconnected) {
+			// no more replies to intern signatures from
+			fSignatures.clear();
+		}
 	}
 
 	/**
@@ -1612,4 +1847,37 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	public boolean mayCreateVirtualThreads() {
 		return isJdwpVersionGreaterOrEqual(19, 0);
 	}
+
+	/**
+	 * The loaded reference types of a signature. The entry is complete once
+	 * the types have been received from the VM, and until a type of the
+	 * signature is unloaded.
+	 */
+	private static class KnownRefTypes {
+		final List<ReferenceTypeImpl> fTypes = new ArrayList<>(1);
+		boolean fComplete;
+		int fInvalidations;
+		private ClassPrepareRequestImpl fRequest;
+
+		/**
+		 * Enables the internal class prepare request of the signature, unless
+		 * it is enabled already.
+		 */
+		synchronized void watch(VirtualMachineImpl vm, String signature) {
+			if (fRequest == null) {
+				fRequest = vm.eventRequestManagerImpl().enableInternalClassPrepareEvent(TypeImpl.signatureToName(signature));
+			}
+		}
+
+		/**
+		 * Deletes the internal class prepare request of the signature, once
+		 * the entry has left the index.
+		 */
+		synchronized void unwatch() {
+			if (fRequest != null) {
+				fRequest.disable();
+				fRequest = null;
+			}
+		}
+	}
 }
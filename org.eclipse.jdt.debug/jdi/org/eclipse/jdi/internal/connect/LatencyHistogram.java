@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in microseconds with logarithmic buckets. Every
+ * power of two is divided into eight linear sub-buckets, so recorded values
+ * are reported with a relative error of at most 12.5%, across the whole range
+ * of <code>long</code>. Recording a value does not allocate and is thread
+ * safe.
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray fCounts = new AtomicLongArray(BUCKETS);
+	private final AtomicLong fCount = new AtomicLong();
+	private final AtomicLong fSum = new AtomicLong();
+	private final AtomicLong fMax = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param micros
+	 *            the latency in microseconds, negative values are recorded
+	 *            as zero
+	 */
+	public void record(long micros) {
+		long value = Math.max(0, micros);
+		fCounts.incrementAndGet(bucketOf(value));
+		fCount.incrementAndGet();
+		fSum.addAndGet(value);
+		long max = fMax.get();
+		while (value > max && !fMax.compareAndSet(max, value)) {
+			max = fMax.get();
+		}
+	}
+
+	/**
+	 * @return Returns the number of recorded latencies.
+	 */
+	public long getCount() {
+		return fCount.get();
+	}
+
+	/**
+	 * @return Returns the largest recorded latency in microseconds.
+	 */
+	public long getMax() {
+		return fMax.get();
+	}
+
+	/**
+	 * @return Returns the mean of the recorded latencies in microseconds, or
+	 *         <code>0</code> if none were recorded.
+	 */
+	public double getMean() {
+		long count = fCount.get();
+		return count == 0 ? 0 : (double) fSum.get() / count;
+	}
+
+	/**
+	 * Returns the latency below or at which the given percentage of the
+	 * recorded latencies fall, as the upper bound of the bucket that contains
+	 * it.
+	 *
+	 * @param percentile
+	 *            the percentile, between <code>0</code> and <code>100</code>
+	 * @return Returns the latency in microseconds, or <code>0</code> if none
+	 *         were recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += fCounts.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += fCounts.get(i);
+			if (seen >= rank) {
+				return Math.min(upperBoundOf(i), fMax.get());
+			}
+		}
+		return fMax.get();
+	}
+
+	/**
+	 * @return Returns a copy of this histogram, unaffected by latencies
+	 *         recorded later.
+	 */
+	public LatencyHistogram copy() {
+		LatencyHistogram copy = new LatencyHistogram();
+		for (int i = 0; i < BUCKETS; i++) {
+			copy.fCounts.set(i, fCounts.get(i));
+		}
+		copy.fCount.set(fCount.get());
+		copy.fSum.set(fSum.get());
+		copy.fMax.set(fMax.get());
+		return copy;
+	}
+
+	/**
+	 * @return Returns the index of the bucket for the given non-negative
+	 *         value.
+	 */
+	static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+		return (shift + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return Returns the largest value counted in the given bucket.
+	 */
+	static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lowerBound + (1L << shift) - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", mean=" + (long) getMean() //$NON-NLS-1$ //$NON-NLS-2$
+				+ "us, p50=" + getValueAtPercentile(50) //$NON-NLS-1$
+				+ "us, p99=" + getValueAtPercentile(99) //$NON-NLS-1$
+				+ "us, max=" + getMax() + "us"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
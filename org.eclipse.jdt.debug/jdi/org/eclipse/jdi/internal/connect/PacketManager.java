@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,8 @@ public abstract class PacketManager implements Runnable {
 	 */
 	private Thread fPartnerThread;
 	private IOException fDisconnectException;
+	/** Statistics of the packets exchanged, may be <code>null</code>. */
+	private volatile TransportMetrics fTransportMetrics;
 
 	/**
 	 * Creates new PacketManager.
@@ -85,6 +87,25 @@ public abstract class PacketManager implements Runnable {
 		return fDisconnectException;
 	}
 
+	/**
+	 * Sets the metrics in which the packets handled by this manager are
+	 * recorded.
+	 *
+	 * @param metrics
+	 *            the metrics or <code>null</code> to record nothing
+	 */
+	public void setTransportMetrics(TransportMetrics metrics) {
+		fTransportMetrics = metrics;
+	}
+
+	/**
+	 * @return Returns the metrics in which packets are recorded, or
+	 *         <code>null</code> if none.
+	 */
+	public TransportMetrics getTransportMetrics() {
+		return fTransportMetrics;
+	}
+
 	/**
 	 * Assigns thread of partner, to be notified if we have an IO exception.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,14 @@ package org.eclipse.jdi.internal.connect;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.ListIterator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
@@ -42,17 +48,60 @@ public class PacketReceiveManager extends PacketManager {
 	/** Generic timeout value for infinite timeout. */
 	public static final int TIMEOUT_INFINITE = -1;
 
-	/** List of Command packets received from Virtual Machine. */
-	private final LinkedList<JdwpCommandPacket> fCommandPackets;
+	/**
+	 * Marker queued to wake up the threads waiting for command packets when
+	 * the connection is lost.
+	 */
+	private static final JdwpCommandPacket DISCONNECTED = new JdwpCommandPacket(0);
+
+	/**
+	 * Command packets received from the Virtual Machine, in one queue per
+	 * command so that a thread waiting for a command neither scans nor is
+	 * woken up by packets of other commands. A queue hands a packet directly
+	 * to a waiting thread without taking a lock.
+	 */
+	private final ConcurrentHashMap<Integer, LinkedTransferQueue<JdwpCommandPacket>> fCommandPackets;
+
+	/**
+	 * The queue of composite event packets, the only command sent by the
+	 * Virtual Machine in practice, looked up without going through the map.
+	 */
+	private final LinkedTransferQueue<JdwpCommandPacket> fCompositeEvents;
+
+	/** Number of command packets queued, over all commands. */
+	private final AtomicInteger fQueuedCommands;
+
+	/**
+	 * Pending replies keyed by request id. The future for a request is created
+	 * by whichever side comes first, the requester waiting for the reply or
+	 * the receiving thread delivering it, and is removed by the requester.
+	 * Access to the map is guarded by the map itself; each requester waits on
+	 * its own future so a reply only wakes up the thread that asked for it.
+	 */
+	private final HashMap<Integer, CompletableFuture<JdwpReplyPacket>> fReplies;
 
-	/** List of Reply packets received from Virtual Machine. */
-	private final LinkedList<JdwpReplyPacket> fReplyPackets;
+	/**
+	 * Number of timed out requests remembered so that their replies can be
+	 * discarded, must be a power of two.
+	 */
+	private static final int TIMED_OUT_CAPACITY = 1024;
 
 	/**
-	 * List of Packets that have timed out already. Maintained so that responses
-	 * can be discarded if/when they are received.
+	 * Requests that have timed out already, maintained so that responses can
+	 * be discarded if/when they are received. Request ids are allocated
+	 * sequentially, so a request is stored in the slot given by the low bits
+	 * of its id; a request is only forgotten once {@value #TIMED_OUT_CAPACITY}
+	 * newer requests have timed out or been issued. Access to the arrays is
+	 * guarded by <code>fTimedOutIds</code>.
 	 */
-	private final ArrayList<Integer> fTimedOutPackets;
+	private final int[] fTimedOutIds;
+	private final int[] fTimedOutCommands;
+	private final long[] fTimedOutTimes;
+	private final boolean[] fTimedOutUsed;
+	private int fTimedOutCount;
+
+	/** Computes the time to wait for replies. */
+	private final RequestTimeoutPolicy fTimeoutPolicy;
 
 	private final VirtualMachineImpl fVM;
 
@@ -62,19 +111,31 @@ public class PacketReceiveManager extends PacketManager {
 	public PacketReceiveManager(Connection connection, VirtualMachineImpl vmImpl) {
 		super(connection);
 		fVM = vmImpl;
-		fCommandPackets = new LinkedList<>();
-		fReplyPackets = new LinkedList<>();
-		fTimedOutPackets = new ArrayList<>();
+		fCommandPackets = new ConcurrentHashMap<>();
+		fCompositeEvents = new LinkedTransferQueue<>();
+		fCommandPackets.put(Integer.valueOf(JdwpCommandPacket.E_COMPOSITE), fCompositeEvents);
+		fQueuedCommands = new AtomicInteger();
+		fReplies = new HashMap<>();
+		fTimedOutIds = new int[TIMED_OUT_CAPACITY];
+		fTimedOutCommands = new int[TIMED_OUT_CAPACITY];
+		fTimedOutTimes = new long[TIMED_OUT_CAPACITY];
+		fTimedOutUsed = new boolean[TIMED_OUT_CAPACITY];
+		fTimeoutPolicy = new RequestTimeoutPolicy();
 	}
 
 	@Override
 	public void disconnectVM() {
 		super.disconnectVM();
-		synchronized (fCommandPackets) {
-			fCommandPackets.notifyAll();
+		for (LinkedTransferQueue<JdwpCommandPacket> queue : fCommandPackets.values()) {
+			queue.offer(DISCONNECTED);
 		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.notifyAll();
+		List<CompletableFuture<JdwpReplyPacket>> replies;
+		synchronized (fReplies) {
+			replies = new ArrayList<>(fReplies.values());
+		}
+		for (CompletableFuture<JdwpReplyPacket> reply : replies) {
+			reply.completeExceptionally(new VMDisconnectedException(
+					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2));
 		}
 	}
 
@@ -103,20 +164,23 @@ public class PacketReceiveManager extends PacketManager {
 	 */
 	public JdwpCommandPacket getCommand(int command, long timeToWait)
 			throws InterruptedException {
+		// The queue must exist before checking for a disconnection, so that
+		// it is woken up by disconnectVM() if that happens while waiting.
+		LinkedTransferQueue<JdwpCommandPacket> queue = commandQueue(command);
 		JdwpCommandPacket packet = null;
-		synchronized (fCommandPackets) {
-			long remainingTime = timeToWait;
-			long timeBeforeWait;
-			long waitedTime;
-
+		if (!VMIsDisconnected()) {
 			// Wait until command is available.
-			while (!VMIsDisconnected()
-					&& (packet = removeCommandPacket(command)) == null
-					&& (timeToWait < 0 || remainingTime > 0)) {
-				timeBeforeWait = System.currentTimeMillis();
-				waitForPacketAvailable(remainingTime, fCommandPackets);
-				waitedTime = System.currentTimeMillis() - timeBeforeWait;
-				remainingTime -= waitedTime;
+			packet = waitForPacketAvailable(timeToWait, queue);
+			if (packet == DISCONNECTED) {
+				// pass on to the next waiting thread
+				queue.offer(DISCONNECTED);
+				packet = null;
+			} else if (packet != null) {
+				int depth = fQueuedCommands.decrementAndGet();
+				TransportMetrics metrics = getTransportMetrics();
+				if (metrics != null) {
+					metrics.commandQueueDepth(depth);
+				}
 			}
 		}
 		// Check for an IO Exception.
@@ -150,47 +214,50 @@ public class PacketReceiveManager extends PacketManager {
 	 * @return Returns a specified Reply Packet from the Virtual Machine.
 	 */
 	public JdwpReplyPacket getReply(int id, long timeToWait) {
-		JdwpReplyPacket packet = null;
+		return getReply(id, -1, timeToWait);
+	}
+
+	/**
+	 * @param command
+	 *            the command of the request, or <code>-1</code> if its
+	 *            latency is not to be recorded by the timeout policy
+	 * @return Returns a specified Reply Packet from the Virtual Machine.
+	 */
+	private JdwpReplyPacket getReply(int id, int command, long timeToWait) {
+		long start = System.nanoTime();
+		CompletableFuture<JdwpReplyPacket> reply = getReplyFuture(id);
 		long remainingTime = timeToWait;
-		synchronized (fReplyPackets) {
-			final long timeBeforeWait = System.currentTimeMillis();
-			// Wait until reply is available.
-			while (!VMIsDisconnected() && remainingTime > 0) {
-				packet = removeReplyPacket(id);
-				if (packet != null) {
-					break;
-				}
-				try {
-					waitForPacketAvailable(remainingTime, fReplyPackets);
-				}
-				// if the remote VM is interrupted DO NOT drop the connection -
-				// see bug 171075
-				// just stop waiting for the reply and treat it as a timeout
-				catch (InterruptedException e) {
-					if (JDIDebugOptions.DEBUG) {
-						JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
-					}
-					// Do not stop waiting on interrupt, this causes
-					// sporadic TimeoutException's without timeout
-					// break;
-				}
-				long waitedTime = System.currentTimeMillis() - timeBeforeWait;
-				remainingTime = timeToWait - waitedTime;
+		final long timeBeforeWait = System.currentTimeMillis();
+		// Wait until reply is available.
+		while (!VMIsDisconnected() && remainingTime > 0 && !reply.isDone()) {
+			try {
+				reply.get(remainingTime, TimeUnit.MILLISECONDS);
 			}
-		}
-		if (packet == null) {
-			synchronized (fReplyPackets) {
-				packet = removeReplyPacket(id);
+			// if the remote VM is interrupted DO NOT drop the connection -
+			// see bug 171075
+			// just stop waiting for the reply and treat it as a timeout
+			catch (InterruptedException e) {
+				if (JDIDebugOptions.DEBUG) {
+					JDIDebugOptions.trace(null, "Interrupt observed while waiting for packet: " + id, e); //$NON-NLS-1$
+				}
+				// Do not stop waiting on interrupt, this causes
+				// sporadic TimeoutException's without timeout
+				// break;
+			} catch (ExecutionException | java.util.concurrent.TimeoutException e) {
+				// checked below
 			}
+			long waitedTime = System.currentTimeMillis() - timeBeforeWait;
+			remainingTime = timeToWait - waitedTime;
 		}
+		JdwpReplyPacket packet = removeReply(id, command, start, reply);
 		// Check for an IO Exception.
 		if (VMIsDisconnected())
 			throw new VMDisconnectedException(
 					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
 		// Check for a timeout.
 		if (packet == null) {
-			synchronized (fTimedOutPackets) {
-				fTimedOutPackets.add(Integer.valueOf(id));
+			if (command >= 0) {
+				fTimeoutPolicy.timedOut(command);
 			}
 			throw new TimeoutException(NLS.bind(
 					ConnectMessages.PacketReceiveManager_0, new String[] { id
@@ -200,54 +267,180 @@ public class PacketReceiveManager extends PacketManager {
 	}
 
 	/**
-	 * @return Returns a specified Reply Packet from the Virtual Machine.
+	 * Returns a future for the reply to the given request without waiting for
+	 * it. The future completes with the reply, or exceptionally with a
+	 * {@link TimeoutException} if no reply arrived in the given time or a
+	 * {@link VMDisconnectedException} if the connection was lost.
+	 * <p>
+	 * The future is completed on the thread receiving packets, so dependent
+	 * actions must not block or send further requests; callers are expected
+	 * to wait for the reply and process it on their own thread.
+	 * </p>
+	 *
+	 * @param id
+	 *            the id of the command packet the reply is expected for
+	 * @param timeToWait
+	 *            time to wait for the reply in milliseconds
+	 * @return a future for the reply
+	 */
+	public CompletableFuture<JdwpReplyPacket> getReplyAsync(int id, long timeToWait) {
+		return getReplyAsync(id, -1, timeToWait);
+	}
+
+	/**
+	 * @param command
+	 *            the command of the request, or <code>-1</code> if its
+	 *            latency is not to be recorded by the timeout policy
+	 * @return Returns a future for the reply to the given request.
+	 * @see #getReplyAsync(int, long)
+	 */
+	private CompletableFuture<JdwpReplyPacket> getReplyAsync(int id, int command, long timeToWait) {
+		long start = System.nanoTime();
+		CompletableFuture<JdwpReplyPacket> reply = getReplyFuture(id);
+		if (VMIsDisconnected()) {
+			reply.completeExceptionally(new VMDisconnectedException(
+					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2));
+		}
+		return reply.orTimeout(timeToWait, TimeUnit.MILLISECONDS).handle((packet, e) -> {
+			JdwpReplyPacket result = removeReply(id, command, start, reply);
+			if (VMIsDisconnected()) {
+				throw new VMDisconnectedException(
+						ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
+			}
+			if (result == null) {
+				if (command >= 0) {
+					fTimeoutPolicy.timedOut(command);
+				}
+				throw new TimeoutException(NLS.bind(
+						ConnectMessages.PacketReceiveManager_0, new String[] { id
+								+ "" })); //$NON-NLS-1$
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * @return Returns a future for the reply to the given command packet,
+	 *         using the timeout computed by the timeout policy from the
+	 *         request timeout of the Virtual Machine.
+	 * @see #getReplyAsync(int, long)
+	 */
+	public CompletableFuture<JdwpReplyPacket> getReplyAsync(JdwpCommandPacket commandPacket) {
+		int command = commandPacket.getCommand();
+		return getReplyAsync(commandPacket.getId(), command,
+				fTimeoutPolicy.getTimeout(command, fVM.getRequestTimeout()));
+	}
+
+	/**
+	 * @return Returns a specified Reply Packet from the Virtual Machine,
+	 *         waiting for the timeout computed by the timeout policy from the
+	 *         request timeout of the Virtual Machine.
 	 */
 	public JdwpReplyPacket getReply(JdwpCommandPacket commandPacket) {
-		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
+		int command = commandPacket.getCommand();
+		return getReply(commandPacket.getId(), command,
+				fTimeoutPolicy.getTimeout(command, fVM.getRequestTimeout()));
+	}
+
+	/**
+	 * @return Returns the policy computing the time to wait for the replies
+	 *         to command packets.
+	 */
+	public RequestTimeoutPolicy getTimeoutPolicy() {
+		return fTimeoutPolicy;
 	}
 
 	/**
 	 * Wait for an available packet from the Virtual Machine.
+	 *
+	 * @return Returns the packet removed from the given queue, or
+	 *         <code>null</code> if none became available in time.
 	 */
-	private void waitForPacketAvailable(long timeToWait, Object lock)
+	private JdwpCommandPacket waitForPacketAvailable(long timeToWait,
+			LinkedTransferQueue<JdwpCommandPacket> queue)
 			throws InterruptedException {
 		if (timeToWait == 0)
-			return;
+			return queue.poll();
 		else if (timeToWait < 0)
-			lock.wait();
+			return queue.take();
 		else
-			lock.wait(timeToWait);
+			return queue.poll(timeToWait, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @return Returns the queue of the command packets of the given command,
+	 *         creating it if it does not exist yet.
+	 */
+	private LinkedTransferQueue<JdwpCommandPacket> commandQueue(int command) {
+		if (command == JdwpCommandPacket.E_COMPOSITE) {
+			return fCompositeEvents;
+		}
+		return fCommandPackets.computeIfAbsent(Integer.valueOf(command), key -> new LinkedTransferQueue<>());
 	}
 
 	/**
-	 * @return Returns and removes a specified command packet from the command
-	 *         packet list.
+	 * @return Returns the future for the reply to the given request id,
+	 *         creating it if it does not exist yet.
 	 */
-	private JdwpCommandPacket removeCommandPacket(int command) {
-		ListIterator<JdwpCommandPacket> iter = fCommandPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpCommandPacket packet = iter.next();
-			if (packet.getCommand() == command) {
-				iter.remove();
-				return packet;
+	private CompletableFuture<JdwpReplyPacket> getReplyFuture(int id) {
+		synchronized (fReplies) {
+			CompletableFuture<JdwpReplyPacket> reply = fReplies.computeIfAbsent(Integer.valueOf(id), key -> new CompletableFuture<>());
+			TransportMetrics metrics = getTransportMetrics();
+			if (metrics != null) {
+				metrics.pendingReplies(fReplies.size());
 			}
+			return reply;
 		}
-		return null;
 	}
 
 	/**
-	 * @return Returns a specified reply packet from the reply packet list.
+	 * Stops tracking the reply to the given request. If the reply has been
+	 * received, its latency is recorded by the timeout policy. Otherwise the
+	 * request is remembered as timed out so that a late reply is discarded.
+	 *
+	 * @param command
+	 *            the command of the request, or <code>-1</code>
+	 * @param start
+	 *            the time the request started waiting, in nanoseconds
+	 * @return Returns the reply, or <code>null</code> if none was received
 	 */
-	private JdwpReplyPacket removeReplyPacket(int id) {
-		ListIterator<JdwpReplyPacket> iter = fReplyPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpReplyPacket packet = iter.next();
-			if (packet.getId() == id) {
-				iter.remove();
-				return packet;
+	private JdwpReplyPacket removeReply(int id, int command, long start, CompletableFuture<JdwpReplyPacket> reply) {
+		synchronized (fReplies) {
+			// replies are only ever delivered while holding the map lock, so
+			// one cannot slip in between the checks below
+			boolean pending = fReplies.remove(Integer.valueOf(id), reply);
+			TransportMetrics metrics = getTransportMetrics();
+			if (metrics != null) {
+				metrics.pendingReplies(fReplies.size());
 			}
+			if (reply.isDone() && !reply.isCompletedExceptionally()) {
+				if (command >= 0) {
+					fTimeoutPolicy.replyReceived(command, System.nanoTime() - start);
+				}
+				return reply.join();
+			}
+			if (pending && !VMIsDisconnected()) {
+				addTimedOut(id, command, start);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * Remembers that the given request has timed out, replacing the oldest
+	 * request stored in the same slot.
+	 */
+	private void addTimedOut(int id, int command, long start) {
+		synchronized (fTimedOutIds) {
+			int slot = id & (TIMED_OUT_CAPACITY - 1);
+			if (!fTimedOutUsed[slot]) {
+				fTimedOutUsed[slot] = true;
+				fTimedOutCount++;
+			}
+			fTimedOutIds[slot] = id;
+			fTimedOutCommands[slot] = command;
+			fTimedOutTimes[slot] = start;
 		}
-		return null;
 	}
 
 	/**
@@ -257,9 +450,11 @@ public class PacketReceiveManager extends PacketManager {
 		if (isTimedOut(packet)) {
 			return; // already timed out. No need to keep this one
 		}
-		synchronized (fCommandPackets) {
-			fCommandPackets.add(packet);
-			fCommandPackets.notifyAll();
+		int depth = fQueuedCommands.incrementAndGet();
+		commandQueue(packet.getCommand()).offer(packet);
+		TransportMetrics metrics = getTransportMetrics();
+		if (metrics != null) {
+			metrics.commandQueueDepth(depth);
 		}
 	}
 
@@ -271,25 +466,41 @@ public class PacketReceiveManager extends PacketManager {
 	 * @return whether the request for the given packet has already timed out
 	 */
 	private boolean isTimedOut(JdwpPacket packet) {
-		synchronized (fTimedOutPackets) {
-			if (fTimedOutPackets.isEmpty()) {
+		synchronized (fTimedOutIds) {
+			if (fTimedOutCount == 0) {
 				return false;
 			}
-			Integer id = Integer.valueOf(packet.getId());
-			return fTimedOutPackets.remove(id);
+			int id = packet.getId();
+			int slot = id & (TIMED_OUT_CAPACITY - 1);
+			if (!fTimedOutUsed[slot] || fTimedOutIds[slot] != id) {
+				return false;
+			}
+			fTimedOutUsed[slot] = false;
+			fTimedOutCount--;
+			int command = fTimedOutCommands[slot];
+			if (command >= 0 && packet instanceof JdwpReplyPacket) {
+				// a late reply still tells how long the command takes
+				fTimeoutPolicy.replyReceived(command, System.nanoTime() - fTimedOutTimes[slot]);
+			}
+			return true;
 		}
 	}
 
 	/**
-	 * Add a reply packet to the reply packet list.
+	 * Completes the future of the request the given reply packet answers,
+	 * which wakes up the requester waiting for it, if any.
 	 */
 	private void addReplyPacket(JdwpReplyPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.add(packet);
-			fReplyPackets.notifyAll();
+		synchronized (fReplies) {
+			if (isTimedOut(packet)) {
+				return; // already timed out. No need to keep this one
+			}
+			Integer id = Integer.valueOf(packet.getId());
+			CompletableFuture<JdwpReplyPacket> reply = fReplies.computeIfAbsent(id, key -> new CompletableFuture<>());
+			if (!reply.complete(packet)) {
+				// the requester gave up already
+				fReplies.remove(id, reply);
+			}
 		}
 	}
 
@@ -301,6 +512,10 @@ public class PacketReceiveManager extends PacketManager {
 		// Read a packet from the Input Stream.
 		byte[] bytes = getConnection().readPacket();
 		JdwpPacket packet = JdwpPacket.build(bytes);
+		TransportMetrics metrics = getTransportMetrics();
+		if (metrics != null) {
+			metrics.packetReceived(packet);
+		}
 		// Add packet to command or reply queue.
 		if (packet instanceof JdwpCommandPacket)
 			addCommandPacket((JdwpCommandPacket) packet);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,7 +15,9 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.osgi.util.NLS;
@@ -95,6 +97,10 @@ public class PacketSendManager extends PacketManager {
 		synchronized (fOutgoingPackets) {
 			// Add packet to list of packets to send.
 			fOutgoingPackets.add(packet);
+			TransportMetrics metrics = getTransportMetrics();
+			if (metrics != null) {
+				metrics.sendQueueDepth(fOutgoingPackets.size());
+			}
 			// Notify PacketSendThread that data is available.
 			fOutgoingPackets.notifyAll();
 		}
@@ -105,22 +111,39 @@ public class PacketSendManager extends PacketManager {
 	 */
 	private void sendAvailablePackets() throws InterruptedException,
 			IOException {
-		LinkedList<JdwpPacket> packetsToSend = new LinkedList<>();
+		List<JdwpPacket> packetsToSend;
 		synchronized (fOutgoingPackets) {
 			while (fOutgoingPackets.isEmpty()) {
 				fOutgoingPackets.wait();
 			}
-			packetsToSend.addAll(fOutgoingPackets);
+			packetsToSend = new ArrayList<>(fOutgoingPackets);
 			fOutgoingPackets.clear();
 		}
 
+		// Record the packets before they are written, their replies may be
+		// read before the write returns.
+		TransportMetrics metrics = getTransportMetrics();
+		if (metrics != null) {
+			metrics.sendQueueDepth(0);
+			for (JdwpPacket packet : packetsToSend) {
+				metrics.packetSent(packet);
+			}
+		}
+
 		// Put available packets on Output Stream.
-		while (packetsToSend.size() > 0) {
-			// Note that only JdwpPackets are added to the list, so a
-			// ClassCastException can't occur.
-			JdwpPacket packet = packetsToSend.removeFirst();
-			byte[] bytes = packet.getPacketAsBytes();
-			getConnection().writePacket(bytes);
+		Connection connection = getConnection();
+		if (connection instanceof SocketConnection) {
+			((SocketConnection) connection).writePackets(packetsToSend);
+			if (metrics != null) {
+				metrics.flushed();
+			}
+		} else {
+			for (JdwpPacket packet : packetsToSend) {
+				connection.writePacket(packet.getPacketAsBytes());
+				if (metrics != null) {
+					metrics.flushed();
+				}
+			}
 		}
 	}
 }
@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+/**
+ * Computes the time to wait for the reply to a request from the latencies
+ * observed for earlier requests of the same command. The latency of a
+ * command is estimated with a smoothed mean and mean deviation, the way TCP
+ * estimates round trip times, so commands with large replies, like
+ * <code>VM.AllClasses</code> on a big target, get more time than the request
+ * timeout.
+ * <p>
+ * The request timeout is only ever extended: the adaptive timeout never
+ * drops below the request timeout, and never exceeds the request timeout
+ * times the maximum factor. Each time a request of a command times out, the
+ * timeout of that command is doubled until a reply is observed again;
+ * replies that arrive after their request timed out are still taken into
+ * account.
+ * </p>
+ * <p>
+ * Commands that run code in the Virtual Machine, such as method
+ * invocations, take as long as the code runs and always use the request
+ * timeout, as do all commands while the request timeout is
+ * <code>Integer.MAX_VALUE</code>.
+ * </p>
+ */
+public class RequestTimeoutPolicy {
+
+	/** Default upper bound of adaptive timeouts, as a multiple of the request timeout. */
+	public static final int DEFAULT_MAXIMUM_FACTOR = 10;
+
+	/** Multiple of the estimated latency to wait before giving up. */
+	private static final int SAFETY_FACTOR = 4;
+
+	/** Maximum number of times the timeout of a command is doubled. */
+	private static final int MAXIMUM_BACKOFF = 4;
+
+	/** Estimates per command, indexed by command set and command. */
+	private final AtomicReferenceArray<Estimate[]> fEstimates = new AtomicReferenceArray<>(256);
+
+	private volatile boolean fEnabled = true;
+	private volatile int fMaximumFactor = DEFAULT_MAXIMUM_FACTOR;
+
+	/**
+	 * Returns the time to wait for the reply to a request of the given
+	 * command.
+	 *
+	 * @param command
+	 *            256 * command set + command
+	 * @param requestTimeout
+	 *            the request timeout of the Virtual Machine, in milliseconds
+	 * @return Returns the timeout in milliseconds
+	 */
+	public long getTimeout(int command, long requestTimeout) {
+		if (!fEnabled || requestTimeout <= 0 || requestTimeout >= Integer.MAX_VALUE || !isAdaptive(command)) {
+			// a request timeout of Integer.MAX_VALUE is set to wait for
+			// method invocations, and asks for no timeout at all
+			return requestTimeout;
+		}
+		Estimate estimate = estimate(command, false);
+		if (estimate == null) {
+			return requestTimeout;
+		}
+		long timeout;
+		synchronized (estimate) {
+			if (estimate.fSamples == 0 && estimate.fBackoff == 0) {
+				return requestTimeout;
+			}
+			timeout = (long) Math.ceil(SAFETY_FACTOR * (estimate.fMean + 4 * estimate.fDeviation));
+			timeout = Math.max(timeout, requestTimeout) << estimate.fBackoff;
+		}
+		return Math.min(requestTimeout * fMaximumFactor, timeout);
+	}
+
+	/**
+	 * Records the latency of a reply to a request of the given command.
+	 *
+	 * @param command
+	 *            256 * command set + command
+	 * @param latencyNanos
+	 *            time between the request and its reply, in nanoseconds
+	 */
+	public void replyReceived(int command, long latencyNanos) {
+		if (!isAdaptive(command)) {
+			return;
+		}
+		double latency = Math.max(0, latencyNanos) / 1000000.0;
+		Estimate estimate = estimate(command, true);
+		synchronized (estimate) {
+			if (estimate.fSamples == 0) {
+				estimate.fMean = latency;
+				estimate.fDeviation = latency / 2;
+			} else {
+				estimate.fDeviation += (Math.abs(latency - estimate.fMean) - estimate.fDeviation) / 4;
+				estimate.fMean += (latency - estimate.fMean) / 8;
+			}
+			if (estimate.fSamples < Integer.MAX_VALUE) {
+				estimate.fSamples++;
+			}
+			estimate.fBackoff = 0;
+		}
+	}
+
+	/**
+	 * Records that a request of the given command timed out, doubling the
+	 * timeout of the command until a reply is observed.
+	 *
+	 * @param command
+	 *            256 * command set + command
+	 */
+	public void timedOut(int command) {
+		if (!isAdaptive(command)) {
+			return;
+		}
+		Estimate estimate = estimate(command, true);
+		synchronized (estimate) {
+			if (estimate.fBackoff < MAXIMUM_BACKOFF) {
+				estimate.fBackoff++;
+			}
+		}
+	}
+
+	/**
+	 * @return Returns the estimated latency of the given command in
+	 *         milliseconds, or <code>-1</code> if no reply of the command has
+	 *         been observed.
+	 */
+	public double getEstimatedLatency(int command) {
+		Estimate estimate = estimate(command, false);
+		if (estimate == null) {
+			return -1;
+		}
+		synchronized (estimate) {
+			return estimate.fSamples == 0 ? -1 : estimate.fMean;
+		}
+	}
+
+	/**
+	 * Forgets all observed latencies and timeouts.
+	 */
+	public void reset() {
+		for (int i = 0; i < fEstimates.length(); i++) {
+			fEstimates.set(i, null);
+		}
+	}
+
+	/**
+	 * Sets whether timeouts are adapted. When disabled, the request timeout
+	 * is used for all commands, but latencies are still observed.
+	 */
+	public void setEnabled(boolean enabled) {
+		fEnabled = enabled;
+	}
+
+	/**
+	 * @return Returns whether timeouts are adapted.
+	 */
+	public boolean isEnabled() {
+		return fEnabled;
+	}
+
+	/**
+	 * Sets the upper bound of adaptive timeouts, as a multiple of the request
+	 * timeout.
+	 *
+	 * @param factor
+	 *            the maximum factor, at least <code>1</code>
+	 */
+	public void setMaximumFactor(int factor) {
+		if (factor < 1) {
+			throw new IllegalArgumentException();
+		}
+		fMaximumFactor = factor;
+	}
+
+	/**
+	 * @return Returns the upper bound of adaptive timeouts, as a multiple of
+	 *         the request timeout.
+	 */
+	public int getMaximumFactor() {
+		return fMaximumFactor;
+	}
+
+	/**
+	 * @return Returns whether the timeout of the given command is adapted to
+	 *         its observed latency.
+	 */
+	private static boolean isAdaptive(int command) {
+		switch (command) {
+		case JdwpCommandPacket.CT_INVOKE_METHOD:
+		case JdwpCommandPacket.CT_NEW_INSTANCE:
+		case JdwpCommandPacket.IT_INVOKE_METHOD:
+		case JdwpCommandPacket.OR_INVOKE_METHOD:
+			return false;
+		default:
+			return true;
+		}
+	}
+
+	/**
+	 * @return Returns the estimate of the given command, or <code>null</code>
+	 *         if there is none and none is to be created.
+	 */
+	private Estimate estimate(int command, boolean create) {
+		int commandSet = (command >>> 8) & 0xFF;
+		Estimate[] estimates = fEstimates.get(commandSet);
+		if (estimates == null) {
+			if (!create) {
+				return null;
+			}
+			fEstimates.compareAndSet(commandSet, null, new Estimate[256]);
+			estimates = fEstimates.get(commandSet);
+		}
+		int index = command & 0xFF;
+		synchronized (estimates) {
+			Estimate estimate = estimates[index];
+			if (estimate == null && create) {
+				estimate = new Estimate();
+				estimates[index] = estimate;
+			}
+			return estimate;
+		}
+	}
+
+	/**
+	 * Latency estimate of a command, in milliseconds. Access must be
+	 * synchronized on the estimate.
+	 */
+	private static class Estimate {
+		double fMean;
+		double fDeviation;
+		int fSamples;
+		int fBackoff;
+	}
+}
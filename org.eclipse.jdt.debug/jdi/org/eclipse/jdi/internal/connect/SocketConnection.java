@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,11 +14,16 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.connect;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 
 import com.sun.jdi.connect.spi.ClosedConnectionException;
 import com.sun.jdi.connect.spi.Connection;
@@ -28,14 +33,22 @@ public class SocketConnection extends Connection {
 	// for attaching connector
 	private Socket fSocket;
 
-	private final InputStream fInput;
+	/**
+	 * Size of the stream buffers. Packets larger than this are read into and
+	 * written from their arrays directly.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	private final DataInputStream fInput;
 
 	private final OutputStream fOutput;
 
 	SocketConnection(Socket socket, InputStream in, OutputStream out) {
 		fSocket = socket;
-		fInput = in;
-		fOutput = out;
+		// buffer the streams so that the packet header and small packets do
+		// not cost a system call per field
+		fInput = new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+		fOutput = new BufferedOutputStream(out, BUFFER_SIZE);
 	}
 
 	/*
@@ -74,7 +87,7 @@ public class SocketConnection extends Connection {
 			if (!isOpen()) {
 				throw new ClosedConnectionException();
 			}
-			stream = new DataInputStream(fInput);
+			stream = fInput;
 		}
 		synchronized (stream) {
 			int packetLength = 0;
@@ -141,6 +154,35 @@ public class SocketConnection extends Connection {
 			// packet.length can be > packetSize. Sending too much will cause
 			// errors on the other side
 			stream.write(packet, 0, packetSize);
+			stream.flush();
+		}
+	}
+
+	/**
+	 * Writes the given packets without first assembling each into a single
+	 * array, see {@link JdwpPacket#writeTo(OutputStream)}. The packets are
+	 * flushed together, so that small packets are sent in as few writes to
+	 * the socket as possible.
+	 *
+	 * @param packets
+	 *            the packets to write
+	 * @throws IOException
+	 *             if the connection is closed or writing fails
+	 */
+	public void writePackets(List<? extends JdwpPacket> packets) throws IOException {
+		OutputStream stream = null;
+		synchronized (this) {
+			if (!isOpen()) {
+				throw new ClosedConnectionException();
+			}
+			stream = fOutput;
+		}
+
+		synchronized (stream) {
+			for (JdwpPacket packet : packets) {
+				packet.writeTo(stream);
+			}
+			stream.flush();
 		}
 	}
 
@@ -0,0 +1,487 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+/**
+ * Counters and latency histograms of the JDWP packets exchanged with a Virtual
+ * Machine, recorded by the packet managers. Statistics are kept per command,
+ * for the commands sent to the Virtual Machine as well as for the commands
+ * (events) it sends. Recording a packet does not allocate, except for the
+ * first packet of a command.
+ * <p>
+ * The latency of a request is measured from the moment its command packet is
+ * written to the connection until its reply has been read. Requests are
+ * matched to replies through a table of the most recent
+ * {@value #TRACKED_REQUESTS} requests; replies to older requests are only
+ * counted as unmatched.
+ * </p>
+ * <p>
+ * Use {@link #snapshot()} to get a copy of the statistics that does not
+ * change while it is inspected.
+ * </p>
+ */
+public class TransportMetrics {
+
+	/** Number of outstanding requests whose send time is tracked. */
+	public static final int TRACKED_REQUESTS = 4096;
+
+	/** Request ids of the tracked requests, <code>0</code> if a slot is free. */
+	private final AtomicIntegerArray fRequestIds = new AtomicIntegerArray(TRACKED_REQUESTS);
+	private final AtomicIntegerArray fRequestCommands = new AtomicIntegerArray(TRACKED_REQUESTS);
+	private final AtomicLongArray fRequestTimes = new AtomicLongArray(TRACKED_REQUESTS);
+
+	/** Statistics per command, indexed by command set and command. */
+	private final AtomicReferenceArray<CommandMetrics[]> fCommands = new AtomicReferenceArray<>(256);
+
+	private final AtomicLong fPacketsSent = new AtomicLong();
+	private final AtomicLong fPacketsReceived = new AtomicLong();
+	private final AtomicLong fBytesSent = new AtomicLong();
+	private final AtomicLong fBytesReceived = new AtomicLong();
+	private final AtomicLong fFlushes = new AtomicLong();
+	private final AtomicLong fUnmatchedReplies = new AtomicLong();
+	private final LatencyHistogram fLatency;
+
+	private volatile int fSendQueueDepth;
+	private final AtomicInteger fMaxSendQueueDepth = new AtomicInteger();
+	private volatile int fCommandQueueDepth;
+	private final AtomicInteger fMaxCommandQueueDepth = new AtomicInteger();
+	private volatile int fPendingReplies;
+	private final AtomicInteger fMaxPendingReplies = new AtomicInteger();
+
+	/**
+	 * Creates new, empty metrics.
+	 */
+	public TransportMetrics() {
+		fLatency = new LatencyHistogram();
+	}
+
+	/**
+	 * Creates a copy of the given metrics.
+	 */
+	private TransportMetrics(TransportMetrics metrics) {
+		for (int i = 0; i < fCommands.length(); i++) {
+			CommandMetrics[] commands = metrics.fCommands.get(i);
+			if (commands != null) {
+				CommandMetrics[] copies = new CommandMetrics[commands.length];
+				for (int j = 0; j < commands.length; j++) {
+					CommandMetrics command = commands[j];
+					if (command != null) {
+						copies[j] = new CommandMetrics(command);
+					}
+				}
+				fCommands.set(i, copies);
+			}
+		}
+		fPacketsSent.set(metrics.fPacketsSent.get());
+		fPacketsReceived.set(metrics.fPacketsReceived.get());
+		fBytesSent.set(metrics.fBytesSent.get());
+		fBytesReceived.set(metrics.fBytesReceived.get());
+		fFlushes.set(metrics.fFlushes.get());
+		fUnmatchedReplies.set(metrics.fUnmatchedReplies.get());
+		fLatency = metrics.fLatency.copy();
+		fSendQueueDepth = metrics.fSendQueueDepth;
+		fMaxSendQueueDepth.set(metrics.fMaxSendQueueDepth.get());
+		fCommandQueueDepth = metrics.fCommandQueueDepth;
+		fMaxCommandQueueDepth.set(metrics.fMaxCommandQueueDepth.get());
+		fPendingReplies = metrics.fPendingReplies;
+		fMaxPendingReplies.set(metrics.fMaxPendingReplies.get());
+	}
+
+	/**
+	 * @return Returns a copy of the current statistics.
+	 */
+	public TransportMetrics snapshot() {
+		return new TransportMetrics(this);
+	}
+
+	/**
+	 * Records a packet that is about to be written to the connection.
+	 */
+	public void packetSent(JdwpPacket packet) {
+		int length = packet.getLength();
+		fPacketsSent.incrementAndGet();
+		fBytesSent.addAndGet(length);
+		if (packet instanceof JdwpCommandPacket) {
+			int command = ((JdwpCommandPacket) packet).getCommand();
+			CommandMetrics metrics = commandMetrics(command);
+			metrics.fSent.incrementAndGet();
+			metrics.fBytesSent.addAndGet(length);
+
+			// The slot is cleared first so that a reply read concurrently
+			// does not match a half written entry.
+			int slot = packet.getId() & (TRACKED_REQUESTS - 1);
+			fRequestIds.set(slot, 0);
+			fRequestCommands.set(slot, command);
+			fRequestTimes.set(slot, System.nanoTime());
+			fRequestIds.set(slot, packet.getId());
+		}
+	}
+
+	/**
+	 * Records a packet that has been read from the connection.
+	 */
+	public void packetReceived(JdwpPacket packet) {
+		int length = packet.getLength();
+		fPacketsReceived.incrementAndGet();
+		fBytesReceived.addAndGet(length);
+		if (packet instanceof JdwpCommandPacket) {
+			CommandMetrics metrics = commandMetrics(((JdwpCommandPacket) packet).getCommand());
+			metrics.fReceived.incrementAndGet();
+			metrics.fBytesReceived.addAndGet(length);
+			return;
+		}
+		long now = System.nanoTime();
+		int id = packet.getId();
+		int slot = id & (TRACKED_REQUESTS - 1);
+		int command = fRequestCommands.get(slot);
+		long sent = fRequestTimes.get(slot);
+		if (id == 0 || !fRequestIds.compareAndSet(slot, id, 0)) {
+			fUnmatchedReplies.incrementAndGet();
+			return;
+		}
+		long micros = (now - sent) / 1000;
+		CommandMetrics metrics = commandMetrics(command);
+		metrics.fReplies.incrementAndGet();
+		metrics.fBytesReceived.addAndGet(length);
+		if (((JdwpReplyPacket) packet).errorCode() != JdwpReplyPacket.NONE) {
+			metrics.fErrors.incrementAndGet();
+		}
+		metrics.fLatency.record(micros);
+		fLatency.record(micros);
+	}
+
+	/**
+	 * Records that the packets written so far have been flushed to the
+	 * connection.
+	 */
+	public void flushed() {
+		fFlushes.incrementAndGet();
+	}
+
+	/**
+	 * Records the number of packets waiting to be sent.
+	 */
+	public void sendQueueDepth(int depth) {
+		fSendQueueDepth = depth;
+		updateMax(fMaxSendQueueDepth, depth);
+	}
+
+	/**
+	 * Records the number of command packets received from the Virtual Machine
+	 * that have not been taken from the queue yet.
+	 */
+	public void commandQueueDepth(int depth) {
+		fCommandQueueDepth = depth;
+		updateMax(fMaxCommandQueueDepth, depth);
+	}
+
+	/**
+	 * Records the number of requests waiting for their reply.
+	 */
+	public void pendingReplies(int count) {
+		fPendingReplies = count;
+		updateMax(fMaxPendingReplies, count);
+	}
+
+	private static void updateMax(AtomicInteger max, int value) {
+		int current = max.get();
+		while (value > current && !max.compareAndSet(current, value)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * @return Returns the statistics of the given command, creating them if
+	 *         the command has not been seen yet.
+	 */
+	private CommandMetrics commandMetrics(int command) {
+		int commandSet = (command >>> 8) & 0xFF;
+		CommandMetrics[] commands = fCommands.get(commandSet);
+		if (commands == null) {
+			fCommands.compareAndSet(commandSet, null, new CommandMetrics[256]);
+			commands = fCommands.get(commandSet);
+		}
+		int index = command & 0xFF;
+		CommandMetrics metrics = commands[index];
+		if (metrics == null) {
+			synchronized (commands) {
+				metrics = commands[index];
+				if (metrics == null) {
+					metrics = new CommandMetrics(command & 0xFFFF);
+					commands[index] = metrics;
+				}
+			}
+		}
+		return metrics;
+	}
+
+	/**
+	 * @return Returns the statistics of the given command (256 * command set +
+	 *         command), or <code>null</code> if no packet of the command has
+	 *         been recorded.
+	 */
+	public CommandMetrics getCommandMetrics(int command) {
+		CommandMetrics[] commands = fCommands.get((command >>> 8) & 0xFF);
+		if (commands == null) {
+			return null;
+		}
+		synchronized (commands) {
+			return commands[command & 0xFF];
+		}
+	}
+
+	/**
+	 * @return Returns the statistics of all commands of which packets have
+	 *         been recorded, ordered by command set and command.
+	 */
+	public List<CommandMetrics> getCommandMetrics() {
+		List<CommandMetrics> result = new ArrayList<>();
+		for (int i = 0; i < fCommands.length(); i++) {
+			CommandMetrics[] commands = fCommands.get(i);
+			if (commands != null) {
+				synchronized (commands) {
+					for (CommandMetrics command : commands) {
+						if (command != null) {
+							result.add(command);
+						}
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return Returns the number of packets sent to the Virtual Machine.
+	 */
+	public long getPacketsSent() {
+		return fPacketsSent.get();
+	}
+
+	/**
+	 * @return Returns the number of packets received from the Virtual
+	 *         Machine.
+	 */
+	public long getPacketsReceived() {
+		return fPacketsReceived.get();
+	}
+
+	/**
+	 * @return Returns the number of bytes sent to the Virtual Machine.
+	 */
+	public long getBytesSent() {
+		return fBytesSent.get();
+	}
+
+	/**
+	 * @return Returns the number of bytes received from the Virtual Machine.
+	 */
+	public long getBytesReceived() {
+		return fBytesReceived.get();
+	}
+
+	/**
+	 * @return Returns the number of times the connection has been flushed,
+	 *         each flush sending one or more packets.
+	 */
+	public long getFlushes() {
+		return fFlushes.get();
+	}
+
+	/**
+	 * @return Returns the number of replies that could not be matched to a
+	 *         tracked request.
+	 */
+	public long getUnmatchedReplies() {
+		return fUnmatchedReplies.get();
+	}
+
+	/**
+	 * @return Returns the latencies of all requests.
+	 */
+	public LatencyHistogram getLatency() {
+		return fLatency;
+	}
+
+	/**
+	 * @return Returns the number of packets waiting to be sent.
+	 */
+	public int getSendQueueDepth() {
+		return fSendQueueDepth;
+	}
+
+	/**
+	 * @return Returns the largest number of packets that were waiting to be
+	 *         sent at once.
+	 */
+	public int getMaxSendQueueDepth() {
+		return fMaxSendQueueDepth.get();
+	}
+
+	/**
+	 * @return Returns the number of received command packets that have not
+	 *         been taken from the queue.
+	 */
+	public int getCommandQueueDepth() {
+		return fCommandQueueDepth;
+	}
+
+	/**
+	 * @return Returns the largest number of received command packets that
+	 *         were queued at once.
+	 */
+	public int getMaxCommandQueueDepth() {
+		return fMaxCommandQueueDepth.get();
+	}
+
+	/**
+	 * @return Returns the number of requests waiting for their reply.
+	 */
+	public int getPendingReplies() {
+		return fPendingReplies;
+	}
+
+	/**
+	 * @return Returns the largest number of requests that were waiting for
+	 *         their reply at once.
+	 */
+	public int getMaxPendingReplies() {
+		return fMaxPendingReplies.get();
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buf = new StringBuilder();
+		buf.append("sent=").append(getPacketsSent()).append(" packets/").append(getBytesSent()).append(" bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buf.append(", flushes=").append(getFlushes()); //$NON-NLS-1$
+		buf.append(", received=").append(getPacketsReceived()).append(" packets/").append(getBytesReceived()).append(" bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		buf.append(", latency: ").append(fLatency).append('\n'); //$NON-NLS-1$
+		for (CommandMetrics command : getCommandMetrics()) {
+			buf.append(command).append('\n');
+		}
+		return buf.toString();
+	}
+
+	/**
+	 * Statistics of a single JDWP command.
+	 */
+	public static class CommandMetrics {
+		private final int fCommand;
+		private final AtomicLong fSent = new AtomicLong();
+		private final AtomicLong fReceived = new AtomicLong();
+		private final AtomicLong fReplies = new AtomicLong();
+		private final AtomicLong fErrors = new AtomicLong();
+		private final AtomicLong fBytesSent = new AtomicLong();
+		private final AtomicLong fBytesReceived = new AtomicLong();
+		private final LatencyHistogram fLatency;
+
+		CommandMetrics(int command) {
+			fCommand = command;
+			fLatency = new LatencyHistogram();
+		}
+
+		CommandMetrics(CommandMetrics metrics) {
+			fCommand = metrics.fCommand;
+			fSent.set(metrics.fSent.get());
+			fReceived.set(metrics.fReceived.get());
+			fReplies.set(metrics.fReplies.get());
+			fErrors.set(metrics.fErrors.get());
+			fBytesSent.set(metrics.fBytesSent.get());
+			fBytesReceived.set(metrics.fBytesReceived.get());
+			fLatency = metrics.fLatency.copy();
+		}
+
+		/**
+		 * @return Returns the command, 256 * command set + command.
+		 */
+		public int getCommand() {
+			return fCommand;
+		}
+
+		/**
+		 * @return Returns the number of command packets sent to the Virtual
+		 *         Machine.
+		 */
+		public long getSent() {
+			return fSent.get();
+		}
+
+		/**
+		 * @return Returns the number of command packets received from the
+		 *         Virtual Machine.
+		 */
+		public long getReceived() {
+			return fReceived.get();
+		}
+
+		/**
+		 * @return Returns the number of replies received.
+		 */
+		public long getReplies() {
+			return fReplies.get();
+		}
+
+		/**
+		 * @return Returns the number of replies carrying an error code.
+		 */
+		public long getErrors() {
+			return fErrors.get();
+		}
+
+		/**
+		 * @return Returns the number of bytes of the command packets sent.
+		 */
+		public long getBytesSent() {
+			return fBytesSent.get();
+		}
+
+		/**
+		 * @return Returns the number of bytes of the command packets and
+		 *         replies received.
+		 */
+		public long getBytesReceived() {
+			return fBytesReceived.get();
+		}
+
+		/**
+		 * @return Returns the latencies of the requests.
+		 */
+		public LatencyHistogram getLatency() {
+			return fLatency;
+		}
+
+		@Override
+		public String toString() {
+			String name = JdwpCommandPacket.commandMap().get(Integer.valueOf(fCommand));
+			if (name == null) {
+				name = Integer.toString(fCommand >>> 8) + '/' + (fCommand & 0xFF);
+			}
+			return name + ": sent=" + getSent() + ", received=" + getReceived() //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", errors=" + getErrors() + ", bytes out=" + getBytesSent() //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", bytes in=" + getBytesReceived() + ", latency: " + fLatency; //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -59,6 +59,11 @@ public class ClassPrepareEventImpl extends EventImpl implements
 				target, false, dataInStream);
 		target.readInt(
 				"class status", ReferenceTypeImpl.classStatusStrings(), dataInStream); //$NON-NLS-1$
+		// Add the class to the classes that are known by the application to
+		// be loaded in the VM.
+		if (event.fReferenceType != null) {
+			vmImpl.addKnownRefType(event.fReferenceType);
+		}
 		return event;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,11 @@ package org.eclipse.jdi.internal.jdwp;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP)
@@ -34,7 +37,16 @@ public abstract class JdwpPacket {
 	/** Header fields. */
 	protected int fId = 0;
 	protected byte fFlags = 0;
+	/**
+	 * Buffer holding the data of the packet. For packets read from the wire
+	 * this is the whole received packet and the data is the region starting
+	 * at {@link #fDataOffset}, so that the payload is not copied.
+	 */
 	protected byte[] fDataBuf = null;
+	/** Offset of the data in {@link #fDataBuf}. */
+	protected int fDataOffset = 0;
+	/** Length of the data in {@link #fDataBuf}. */
+	protected int fDataLength = 0;
 
 	/**
 	 * Set Id.
@@ -75,13 +87,18 @@ public abstract class JdwpPacket {
 	 * @return Returns length of data in packet.
 	 */
 	public int getDataLength() {
-		return fDataBuf == null ? 0 : fDataBuf.length;
+		return fDataBuf == null ? 0 : fDataLength;
 	}
 
 	/**
 	 * @return Returns data of packet.
 	 */
 	public byte[] data() {
+		if (fDataBuf != null && (fDataOffset != 0 || fDataLength != fDataBuf.length)) {
+			// trim the view on the received packet to the data
+			fDataBuf = Arrays.copyOfRange(fDataBuf, fDataOffset, fDataOffset + fDataLength);
+			fDataOffset = 0;
+		}
 		return fDataBuf;
 	}
 
@@ -91,17 +108,33 @@ public abstract class JdwpPacket {
 	 */
 	public DataInputStream dataInStream() {
 		if (fDataBuf != null) {
-			return new DataInputStream(new ByteArrayInputStream(fDataBuf));
+			return new DataInputStream(new ByteArrayInputStream(fDataBuf, fDataOffset, fDataLength));
 		}
 
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
 	}
 
+	/**
+	 * @return Returns a reader over the data of the packet, reading directly
+	 *         from the packet buffer.
+	 * @param signatures
+	 *            table used by the reader to intern signatures, or
+	 *            <code>null</code> to not intern them
+	 */
+	public JdwpReader dataReader(Map<String, String> signatures) {
+		if (fDataBuf != null) {
+			return new JdwpReader(fDataBuf, fDataOffset, fDataLength, signatures);
+		}
+		return new JdwpReader(new byte[0], 0, 0, signatures);
+	}
+
 	/**
 	 * Assigns data to packet.
 	 */
 	public void setData(byte[] data) {
 		fDataBuf = data;
+		fDataOffset = 0;
+		fDataLength = data == null ? 0 : data.length;
 	}
 
 	/**
@@ -152,9 +185,10 @@ public abstract class JdwpPacket {
 		int index = 9;
 		index += packet.readSpecificHeaderFields(bytes, 9);
 		if (packetLength - MIN_PACKET_LENGTH > 0) {
-			packet.fDataBuf = new byte[packetLength - MIN_PACKET_LENGTH];
-			System.arraycopy(bytes, index, packet.fDataBuf, 0,
-					packet.fDataBuf.length);
+			// the data stays in the received bytes
+			packet.fDataBuf = bytes;
+			packet.fDataOffset = index;
+			packet.fDataLength = packetLength - MIN_PACKET_LENGTH;
 		}
 
 		return packet;
@@ -163,7 +197,40 @@ public abstract class JdwpPacket {
 	public byte[] getPacketAsBytes() throws IOException {
 		int len = getLength();
 		byte[] bytes = new byte[len];
+		int index = writeHeader(bytes);
+		if (index < len && fDataBuf != null) {
+			// copy data
+			System.arraycopy(fDataBuf, fDataOffset, bytes, index, fDataLength);
+		}
+		return bytes;
+	}
 
+	/**
+	 * Writes the packet to the given stream. Unlike
+	 * {@link #getPacketAsBytes()} the data is written from where it is kept
+	 * and not assembled into a new array with the header first.
+	 *
+	 * @param out
+	 *            the stream to write to
+	 * @throws IOException
+	 *             if writing to the stream fails
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		byte[] header = new byte[MIN_PACKET_LENGTH];
+		writeHeader(header);
+		out.write(header);
+		if (fDataBuf != null && fDataLength > 0) {
+			out.write(fDataBuf, fDataOffset, fDataLength);
+		}
+	}
+
+	/**
+	 * Writes the header fields into the given bytes.
+	 *
+	 * @return Returns the index following the header.
+	 */
+	private int writeHeader(byte[] bytes) throws IOException {
+		int len = getLength();
 		// convert len to bytes
 		bytes[0] = (byte) (len >>> 24);
 		bytes[1] = (byte) (len >>> 16);
@@ -183,12 +250,7 @@ public abstract class JdwpPacket {
 		// convert specific header fields
 		int index = 9;
 		index += writeSpecificHeaderFields(bytes, index);
-
-		if (index < len && fDataBuf != null) {
-			// copy data
-			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
-		}
-		return bytes;
+		return index;
 	}
 
 	/**
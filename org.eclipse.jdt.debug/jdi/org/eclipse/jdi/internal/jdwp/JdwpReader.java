@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.EOFException;
+import java.io.UTFDataFormatException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Reads the data of a JDWP packet directly from the packet buffer. This is a
+ * lightweight alternative to {@link JdwpPacket#dataInStream()} for decoding
+ * large replies: values are read in big-endian order without going through
+ * stream wrappers, and strings are decoded from modified UTF-8 into a char
+ * buffer that is reused for all strings read by the reader.
+ * <p>
+ * Optionally, signatures can be interned in a table that is shared between
+ * readers, so that the many equal signatures of types, fields and methods
+ * are held only once.
+ * </p>
+ * <p>
+ * A reader is not thread safe. Reading past the end of the data throws an
+ * {@link EOFException}, like {@link java.io.DataInputStream} does.
+ * </p>
+ */
+public class JdwpReader {
+
+	private final byte[] fBuffer;
+	private final int fEnd;
+	private int fPosition;
+
+	/** Buffer reused to decode strings. */
+	private char[] fChars;
+
+	/** Table used to intern signatures, may be <code>null</code>. */
+	private final Map<String, String> fSignatures;
+
+	/**
+	 * Creates a reader over the given bytes.
+	 *
+	 * @param buffer
+	 *            the bytes to read
+	 * @param offset
+	 *            index of the first byte to read
+	 * @param length
+	 *            number of bytes that can be read
+	 * @param signatures
+	 *            table used to intern signatures, or <code>null</code> to not
+	 *            intern them
+	 */
+	public JdwpReader(byte[] buffer, int offset, int length, Map<String, String> signatures) {
+		fBuffer = buffer;
+		fPosition = offset;
+		fEnd = offset + length;
+		fSignatures = signatures;
+	}
+
+	/**
+	 * @return Returns the number of bytes that have not been read yet.
+	 */
+	public int remaining() {
+		return fEnd - fPosition;
+	}
+
+	/**
+	 * Skips the given number of bytes.
+	 */
+	public void skip(int length) throws EOFException {
+		require(length);
+		fPosition += length;
+	}
+
+	private void require(int length) throws EOFException {
+		if (length < 0 || fEnd - fPosition < length) {
+			throw new EOFException();
+		}
+	}
+
+	public byte readByte() throws EOFException {
+		require(1);
+		return fBuffer[fPosition++];
+	}
+
+	public boolean readBoolean() throws EOFException {
+		return readByte() != 0;
+	}
+
+	public short readShort() throws EOFException {
+		require(2);
+		byte[] b = fBuffer;
+		int p = fPosition;
+		fPosition = p + 2;
+		return (short) ((b[p] << 8) | (b[p + 1] & 0xFF));
+	}
+
+	public char readChar() throws EOFException {
+		return (char) readShort();
+	}
+
+	public int readInt() throws EOFException {
+		require(4);
+		byte[] b = fBuffer;
+		int p = fPosition;
+		fPosition = p + 4;
+		return (b[p] << 24) | ((b[p + 1] & 0xFF) << 16) | ((b[p + 2] & 0xFF) << 8) | (b[p + 3] & 0xFF);
+	}
+
+	public long readLong() throws EOFException {
+		int high = readInt();
+		return ((long) high << 32) | (readInt() & 0xFFFFFFFFL);
+	}
+
+	public float readFloat() throws EOFException {
+		return Float.intBitsToFloat(readInt());
+	}
+
+	public double readDouble() throws EOFException {
+		return Double.longBitsToDouble(readLong());
+	}
+
+	/**
+	 * Reads an unsigned big-endian value of the given size, as used for JDWP
+	 * IDs.
+	 *
+	 * @param size
+	 *            the size of the value in bytes, at most 8
+	 * @return Returns the value read
+	 */
+	public long readID(int size) throws EOFException {
+		require(size);
+		byte[] b = fBuffer;
+		int p = fPosition;
+		long value = 0;
+		for (int i = 0; i < size; i++) {
+			value = value << 8 | (b[p + i] & 0xFF);
+		}
+		fPosition = p + size;
+		return value;
+	}
+
+	/**
+	 * Reads a JDWP string: a four byte length followed by that many bytes of
+	 * modified UTF-8.
+	 *
+	 * @return Returns the string read
+	 */
+	public String readString() throws EOFException, UTFDataFormatException {
+		int length = readInt();
+		require(length);
+		byte[] b = fBuffer;
+		int start = fPosition;
+		int end = start + length;
+		int p = start;
+		while (p < end && b[p] >= 0) {
+			p++;
+		}
+		if (p == end) {
+			// plain ASCII, the common case for names and signatures
+			fPosition = end;
+			return new String(b, start, length, StandardCharsets.ISO_8859_1);
+		}
+		char[] chars = fChars;
+		if (chars == null || chars.length < length) {
+			chars = new char[Math.max(length, 64)];
+			fChars = chars;
+		}
+		int count = 0;
+		for (int i = start; i < p; i++) {
+			chars[count++] = (char) b[i];
+		}
+		while (p < end) {
+			int a = b[p] & 0xFF;
+			if (a < 0x80) {
+				chars[count++] = (char) a;
+				p++;
+			} else if ((a & 0xE0) == 0xC0) {
+				if (p + 1 >= end || (b[p + 1] & 0xC0) != 0x80) {
+					throw new UTFDataFormatException(JDWPMessages.JdwpString_Second_byte_input_does_not_match_UTF_Specification_1);
+				}
+				chars[count++] = (char) (((a & 0x1F) << 6) | (b[p + 1] & 0x3F));
+				p += 2;
+			} else if ((a & 0xF0) == 0xE0) {
+				if (p + 2 >= end || (b[p + 1] & 0xC0) != 0x80 || (b[p + 2] & 0xC0) != 0x80) {
+					throw new UTFDataFormatException(JDWPMessages.JdwpString_Second_or_third_byte_input_does_not_mach_UTF_Specification_2);
+				}
+				chars[count++] = (char) (((a & 0x0F) << 12) | ((b[p + 1] & 0x3F) << 6) | (b[p + 2] & 0x3F));
+				p += 3;
+			} else {
+				throw new UTFDataFormatException(JDWPMessages.JdwpString_Input_does_not_match_UTF_Specification_3);
+			}
+		}
+		fPosition = end;
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * Reads a JDWP string that holds a signature, interning it if this reader
+	 * has a signature table.
+	 *
+	 * @return Returns the signature read
+	 */
+	public String readSignature() throws EOFException, UTFDataFormatException {
+		String signature = readString();
+		if (fSignatures == null) {
+			return signature;
+		}
+		String interned = fSignatures.putIfAbsent(signature, signature);
+		return interned == null ? signature : interned;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -181,7 +181,7 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 * @return Returns the value of the property with the specified key.
 	 */
 	@Override
-	public Object getProperty(Object key) {
+	public synchronized Object getProperty(Object key) {
 		if (fPropertyMap == null) {
 			return null;
 		}
@@ -193,7 +193,7 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 	 * Add an arbitrary key/value "property" to this request.
 	 */
 	@Override
-	public void putProperty(Object key, Object value) {
+	public synchronized void putProperty(Object key, Object value) {
 		if (fPropertyMap == null) {
 			fPropertyMap = new HashMap<>();
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -327,6 +327,28 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		requestPrepare.enable();
 	}
 
+	/**
+	 * Enables a class prepare request for the classes with the given name,
+	 * used to keep the index of known classes by signature up to date.
+	 *
+	 * @param className
+	 *            fully qualified name of the classes
+	 * @return Returns the request, to be disabled once the classes are no
+	 *         longer indexed.
+	 */
+	public ClassPrepareRequestImpl enableInternalClassPrepareEvent(String className) {
+		// Note that these requests are not stored in the set of outstanding requests because
+		// they must be invisible from outside.
+		ClassPrepareRequestImpl requestPrepare =
+			new ClassPrepareRequestImpl(virtualMachineImpl());
+		requestPrepare.setGeneratedInside();
+		requestPrepare.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+		requestPrepare.addClassFilter(className);
+
+		requestPrepare.enable();
+		return requestPrepare;
+	}
+
 	/**
 	 * Creates ClassUnloadRequest for maintaining class information for within JDI.
 	 * Needed to known when to flush the cache.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,18 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
@@ -31,13 +34,16 @@ import org.eclipse.jdi.internal.event.ExceptionEventImpl;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
+import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
 import com.sun.jdi.event.ThreadDeathEvent;
+import com.sun.jdi.event.ThreadStartEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
 import com.sun.jdi.event.VMStartEvent;
@@ -60,6 +66,15 @@ import com.sun.jdi.request.EventRequest;
  * only resumed in if all event handlers agree that the thread should be
  * resumed.
  * </p>
+ * <p>
+ * When {@link JDIDebugPlugin#PREF_CONCURRENT_EVENT_DISPATCH} is set, event
+ * sets are dispatched by a few jobs rather than by the thread reading them,
+ * all the event sets of a thread being dispatched by the same job, in order.
+ * This includes the events of breakpoints, whose handling is thread safe.
+ * Event sets that concern the whole VM, or several threads, as well as class
+ * prepare events, are dispatched once all the event sets received before them
+ * have been.
+ * </p>
  */
 
 public class EventDispatcher implements Runnable {
@@ -75,7 +90,50 @@ public class EventDispatcher implements Runnable {
 	 * Table of event listeners. Table is a mapping of <code>EventRequest</code>
 	 * to <code>IJDIEventListener</code>.
 	 */
-	private final HashMap<EventRequest, IJDIEventListener> fEventHandlers;
+	private final Map<EventRequest, IJDIEventListener> fEventHandlers;
+
+	/**
+	 * Number of jobs dispatching event sets concurrently. Handling events
+	 * mostly waits for replies from the VM, so this does not depend on the
+	 * number of processors.
+	 */
+	private static final int MAX_SHARDS = 4;
+
+	/**
+	 * Jobs dispatching the event sets of threads concurrently, or
+	 * <code>null</code> if event sets are dispatched by the thread reading
+	 * them.
+	 */
+	private final DispatchShard[] fShards;
+
+	/**
+	 * The shard of each thread that has event sets handed to shards and not
+	 * dispatched yet, and their number, guarded by the shards. A thread
+	 * without such event sets goes to the least busy shard, so that a thread
+	 * whose events take long to handle does not hold up the others.
+	 */
+	private final Map<ThreadReference, DispatchShard> fThreadShards = new HashMap<>();
+	private final Map<ThreadReference, Integer> fThreadQueueDepths = new HashMap<>();
+
+	/**
+	 * Number of event sets handed to shards and not dispatched yet, guarded by
+	 * the shards.
+	 */
+	private int fQueueDepth;
+
+	/**
+	 * Largest number of event sets handed to shards and not dispatched yet at
+	 * once, guarded by the shards.
+	 */
+	private int fMaxQueueDepth;
+
+	/**
+	 * Number of event sets dispatched by shards and their total time in
+	 * nanoseconds between being read and being dispatched, guarded by the
+	 * shards.
+	 */
+	private long fShardDispatchCount;
+	private long fShardLatency;
 
 	/**
 	 * Queue of debug model events to fire, created when processing events on
@@ -91,9 +149,17 @@ public class EventDispatcher implements Runnable {
 	 *            the target this event dispatcher belongs to
 	 */
 	public EventDispatcher(JDIDebugTarget target) {
-		fEventHandlers = new HashMap<>(10);
+		fEventHandlers = new ConcurrentHashMap<>(10);
 		fTarget = target;
 		fShutdown = false;
+		if (Platform.getPreferencesService().getBoolean(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_CONCURRENT_EVENT_DISPATCH, false, null)) {
+			fShards = new DispatchShard[MAX_SHARDS];
+			for (int i = 0; i < fShards.length; i++) {
+				fShards[i] = new DispatchShard();
+			}
+		} else {
+			fShards = null;
+		}
 	}
 
 	/**
@@ -134,7 +200,7 @@ public class EventDispatcher implements Runnable {
 				continue;
 			}
 			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			listeners[index] = listener;
 			if (listener != null) {
 				if (listener instanceof IJavaLineBreakpoint) {
@@ -192,8 +258,7 @@ public class EventDispatcher implements Runnable {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = getListener(event);
 				if (listener != null) {
 					vote = true;
 					try {
@@ -256,7 +321,7 @@ public class EventDispatcher implements Runnable {
 			if (event == null) {
 				continue;
 			}
-			IJDIEventListener listener = fEventHandlers.get(event.request());
+			IJDIEventListener listener = getListener(event);
 			if (listener instanceof IJavaLineBreakpoint) {
 				try {
 					if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
@@ -271,6 +336,164 @@ public class EventDispatcher implements Runnable {
 		return false;
 	}
 
+	/**
+	 * Returns the listener registered for the request of the given event, if
+	 * any.
+	 */
+	private IJDIEventListener getListener(Event event) {
+		EventRequest request = event.request();
+		if (request == null) {
+			return null;
+		}
+		return fEventHandlers.get(request);
+	}
+
+	/**
+	 * Returns the thread all the events of the given event set occurred in,
+	 * or <code>null</code> if the event set concerns the whole VM or several
+	 * threads. Class prepare events also return <code>null</code>:
+	 * breakpoints are installed in the types as they are prepared, so these
+	 * events are dispatched in the order they occurred.
+	 */
+	private ThreadReference getThread(EventSet eventSet) {
+		if (eventSet.suspendPolicy() == EventRequest.SUSPEND_ALL) {
+			return null;
+		}
+		ThreadReference thread = null;
+		EventIterator iter = eventSet.eventIterator();
+		while (iter.hasNext()) {
+			Event event = iter.nextEvent();
+			ThreadReference eventThread;
+			if (event instanceof LocatableEvent) {
+				eventThread = ((LocatableEvent) event).thread();
+			} else if (event instanceof ThreadStartEvent) {
+				eventThread = ((ThreadStartEvent) event).thread();
+			} else if (event instanceof ThreadDeathEvent) {
+				eventThread = ((ThreadDeathEvent) event).thread();
+			} else {
+				return null;
+			}
+			if (eventThread == null || (thread != null && !thread.equals(eventThread))) {
+				return null;
+			}
+			thread = eventThread;
+		}
+		return thread;
+	}
+
+	/**
+	 * Hands the given event set to the shard of its thread, or dispatches it
+	 * once the event sets handed to shards have been dispatched if it
+	 * concerns the whole VM.
+	 *
+	 * @param eventSet
+	 *            events to dispatch
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for the shards
+	 */
+	private void dispatchConcurrently(EventSet eventSet) throws InterruptedException {
+		ThreadReference thread = getThread(eventSet);
+		if (thread == null) {
+			synchronized (fShards) {
+				while (fQueueDepth > 0 && !isShutdown()) {
+					fShards.wait(1000);
+				}
+			}
+			dispatch(eventSet);
+			return;
+		}
+		DispatchShard shard;
+		synchronized (fShards) {
+			fQueueDepth++;
+			fMaxQueueDepth = Math.max(fMaxQueueDepth, fQueueDepth);
+			shard = fThreadShards.get(thread);
+			if (shard == null) {
+				shard = fShards[0];
+				for (DispatchShard other : fShards) {
+					if (other.fQueueDepth < shard.fQueueDepth) {
+						shard = other;
+					}
+				}
+				fThreadShards.put(thread, shard);
+			}
+			shard.fQueueDepth++;
+			Integer depth = fThreadQueueDepths.get(thread);
+			fThreadQueueDepths.put(thread, Integer.valueOf(depth == null ? 1 : depth.intValue() + 1));
+		}
+		shard.add(eventSet, thread);
+	}
+
+	/**
+	 * Records that a shard dispatched an event set of the given thread, the
+	 * given time after it was read.
+	 */
+	private void shardDispatched(DispatchShard shard, ThreadReference thread, long latency) {
+		synchronized (fShards) {
+			fQueueDepth--;
+			shard.fQueueDepth--;
+			int depth = fThreadQueueDepths.get(thread).intValue() - 1;
+			if (depth == 0) {
+				fThreadQueueDepths.remove(thread);
+				fThreadShards.remove(thread);
+			} else {
+				fThreadQueueDepths.put(thread, Integer.valueOf(depth));
+			}
+			fShardDispatchCount++;
+			fShardLatency += latency;
+			if (fQueueDepth == 0) {
+				fShards.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of event sets waiting to be dispatched, or being
+	 * dispatched, when dispatching concurrently.
+	 *
+	 * @return Returns the number of event sets not dispatched yet.
+	 * @noreference public for test purposes
+	 */
+	public int getQueueDepth() {
+		if (fShards == null) {
+			return 0;
+		}
+		synchronized (fShards) {
+			return fQueueDepth;
+		}
+	}
+
+	/**
+	 * Returns the largest number of event sets that were waiting to be
+	 * dispatched at once, when dispatching concurrently.
+	 *
+	 * @return Returns the largest number of event sets not dispatched yet.
+	 * @noreference public for test purposes
+	 */
+	public int getMaxQueueDepth() {
+		if (fShards == null) {
+			return 0;
+		}
+		synchronized (fShards) {
+			return fMaxQueueDepth;
+		}
+	}
+
+	/**
+	 * Returns the average time between reading an event set and starting to
+	 * dispatch it, when dispatching concurrently.
+	 *
+	 * @return Returns the average latency in nanoseconds.
+	 * @noreference public for test purposes
+	 */
+	public long getAverageLatency() {
+		if (fShards == null) {
+			return 0;
+		}
+		synchronized (fShards) {
+			return fShardDispatchCount == 0 ? 0 : fShardLatency / fShardDispatchCount;
+		}
+	}
+
 	/** @noreference public for test purposes */
 	public abstract class AbstractDispatchJob extends Job {
 		protected AbstractDispatchJob(String name) {
@@ -293,6 +516,67 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	/**
+	 * Dispatches the event sets handed to it in order.
+	 */
+	private class DispatchShard extends AbstractDispatchJob {
+
+		/**
+		 * Event sets to dispatch, along with their thread and the time they
+		 * were read at.
+		 */
+		private final ArrayDeque<EventSet> fEventSets = new ArrayDeque<>();
+		private final ArrayDeque<ThreadReference> fThreads = new ArrayDeque<>();
+		private final ArrayDeque<Long> fReadTimes = new ArrayDeque<>();
+
+		/**
+		 * Number of event sets handed to this shard and not dispatched yet,
+		 * guarded by the shards.
+		 */
+		int fQueueDepth;
+
+		DispatchShard() {
+			super("JDI Event Dispatch"); //$NON-NLS-1$
+			setSystem(true);
+		}
+
+		void add(EventSet eventSet, ThreadReference thread) {
+			synchronized (fEventSets) {
+				fEventSets.add(eventSet);
+				fThreads.add(thread);
+				fReadTimes.add(Long.valueOf(System.nanoTime()));
+			}
+			// if running, runs again once done
+			schedule();
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			while (!monitor.isCanceled()) {
+				EventSet eventSet;
+				ThreadReference thread;
+				long latency;
+				synchronized (fEventSets) {
+					eventSet = fEventSets.poll();
+					if (eventSet == null) {
+						break;
+					}
+					thread = fThreads.poll();
+					latency = System.nanoTime() - fReadTimes.poll().longValue();
+				}
+				try {
+					dispatch(eventSet);
+				} finally {
+					shardDispatched(this, thread, latency);
+				}
+				if (JDIDebugOptions.DEBUG_JDI_EVENTS) {
+					JDIDebugOptions.trace("JDI Event Set dispatched after " + latency / 1000000 + " ms, " + getQueueDepth() + " pending"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
 	/**
 	 * Continuously reads events that are coming from the event queue, until
 	 * this event dispatcher is shutdown. A debug target starts a thread on this
@@ -317,7 +601,11 @@ public class EventDispatcher implements Runnable {
 
 					if (eventSet != null) {
 						if (!requiresExpressionEvaluation(eventSet)) {
-							dispatch(eventSet);
+							if (fShards == null) {
+								dispatch(eventSet);
+							} else {
+								dispatchConcurrently(eventSet);
+							}
 						} else {
 							// 269231 always evaluate expressions in a separate job to avoid deadlocks
 							Job job = new AbstractDispatchJob("JDI Expression Evaluation Event Dispatch") { //$NON-NLS-1$
@@ -370,7 +658,9 @@ public class EventDispatcher implements Runnable {
 	 */
 	public void addJDIEventListener(IJDIEventListener listener,
 			EventRequest request) {
-		fEventHandlers.put(request, listener);
+		if (request != null) {
+			fEventHandlers.put(request, listener);
+		}
 	}
 
 	/**
@@ -384,7 +674,9 @@ public class EventDispatcher implements Runnable {
 	 *            the event request to de-register
 	 */
 	public void removeJDIEventListener(IJDIEventListener listener, EventRequest request) {
-		fEventHandlers.remove(request);
+		if (request != null) {
+			fEventHandlers.remove(request);
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,37 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling if breakpoint conditions that invoke
+	 * several methods are compiled into a class that is injected in the debug
+	 * target, so that each evaluation runs the compiled condition with a
+	 * single invocation rather than interpreting it.
+	 *
+	 * @since 3.21
+	 */
+	public static final String PREF_INJECT_BREAKPOINT_CONDITIONS = JDIDebugPlugin
+			.getUniqueIdentifier() + ".inject_breakpoint_conditions"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling if only the top frames of a deep stack
+	 * are retrieved when a thread suspends again, the frames below being
+	 * retrieved when they are needed.
+	 *
+	 * @since 3.21
+	 */
+	public static final String PREF_INCREMENTAL_STACK_FRAMES = JDIDebugPlugin
+			.getUniqueIdentifier() + ".incremental_stack_frames"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling if the event sets of different threads
+	 * are dispatched concurrently, the event sets of each thread being
+	 * dispatched in the order they are received.
+	 *
+	 * @since 3.21
+	 */
+	public static final String PREF_CONCURRENT_EVENT_DISPATCH = JDIDebugPlugin
+			.getUniqueIdentifier() + ".concurrent_event_dispatch"; //$NON-NLS-1$
+
 	/**
 	 * Extension point for java logical structures.
 	 *
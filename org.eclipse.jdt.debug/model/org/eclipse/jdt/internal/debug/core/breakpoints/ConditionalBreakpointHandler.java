@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2020 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.text.MessageFormat;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -33,6 +34,7 @@ import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
+import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -42,6 +44,8 @@ import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
 import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
 import com.sun.jdi.VMDisconnectedException;
 
@@ -52,6 +56,15 @@ import com.sun.jdi.VMDisconnectedException;
  */
 public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 
+	/**
+	 * Minimum number of invocations the interpreter makes to evaluate a
+	 * condition for the condition to be injected. An injected condition costs
+	 * one invocation to run the snippet and three round trips to the target
+	 * per hit, to set its free variables and to read and unbox its result,
+	 * which is about the cost of two invocations.
+	 */
+	private static final int MIN_INJECTED_INVOCATIONS = 3;
+
 	/**
 	 * Whether the condition had compile or runtime errors
 	 */
@@ -119,8 +132,21 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 				fireConditionHasRuntimeErrors(fBreakpoint, exception);
 				return SUSPEND;
 			}
+			return determineVote(thread.getDebugTarget(), result.getValue());
+		}
+
+		/**
+		 * Determines whether to suspend or resume from the value of the
+		 * condition.
+		 *
+		 * @param debugTarget
+		 *            the target the condition was evaluated in
+		 * @param value
+		 *            value of the condition
+		 * @return vote
+		 */
+		int determineVote(IDebugTarget debugTarget, IValue value) {
 			try {
-				IValue value = result.getValue();
 				if (fBreakpoint.isConditionSuspendOnTrue()) {
 					if (value instanceof IJavaPrimitiveValue) {
 						// Suspend when the condition evaluates true
@@ -153,7 +179,6 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					fireConditionHasRuntimeErrors(fBreakpoint, new DebugException(status));
 					return SUSPEND;
 				}
-				IDebugTarget debugTarget = thread.getDebugTarget();
 				IValue lastValue = fBreakpoint
 						.setCurrentConditionValue(debugTarget, value);
 				if (!value.equals(lastValue)) {
@@ -187,6 +212,16 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 		}
 	}
 
+	/**
+	 * Returns whether the condition of the given breakpoint is to be compiled
+	 * into a class injected in the target. The result of an injected condition
+	 * is boxed, so only conditions that suspend when true are injected.
+	 */
+	private boolean isInjectionEnabled(JavaLineBreakpoint breakpoint) throws CoreException {
+		return breakpoint.isConditionSuspendOnTrue()
+				&& Platform.getPreferencesService().getBoolean(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_INJECT_BREAKPOINT_CONDITIONS, false, null);
+	}
+
 	@Override
 	public void addingBreakpoint(IJavaDebugTarget target,
 			IJavaBreakpoint breakpoint) {
@@ -236,6 +271,19 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 						.getExpression(thread);
 				if (expression == null) {
 					expression = engine.getCompiledExpression(condition, frame);
+					if (!expression.hasErrors()
+							&& isInjectionEnabled(lineBreakpoint)
+							&& engine instanceof ASTEvaluationEngine
+							&& expression instanceof InstructionSequence
+							&& ((InstructionSequence) expression).getInvocationCount() >= MIN_INJECTED_INVOCATIONS) {
+						// conditions with fewer invocations are cheaper to
+						// interpret than to inject
+						ICompiledExpression injected = ((ASTEvaluationEngine) engine)
+								.getInjectedCompiledExpression(condition, frame);
+						if (!injected.hasErrors()) {
+							expression = injected;
+						}
+					}
 					lineBreakpoint.setExpression(thread, expression);
 				}
 				if (expression.hasErrors()) {
@@ -243,6 +291,15 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 							getMessages(expression));
 					return SUSPEND;
 				}
+				if (engine instanceof ASTEvaluationEngine) {
+					// side-effect free conditions are evaluated right away,
+					// without an evaluation in the thread
+					IJavaValue value = ((ASTEvaluationEngine) engine)
+							.evaluateWithoutInvocations(expression, frame);
+					if (value != null) {
+						return listener.determineVote(target, value);
+					}
+				}
 				Object lock = listener.getLock();
 				synchronized (lock) {
 					engine.evaluateExpression(expression, frame, listener,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,9 +32,11 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.Breakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaBreakpointListener;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
@@ -374,18 +376,43 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 */
 	public boolean handleClassPrepareEvent(ClassPrepareEvent event, JDIDebugTarget target, boolean suspendVote) {
 		try {
-			if (!installableReferenceType(event.referenceType(), target)) {
+			ReferenceType type = event.referenceType();
+			if (!installableReferenceType(type, target)) {
 				// Don't install this breakpoint in an
 				// inappropriate type
 				return true;
 			}
-			createRequest(target, event.referenceType());
+			if (this instanceof IJavaLineBreakpoint) {
+				prefetchMethodTables(type, ((IJavaLineBreakpoint) this).isConditionEnabled());
+			}
+			createRequest(target, type);
 		} catch (CoreException e) {
 			JDIDebugPlugin.log(e);
 		}
 		return true;
 	}
 
+	/**
+	 * Retrieves the line tables of all the methods of the given type at once,
+	 * and their variable tables if asked, rather than method by method while
+	 * the thread that prepared the type is held suspended.
+	 *
+	 * @param type
+	 *            the type the breakpoint is installed in
+	 * @param withVariables
+	 *            whether to retrieve the variable tables, used to evaluate
+	 *            conditions
+	 */
+	private void prefetchMethodTables(ReferenceType type, boolean withVariables) {
+		if (type instanceof ReferenceTypeImpl) {
+			try {
+				((ReferenceTypeImpl) type).prefetchMethodTables(withVariables);
+			} catch (RuntimeException e) {
+				// the tables are retrieved again when needed
+			}
+		}
+	}
+
 	/**
 	 * @see IJDIEventListener#handleEvent(Event, JDIDebugTarget, boolean, EventSet)
 	 *
@@ -458,7 +485,12 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 			requestCount = (Integer) request.getProperty(HIT_COUNT);
 		}
 		if (requestCount != null) {
-			if (request != null) {
+			// events of different threads may be handled concurrently, only
+			// the first one to expire the request updates the marker
+			synchronized (request) {
+				if (Boolean.TRUE.equals(request.getProperty(EXPIRED))) {
+					return;
+				}
 				request.putProperty(EXPIRED, Boolean.TRUE);
 			}
 			try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
@@ -98,13 +99,13 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	/**
 	 * Maps suspended threads to the suspend event that suspended them
 	 */
-	private final Map<IJavaThread, ICompiledExpression> fSuspendEvents = new HashMap<>();
+	private final Map<IJavaThread, ICompiledExpression> fSuspendEvents = new ConcurrentHashMap<>();
 	/**
 	 * The map of cached compiled expressions (ICompiledExpression) for this
 	 * breakpoint, keyed by thread. This value must be cleared every time the
 	 * breakpoint is added to a target.
 	 */
-	private final Map<IJavaThread, ICompiledExpression> fCompiledExpressions = new HashMap<>();
+	private final Map<IJavaThread, ICompiledExpression> fCompiledExpressions = new ConcurrentHashMap<>();
 
 	/**
 	 * Cache of projects for stack frames to avoid repetitive project resolution
@@ -116,7 +117,7 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 * The map of the result value of the condition (IValue) for this
 	 * breakpoint, keyed by debug target.
 	 */
-	private final Map<IDebugTarget, IValue> fConditionValues = new HashMap<>();
+	private final Map<IDebugTarget, IValue> fConditionValues = new ConcurrentHashMap<>();
 
 	/**
 	 * Status code indicating that a request to create a breakpoint in a type
@@ -674,9 +675,7 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 * @return previous value or <code>null</code>
 	 */
 	protected IValue setCurrentConditionValue(IDebugTarget target, IValue value) {
-		IValue prev = fConditionValues.get(target);
-		fConditionValues.put(target, value);
-		return prev;
+		return fConditionValues.put(target, value);
 	}
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -123,7 +123,7 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 * <li>Method exit (value <code>EXIT_EVENT</code>)</li>
 	 * </ol>
 	 */
-	private final Map<IDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
+	private final Map<IDebugTarget, Integer> fLastEventTypes = new ConcurrentHashMap<>(10);
 
 	/**
 	 * Used to match type names
@@ -484,8 +484,7 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 
 			// simulate hit count
-			Integer count = (Integer) event.request().getProperty(HIT_COUNT);
-			if (count != null && handleHitCount(event, count)) {
+			if (handleHitCount(event)) {
 				return true;
 			}
 			// no hit count
@@ -501,25 +500,37 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	/**
 	 * Method breakpoints simulate hit count. When a method event is received,
 	 * decrement the hit count property on the request and suspend if the hit
-	 * count reaches 0.
-	 */
-	private boolean handleHitCount(LocatableEvent event, Integer count) {
-		// decrement count and suspend if 0
-		int hitCount = count.intValue();
-		if (hitCount > 0) {
-			hitCount--;
-			count = Integer.valueOf(hitCount);
-			event.request().putProperty(HIT_COUNT, count);
-			if (hitCount == 0) {
-				// the count has reached 0, breakpoint hit
-				expireHitCount(event);
-				disableTriggerPoint(event);
+	 * count reaches 0. The events of different threads may be handled
+	 * concurrently, so the count is decremented under the request's lock.
+	 *
+	 * @return whether to keep running, <code>false</code> if the breakpoint
+	 *         has no hit count
+	 */
+	private boolean handleHitCount(LocatableEvent event) {
+		EventRequest request = event.request();
+		int hitCount;
+		synchronized (request) {
+			Integer count = (Integer) request.getProperty(HIT_COUNT);
+			if (count == null) {
+				// no hit count
 				return false;
 			}
-			// count still > 0, keep running
-			return true;
+			hitCount = count.intValue();
+			if (hitCount <= 0) {
+				// hit count expired, keep running
+				return true;
+			}
+			// decrement count and suspend if 0
+			hitCount--;
+			request.putProperty(HIT_COUNT, Integer.valueOf(hitCount));
+		}
+		if (hitCount == 0) {
+			// the count has reached 0, breakpoint hit
+			expireHitCount(event);
+			disableTriggerPoint(event);
+			return false;
 		}
-		// hit count expired, keep running
+		// count still > 0, keep running
 		return true;
 	}
 
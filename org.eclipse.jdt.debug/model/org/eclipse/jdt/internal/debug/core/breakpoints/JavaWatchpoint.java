@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -97,7 +97,7 @@ public class JavaWatchpoint extends JavaLineBreakpoint implements
 	 * <li>Field modification (value <code>MODIFICATION_EVENT</code>)</li>
 	 * </ol>
 	 */
-	private final HashMap<JDIDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
+	private final Map<JDIDebugTarget, Integer> fLastEventTypes = new ConcurrentHashMap<>(10);
 
 	public JavaWatchpoint() {
 	}
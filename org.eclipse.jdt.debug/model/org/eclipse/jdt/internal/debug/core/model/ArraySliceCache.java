@@ -0,0 +1,366 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
+
+import com.sun.jdi.ArrayReference;
+import com.sun.jdi.BooleanValue;
+import com.sun.jdi.ByteValue;
+import com.sun.jdi.CharValue;
+import com.sun.jdi.DoubleValue;
+import com.sun.jdi.FloatValue;
+import com.sun.jdi.IntegerValue;
+import com.sun.jdi.LongValue;
+import com.sun.jdi.ShortValue;
+import com.sun.jdi.Value;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * A cache of the elements of an array in the target, retrieved lazily in
+ * windows of {@link #WINDOW_SIZE} elements, so that reading the elements one
+ * by one, as the variables view does for each partition of a large array,
+ * costs one request per window rather than one per element. Windows of
+ * primitive arrays are held as arrays of primitives rather than as
+ * {@link Value}s.
+ * <p>
+ * At most {@link #MAX_WINDOWS} windows are held, evicting the least recently
+ * used, and at most {@link #MAX_WINDOWS_PER_REQUEST} windows are retrieved
+ * with one request, unless the range asked for has more windows than are
+ * held. The cache is cleared whenever a thread of the target
+ * resumes or suspends, including for evaluations, as the elements may have
+ * changed in between.
+ * </p>
+ */
+public class ArraySliceCache {
+
+	/**
+	 * Number of elements retrieved at once, the size of the partitions of
+	 * arrays in the variables view.
+	 */
+	public static final int WINDOW_SIZE = 100;
+
+	/**
+	 * Maximum number of windows held.
+	 */
+	public static final int MAX_WINDOWS = 64;
+
+	/**
+	 * Maximum number of windows retrieved with one request.
+	 */
+	public static final int MAX_WINDOWS_PER_REQUEST = 16;
+
+	private final JDIDebugTarget fTarget;
+	private final ArrayReference fArray;
+	private final int fLength;
+
+	/**
+	 * The signature of the elements, like <code>I</code> for
+	 * <code>int[]</code>, or <code>0</code> for arrays of references.
+	 */
+	private char fElementSignature;
+
+	/**
+	 * Elements by window index, least recently used first: arrays of
+	 * primitives or of {@link Value}s.
+	 */
+	private final LinkedHashMap<Integer, Object> fWindows = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * Run state change count of the target when the windows were retrieved.
+	 */
+	private int fRunStateCount = -1;
+
+	private long fRequests;
+
+	/**
+	 * Creates a cache for the given array.
+	 *
+	 * @param target
+	 *            debug target of the array
+	 * @param array
+	 *            the array
+	 * @param length
+	 *            length of the array
+	 */
+	public ArraySliceCache(JDIDebugTarget target, ArrayReference array, int length) {
+		fTarget = target;
+		fArray = array;
+		fLength = length;
+	}
+
+	/**
+	 * Returns the element at the given index, retrieving its window if
+	 * needed.
+	 *
+	 * @param index
+	 *            index of the element
+	 * @return the element
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is not in the array
+	 */
+	public synchronized Value getValue(int index) {
+		if (index < 0 || index >= fLength) {
+			throw new IndexOutOfBoundsException(Integer.toString(index));
+		}
+		validate();
+		Integer window = Integer.valueOf(index / WINDOW_SIZE);
+		Object elements = fWindows.get(window);
+		if (elements == null) {
+			retrieve(window.intValue(), window.intValue() + 1);
+			elements = fWindows.get(window);
+		}
+		return toValue(elements, index % WINDOW_SIZE);
+	}
+
+	/**
+	 * Returns the given range of elements. Windows that are not held are
+	 * retrieved with one request per run of consecutive windows, of at most
+	 * {@link #MAX_WINDOWS_PER_REQUEST} windows. A range of more than
+	 * {@link #MAX_WINDOWS} windows, like all the elements of a large array, is
+	 * retrieved with a single request and not held.
+	 *
+	 * @param offset
+	 *            index of the first element
+	 * @param length
+	 *            number of elements
+	 * @return the elements
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is not in the array
+	 */
+	public synchronized List<Value> getValues(int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > fLength) {
+			throw new IndexOutOfBoundsException(Integer.toString(offset + length));
+		}
+		validate();
+		List<Value> values = new ArrayList<>(length);
+		if (length == 0) {
+			return values;
+		}
+		int first = offset / WINDOW_SIZE;
+		int last = (offset + length - 1) / WINDOW_SIZE;
+		if (last - first >= MAX_WINDOWS) {
+			// the windows could not all be held, read the range at once
+			fRequests++;
+			return fArray.getValues(offset, length);
+		}
+		int window = first;
+		while (window <= last) {
+			Object elements = fWindows.get(Integer.valueOf(window));
+			if (elements != null) {
+				addValues(elements, window, offset, length, values);
+				window++;
+				continue;
+			}
+			int end = window + 1;
+			while (end <= last && end - window < MAX_WINDOWS_PER_REQUEST && !fWindows.containsKey(Integer.valueOf(end))) {
+				end++;
+			}
+			addValues(retrieve(window, end), window, offset, length, values);
+			window = end;
+		}
+		return values;
+	}
+
+	/**
+	 * Forgets all held elements, for instance because an element has been
+	 * modified.
+	 */
+	public synchronized void invalidate() {
+		fWindows.clear();
+	}
+
+	/**
+	 * @return Returns the number of requests sent to retrieve elements.
+	 */
+	public synchronized long getRequestCount() {
+		return fRequests;
+	}
+
+	/**
+	 * Clears the windows if a thread of the target resumed or suspended since
+	 * they were retrieved.
+	 */
+	private void validate() {
+		int runStateCount = fTarget.getRunStateCount();
+		if (runStateCount != fRunStateCount) {
+			fWindows.clear();
+			fRunStateCount = runStateCount;
+		}
+	}
+
+	/**
+	 * Retrieves the windows from <code>first</code> up to <code>end</code>
+	 * excluded with a single request, and holds them. The elements of arrays
+	 * of primitives are decoded without creating {@link Value}s when the
+	 * array is one of our own JDI implementation.
+	 *
+	 * @return the retrieved elements, in the form they are held in
+	 */
+	private Object retrieve(int first, int end) {
+		int start = first * WINDOW_SIZE;
+		int stop = Math.min(end * WINDOW_SIZE, fLength);
+		Object elements = null;
+		if (getElementSignature() != '0' && fArray instanceof ArrayReferenceImpl) {
+			elements = ((ArrayReferenceImpl) fArray).getPrimitiveValues(start, stop - start);
+		}
+		if (elements == null) {
+			elements = toElements(fArray.getValues(start, stop - start));
+		}
+		fRequests++;
+		for (int window = first; window < end; window++) {
+			int from = window * WINDOW_SIZE - start;
+			int to = Math.min(from + WINDOW_SIZE, stop - start);
+			Object held = elements;
+			if (to - from != getLength(elements)) {
+				held = Array.newInstance(elements.getClass().getComponentType(), to - from);
+				System.arraycopy(elements, from, held, 0, to - from);
+			}
+			fWindows.put(Integer.valueOf(window), held);
+		}
+		Iterator<Integer> windows = fWindows.keySet().iterator();
+		while (fWindows.size() > MAX_WINDOWS && windows.hasNext()) {
+			windows.next();
+			windows.remove();
+		}
+		return elements;
+	}
+
+	/**
+	 * Adds the elements in the given range from held elements starting at the
+	 * given window.
+	 */
+	private void addValues(Object elements, int window, int offset, int length, List<Value> values) {
+		int windowStart = window * WINDOW_SIZE;
+		int from = Math.max(offset, windowStart) - windowStart;
+		int to = Math.min(offset + length, windowStart + getLength(elements)) - windowStart;
+		for (int i = from; i < to; i++) {
+			values.add(toValue(elements, i));
+		}
+	}
+
+	private char getElementSignature() {
+		if (fElementSignature == 0) {
+			String signature = fArray.type().signature();
+			char element = signature.charAt(1);
+			fElementSignature = element == 'L' || element == '[' ? '0' : element;
+		}
+		return fElementSignature;
+	}
+
+	/**
+	 * Converts retrieved elements to the form they are held in.
+	 */
+	private Object toElements(List<Value> values) {
+		int size = values.size();
+		switch (getElementSignature()) {
+			case 'Z': {
+				boolean[] elements = new boolean[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((BooleanValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'B': {
+				byte[] elements = new byte[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((ByteValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'C': {
+				char[] elements = new char[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((CharValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'S': {
+				short[] elements = new short[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((ShortValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'I': {
+				int[] elements = new int[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((IntegerValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'J': {
+				long[] elements = new long[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((LongValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'F': {
+				float[] elements = new float[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((FloatValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			case 'D': {
+				double[] elements = new double[size];
+				for (int i = 0; i < size; i++) {
+					elements[i] = ((DoubleValue) values.get(i)).value();
+				}
+				return elements;
+			}
+			default:
+				return values.toArray(new Value[size]);
+		}
+	}
+
+	/**
+	 * Returns the element at the given index of held elements, mirroring
+	 * primitives in the target.
+	 */
+	private Value toValue(Object elements, int index) {
+		VirtualMachine vm = fArray.virtualMachine();
+		switch (getElementSignature()) {
+			case 'Z':
+				return vm.mirrorOf(((boolean[]) elements)[index]);
+			case 'B':
+				return vm.mirrorOf(((byte[]) elements)[index]);
+			case 'C':
+				return vm.mirrorOf(((char[]) elements)[index]);
+			case 'S':
+				return vm.mirrorOf(((short[]) elements)[index]);
+			case 'I':
+				return vm.mirrorOf(((int[]) elements)[index]);
+			case 'J':
+				return vm.mirrorOf(((long[]) elements)[index]);
+			case 'F':
+				return vm.mirrorOf(((float[]) elements)[index]);
+			case 'D':
+				return vm.mirrorOf(((double[]) elements)[index]);
+			default:
+				return ((Value[]) elements)[index];
+		}
+	}
+
+	private static int getLength(Object elements) {
+		return Array.getLength(elements);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,12 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 */
 	private final ArrayReference fArray;
 
+	/**
+	 * Cache of the elements of the array, or <code>null</code> if the
+	 * elements are read one by one
+	 */
+	private final ArraySliceCache fSlices;
+
 	/**
 	 * The reference type name of this variable. Cached lazily.
 	 */
@@ -77,6 +83,32 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 			int index, IJavaValue logicalParent) {
 		super(target);
 		fArray = array;
+		fSlices = null;
+		fIndex = index;
+		fLogicalParent = logicalParent;
+	}
+
+	/**
+	 * Constructs an array entry at the given index in an array value, reading
+	 * the entry through the cache of the elements of the array.
+	 *
+	 * @param target
+	 *            debug target containing the array entry
+	 * @param array
+	 *            array value containing the entry
+	 * @param index
+	 *            index into the array
+	 * @param logicalParent
+	 *            original logical parent value, or <code>null</code> if not a
+	 *            child of a logical structure
+	 * @throws DebugException
+	 *             if the length of the array cannot be retrieved
+	 */
+	public JDIArrayEntryVariable(JDIDebugTarget target, JDIArrayValue array,
+			int index, IJavaValue logicalParent) throws DebugException {
+		super(target);
+		fArray = array.getArrayReference();
+		fSlices = array.getSliceCache();
 		fIndex = index;
 		fLogicalParent = logicalParent;
 	}
@@ -86,6 +118,9 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 */
 	@Override
 	protected Value retrieveValue() {
+		if (fSlices != null) {
+			return fSlices.getValue(getIndex());
+		}
 		ArrayReference ar = getArrayReference();
 		if (ar != null) {
 			return ar.getValue(getIndex());
@@ -111,6 +146,9 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 		}
 		try {
 			ar.setValue(getIndex(), value);
+			if (fSlices != null) {
+				fSlices.invalidate();
+			}
 			fireChangeEvent(DebugEvent.CONTENT);
 		} catch (ClassNotLoadedException e) {
 			targetRequestFailed(
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,11 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 
 	private int fLength = -1;
 
+	/**
+	 * The elements retrieved from the target, created on first use
+	 */
+	private ArraySliceCache fSlices;
+
 	/**
 	 * Constructs a value which is a reference to an array.
 	 *
@@ -98,6 +103,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		try {
 			getArrayReference().setValue(index,
 					((JDIValue) value).getUnderlyingValue());
+			invalidateSlices();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -118,6 +124,30 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		}
 	}
 
+	/**
+	 * Returns the cache of the elements of this array retrieved from the
+	 * target, through which elements are read.
+	 *
+	 * @return the element cache
+	 * @exception DebugException
+	 *                if the length of the array cannot be retrieved
+	 */
+	public synchronized ArraySliceCache getSliceCache() throws DebugException {
+		if (fSlices == null) {
+			fSlices = new ArraySliceCache(getJavaDebugTarget(), getArrayReference(), getLength());
+		}
+		return fSlices;
+	}
+
+	/**
+	 * Forgets the elements retrieved from the target, after modifying them.
+	 */
+	protected synchronized void invalidateSlices() {
+		if (fSlices != null) {
+			fSlices.invalidate();
+		}
+	}
+
 	/**
 	 * Returns the underlying array reference for this array.
 	 *
@@ -144,8 +174,9 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 *                </ul>
 	 */
 	protected Value getUnderlyingValue(int index) throws DebugException {
+		ArraySliceCache slices = getSliceCache();
 		try {
-			return getArrayReference().getValue(index);
+			return slices.getValue(index);
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (RuntimeException e) {
@@ -172,8 +203,9 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 	 *                </ul>
 	 */
 	protected List<Value> getUnderlyingValues() throws DebugException {
+		ArraySliceCache slices = getSliceCache();
 		try {
-			return getArrayReference().getValues();
+			return slices.getValues(0, getLength());
 		} catch (IndexOutOfBoundsException e) {
 			return Collections.EMPTY_LIST;
 		} catch (RuntimeException e) {
@@ -207,8 +239,8 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		if (offset >= getLength()) {
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_6, new IndexOutOfBoundsException(Integer.toString(offset)));
 		}
-		return new JDIArrayEntryVariable(getJavaDebugTarget(),
-				getArrayReference(), offset, fLogicalParent);
+		return new JDIArrayEntryVariable(getJavaDebugTarget(), this, offset,
+				fLogicalParent);
 	}
 
 	/*
@@ -229,7 +261,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		int index = offset;
 		for (int i = 0; i < length; i++) {
 			variables[i] = new JDIArrayEntryVariable(getJavaDebugTarget(),
-					getArrayReference(), index, fLogicalParent);
+					this, index, fLogicalParent);
 			index++;
 		}
 		return variables;
@@ -270,6 +302,7 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 				list.add(((JDIValue) value).getUnderlyingValue());
 			}
 			getArrayReference().setValues(offset, list, startOffset, length);
+			invalidateSlices();
 		} catch (IndexOutOfBoundsException e) {
 			throw e;
 		} catch (InvalidTypeException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -173,6 +173,7 @@ public class JDIDebugModelMessages extends NLS {
 	public static String JDIThread_Unable_to_create_step_request___VM_disconnected__1;
 	public static String JDIThread_Unable_to_create_step_request___VM_disconnected__2;
 	public static String JDIThread_39;
+	public static String JDIThread_prefetching_variables;
 
 	public static String JDIThread_42;
 	public static String JDIThread_43;
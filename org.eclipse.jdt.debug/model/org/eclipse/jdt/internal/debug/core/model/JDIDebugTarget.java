@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -99,9 +99,11 @@ import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
 
 import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
 import com.sun.jdi.InternalException;
 import com.sun.jdi.Location;
 import com.sun.jdi.Method;
+import com.sun.jdi.Mirror;
 import com.sun.jdi.ObjectCollectedException;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ThreadGroupReference;
@@ -240,6 +242,19 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final AtomicInteger fSuspendCount = new AtomicInteger(0);
 
+	/**
+	 * Count of the resumes and suspends of the threads in this target,
+	 * including the ones of evaluations
+	 */
+	private final AtomicInteger fRunStateCount = new AtomicInteger(0);
+
+	/**
+	 * Values of fields retrieved ahead of the variables view when a thread
+	 * suspended, by object for instance fields and by type for static fields.
+	 * Cleared when a thread resumes.
+	 */
+	private final Map<Mirror, Map<Field, Value>> fPrefetchedValues = new HashMap<>();
+
 	/** Number of extra VM.resume operations needed due SUSPEND_VM breakpoints */
 	private final AtomicInteger extraResumeCount = new AtomicInteger(0);
 
@@ -2756,6 +2771,63 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fSuspendCount.get();
 	}
 
+	/**
+	 * Returns the number of times a thread of this target resumed or
+	 * suspended, including for evaluations. Values retrieved from the target
+	 * may have changed when this count changes.
+	 *
+	 * @return the number of resumes and suspends of the threads of this target
+	 */
+	protected int getRunStateCount() {
+		return fRunStateCount.get();
+	}
+
+	/**
+	 * Records that a thread of this target resumed or suspended.
+	 */
+	protected void incrementRunStateCount() {
+		fRunStateCount.getAndIncrement();
+	}
+
+	/**
+	 * Records the values of fields of the given object or type retrieved
+	 * ahead of the variables view, until a thread resumes.
+	 *
+	 * @param owner
+	 *            the object for instance fields, or the type for static fields
+	 * @param values
+	 *            the fields with their values, not modified afterwards
+	 */
+	protected void addPrefetchedValues(Mirror owner, Map<Field, Value> values) {
+		synchronized (fPrefetchedValues) {
+			fPrefetchedValues.put(owner, values);
+		}
+	}
+
+	/**
+	 * Returns the values of fields of the given object or type retrieved ahead
+	 * of the variables view since the last resume, if any.
+	 *
+	 * @param owner
+	 *            the object for instance fields, or the type for static fields
+	 * @return the fields with their values, or <code>null</code>
+	 */
+	protected Map<Field, Value> getPrefetchedValues(Mirror owner) {
+		synchronized (fPrefetchedValues) {
+			return fPrefetchedValues.get(owner);
+		}
+	}
+
+	/**
+	 * Forgets the values of fields retrieved ahead of the variables view, as
+	 * they may change once a thread resumes or a field is set.
+	 */
+	protected void clearPrefetchedValues() {
+		synchronized (fPrefetchedValues) {
+			fPrefetchedValues.clear();
+		}
+	}
+
 	/**
 	 * Increments the suspend counter for this target based on the reason for
 	 * the suspend event. The suspend count is not updated for implicit
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -59,6 +60,10 @@ public class JDILocalVariable extends JDIModificationVariable {
 	protected Value retrieveValue() throws DebugException {
 		synchronized (fStackFrame.getThread()) {
 			if (getStackFrame().isSuspended()) {
+				Map<LocalVariable, Value> prefetched = getStackFrame().getPrefetchedValues();
+				if (prefetched != null && prefetched.containsKey(fLocal)) {
+					return prefetched.get(fLocal);
+				}
 				StackFrame frame = getStackFrame().getUnderlyingStackFrame();
 				if (frame != null) {
 					return frame.getValue(fLocal);
@@ -97,6 +102,7 @@ public class JDILocalVariable extends JDIModificationVariable {
 				StackFrame frame = getStackFrame().getUnderlyingStackFrame();
 				if (frame != null) {
 					frame.setValue(getLocal(), value);
+					getStackFrame().clearPrefetchedValues();
 				} else {
 					String errorMessage = JDIDebugModelMessages.JDIStackFrame_NoLongerAvailable;
 					targetRequestFailed(
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,22 +18,27 @@ package org.eclipse.jdt.internal.debug.core.model;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.jdi.internal.InterfaceTypeImpl;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaFieldVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
 import com.sun.jdi.ArrayType;
+import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
 import com.sun.jdi.IncompatibleThreadStateException;
 import com.sun.jdi.InterfaceType;
+import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.Method;
 import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
@@ -643,4 +648,112 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 			}
 		}
 	}
+
+	/**
+	 * Permits garbage collection of the given objects of a debug target, with
+	 * a single round trip to the target.
+	 *
+	 * @param objects
+	 *            objects of the same debug target
+	 * @throws DebugException
+	 *             if the request fails for any of the objects
+	 */
+	public static void enableCollection(List<JDIObjectValue> objects) throws DebugException {
+		if (objects.isEmpty()) {
+			return;
+		}
+		List<ObjectReference> references = getUnderlyingObjects(objects);
+		if (references == null) {
+			for (JDIObjectValue object : objects) {
+				object.enableCollection();
+			}
+			return;
+		}
+		JDIDebugTarget target = objects.get(0).getJavaDebugTarget();
+		if (target.supportsSelectiveGarbageCollection()) {
+			try {
+				ObjectReferenceImpl.enableCollection(references);
+			} catch (RuntimeException e) {
+				target.targetRequestFailed(JDIDebugModelMessages.JDIObjectValue_14, e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the underlying objects of the given objects, or
+	 * <code>null</code> if they are not all implemented by the JDI of this
+	 * plug-in, which is needed to send the requests at once.
+	 */
+	private static List<ObjectReference> getUnderlyingObjects(List<JDIObjectValue> objects) {
+		List<ObjectReference> references = new ArrayList<>(objects.size());
+		for (JDIObjectValue object : objects) {
+			ObjectReference reference = object.getUnderlyingObject();
+			if (!(reference instanceof ObjectReferenceImpl)) {
+				return null;
+			}
+			references.add(reference);
+		}
+		return references;
+	}
+
+	/**
+	 * Sets the values of the given instance fields of this object, with a
+	 * single round trip to the target.
+	 *
+	 * @param fields
+	 *            instance fields of this object
+	 * @param values
+	 *            the new values of the fields, in the same order
+	 * @throws DebugException
+	 *             if the values cannot be set
+	 */
+	public void setFieldValues(IJavaFieldVariable[] fields, IJavaValue[] values) throws DebugException {
+		ObjectReference object = getUnderlyingObject();
+		if (!(object instanceof ObjectReferenceImpl)) {
+			for (int i = 0; i < fields.length; i++) {
+				fields[i].setValue(values[i]);
+			}
+			return;
+		}
+		Map<Field, Value> fieldValues = new HashMap<>(fields.length * 2);
+		for (int i = 0; i < fields.length; i++) {
+			fieldValues.put(((JDIFieldVariable) fields[i]).getField(), ((JDIValue) values[i]).getUnderlyingValue());
+		}
+		try {
+			((ObjectReferenceImpl) object).setValues(fieldValues);
+		} catch (ClassNotLoadedException | InvalidTypeException | RuntimeException e) {
+			targetRequestFailed(MessageFormat.format(
+					JDIDebugModelMessages.JDIFieldVariable_exception_modifying_value,
+					e.toString()), e);
+		}
+	}
+
+	/**
+	 * Returns the values of the given fields of this object, retrieved with a
+	 * single round trip to the target.
+	 *
+	 * @param fields
+	 *            fields of this object
+	 * @return the values of the fields, in the same order
+	 * @throws DebugException
+	 *             if the values cannot be retrieved
+	 */
+	public IJavaValue[] getFieldValues(IJavaFieldVariable[] fields) throws DebugException {
+		List<Field> list = new ArrayList<>(fields.length);
+		for (IJavaFieldVariable field : fields) {
+			list.add(((JDIFieldVariable) field).getField());
+		}
+		IJavaValue[] values = new IJavaValue[fields.length];
+		try {
+			Map<Field, Value> fieldValues = getUnderlyingObject().getValues(list);
+			for (int i = 0; i < values.length; i++) {
+				values[i] = JDIValue.createValue(getJavaDebugTarget(), fieldValues.get(list.get(i)));
+			}
+		} catch (RuntimeException e) {
+			targetRequestFailed(MessageFormat.format(
+					JDIDebugModelMessages.JDIValue_exception_retrieving_fields,
+					e.toString()), e);
+		}
+		return values;
+	}
 }
\ No newline at end of file
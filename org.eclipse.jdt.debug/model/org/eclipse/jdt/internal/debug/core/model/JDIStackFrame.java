@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
@@ -36,6 +37,8 @@ import org.eclipse.debug.core.model.IThread;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.StackFrameImpl;
+import org.eclipse.jdi.internal.StackFrameImpl.FrameValues;
 import org.eclipse.jdi.internal.ValueImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdt.core.IType;
@@ -74,6 +77,7 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.Type;
+import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
 
 /**
@@ -108,6 +112,12 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	private ObjectReference fThisObject;
 
+	/**
+	 * Values of this frame retrieved ahead of the variables view when its
+	 * thread suspended, or <code>null</code>.
+	 */
+	private FrameValues fPrefetched;
+
 	/**
 	 * The name of the type of the object that received the method call
 	 * associated with this stack frame. Cached lazily on first access.
@@ -292,7 +302,37 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	 */
 	public Method getUnderlyingMethod() {
 		synchronized (fThread) {
-			return fLocation.method();
+			return getBoundLocation().method();
+		}
+	}
+
+	/**
+	 * Returns the location of this stack frame, binding it to its underlying
+	 * frame first when it has not been bound since its thread suspended, as
+	 * it is deeper than the frames retrieved when the thread suspended.
+	 *
+	 * @return the location of this stack frame
+	 */
+	private Location getBoundLocation() {
+		if (fStackFrame == null && fDepth >= 0 && fThread.isSuspended()) {
+			try {
+				getUnderlyingStackFrame();
+			} catch (DebugException e) {
+				// keep the location as last bound
+			}
+		}
+		return fLocation;
+	}
+
+	/**
+	 * Returns the location of this stack frame, as of when it was last bound
+	 * to an underlying stack frame.
+	 *
+	 * @return the location of this stack frame
+	 */
+	protected Location getUnderlyingLocation() {
+		synchronized (fThread) {
+			return fLocation;
 		}
 	}
 
@@ -609,7 +649,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	public int getLineNumber() throws DebugException {
 		synchronized (fThread) {
 			try {
-				return fLocation.lineNumber();
+				return getBoundLocation().lineNumber();
 			} catch (RuntimeException e) {
 				if (getThread().isSuspended()) {
 					targetRequestFailed(
@@ -997,6 +1037,69 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 		}
 	}
 
+	/**
+	 * Retrieves what the variables view shows of this frame with requests in
+	 * flight at the same time, rather than one variable after another: the
+	 * values of the visible local variables, 'this' and its fields, or the
+	 * static fields of the declaring type for a static method. The values are
+	 * used by the variables of this frame until its thread resumes.
+	 */
+	protected void prefetchVariables() {
+		synchronized (fThread) {
+			try {
+				StackFrame frame = getUnderlyingStackFrame();
+				if (fPrefetched != null || !(frame instanceof StackFrameImpl) || isNative()) {
+					return;
+				}
+				Method method = getUnderlyingMethod();
+				List<LocalVariable> locals = getUnderlyingVisibleVariables();
+				List<Field> staticFields = new ArrayList<>();
+				if (method.isStatic()) {
+					for (Field field : method.declaringType().allFields()) {
+						if (field.isStatic()) {
+							staticFields.add(field);
+						}
+					}
+				}
+				FrameValues values = ((StackFrameImpl) frame).getFrameValues(locals, !method.isStatic(), staticFields);
+				JDIDebugTarget target = getJavaDebugTarget();
+				ObjectReference thisObject = values.getThisObject();
+				if (thisObject != null) {
+					fThisObject = thisObject;
+					target.addPrefetchedValues(thisObject, values.getThisValues());
+					target.addPrefetchedValues(thisObject.referenceType(), values.getThisValues());
+				} else if (method.isStatic()) {
+					target.addPrefetchedValues(method.declaringType(), values.getStaticValues());
+				}
+				fPrefetched = values;
+			} catch (DebugException | RuntimeException e) {
+				// the variables are retrieved one by one instead
+			}
+		}
+	}
+
+	/**
+	 * Returns the values of the local variables of this frame retrieved by
+	 * {@link #prefetchVariables()} since its thread suspended, if any.
+	 *
+	 * @return the local variables with their values, or <code>null</code>
+	 */
+	protected Map<LocalVariable, Value> getPrefetchedValues() {
+		synchronized (fThread) {
+			return fPrefetched == null ? null : fPrefetched.getValues();
+		}
+	}
+
+	/**
+	 * Forgets the values retrieved by {@link #prefetchVariables()}, after a
+	 * local variable has been set.
+	 */
+	protected void clearPrefetchedValues() {
+		synchronized (fThread) {
+			fPrefetched = null;
+		}
+	}
+
 	/**
 	 * Retrieves 'this' from the underlying stack frame. Returns
 	 * <code>null</code> for static stack frames.
@@ -1219,7 +1322,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	@Override
 	public String getSourceName() throws DebugException {
 		synchronized (fThread) {
-			return getSourceName(fLocation);
+			return getSourceName(getBoundLocation());
 		}
 	}
 
@@ -1361,6 +1464,10 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 				if (fThread.isSuspended()) {
 					// re-index stack frames - See Bug 47198
 					fThread.computeStackFrames();
+					if (fStackFrame == null && fDepth != -1) {
+						// deeper than the frames retrieved on suspend
+						fThread.bindDeeperStackFrames(this);
+					}
 					if (fDepth == -1) {
 						// try it once more before throwing error
 						fThread.computeStackFrames();
@@ -1392,6 +1499,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 			fStackFrame = frame;
 			if (frame == null) {
 				fRefreshVariables = true;
+				fPrefetched = null;
 			}
 		}
 	}
@@ -1513,6 +1621,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	private void clearCachedData() {
 		fThisObject = null;
 		fReceivingTypeName = null;
+		fPrefetched = null;
 	}
 
 	/**
@@ -1582,7 +1691,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	public String getSourcePath(String stratum) throws DebugException {
 		synchronized (fThread) {
 			try {
-				return fLocation.sourcePath(stratum);
+				return getBoundLocation().sourcePath(stratum);
 			} catch (AbsentInformationException e) {
 			} catch (RuntimeException e) {
 				targetRequestFailed(
@@ -1601,7 +1710,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	public String getSourcePath() throws DebugException {
 		synchronized (fThread) {
 			try {
-				return fLocation.sourcePath();
+				return getBoundLocation().sourcePath();
 			} catch (AbsentInformationException e) {
 			} catch (RuntimeException e) {
 				targetRequestFailed(
@@ -1622,7 +1731,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	public int getLineNumber(String stratum) throws DebugException {
 		synchronized (fThread) {
 			try {
-				return fLocation.lineNumber(stratum);
+				return getBoundLocation().lineNumber(stratum);
 			} catch (RuntimeException e) {
 				if (getThread().isSuspended()) {
 					targetRequestFailed(
@@ -1644,7 +1753,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 	public String getSourceName(String stratum) throws DebugException {
 		synchronized (fThread) {
 			try {
-				return fLocation.sourceName(stratum);
+				return getBoundLocation().sourceName(stratum);
 			} catch (AbsentInformationException e) {
 			} catch (NativeMethodException e) {
 			} catch (RuntimeException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,13 @@
 package org.eclipse.jdt.internal.debug.core.model;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Vector;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -43,6 +47,7 @@ import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
@@ -127,6 +132,14 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * out
 	 */
 	public static final int SUSPEND_TIMEOUT = 161;
+
+	/**
+	 * Number of stack frames retrieved at once from deep stacks, when
+	 * retrieving stack frames incrementally.
+	 *
+	 * @see JDIDebugPlugin#PREF_INCREMENTAL_STACK_FRAMES
+	 */
+	private static final int FRAME_PAGE_SIZE = 64;
 	/**
 	 * Underlying thread.
 	 */
@@ -265,6 +278,12 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 
 	private final ThreadJob fAsyncJob;
 
+	/**
+	 * Retrieves the variables of the top stack frame when this thread
+	 * suspends.
+	 */
+	private final PrefetchJob fPrefetchJob;
+
 	private volatile boolean fRunningAsyncJob;
 
 	/**
@@ -339,6 +358,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		super(target);
 		setUnderlyingThread(thread);
 		fAsyncJob = new ThreadJob();
+		fPrefetchJob = new PrefetchJob();
 		initialize();
 		fCompletingBreakpointHandling = new AtomicBoolean(false);
 		fHandlingSuspendForBreakpoint = new AtomicBoolean(false);
@@ -618,44 +638,25 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			if (isTerminated()) {
 				fStackFrames.clear();
 			} else if (refreshChildren) {
-				List<StackFrame> frames = getUnderlyingFrames();
 				int oldSize = fStackFrames.size();
-				if (oldSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
-				}
-				int newSize = frames.size();
-				int discard = oldSize - newSize; // number of old frames to
-													// discard, if any
-				for (int i = 0; i < discard; i++) {
-					JDIStackFrame invalid = (JDIStackFrame) fStackFrames
-							.remove(0);
-					invalid.bind(null, -1);
-				}
-				int newFrames = newSize - oldSize; // number of frames to
-													// create, if any
-				int depth = oldSize;
-				for (int i = newFrames - 1; i >= 0; i--) {
-					fStackFrames.add(0, newJDIStackFrame(frames.get(i), depth));
-					depth++;
-				}
-				int numToRebind = Math.min(newSize, oldSize); // number of
-																// frames to
-																// attempt to
-																// re-bind
-				int offset = newSize - 1;
-				for (depth = 0; depth < numToRebind; depth++) {
-					JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames
-							.get(offset);
-					StackFrame frame = frames.get(offset);
-					JDIStackFrame newFrame = oldFrame.bind(frame, depth);
-					if (newFrame != oldFrame) {
-						fStackFrames.set(offset, newFrame);
+				List<StackFrame> frames = null;
+				int newSize = 0;
+				if (oldSize > FRAME_PAGE_SIZE && isIncrementalStackFrames()) {
+					newSize = getUnderlyingFrameCount();
+					// retrieve the frames pushed since the last suspend, and
+					// the first frame of the previous stack left to check it
+					// is still the same
+					int length = Math.min(newSize, Math.max(FRAME_PAGE_SIZE, newSize - oldSize + 1));
+					frames = getUnderlyingFrames(0, length);
+					if (length < newSize && !isSameFrame(frames.get(length - 1), oldSize - newSize + length - 1)) {
+						frames = null;
 					}
-					offset--;
 				}
-				if (newSize > 0) {
-					((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
+				if (frames == null) {
+					frames = getUnderlyingFrames();
+					newSize = frames.size();
 				}
+				bindStackFrames(frames, newSize);
 			}
 			fRefreshChildren = false;
 		} else {
@@ -664,6 +665,113 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return fStackFrames;
 	}
 
+	/**
+	 * Binds the stack frames of this thread to the given frames retrieved
+	 * from the top of the stack, re-using the stack frames at the same depth
+	 * from the bottom of the stack when they are in the same method. Stack
+	 * frames deeper than the given frames are kept, to be bound again when
+	 * needed.
+	 *
+	 * @param frames
+	 *            frames from the top of the stack
+	 * @param newSize
+	 *            number of frames on the stack
+	 */
+	private void bindStackFrames(List<StackFrame> frames, int newSize) {
+		int oldSize = fStackFrames.size();
+		if (oldSize > 0) {
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(false);
+		}
+		int discard = oldSize - newSize; // number of old frames to
+											// discard, if any
+		for (int i = 0; i < discard; i++) {
+			JDIStackFrame invalid = (JDIStackFrame) fStackFrames
+					.remove(0);
+			invalid.bind(null, -1);
+		}
+		int newFrames = newSize - oldSize; // number of frames to
+											// create, if any
+		int depth = oldSize;
+		for (int i = newFrames - 1; i >= 0; i--) {
+			fStackFrames.add(0, newJDIStackFrame(frames.get(i), depth));
+			depth++;
+		}
+		int numToRebind = Math.min(newSize, oldSize); // number of
+														// frames to
+														// attempt to
+														// re-bind
+		int offset = newSize - 1;
+		for (depth = 0; depth < numToRebind; depth++) {
+			if (offset < frames.size()) {
+				JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames
+						.get(offset);
+				StackFrame frame = frames.get(offset);
+				JDIStackFrame newFrame = oldFrame.bind(frame, depth);
+				if (newFrame != oldFrame) {
+					fStackFrames.set(offset, newFrame);
+				}
+			}
+			offset--;
+		}
+		if (newSize > 0) {
+			((JDIStackFrame) fStackFrames.get(0)).setIsTop(true);
+		}
+	}
+
+	/**
+	 * Returns whether the given frame is the same as the stack frame of this
+	 * thread at the given index, as last bound: in the same method at the
+	 * same location.
+	 */
+	private boolean isSameFrame(StackFrame frame, int index) {
+		if (index < 0 || index >= fStackFrames.size()) {
+			return false;
+		}
+		JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames.get(index);
+		return frame.location().equals(oldFrame.getUnderlyingLocation());
+	}
+
+	/**
+	 * Binds the given stack frame of this thread, not bound since this thread
+	 * suspended as it is deeper than the frames retrieved when it suspended,
+	 * along with the following deeper stack frames. If a stack frame turns
+	 * out to be in another method than when last bound, all the frames are
+	 * retrieved again.
+	 *
+	 * @param stackFrame
+	 *            a stack frame of this thread
+	 * @throws DebugException
+	 *             if the frames cannot be retrieved
+	 */
+	protected synchronized void bindDeeperStackFrames(JDIStackFrame stackFrame) throws DebugException {
+		int index = fStackFrames.indexOf(stackFrame);
+		if (index < 0 || !isSuspended()) {
+			return;
+		}
+		int size = fStackFrames.size();
+		List<StackFrame> frames = getUnderlyingFrames(index, Math.min(FRAME_PAGE_SIZE, size - index));
+		for (int i = 0; i < frames.size(); i++) {
+			int offset = index + i;
+			JDIStackFrame oldFrame = (JDIStackFrame) fStackFrames.get(offset);
+			JDIStackFrame newFrame = oldFrame.bind(frames.get(i), size - 1 - offset);
+			if (newFrame != oldFrame) {
+				// the stack changed below the frames retrieved on suspend
+				fStackFrames.set(offset, newFrame);
+				List<StackFrame> allFrames = getUnderlyingFrames();
+				bindStackFrames(allFrames, allFrames.size());
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Returns whether only the top frames of deep stacks are retrieved when
+	 * this thread suspends.
+	 */
+	private boolean isIncrementalStackFrames() {
+		return Platform.getPreferencesService().getBoolean(JDIDebugPlugin.getUniqueIdentifier(), JDIDebugPlugin.PREF_INCREMENTAL_STACK_FRAMES, false, null);
+	}
+
 	/**
 	 * Creates new {@link JDIStackFrame} linked to current thread
 	 *
@@ -726,6 +834,14 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	}
 
 	private List<StackFrame> getUnderlyingFrames() throws DebugException {
+		return getUnderlyingFrames(0, -1);
+	}
+
+	/**
+	 * Returns the given number of frames from the given index from the top of
+	 * the stack, or all frames if the number is -1.
+	 */
+	private List<StackFrame> getUnderlyingFrames(int start, int length) throws DebugException {
 		if (!isSuspended()) {
 			// Checking isSuspended here eliminates a race condition in resume
 			// between the time stack frames are preserved and the time the
@@ -735,7 +851,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 					null, IJavaThread.ERR_THREAD_NOT_SUSPENDED);
 		}
 		try {
-			return fThread.frames();
+			if (length == -1) {
+				return fThread.frames();
+			}
+			return fThread.frames(start, length);
 		} catch (IncompatibleThreadStateException e) {
 			requestFailed(
 					JDIDebugModelMessages.JDIThread_Unable_to_retrieve_stack_frame___thread_not_suspended__1,
@@ -1700,7 +1819,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected void setRunning(boolean running) {
 		fRunning = running;
+		getJavaDebugTarget().incrementRunStateCount();
 		if (running) {
+			getJavaDebugTarget().clearPrefetchedValues();
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
 			}
@@ -3431,6 +3552,63 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		return null;
 	}
 
+	/**
+	 * Retrieves the monitors the given threads of a debug target are waiting
+	 * for and the monitors they own. The requests for all threads are sent at
+	 * once, so that this costs a single round trip to the target instead of
+	 * two per thread. Threads that are not suspended are left out of the
+	 * results.
+	 *
+	 * @param threads
+	 *            threads of the same debug target
+	 * @param contendedMonitors
+	 *            receives the monitor each thread is waiting for, or
+	 *            <code>null</code> for the threads not waiting for a monitor
+	 * @param ownedMonitors
+	 *            receives the monitors each thread owns
+	 * @return whether the monitors have been retrieved, <code>false</code> if
+	 *         the threads are not all implemented by the JDI of this plug-in,
+	 *         which is needed to send the requests at once
+	 * @throws DebugException
+	 *             if the request fails for any of the threads
+	 */
+	public static boolean getMonitors(List<JDIThread> threads, Map<IJavaThread, IJavaObject> contendedMonitors,
+			Map<IJavaThread, IJavaObject[]> ownedMonitors) throws DebugException {
+		if (threads.isEmpty()) {
+			return true;
+		}
+		List<ThreadReference> underlyingThreads = new ArrayList<>(threads.size());
+		Map<ThreadReference, JDIThread> modelThreads = new HashMap<>(threads.size());
+		for (JDIThread thread : threads) {
+			ThreadReference underlyingThread = thread.getUnderlyingThread();
+			if (!(underlyingThread instanceof ThreadReferenceImpl)) {
+				return false;
+			}
+			underlyingThreads.add(underlyingThread);
+			modelThreads.put(underlyingThread, thread);
+		}
+		JDIThread first = threads.get(0);
+		JDIDebugTarget target = (JDIDebugTarget) first.getDebugTarget();
+		Map<ThreadReference, ObjectReference> contended = new HashMap<>(threads.size());
+		Map<ThreadReference, List<ObjectReference>> owned = new HashMap<>(threads.size());
+		try {
+			ThreadReferenceImpl.monitors(underlyingThreads, contended, owned);
+		} catch (RuntimeException e) {
+			first.targetRequestFailed(JDIDebugModelMessages.JDIThread_44, e);
+		}
+		for (Entry<ThreadReference, List<ObjectReference>> entry : owned.entrySet()) {
+			JDIThread thread = modelThreads.get(entry.getKey());
+			ObjectReference monitor = contended.get(entry.getKey());
+			contendedMonitors.put(thread, monitor == null ? null : new JDIObjectValue(target, monitor));
+			IJavaObject[] javaOwnedMonitors = new IJavaObject[entry.getValue().size()];
+			for (int i = 0; i < javaOwnedMonitors.length; i++) {
+				javaOwnedMonitors[i] = new JDIObjectValue(target, entry.getValue().get(i));
+			}
+			ownedMonitors.put(thread, javaOwnedMonitors);
+		}
+		return true;
+	}
+
 	@Override
 	public boolean canStepWithFilters() {
 		if (canStepInto()) {
@@ -3448,6 +3626,61 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		stepInto();
 	}
 
+	@Override
+	public void fireSuspendEvent(int detail) {
+		super.fireSuspendEvent(detail);
+		prefetchVariables(detail);
+	}
+
+	@Override
+	public void queueSuspendEvent(int detail, EventSet set) {
+		super.queueSuspendEvent(detail, set);
+		prefetchVariables(detail);
+	}
+
+	/**
+	 * Retrieves the variables of the top stack frame in the background after
+	 * this thread suspended at a breakpoint or the end of a step, for the
+	 * variables view to show them without waiting on one request per
+	 * variable. Not done for suspends by the user, which suspend every thread
+	 * of the VM at once.
+	 */
+	private void prefetchVariables(int detail) {
+		if (detail == DebugEvent.BREAKPOINT || detail == DebugEvent.STEP_END) {
+			fPrefetchJob.schedule();
+		}
+	}
+
+	/**
+	 * Job retrieving the variables of the top stack frame of this thread.
+	 *
+	 * @see JDIStackFrame#prefetchVariables()
+	 */
+	class PrefetchJob extends Job {
+
+		public PrefetchJob() {
+			super(JDIDebugModelMessages.JDIThread_prefetching_variables);
+			setSystem(true);
+		}
+
+		@Override
+		public IStatus run(IProgressMonitor monitor) {
+			synchronized (JDIThread.this) {
+				try {
+					if (isSuspended() && !isTerminated()) {
+						List<IJavaStackFrame> frames = computeStackFrames();
+						if (!frames.isEmpty()) {
+							((JDIStackFrame) frames.get(0)).prefetchVariables();
+						}
+					}
+				} catch (DebugException e) {
+					// the variables are retrieved when shown instead
+				}
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
 	/**
 	 * Class which managed the queue of runnable associated with this thread.
 	 */